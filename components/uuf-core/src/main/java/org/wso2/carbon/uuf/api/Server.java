@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.uuf.api;
 
+import org.wso2.carbon.uuf.api.exception.UUFRuntimeException;
 import org.wso2.carbon.uuf.spi.HttpRequest;
 import org.wso2.carbon.uuf.spi.HttpResponse;
 
@@ -35,4 +36,14 @@ public interface Server {
      * @param response HTTP response which will carry the result of this serve
      */
     void serve(HttpRequest request, HttpResponse response);
+
+    /**
+     * Reloads the specified component of the deployed app for the given context path from its files, without
+     * redeploying the whole app. Other components of the app are kept as they are.
+     *
+     * @param appContextPath       context path of the app
+     * @param componentContextPath context path of the component to be reloaded
+     * @throws UUFRuntimeException if the component cannot be reloaded
+     */
+    void reloadComponent(String appContextPath, String componentContextPath);
 }
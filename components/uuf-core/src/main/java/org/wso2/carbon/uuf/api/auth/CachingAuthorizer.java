@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.api.auth;
+
+import org.wso2.carbon.uuf.api.exception.AuthorizationException;
+import org.wso2.carbon.uuf.spi.auth.Authorizer;
+import org.wso2.carbon.uuf.spi.auth.PermissionSetAuthorizer;
+
+import java.util.BitSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An authorizer that caches the permission decisions of another authorizer for a limited time.
+ * <p>
+ * Decisions are cached per user. If the underlying authorizer is a {@link PermissionSetAuthorizer}, all the
+ * permissions of a user are fetched at once and cached as a bit set, so that each permission check is a bit test;
+ * otherwise each decision is cached individually. Cached decisions of a user can be discarded with {@link
+ * #invalidate(User)}, e.g. when the permissions of that user are changed.
+ *
+ * @since 1.0.0
+ */
+public class CachingAuthorizer implements Authorizer {
+
+    private static final int MAX_CACHED_USERS = 10000;
+
+    private final Authorizer authorizer;
+    private final long timeoutMillis;
+    private final ConcurrentMap<String, UserPermissions> cachedPermissions;
+    private final ConcurrentMap<Permission, Integer> permissionIndexes;
+    private final AtomicInteger lastPermissionIndex;
+
+    /**
+     * Creates a new caching authorizer.
+     *
+     * @param authorizer    authorizer to cache decisions of
+     * @param timeoutMillis duration in milliseconds to cache decisions
+     */
+    public CachingAuthorizer(Authorizer authorizer, long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("Authorization cache timeout should be a positive value.");
+        }
+        this.authorizer = authorizer;
+        this.timeoutMillis = timeoutMillis;
+        this.cachedPermissions = new ConcurrentHashMap<>();
+        this.permissionIndexes = new ConcurrentHashMap<>();
+        this.lastPermissionIndex = new AtomicInteger(-1);
+    }
+
+    /**
+     * Returns the authorizer whose decisions are cached.
+     *
+     * @return underlying authorizer
+     */
+    public Authorizer getAuthorizer() {
+        return authorizer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasPermission(User user, Permission permission) throws AuthorizationException {
+        long now = System.currentTimeMillis();
+        UserPermissions userPermissions = cachedPermissions.get(user.getId());
+        if ((userPermissions == null) || (now >= userPermissions.expiresAt)) {
+            userPermissions = loadPermissions(user, now);
+        }
+
+        if (userPermissions.grantedPermissions != null) {
+            Integer index = permissionIndexes.get(permission);
+            return (index != null) && userPermissions.grantedPermissions.get(index);
+        }
+        Boolean decision = userPermissions.decisions.get(permission);
+        if (decision == null) {
+            decision = authorizer.hasPermission(user, permission);
+            userPermissions.decisions.put(permission, decision);
+        }
+        return decision;
+    }
+
+    /**
+     * Discards the cached decisions of the given user.
+     *
+     * @param user user whose decisions are discarded
+     */
+    public void invalidate(User user) {
+        cachedPermissions.remove(user.getId());
+    }
+
+    /**
+     * Discards all the cached decisions.
+     */
+    public void invalidateAll() {
+        cachedPermissions.clear();
+    }
+
+    private UserPermissions loadPermissions(User user, long now) throws AuthorizationException {
+        BitSet grantedPermissions = null;
+        if (authorizer instanceof PermissionSetAuthorizer) {
+            grantedPermissions = new BitSet();
+            for (Permission permission : ((PermissionSetAuthorizer) authorizer).getPermissions(user)) {
+                grantedPermissions.set(permissionIndexes.computeIfAbsent(
+                        permission, p -> lastPermissionIndex.incrementAndGet()));
+            }
+        }
+        UserPermissions userPermissions = new UserPermissions(grantedPermissions, now + timeoutMillis);
+
+        if (cachedPermissions.size() >= MAX_CACHED_USERS) {
+            cachedPermissions.values().removeIf(cached -> now >= cached.expiresAt);
+            if (cachedPermissions.size() >= MAX_CACHED_USERS) {
+                cachedPermissions.clear();
+            }
+        }
+        cachedPermissions.put(user.getId(), userPermissions);
+        return userPermissions;
+    }
+
+    /**
+     * Cached decisions of a user.
+     */
+    private static class UserPermissions {
+
+        private final BitSet grantedPermissions;
+        private final ConcurrentMap<Permission, Boolean> decisions;
+        private final long expiresAt;
+
+        UserPermissions(BitSet grantedPermissions, long expiresAt) {
+            this.grantedPermissions = grantedPermissions;
+            this.decisions = (grantedPermissions == null) ? new ConcurrentHashMap<>() : null;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
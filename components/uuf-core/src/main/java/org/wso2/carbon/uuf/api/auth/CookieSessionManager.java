@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.api.auth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uuf.api.config.Configuration;
+import org.wso2.carbon.uuf.api.exception.SessionManagementException;
+import org.wso2.carbon.uuf.api.exception.UUFRuntimeException;
+import org.wso2.carbon.uuf.spi.HttpRequest;
+import org.wso2.carbon.uuf.spi.HttpResponse;
+import org.wso2.carbon.uuf.spi.auth.SessionManager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Manages sessions of a single UUF app without any server-side state, by keeping each session in an encrypted cookie.
+ * <p>
+ * A session (its ID, user, theme and CSRF token) is encrypted with AES-GCM, which also authenticates it, and the app
+ * name is bound to the cookie as associated data. Hence any node that shares the keys can serve any request without
+ * sticky sessions or a shared session store. Keys are read from the {@code uuf.session.keys} system property as a
+ * comma separated list of Base64 encoded AES keys; the first key encrypts new cookies and all the keys decrypt, so a
+ * key can be rotated by prepending a new key and removing the old one after a session timeout. If the property is not
+ * set, a random key is generated, which makes sessions valid only in this node until it restarts.
+ * <p>
+ * The expiry time of a session slides: the cookie is re-issued when it is older than a touch interval (a small
+ * fraction of the timeout). The cookie is also re-issued in the same response whenever the session is changed (e.g.
+ * its theme is set), so that the next request reaches any node with the change. Decrypted sessions are cached briefly,
+ * keyed by the cookie value, so that consecutive requests of the same session are not decrypted again; each request
+ * gets its own copy of a cached session.
+ * <p>
+ * As there is no server-side state, destroying a session only clears its cookie; a copy of the cookie stays valid
+ * until it expires. For the same reason {@link #getCount()} counts only the sessions of the decrypted sessions cache,
+ * i.e. the sessions this node has served during the last cache duration.
+ *
+ * @since 1.0.0
+ */
+public class CookieSessionManager implements SessionManager {
+
+    /**
+     * System property to configure the keys, as a comma separated list of Base64 encoded AES keys.
+     */
+    public static final String KEYS_PROPERTY = "uuf.session.keys";
+
+    private static final long SESSION_DEFAULT_TIMEOUT = 1200L; // 20 minutes
+    private static final String COOKIE_SESSION = "UUFSESSION";
+    private static final String COOKIE_CSRF_TOKEN = "CSRFTOKEN";
+    private static final byte TOKEN_VERSION = 1;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+    private static final int MAX_TOKEN_LENGTH = 3800; // Browsers limit a cookie (name, value & attributes) to 4 KB.
+    private static final int MAX_CACHED_SESSIONS = 10000;
+    private static final long MAX_CACHE_DURATION = TimeUnit.SECONDS.toMillis(30);
+    private static final String CIPHER_TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final Logger LOGGER = LoggerFactory.getLogger(CookieSessionManager.class);
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final ThreadLocal<Cipher> CIPHERS = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(CIPHER_TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new UUFRuntimeException("Cipher '" + CIPHER_TRANSFORMATION + "' is not available.", e);
+        }
+    });
+
+    private final byte[] associatedData;
+    private final List<Key> keys;
+    private final long timeoutMillis;
+    private final long touchIntervalMillis;
+    private final long cacheDurationMillis;
+    private final ConcurrentMap<String, CachedSession> cachedSessions;
+
+    /**
+     * Constructs a new CookieSessionManager that reads its keys from the {@value #KEYS_PROPERTY} system property.
+     *
+     * @param appName       name of the UUF application (or app context)
+     * @param configuration app configuration
+     * @throws UUFRuntimeException if a configured key is invalid
+     */
+    public CookieSessionManager(String appName, Configuration configuration) {
+        this(appName, configuration, readKeys(appName));
+    }
+
+    /**
+     * Constructs a new CookieSessionManager with the specified keys.
+     *
+     * @param appName       name of the UUF application (or app context)
+     * @param configuration app configuration
+     * @param secretKeys    AES keys; the first key encrypts new cookies and all the keys decrypt
+     */
+    public CookieSessionManager(String appName, Configuration configuration, List<SecretKey> secretKeys) {
+        if (secretKeys.isEmpty()) {
+            throw new IllegalArgumentException("At least one key is required.");
+        }
+        this.associatedData = appName.getBytes(StandardCharsets.UTF_8);
+        this.keys = new ArrayList<>(secretKeys.size());
+        for (SecretKey secretKey : secretKeys) {
+            this.keys.add(new Key(secretKey));
+        }
+        long sessionTimeout = configuration.getSessionTimeout();
+        sessionTimeout = sessionTimeout == 0 ? SESSION_DEFAULT_TIMEOUT : sessionTimeout;
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(sessionTimeout);
+        this.touchIntervalMillis = Math.max(timeoutMillis / 16, 1000L);
+        this.cacheDurationMillis = Math.min(touchIntervalMillis, MAX_CACHE_DURATION);
+        this.cachedSessions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Session createSession(User user, HttpRequest request, HttpResponse response)
+            throws SessionManagementException {
+        Session session = new Session(user);
+        issueCookie(session, System.currentTimeMillis(), request, response);
+        reissueOnChange(session, request, response);
+        response.addCookie(COOKIE_CSRF_TOKEN, session.getCsrfToken() + "; Path=" +
+                request.getContextPath() + "; Secure");
+        return session;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Session> getSession(HttpRequest request, HttpResponse response) throws SessionManagementException {
+        String token = request.getCookieValue(COOKIE_SESSION);
+        if ((token == null) || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        CachedSession cachedSession = cachedSessions.get(token);
+        if ((cachedSession == null) || (now >= cachedSession.cachedUntil)) {
+            cachedSession = decrypt(token, now);
+            if (cachedSession == null) {
+                return Optional.empty();
+            }
+            cacheSession(token, cachedSession, now);
+        }
+        if (now - cachedSession.issuedAt >= timeoutMillis) {
+            cachedSessions.remove(token, cachedSession);
+            return Optional.empty();
+        }
+
+        Session cached = cachedSession.session;
+        Session session = new Session(cached.getSessionId(), cached.getUser(), cached.getCsrfToken(),
+                                      cached.getThemeName());
+        if (now - cachedSession.issuedAt >= touchIntervalMillis) {
+            cachedSessions.remove(token, cachedSession);
+            issueCookie(session, now, request, response);
+        }
+        reissueOnChange(session, request, response);
+        return Optional.of(session);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean destroySession(HttpRequest request, HttpResponse response) throws SessionManagementException {
+        String token = request.getCookieValue(COOKIE_SESSION);
+        if (token == null) {
+            return true; // Session not available
+        }
+        cachedSessions.remove(token);
+
+        // Clear the session cookie by setting its value to an empty string, Max-Age to zero, & Expires to a past date.
+        String expiredCookie = "Max-Age=0; Expires=Thu, 01 Jan 1970 00:00:01 GMT; Path=" + request.getContextPath() +
+                "; Secure; HTTPOnly";
+        response.addCookie(COOKIE_SESSION, expiredCookie);
+        response.addCookie(COOKIE_CSRF_TOKEN, expiredCookie);
+        return true;
+    }
+
+    /**
+     * Returns the number of sessions that this node has served recently, i.e. the distinct unexpired sessions in the
+     * decrypted sessions cache. As sessions are not stored in the server, sessions that are served by other nodes or
+     * not used recently are not counted.
+     *
+     * @return number of sessions recently served by this node
+     */
+    @Override
+    public int getCount() {
+        long now = System.currentTimeMillis();
+        return (int) cachedSessions.values().stream()
+                .filter(cached -> (now < cached.cachedUntil) && (now - cached.issuedAt < timeoutMillis))
+                .map(cached -> cached.session.getSessionId())
+                .distinct()
+                .count();
+    }
+
+    /**
+     * Clears the decrypted sessions cached by this session manager. Cookies issued by this session manager remain
+     * valid.
+     */
+    @Override
+    public void close() {
+        cachedSessions.clear();
+    }
+
+    private void issueCookie(Session session, long issuedAt, HttpRequest request, HttpResponse response)
+            throws SessionManagementException {
+        String token = encrypt(session, issuedAt);
+        if (token.length() > MAX_TOKEN_LENGTH) {
+            throw new SessionManagementException("Session '" + session.getSessionId() + "' is too large (" +
+                                                 token.length() + " characters) to be stored in a cookie.");
+        }
+        response.addCookie(COOKIE_SESSION, token + "; Path=" + request.getContextPath() + "; Secure; HTTPOnly");
+    }
+
+    private void reissueOnChange(Session session, HttpRequest request, HttpResponse response) {
+        session.setChangeListener(changedSession -> {
+            try {
+                issueCookie(changedSession, System.currentTimeMillis(), request, response);
+            } catch (SessionManagementException e) {
+                throw new UUFRuntimeException(e.getMessage(), e);
+            }
+        });
+    }
+
+    private String encrypt(Session session, long issuedAt) throws SessionManagementException {
+        try {
+            byte[] encodedSession = SessionCodec.encode(session);
+            byte[] iv = new byte[IV_LENGTH];
+            SECURE_RANDOM.nextBytes(iv);
+            Key key = keys.get(0);
+            Cipher cipher = CIPHERS.get();
+            cipher.init(Cipher.ENCRYPT_MODE, key.secretKey, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+            cipher.updateAAD(associatedData);
+            byte[] plaintext = ByteBuffer.allocate(8 + encodedSession.length)
+                    .putLong(issuedAt)
+                    .put(encodedSession)
+                    .array();
+            byte[] ciphertext = cipher.doFinal(plaintext);
+
+            ByteBuffer token = ByteBuffer.allocate(2 + IV_LENGTH + ciphertext.length);
+            token.put(TOKEN_VERSION).put(key.id).put(iv).put(ciphertext);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(token.array());
+        } catch (IOException | GeneralSecurityException e) {
+            throw new SessionManagementException("Cannot encrypt session '" + session.getSessionId() + "'.", e);
+        }
+    }
+
+    private CachedSession decrypt(String token, long now) {
+        byte[] tokenBytes;
+        try {
+            tokenBytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            LOGGER.debug("Session cookie is not Base64 encoded.");
+            return null;
+        }
+        if ((tokenBytes.length < 2 + IV_LENGTH + TAG_LENGTH_BITS / 8) || (tokenBytes[0] != TOKEN_VERSION)) {
+            LOGGER.debug("Session cookie is malformed.");
+            return null;
+        }
+
+        for (Key key : keys) {
+            if (key.id != tokenBytes[1]) {
+                continue;
+            }
+            try {
+                Cipher cipher = CIPHERS.get();
+                cipher.init(Cipher.DECRYPT_MODE, key.secretKey,
+                            new GCMParameterSpec(TAG_LENGTH_BITS, tokenBytes, 2, IV_LENGTH));
+                cipher.updateAAD(associatedData);
+                byte[] plaintext = cipher.doFinal(tokenBytes, 2 + IV_LENGTH, tokenBytes.length - 2 - IV_LENGTH);
+                long issuedAt = ByteBuffer.wrap(plaintext).getLong();
+                byte[] encodedSession = new byte[plaintext.length - 8];
+                System.arraycopy(plaintext, 8, encodedSession, 0, encodedSession.length);
+                Session session = SessionCodec.decode(encodedSession);
+                return new CachedSession(session, issuedAt, now + cacheDurationMillis);
+            } catch (GeneralSecurityException e) {
+                // Not encrypted with this key, or tampered with; try the next key with the same ID.
+            } catch (IOException | RuntimeException e) {
+                LOGGER.debug("Cannot decode an authentic session cookie.", e);
+                return null;
+            }
+        }
+        LOGGER.debug("Session cookie cannot be authenticated with any of the keys.");
+        return null;
+    }
+
+    private void cacheSession(String token, CachedSession cachedSession, long now) {
+        if (cachedSessions.size() >= MAX_CACHED_SESSIONS) {
+            cachedSessions.values().removeIf(cached -> now >= cached.cachedUntil);
+            if (cachedSessions.size() >= MAX_CACHED_SESSIONS) {
+                cachedSessions.clear();
+            }
+        }
+        cachedSessions.put(token, cachedSession);
+    }
+
+    private static List<SecretKey> readKeys(String appName) {
+        String keysProperty = System.getProperty(KEYS_PROPERTY);
+        if ((keysProperty == null) || keysProperty.trim().isEmpty()) {
+            LOGGER.warn("System property '{}' is not set. Hence sessions of app '{}' will be valid only in this " +
+                                "node until it restarts.", KEYS_PROPERTY, appName);
+            try {
+                KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+                keyGenerator.init(128);
+                return Collections.singletonList(keyGenerator.generateKey());
+            } catch (NoSuchAlgorithmException e) {
+                throw new UUFRuntimeException("Cannot generate a key for session cookies.", e);
+            }
+        }
+
+        List<SecretKey> secretKeys = new ArrayList<>();
+        for (String encodedKey : keysProperty.split(",")) {
+            byte[] key;
+            try {
+                key = Base64.getDecoder().decode(encodedKey.trim());
+            } catch (IllegalArgumentException e) {
+                throw new UUFRuntimeException("A key in system property '" + KEYS_PROPERTY +
+                                              "' is not Base64 encoded.", e);
+            }
+            if ((key.length != 16) && (key.length != 24) && (key.length != 32)) {
+                throw new UUFRuntimeException("A key in system property '" + KEYS_PROPERTY + "' is " + key.length +
+                                              " bytes long. An AES key should be 16, 24 or 32 bytes long.");
+            }
+            secretKeys.add(new SecretKeySpec(key, "AES"));
+        }
+        return secretKeys;
+    }
+
+    /**
+     * A key with a short ID, so that the key that encrypted a cookie can be found without trying all the keys.
+     */
+    private static class Key {
+
+        private final SecretKey secretKey;
+        private final byte id;
+
+        Key(SecretKey secretKey) {
+            this.secretKey = secretKey;
+            try {
+                this.id = MessageDigest.getInstance("SHA-256").digest(secretKey.getEncoded())[0];
+            } catch (NoSuchAlgorithmException e) {
+                throw new UUFRuntimeException("Cannot compute the ID of a key.", e);
+            }
+        }
+    }
+
+    /**
+     * A decrypted session.
+     */
+    private static class CachedSession {
+
+        private final Session session;
+        private final long issuedAt;
+        private final long cachedUntil;
+
+        CachedSession(Session session, long issuedAt, long cachedUntil) {
+            this.session = session;
+            this.issuedAt = issuedAt;
+            this.cachedUntil = cachedUntil;
+        }
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.api.auth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uuf.api.config.Configuration;
+import org.wso2.carbon.uuf.api.exception.SessionManagementException;
+import org.wso2.carbon.uuf.api.exception.UUFRuntimeException;
+import org.wso2.carbon.uuf.internal.auth.SessionLog;
+import org.wso2.carbon.uuf.spi.HttpRequest;
+import org.wso2.carbon.uuf.spi.HttpResponse;
+import org.wso2.carbon.uuf.spi.auth.SessionManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Manages sessions of a single UUF app in memory and persists them to an append-only log file, so that sessions
+ * survive server restarts.
+ * <p>
+ * Sessions are served from memory; the log in {@code <java.io.tmpdir>/uufsessions} directory is only written when a
+ * session is created, changed (e.g. its theme), destroyed or accessed after a touch interval (a small fraction of the
+ * timeout), and is only read when this session manager is created. The log directory is accessible only to the current
+ * user. Expired sessions are removed in batches by a background sweep, which also compacts the log when most of it is
+ * occupied by obsolete records.
+ * <p>
+ * If the session timeout is not set in the configuration or if it is 0, then the default session timeout of 20
+ * minutes is used. When the maximum number of sessions is set in the configuration, the least recently used sessions
+ * are evicted to make room for new sessions.
+ *
+ * @since 1.0.0
+ */
+public class FileSessionManager implements SessionManager {
+
+    private static final long SESSION_DEFAULT_TIMEOUT = 1200L; // 20 minutes
+    private static final String COOKIE_SESSION_ID = "UUFSESSIONID";
+    private static final String COOKIE_CSRF_TOKEN = "CSRFTOKEN";
+    private static final String LOG_FILE_EXTENSION = ".sessions";
+    private static final int COMPACTION_MIN_SIZE = 1 << 20; // 1 MB
+    private static final int EVICTION_BATCH_DIVISOR = 64;
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileSessionManager.class);
+    private static final ScheduledExecutorService SWEEPER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread sweeper = new Thread(runnable, FileSessionManager.class.getName() + "-Sweeper");
+        sweeper.setDaemon(true);
+        return sweeper;
+    });
+
+    private final ConcurrentMap<String, Entry> sessions;
+    private final SessionLog sessionLog;
+    private final long timeoutMillis;
+    private final long touchIntervalMillis;
+    private final int maxSessions;
+    private final Object evictionLock;
+    private final ScheduledFuture<?> sweepTask;
+    private final AtomicBoolean closed;
+
+    /**
+     * Constructs a new FileSessionManager which persists sessions in {@code <java.io.tmpdir>/uufsessions} directory.
+     *
+     * @param appName       name of the UUF application (or app context)
+     * @param configuration app configuration
+     * @throws UUFRuntimeException if an error occurred when opening or reading the session log
+     */
+    public FileSessionManager(String appName, Configuration configuration) {
+        this(appName, configuration, Paths.get(System.getProperty("java.io.tmpdir"), "uufsessions"));
+    }
+
+    /**
+     * Constructs a new FileSessionManager which persists sessions in the specified directory.
+     *
+     * @param appName           name of the UUF application (or app context)
+     * @param configuration     app configuration
+     * @param sessionsDirectory directory to persist sessions
+     * @throws UUFRuntimeException if an error occurred when opening or reading the session log
+     */
+    public FileSessionManager(String appName, Configuration configuration, Path sessionsDirectory) {
+        long sessionTimeout = configuration.getSessionTimeout();
+        sessionTimeout = sessionTimeout == 0 ? SESSION_DEFAULT_TIMEOUT : sessionTimeout;
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(sessionTimeout);
+        this.touchIntervalMillis = Math.max(timeoutMillis / 16, 1000L);
+        this.maxSessions = configuration.getMaxSessions();
+        this.evictionLock = new Object();
+        this.sessions = new ConcurrentHashMap<>();
+
+        Path logFile = sessionsDirectory.resolve(appName + LOG_FILE_EXTENSION);
+        try {
+            this.sessionLog = new SessionLog(logFile);
+        } catch (IOException e) {
+            throw new UUFRuntimeException("Cannot open session log '" + logFile + "' of app '" + appName + "'.", e);
+        }
+        recover(logFile);
+
+        long sweepInterval = Math.min(Math.max(timeoutMillis / 8, 1000L), TimeUnit.MINUTES.toMillis(1));
+        this.sweepTask = SWEEPER.scheduleWithFixedDelay(this::sweep, sweepInterval, sweepInterval,
+                                                        TimeUnit.MILLISECONDS);
+        this.closed = new AtomicBoolean(false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Session createSession(User user, HttpRequest request, HttpResponse response)
+            throws SessionManagementException {
+        if (maxSessions > 0) {
+            evictLeastRecentlyUsed();
+        }
+        Session session = new Session(user);
+        Entry entry = createEntry(session, System.currentTimeMillis());
+        // Add to the map before appending to the log, so that a concurrent compaction does not miss the session.
+        sessions.put(session.getSessionId(), entry);
+        try {
+            persist(entry, entry.lastAccessedTime);
+        } catch (IOException e) {
+            sessions.remove(session.getSessionId(), entry);
+            throw new SessionManagementException("Cannot save session '" + session.getSessionId() + "'.", e);
+        }
+
+        // Create cookies
+        response.addCookie(COOKIE_SESSION_ID, session.getSessionId() +
+                "; Path=" + request.getContextPath() + "; Secure; HTTPOnly");
+        response.addCookie(COOKIE_CSRF_TOKEN, session.getCsrfToken() + "; Path=" +
+                request.getContextPath() + "; Secure");
+        return session;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Session> getSession(HttpRequest request, HttpResponse response) throws SessionManagementException {
+        String sessionId = request.getCookieValue(COOKIE_SESSION_ID);
+        if (sessionId == null) {
+            return Optional.empty();
+        }
+        if (!Session.isValidSessionId(sessionId)) {
+            throw new SessionManagementException("Session ID '" + sessionId + "' is invalid.");
+        }
+
+        Entry entry = sessions.get(sessionId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+        long lastAccessedTime = entry.lastAccessedTime;
+        if (now - lastAccessedTime >= timeoutMillis) {
+            sessions.remove(sessionId, entry);
+            return Optional.empty();
+        }
+        if (now - lastAccessedTime >= touchIntervalMillis) {
+            entry.lastAccessedTime = now;
+            try {
+                persist(entry, now);
+            } catch (IOException e) {
+                // Session is still valid in memory; it just won't be extended if the server restarts.
+                LOGGER.warn("Cannot persist access to session '{}'.", sessionId, e);
+            }
+        }
+        return Optional.of(entry.session);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean destroySession(HttpRequest request, HttpResponse response) throws SessionManagementException {
+        String sessionId = request.getCookieValue(COOKIE_SESSION_ID);
+        if (sessionId == null) {
+            return true; // Session not available
+        }
+        if (!Session.isValidSessionId(sessionId)) {
+            throw new SessionManagementException("Session ID '" + sessionId + "' is invalid.");
+        }
+
+        // Clear the session cookie by setting its value to an empty string, Max-Age to zero, & Expires to a past date.
+        String expiredCookie = "Max-Age=0; Expires=Thu, 01 Jan 1970 00:00:01 GMT; Path=" + request.getContextPath() +
+                "; Secure; HTTPOnly";
+        response.addCookie(COOKIE_SESSION_ID, expiredCookie);
+        response.addCookie(COOKIE_CSRF_TOKEN, expiredCookie);
+
+        Entry entry = sessions.remove(sessionId);
+        if (entry == null) {
+            return false;
+        }
+        try {
+            sessionLog.append(SessionLog.RECORD_REMOVE, System.currentTimeMillis(), SessionCodec.fromHex(sessionId),
+                              new byte[0]);
+        } catch (IOException e) {
+            throw new SessionManagementException("Cannot remove session '" + sessionId + "'.", e);
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Stops sweeping expired sessions and closes the session log. Sessions in the log are recovered when a new session
+     * manager is created for the same app.
+     *
+     * @throws SessionManagementException if an I/O error occurs when closing the session log
+     */
+    @Override
+    public void close() throws SessionManagementException {
+        if (!closed.compareAndSet(false, true)) {
+            return; // Already closed.
+        }
+        sweepTask.cancel(false);
+        try {
+            sessionLog.close();
+        } catch (IOException e) {
+            throw new SessionManagementException("Cannot close the session log.", e);
+        }
+    }
+
+    /**
+     * Returns whether this session manager is closed.
+     *
+     * @return {@code true} if this session manager is closed, {@code false} otherwise
+     */
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    private Entry createEntry(Session session, long lastAccessedTime) {
+        Entry entry = new Entry(session, lastAccessedTime);
+        session.setChangeListener(changedSession -> {
+            if (sessions.get(changedSession.getSessionId()) != entry) {
+                return; // Session has been destroyed or evicted.
+            }
+            try {
+                persist(entry, entry.lastAccessedTime);
+            } catch (IOException e) {
+                // Change is still visible in memory; it just won't survive a server restart.
+                LOGGER.warn("Cannot persist the change to session '{}'.", changedSession.getSessionId(), e);
+            }
+        });
+        return entry;
+    }
+
+    private void evictLeastRecentlyUsed() throws SessionManagementException {
+        synchronized (evictionLock) {
+            int excess = sessions.size() - maxSessions + 1; // Keep room for the new session.
+            if (excess <= 0) {
+                return;
+            }
+            // Evict a batch, so that a full session manager does not scan all the sessions on every login.
+            int evictionsCount = Math.max(excess, maxSessions / EVICTION_BATCH_DIVISOR);
+            List<Entry> eldestEntries = sessions.values().stream()
+                    .map(entry -> new AbstractMap.SimpleImmutableEntry<>(entry.lastAccessedTime, entry))
+                    .sorted(Map.Entry.comparingByKey())
+                    .limit(evictionsCount)
+                    .map(Map.Entry::getValue)
+                    .collect(Collectors.toList());
+            long now = System.currentTimeMillis();
+            for (Entry entry : eldestEntries) {
+                String sessionId = entry.session.getSessionId();
+                if (sessions.remove(sessionId, entry)) {
+                    try {
+                        sessionLog.append(SessionLog.RECORD_REMOVE, now, SessionCodec.fromHex(sessionId),
+                                          new byte[0]);
+                    } catch (IOException e) {
+                        throw new SessionManagementException("Cannot evict session '" + sessionId + "'.", e);
+                    }
+                }
+            }
+            LOGGER.debug("Evicted {} least recently used sessions as the maximum of {} sessions is reached.",
+                         eldestEntries.size(), maxSessions);
+        }
+    }
+
+    private void persist(Entry entry, long timestamp) throws IOException {
+        entry.recordSize = sessionLog.append(SessionLog.RECORD_PUT, timestamp,
+                                             SessionCodec.fromHex(entry.session.getSessionId()),
+                                             SessionCodec.encode(entry.session));
+    }
+
+    private void recover(Path logFile) {
+        long now = System.currentTimeMillis();
+        try {
+            sessionLog.replay((type, timestamp, sessionId, payload, recordSize) -> {
+                if (type == SessionLog.RECORD_REMOVE) {
+                    sessions.remove(SessionCodec.toHex(sessionId));
+                } else if (now - timestamp < timeoutMillis) {
+                    try {
+                        Session session = SessionCodec.decode(payload);
+                        Entry entry = createEntry(session, timestamp);
+                        entry.recordSize = recordSize;
+                        sessions.put(session.getSessionId(), entry);
+                    } catch (IOException e) {
+                        LOGGER.warn("Cannot read a session from session log '{}'.", logFile, e);
+                    }
+                } else {
+                    sessions.remove(SessionCodec.toHex(sessionId)); // Expired since it was last accessed.
+                }
+            });
+        } catch (IOException e) {
+            throw new UUFRuntimeException("Cannot read session log '" + logFile + "'.", e);
+        }
+        LOGGER.debug("Recovered {} sessions from session log '{}'.", sessions.size(), logFile);
+        sweep();
+    }
+
+    private void sweep() {
+        try {
+            long now = System.currentTimeMillis();
+            long liveBytes = 0;
+            for (Map.Entry<String, Entry> mapEntry : sessions.entrySet()) {
+                Entry entry = mapEntry.getValue();
+                if (now - entry.lastAccessedTime >= timeoutMillis) {
+                    sessions.remove(mapEntry.getKey(), entry);
+                } else {
+                    liveBytes += entry.recordSize;
+                }
+            }
+
+            if (sessionLog.size() > Math.max(COMPACTION_MIN_SIZE, liveBytes * 2)) {
+                sessionLog.compact(recordWriter -> {
+                    for (Entry entry : sessions.values()) {
+                        // Sessions that expired after the sweep above are dropped when the log is replayed.
+                        entry.recordSize = recordWriter.write(SessionLog.RECORD_PUT, entry.lastAccessedTime,
+                                                              SessionCodec.fromHex(entry.session.getSessionId()),
+                                                              SessionCodec.encode(entry.session));
+                    }
+                });
+            } else {
+                sessionLog.force();
+            }
+        } catch (IOException | RuntimeException e) {
+            // An exception must not escape, otherwise the sweeper won't run this task again.
+            LOGGER.error("An error occurred while sweeping expired sessions.", e);
+        }
+    }
+
+    /**
+     * A session managed by this session manager.
+     */
+    private static class Entry {
+
+        private final Session session;
+        private volatile long lastAccessedTime;
+        private volatile int recordSize;
+
+        Entry(Session session, long lastAccessedTime) {
+            this.session = session;
+            this.lastAccessedTime = lastAccessedTime;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.api.auth;
+
+import org.wso2.carbon.uuf.api.config.Configuration;
+import org.wso2.carbon.uuf.api.exception.SessionManagementException;
+import org.wso2.carbon.uuf.api.exception.UUFRuntimeException;
+import org.wso2.carbon.uuf.spi.auth.SessionManager;
+import org.wso2.carbon.uuf.spi.auth.SessionManagerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Provides FileSessionManagers for UUF apps.
+ * <p>
+ * Session managers are shared among all the instances of this factory, as a session log can be opened by only one
+ * session manager at a time, even when an app is redeployed. A session manager is reused only for the same session
+ * configuration (timeout and maximum number of sessions); when the configuration of an app changes, its current
+ * session manager is closed and replaced with a new one, which recovers the sessions from the log. A session manager
+ * that is closed when its app is undeployed is replaced as well.
+ *
+ * @since 1.0.0
+ */
+public class FileSessionManagerFactory implements SessionManagerFactory {
+
+    private static final ConcurrentMap<String, Entry> SESSION_MANAGERS = new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SessionManager getSessionManager(String appName, Configuration configuration)
+            throws SessionManagementException {
+        try {
+            return SESSION_MANAGERS.compute(appName, (name, entry) -> {
+                if ((entry != null) && !entry.sessionManager.isClosed()) {
+                    if (entry.isFor(configuration)) {
+                        return entry;
+                    }
+                    closeSessionManager(name, entry.sessionManager); // Releases the session log.
+                }
+                return new Entry(new FileSessionManager(name, configuration), configuration);
+            }).sessionManager;
+        } catch (UUFRuntimeException e) {
+            throw new SessionManagementException("Cannot create a session manager for app '" + appName + "'.", e);
+        }
+    }
+
+    private static void closeSessionManager(String appName, FileSessionManager sessionManager) {
+        try {
+            sessionManager.close();
+        } catch (SessionManagementException e) {
+            throw new UUFRuntimeException("Cannot close the replaced session manager of app '" + appName + "'.", e);
+        }
+    }
+
+    /**
+     * A session manager with the session configuration it was created for.
+     */
+    private static class Entry {
+
+        private final FileSessionManager sessionManager;
+        private final long sessionTimeout;
+        private final int maxSessions;
+
+        Entry(FileSessionManager sessionManager, Configuration configuration) {
+            this.sessionManager = sessionManager;
+            this.sessionTimeout = configuration.getSessionTimeout();
+            this.maxSessions = configuration.getMaxSessions();
+        }
+
+        boolean isFor(Configuration configuration) {
+            return (sessionTimeout == configuration.getSessionTimeout()) &&
+                    (maxSessions == configuration.getMaxSessions());
+        }
+    }
+}
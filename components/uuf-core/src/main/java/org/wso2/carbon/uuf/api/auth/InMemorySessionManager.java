@@ -18,28 +18,22 @@
 
 package org.wso2.carbon.uuf.api.auth;
 
-import com.google.common.collect.Iterables;
 import org.wso2.carbon.uuf.api.config.Configuration;
 import org.wso2.carbon.uuf.api.exception.SessionManagementException;
-import org.wso2.carbon.uuf.api.exception.UUFRuntimeException;
+import org.wso2.carbon.uuf.internal.auth.SessionStore;
 import org.wso2.carbon.uuf.spi.HttpRequest;
 import org.wso2.carbon.uuf.spi.HttpResponse;
 import org.wso2.carbon.uuf.spi.auth.SessionManager;
 
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
-import javax.cache.Cache;
-import javax.cache.CacheException;
-import javax.cache.CacheManager;
-import javax.cache.Caching;
-import javax.cache.configuration.MutableConfiguration;
-import javax.cache.expiry.AccessedExpiryPolicy;
-import javax.cache.expiry.Duration;
 
 /**
  * Manages sessions in memory for a single UUF app.
  * <p>
- * This session manager uses the {@link javax.cache.Cache} for saving the state of the sessions.
+ * This session manager keeps the sessions in a {@link SessionStore}. If the session timeout is not set in the
+ * configuration or if it is 0, then the default session timeout of 20 minutes is used. If the maximum number of
+ * sessions is set in the configuration, least recently used sessions are evicted to stay within that limit.
  *
  * @since 1.0.0
  */
@@ -49,17 +43,19 @@ public class InMemorySessionManager implements SessionManager {
     private static final String COOKIE_SESSION_ID = "UUFSESSIONID";
     private static final String COOKIE_CSRF_TOKEN = "CSRFTOKEN";
 
-    private final Cache<String, Session> cache;
+    private final SessionStore sessionStore;
 
     /**
      * Constructs a new InMemorySessionManager.
      *
      * @param appName       name of the UUF application (or app context)
      * @param configuration app configuration
-     * @throws UUFRuntimeException if an error occurred when creating/initializing the cache
      */
     public InMemorySessionManager(String appName, Configuration configuration) {
-        this.cache = createCache(appName, configuration);
+        long sessionTimeout = configuration.getSessionTimeout();
+        sessionTimeout = sessionTimeout == 0 ? SESSION_DEFAULT_TIMEOUT : sessionTimeout;
+        this.sessionStore = new SessionStore(TimeUnit.SECONDS.toMillis(sessionTimeout),
+                                             configuration.getMaxSessions());
     }
 
     /**
@@ -69,7 +65,7 @@ public class InMemorySessionManager implements SessionManager {
     public Session createSession(User user, HttpRequest request, HttpResponse response)
             throws SessionManagementException {
         Session session = new Session(user);
-        cache.put(session.getSessionId(), session);
+        sessionStore.put(session);
 
         // Create cookies
         response.addCookie(COOKIE_SESSION_ID, session.getSessionId() +
@@ -91,7 +87,7 @@ public class InMemorySessionManager implements SessionManager {
         if (!Session.isValidSessionId(sessionId)) {
             throw new SessionManagementException("Session ID '" + sessionId + "' is invalid.");
         }
-        return Optional.ofNullable(cache.get(sessionId));
+        return Optional.ofNullable(sessionStore.get(sessionId));
     }
 
     /**
@@ -112,7 +108,7 @@ public class InMemorySessionManager implements SessionManager {
                 "; Secure; HTTPOnly";
         response.addCookie(COOKIE_SESSION_ID, expiredCookie);
         response.addCookie(COOKIE_CSRF_TOKEN, expiredCookie);
-        return cache.remove(sessionId);
+        return sessionStore.remove(sessionId);
     }
 
     /**
@@ -120,48 +116,6 @@ public class InMemorySessionManager implements SessionManager {
      */
     @Override
     public int getCount() {
-        return Iterables.size(cache);
-    }
-
-    /**
-     * Creates a cache to store the sessions of the UUF app.
-     * <p>
-     * If the session timeout duration is not set in the configuration or if the session timeout duration value is 0
-     * then the default session timeout duration of 20 minutes will be used in the cache config.
-     *
-     * @param cacheName     name of the cache
-     * @param configuration app configuration
-     * @return carbon cache for the specified cache name
-     */
-    private Cache<String, Session> createCache(String cacheName, Configuration configuration) {
-        // Create cache config
-        MutableConfiguration<String, Session> cacheConfig = new MutableConfiguration<>();
-        cacheConfig.setTypes(String.class, Session.class);
-        cacheConfig.setStoreByValue(false);
-        long sessionTimeout = configuration.getSessionTimeout();
-        sessionTimeout = sessionTimeout == 0 ? SESSION_DEFAULT_TIMEOUT : sessionTimeout;
-        Duration sessionTimeOut = new Duration(TimeUnit.SECONDS, sessionTimeout);
-        cacheConfig.setExpiryPolicyFactory(AccessedExpiryPolicy.factoryOf(sessionTimeOut));
-
-        CacheManager cacheManager = Caching.getCachingProvider().getCacheManager();
-        try {
-            Cache<String, Session> cache = cacheManager.getCache(cacheName, String.class, Session.class);
-            if (cache == null) {
-                cache = cacheManager.createCache(cacheName, cacheConfig);
-            }
-            return cache;
-        } catch (IllegalStateException e) {
-            throw new UUFRuntimeException("Cannot create cache '" + cacheName + "' for session management. " +
-                                          "Cache manager '" + cacheManager.getClass().getName() + "' is closed.", e);
-        } catch (CacheException e) {
-            throw new UUFRuntimeException("Cannot create cache '" + cacheName + "' for session management. " +
-                                          "An error occurred configuring the cache.", e);
-        } catch (IllegalArgumentException e) {
-            throw new UUFRuntimeException("Cannot create cache '" + cacheName + "' for session management. " +
-                                          "Invalid cache configuration.", e);
-        } catch (UnsupportedOperationException e) {
-            throw new UUFRuntimeException("Cannot create cache '" + cacheName + "' for session management. " +
-                                          "Cache configuration specifies an unsupported feature.", e);
-        }
+        return sessionStore.size();
     }
 }
@@ -21,10 +21,10 @@ package org.wso2.carbon.uuf.api.auth;
 import org.wso2.carbon.uuf.core.Theme;
 
 import java.io.Serializable;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
-import java.util.Base64;
 import java.util.Objects;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 /**
  * Provides a way to identify a user across more than one page request or visit to a Web site and to store information
@@ -49,6 +49,7 @@ public class Session implements Serializable {
     private final User user;
     private final String csrfToken;
     private String themeName;
+    private transient Consumer<Session> changeListener;
 
     /**
      * Creates a new session instance with the specified user.
@@ -61,6 +62,21 @@ public class Session implements Serializable {
         this.csrfToken = sessionIdGenerator.generateId();
     }
 
+    /**
+     * Creates a session instance from a persisted session.
+     *
+     * @param sessionId ID of the session
+     * @param user      user of the session
+     * @param csrfToken CSRF token of the session
+     * @param themeName theme name of the session, can be {@code null}
+     */
+    Session(String sessionId, User user, String csrfToken, String themeName) {
+        this.sessionId = sessionId;
+        this.user = user;
+        this.csrfToken = csrfToken;
+        this.themeName = themeName;
+    }
+
     /**
      * Returns the ID of this session.
      *
@@ -101,7 +117,21 @@ public class Session implements Serializable {
         if (!Theme.isValidThemeName(themeName)) {
             throw new IllegalArgumentException("Theme name '" + themeName + "' is invalid.");
         }
+        boolean changed = !Objects.equals(this.themeName, themeName);
         this.themeName = themeName;
+        if (changed && (changeListener != null)) {
+            changeListener.accept(this);
+        }
+    }
+
+    /**
+     * Sets the listener that is notified when this session is changed, so that a session manager can persist the
+     * change.
+     *
+     * @param changeListener listener to notify, can be {@code null}
+     */
+    void setChangeListener(Consumer<Session> changeListener) {
+        this.changeListener = changeListener;
     }
 
     /**
@@ -139,13 +169,23 @@ public class Session implements Serializable {
     }
 
     /**
-     * Adopted from <a href="https://git.io/vrYMl">org.apache.catalina.util.SessionIdGenerator</a> in Apache Tomcat
-     * 8.0.0 release.
+     * Generates session IDs as upper case hexadecimal strings of random bytes.
+     * <p>
+     * Each thread uses its own {@code SHA1PRNG} {@link SecureRandom}, so that concurrent logins do not contend on a
+     * single lock. The default {@link SecureRandom} is not used per thread, because on Linux all {@code NativePRNG}
+     * instances read from the same device under a global lock. A thread's generator is seeded with random bytes of a
+     * shared default {@link SecureRandom} and is reseeded after it has generated {@value #RESEED_INTERVAL} IDs.
      */
     private static class SessionIdGenerator {
 
-        private final SecureRandom secureRandom;
+        private static final int RESEED_INTERVAL = 1 << 16;
+        private static final int SEED_LENGTH = 32;
+        private static final String ALGORITHM = "SHA1PRNG";
+        private static final SecureRandom SEED_SOURCE = new SecureRandom();
+        private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
         private final int sessionIdLength;
+        private final ThreadLocal<ThreadGenerator> threadGenerators;
 
         /**
          * Creates a new session ID generator.
@@ -153,21 +193,8 @@ public class Session implements Serializable {
          * @param sessionIdLength number of bytes in a session ID
          */
         public SessionIdGenerator(int sessionIdLength) {
-            byte[] randomBytes = new byte[32];
-            ThreadLocalRandom.current().nextBytes(randomBytes);
-            char[] entropy = Base64.getEncoder().encodeToString(randomBytes).toCharArray();
-
-            long seed = System.currentTimeMillis();
-            for (int i = 0; i < entropy.length; i++) {
-                long update = ((byte) entropy[i]) << ((i % 8) * 8);
-                seed ^= update;
-            }
-
-            // We call the default constructor so that system will figure-out the best, available algorithm.
-            // See: http://stackoverflow.com/a/27638413/1577286
-            this.secureRandom = new SecureRandom();
-            this.secureRandom.setSeed(seed);
             this.sessionIdLength = sessionIdLength;
+            this.threadGenerators = ThreadLocal.withInitial(() -> new ThreadGenerator(sessionIdLength));
         }
 
         /**
@@ -175,32 +202,57 @@ public class Session implements Serializable {
          *
          * @return session ID
          */
-        public synchronized String generateId() {
-            byte randomBytes[] = new byte[16];
-            // Render the result as a String of hexadecimal digits
-            StringBuilder buffer = new StringBuilder();
+        public String generateId() {
+            byte[] randomBytes = threadGenerators.get().nextBytes();
+            char[] hexChars = new char[sessionIdLength * 2];
+            for (int i = 0, j = 0; i < sessionIdLength; i++) {
+                hexChars[j++] = HEX_DIGITS[(randomBytes[i] >> 4) & 0x0f];
+                hexChars[j++] = HEX_DIGITS[randomBytes[i] & 0x0f];
+            }
+            return new String(hexChars);
+        }
+
+        /**
+         * Random bytes source of a single thread.
+         */
+        private static class ThreadGenerator {
 
-            int resultLenBytes = 0;
+            private final byte[] randomBytes;
+            private SecureRandom secureRandom;
+            private int generatedCount;
 
-            while (resultLenBytes < sessionIdLength) {
-                secureRandom.nextBytes(randomBytes);
-                for (int j = 0; j < randomBytes.length && resultLenBytes < sessionIdLength; j++) {
-                    byte b1 = (byte) ((randomBytes[j] & 0xf0) >> 4);
-                    byte b2 = (byte) (randomBytes[j] & 0x0f);
-                    if (b1 < 10) {
-                        buffer.append((char) ('0' + b1));
-                    } else {
-                        buffer.append((char) ('A' + (b1 - 10)));
-                    }
-                    if (b2 < 10) {
-                        buffer.append((char) ('0' + b2));
-                    } else {
-                        buffer.append((char) ('A' + (b2 - 10)));
-                    }
-                    resultLenBytes++;
+            ThreadGenerator(int sessionIdLength) {
+                this.randomBytes = new byte[sessionIdLength];
+                this.secureRandom = createSecureRandom();
+                // Seeding before the first use replaces the self-seeding of the generator.
+                this.secureRandom.setSeed(nextSeed());
+            }
+
+            private static byte[] nextSeed() {
+                // Unlike 'generateSeed', 'nextBytes' does not block on '/dev/random' when the OS is low on entropy.
+                byte[] seed = new byte[SEED_LENGTH];
+                SEED_SOURCE.nextBytes(seed);
+                return seed;
+            }
+
+            private static SecureRandom createSecureRandom() {
+                try {
+                    return SecureRandom.getInstance(ALGORITHM);
+                } catch (NoSuchAlgorithmException e) {
+                    // Not every JRE provides SHA1PRNG; fall back to the default algorithm.
+                    return new SecureRandom();
                 }
             }
-            return buffer.toString();
+
+            byte[] nextBytes() {
+                if (++generatedCount > RESEED_INTERVAL) {
+                    // Supplements the current state of the generator with fresh entropy.
+                    secureRandom.setSeed(nextSeed());
+                    generatedCount = 1;
+                }
+                secureRandom.nextBytes(randomBytes);
+                return randomBytes;
+            }
         }
     }
 }
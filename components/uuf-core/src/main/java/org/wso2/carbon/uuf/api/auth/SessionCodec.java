@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.api.auth;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of {@link Session}s.
+ * <p>
+ * The session ID and the CSRF token are written as raw bytes instead of hexadecimal strings. User properties of common
+ * types (strings, numbers and booleans) are written with a one byte type tag; only properties of other types fall
+ * back to Java serialization.
+ *
+ * @since 1.0.0
+ */
+final class SessionCodec {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_INTEGER = 2;
+    private static final byte TYPE_LONG = 3;
+    private static final byte TYPE_BOOLEAN = 4;
+    private static final byte TYPE_DOUBLE = 5;
+    private static final byte TYPE_SERIALIZED = 6;
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private SessionCodec() {
+    }
+
+    /**
+     * Encodes the specified session.
+     *
+     * @param session session to encode
+     * @return encoded session
+     * @throws IOException if a user property cannot be serialized
+     */
+    static byte[] encode(Session session) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(FORMAT_VERSION);
+        out.write(fromHex(session.getSessionId()));
+        out.write(fromHex(session.getCsrfToken()));
+        writeNullableString(out, session.getThemeName());
+
+        User user = session.getUser();
+        writeNullableString(out, user.getId());
+        Map<String, Serializable> properties = user.getProperties();
+        out.writeInt(properties.size());
+        for (Map.Entry<String, Serializable> entry : properties.entrySet()) {
+            out.writeUTF(entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a session encoded by {@link #encode(Session)}.
+     *
+     * @param encodedSession encoded session
+     * @return decoded session
+     * @throws IOException if the encoded session is malformed
+     */
+    static Session decode(byte[] encodedSession) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(encodedSession));
+        byte version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported session format version " + version + ".");
+        }
+        byte[] idBytes = new byte[Session.SESSION_ID_LENGTH];
+        in.readFully(idBytes);
+        String sessionId = toHex(idBytes);
+        in.readFully(idBytes);
+        String csrfToken = toHex(idBytes);
+        String themeName = readNullableString(in);
+
+        String userId = readNullableString(in);
+        int propertiesCount = in.readInt();
+        Map<String, Serializable> properties = new HashMap<>(Math.max(4, propertiesCount * 2));
+        for (int i = 0; i < propertiesCount; i++) {
+            properties.put(in.readUTF(), readValue(in));
+        }
+        return new Session(sessionId, new User(userId, properties), csrfToken, themeName);
+    }
+
+    /**
+     * Converts a session ID in hexadecimal to its raw bytes.
+     *
+     * @param sessionId session ID in hexadecimal
+     * @return raw bytes of the session ID
+     */
+    static byte[] fromHex(String sessionId) {
+        byte[] bytes = new byte[sessionId.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) ((Character.digit(sessionId.charAt(i * 2), 16) << 4) |
+                    Character.digit(sessionId.charAt(i * 2 + 1), 16));
+        }
+        return bytes;
+    }
+
+    /**
+     * Converts raw bytes of a session ID to its upper case hexadecimal form.
+     *
+     * @param bytes raw bytes of the session ID
+     * @return session ID in hexadecimal
+     */
+    static String toHex(byte[] bytes) {
+        char[] hexChars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hexChars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0x0f];
+            hexChars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0x0f];
+        }
+        return new String(hexChars);
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeValue(DataOutputStream out, Serializable value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof String) {
+            out.writeByte(TYPE_STRING);
+            out.writeUTF((String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(TYPE_INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else {
+            ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOut = new ObjectOutputStream(serialized)) {
+                objectOut.writeObject(value);
+            }
+            out.writeByte(TYPE_SERIALIZED);
+            out.writeInt(serialized.size());
+            serialized.writeTo(out);
+        }
+    }
+
+    private static Serializable readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_STRING:
+                return in.readUTF();
+            case TYPE_INTEGER:
+                return in.readInt();
+            case TYPE_LONG:
+                return in.readLong();
+            case TYPE_BOOLEAN:
+                return in.readBoolean();
+            case TYPE_DOUBLE:
+                return in.readDouble();
+            case TYPE_SERIALIZED:
+                byte[] serialized = new byte[in.readInt()];
+                in.readFully(serialized);
+                try (ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+                    return (Serializable) objectIn.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("Cannot de-serialize a user property.", e);
+                }
+            default:
+                throw new IOException("Unknown type " + type + " of a user property.");
+        }
+    }
+}
@@ -64,6 +64,15 @@ public class User implements Serializable {
         return properties.get(propertyKey);
     }
 
+    /**
+     * Returns all the properties of this user.
+     *
+     * @return properties of this user
+     */
+    Map<String, Serializable> getProperties() {
+        return properties;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -21,6 +21,7 @@ package org.wso2.carbon.uuf.api.config;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ListMultimap;
 import org.wso2.carbon.uuf.core.UriPatten;
+import org.wso2.carbon.uuf.core.UriPattenSet;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -50,13 +51,17 @@ public class Configuration {
     private String themeName;
     private String loginPageUri;
     private String authorizer;
+    private long authorizationCacheTimeout;
     private String sessionManagerFactoryClassName;
     private long sessionTimeout;
+    private int maxSessions;
     private Map<Integer, String> errorPageUris;
     private String defaultErrorPageUri;
     private ListMultimap<String, MenuItem> menus;
     private Set<UriPatten> csrfIgnoreUris;
     private Set<UriPatten> xssIgnoreUris;
+    private UriPattenSet csrfIgnoreUriSet = UriPattenSet.empty();
+    private UriPattenSet xssIgnoreUriSet = UriPattenSet.empty();
     private ResponseHeaders responseHeaders;
     private Map<String, Object> otherConfigurations;
 
@@ -169,6 +174,29 @@ public class Configuration {
         this.authorizer = authorizer;
     }
 
+    /**
+     * Returns the duration in seconds to cache the decisions of the authorizer of the app. {@code 0} means that the
+     * decisions are not cached across requests.
+     *
+     * @return authorization cache timeout in seconds
+     */
+    public long getAuthorizationCacheTimeout() {
+        return authorizationCacheTimeout;
+    }
+
+    /**
+     * Sets the duration in seconds to cache the decisions of the authorizer of the app. {@code 0} means that the
+     * decisions are not cached across requests.
+     *
+     * @param authorizationCacheTimeout authorization cache timeout in seconds
+     */
+    public void setAuthorizationCacheTimeout(long authorizationCacheTimeout) {
+        if (authorizationCacheTimeout < 0) {
+            throw new IllegalArgumentException("Authorization cache timeout should not be a negative value.");
+        }
+        this.authorizationCacheTimeout = authorizationCacheTimeout;
+    }
+
     /**
      * Returns the session manager factory class name for the app.
      *
@@ -217,6 +245,29 @@ public class Configuration {
         this.sessionTimeout = sessionTimeout;
     }
 
+    /**
+     * Returns the maximum number of concurrent sessions for the app. {@code 0} means that the number of sessions is not
+     * limited.
+     *
+     * @return maximum number of sessions
+     */
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    /**
+     * Sets the maximum number of concurrent sessions for the app. {@code 0} means that the number of sessions is not
+     * limited.
+     *
+     * @param maxSessions maximum number of sessions
+     */
+    public void setMaxSessions(int maxSessions) {
+        if (maxSessions < 0) {
+            throw new IllegalArgumentException("Maximum number of sessions should not be a negative value.");
+        }
+        this.maxSessions = maxSessions;
+    }
+
     /**
      * Returns the configured error page URI (without the app context path) for the specified HTTP status code.
      *
@@ -341,6 +392,7 @@ public class Configuration {
     public void setCsrfIgnoreUris(Set<String> csrfIgnoreUris) {
         if (csrfIgnoreUris == null) {
             this.csrfIgnoreUris = emptySet();
+            this.csrfIgnoreUriSet = UriPattenSet.empty();
         } else {
             Set<UriPatten> csrfIgnoreUriPatterns = new HashSet<>();
             for (String csrfUri : csrfIgnoreUris) {
@@ -356,9 +408,20 @@ public class Configuration {
                 }
             }
             this.csrfIgnoreUris = unmodifiableSet(csrfIgnoreUriPatterns);
+            this.csrfIgnoreUriSet = new UriPattenSet(csrfIgnoreUriPatterns);
         }
     }
 
+    /**
+     * Checks whether the given URI doesn't require CSRF protection.
+     *
+     * @param uriWithoutContextPath URI without the context path
+     * @return {@code true} if the URI matches a CSRF ignore URI pattern, otherwise {@code false}
+     */
+    public boolean isCsrfIgnoreUri(String uriWithoutContextPath) {
+        return csrfIgnoreUriSet.matches(uriWithoutContextPath);
+    }
+
     /**
      * Returns the list of URI's that doesn't require XSS protection.
      *
@@ -377,6 +440,7 @@ public class Configuration {
     public void setXssIgnoreUris(Set<String> xssIgnoreUris) {
         if (xssIgnoreUris == null) {
             this.xssIgnoreUris = emptySet();
+            this.xssIgnoreUriSet = UriPattenSet.empty();
         } else {
             Set<UriPatten> xssIgnoreUriPatterns = new HashSet<>();
             for (String xssUri : xssIgnoreUris) {
@@ -393,9 +457,20 @@ public class Configuration {
                 }
             }
             this.xssIgnoreUris = unmodifiableSet(xssIgnoreUriPatterns);
+            this.xssIgnoreUriSet = new UriPattenSet(xssIgnoreUriPatterns);
         }
     }
 
+    /**
+     * Checks whether the given URI doesn't require XSS protection.
+     *
+     * @param uriWithoutContextPath URI without the context path
+     * @return {@code true} if the URI matches a XSS ignore URI pattern, otherwise {@code false}
+     */
+    public boolean isXssIgnoreUri(String uriWithoutContextPath) {
+        return xssIgnoreUriSet.matches(uriWithoutContextPath);
+    }
+
     /**
      * Returns the configured HTTP headers for the response in the security configuration.
      *
@@ -18,20 +18,40 @@
 
 package org.wso2.carbon.uuf.api.config;
 
+import java.text.DateFormat;
 import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Holds the i18n language resources of an UUF App.
+ * <p>
+ * Once the language resources are added, they are compiled into immutable per-locale message tables in which the
+ * messages of the parent locales (e.g. {@code fr} for {@code fr-CA}) are included, and parameterised messages are
+ * pre-parsed. Locales resolved for language ranges (e.g. "Accept-Language" headers) are cached.
  *
  * @since 1.0.0
  */
 public class I18nResources {
 
+    private static final int MAX_CACHED_LANGUAGE_RANGES = 1024;
+    private static final int MAX_CACHED_FALLBACK_LOCALES = 256;
+    private static final ResourceBundle.Control CANDIDATE_LOCALES_CONTROL =
+            ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_DEFAULT);
+
     private final Map<Locale, Properties> i18nResources = new HashMap<>();
+    private volatile MessageTables messageTables;
 
     /**
      * Adds the given language.
@@ -39,13 +59,14 @@ public class I18nResources {
      * @param locale language to be add
      * @param i18n   properties
      */
-    public void addI18nResource(Locale locale, Properties i18n) {
+    public synchronized void addI18nResource(Locale locale, Properties i18n) {
         Properties i18nResource = this.i18nResources.get(locale);
         if (i18nResource == null) {
             this.i18nResources.put(locale, i18n);
         } else {
             i18nResource.putAll(i18n);
         }
+        messageTables = null;
     }
 
     /**
@@ -61,36 +82,221 @@ public class I18nResources {
             return null;
         }
 
-        try {
-            return Locale.lookup(Locale.LanguageRange.parse(languageRanges), i18nResources.keySet());
-        } catch (IllegalArgumentException e) {
-            // languageRanges is ill formed
-            return null;
+        MessageTables tables = getMessageTables();
+        Optional<Locale> locale = tables.resolvedLocales.get(languageRanges);
+        if (locale == null) {
+            try {
+                locale = Optional.ofNullable(Locale.lookup(Locale.LanguageRange.parse(languageRanges),
+                                                           tables.locales.keySet()));
+            } catch (IllegalArgumentException e) {
+                // languageRanges is ill formed
+                locale = Optional.empty();
+            }
+            if (tables.resolvedLocales.size() >= MAX_CACHED_LANGUAGE_RANGES) {
+                tables.resolvedLocales.clear();
+            }
+            tables.resolvedLocales.put(languageRanges, locale);
         }
+        return locale.orElse(null);
     }
 
     /**
      * Returns the formatted message of the given message key in the given locale. If no message is found for the
-     * given message key in the given locale, then the specified default message will be returned.
-     * @param locale locale of the message
-     * @param messageKey key of the message
-     * @param messageParams parameters to format the message, or {@code null} if there are no parameters
+     * given message key in the given locale or in its parent locales, then the specified default message will be
+     * returned.
+     *
+     * @param locale         locale of the message
+     * @param messageKey     key of the message
+     * @param messageParams  parameters to format the message, or {@code null} if there are no parameters
      * @param defaultMessage default message, which will be returned if no message is found for the given message key
      *                       in the given locale
      * @return the formatted message or the default message if no message was found for the given message key in the
      * given locale
      */
     public String getMessage(Locale locale, String messageKey, Object[] messageParams, String defaultMessage) {
-        Properties messages = i18nResources.get(locale);
-        if (messages == null) {
-            return defaultMessage;
-        }
-        String message = messages.getProperty(messageKey);
+        Message message = getMessageTables().getMessages(locale).get(messageKey);
         if (message == null) {
             return defaultMessage;
         }
 
-        return ((messageParams == null) || (messageParams.length == 0)) ? message :
-                new MessageFormat(message, locale).format(messageParams);
+        return ((messageParams == null) || (messageParams.length == 0)) ? message.pattern :
+                message.format(messageParams, locale);
+    }
+
+    private MessageTables getMessageTables() {
+        MessageTables tables = messageTables;
+        if (tables == null) {
+            synchronized (this) {
+                tables = messageTables;
+                if (tables == null) {
+                    tables = new MessageTables(i18nResources);
+                    messageTables = tables;
+                }
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Immutable message tables of all the available locales.
+     */
+    private static class MessageTables {
+
+        private final Map<Locale, Map<String, Message>> locales;
+        private final ConcurrentMap<Locale, Map<String, Message>> fallbackLocales;
+        private final ConcurrentMap<String, Optional<Locale>> resolvedLocales;
+
+        MessageTables(Map<Locale, Properties> i18nResources) {
+            Map<Locale, Map<String, Message>> compiledMessages = new HashMap<>();
+            i18nResources.forEach((locale, properties) -> {
+                Map<String, Message> messages = new HashMap<>();
+                for (String key : properties.stringPropertyNames()) {
+                    messages.put(key, Message.compile(properties.getProperty(key), locale));
+                }
+                compiledMessages.put(locale, messages);
+            });
+
+            Map<Locale, Map<String, Message>> locales = new HashMap<>();
+            for (Locale locale : compiledMessages.keySet()) {
+                locales.put(locale, merge(locale, compiledMessages));
+            }
+            this.locales = Collections.unmodifiableMap(locales);
+            this.fallbackLocales = new ConcurrentHashMap<>();
+            this.resolvedLocales = new ConcurrentHashMap<>();
+        }
+
+        Map<String, Message> getMessages(Locale locale) {
+            Map<String, Message> messages = locales.get(locale);
+            if (messages != null) {
+                return messages;
+            }
+            messages = fallbackLocales.get(locale);
+            if (messages == null) {
+                // A locale without own messages (e.g. 'fr-CA') uses the messages of its nearest parent (e.g. 'fr').
+                messages = merge(locale, locales);
+                if (fallbackLocales.size() < MAX_CACHED_FALLBACK_LOCALES) {
+                    fallbackLocales.put(locale, messages);
+                }
+            }
+            return messages;
+        }
+
+        private static Map<String, Message> merge(Locale locale, Map<Locale, Map<String, Message>> messages) {
+            List<Locale> candidateLocales = CANDIDATE_LOCALES_CONTROL.getCandidateLocales("", locale);
+            Map<String, Message> merged = new HashMap<>();
+            // Candidate locales are ordered from the most specific to the root, hence merge in the reverse order.
+            for (int i = candidateLocales.size() - 1; i >= 0; i--) {
+                Map<String, Message> candidateMessages = messages.get(candidateLocales.get(i));
+                if (candidateMessages != null) {
+                    merged.putAll(candidateMessages);
+                }
+            }
+            return merged.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(merged);
+        }
+    }
+
+    /**
+     * A pre-parsed message. Messages with only simple arguments (e.g. {@code {0}}) are formatted without a {@link
+     * MessageFormat}; others are formatted with a copy of a pre-parsed {@link MessageFormat}.
+     */
+    private static class Message {
+
+        private final String pattern;
+        private final Object[] segments;
+        private final MessageFormat messageFormat;
+
+        private Message(String pattern, Object[] segments, MessageFormat messageFormat) {
+            this.pattern = pattern;
+            this.segments = segments;
+            this.messageFormat = messageFormat;
+        }
+
+        static Message compile(String pattern, Locale locale) {
+            List<Object> segments = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            int length = pattern.length();
+            for (int i = 0; i < length; i++) {
+                char c = pattern.charAt(i);
+                if (c == '\'') {
+                    return compileMessageFormat(pattern, locale); // quoted text
+                } else if (c == '{') {
+                    int end = pattern.indexOf('}', i);
+                    int argumentIndex = (end < 0) ? -1 : parseArgumentIndex(pattern, i + 1, end);
+                    if (argumentIndex < 0) {
+                        return compileMessageFormat(pattern, locale); // formatted argument, e.g. {0,number}
+                    }
+                    if (literal.length() > 0) {
+                        segments.add(literal.toString());
+                        literal.setLength(0);
+                    }
+                    segments.add(argumentIndex);
+                    i = end;
+                } else {
+                    literal.append(c);
+                }
+            }
+            if (literal.length() > 0) {
+                segments.add(literal.toString());
+            }
+            return new Message(pattern, segments.toArray(), null);
+        }
+
+        private static int parseArgumentIndex(String pattern, int start, int end) {
+            if ((start == end) || (end - start > 9)) {
+                return -1;
+            }
+            int index = 0;
+            for (int i = start; i < end; i++) {
+                char c = pattern.charAt(i);
+                if ((c < '0') || (c > '9')) {
+                    return -1;
+                }
+                index = (index * 10) + (c - '0');
+            }
+            return index;
+        }
+
+        private static Message compileMessageFormat(String pattern, Locale locale) {
+            try {
+                return new Message(pattern, null, new MessageFormat(pattern, locale));
+            } catch (IllegalArgumentException e) {
+                // Malformed pattern; it will be reported when the message is formatted.
+                return new Message(pattern, null, null);
+            }
+        }
+
+        String format(Object[] params, Locale locale) {
+            if (segments == null) {
+                MessageFormat format = (messageFormat == null) ? new MessageFormat(pattern, locale) :
+                        (MessageFormat) messageFormat.clone(); // MessageFormat is not thread-safe.
+                return format.format(params);
+            }
+
+            StringBuilder buffer = new StringBuilder(pattern.length() + 16 * params.length);
+            for (Object segment : segments) {
+                if (segment instanceof String) {
+                    buffer.append((String) segment);
+                    continue;
+                }
+                int argumentIndex = (Integer) segment;
+                if (argumentIndex >= params.length) {
+                    buffer.append('{').append(argumentIndex).append('}');
+                    continue;
+                }
+                // Same as how MessageFormat formats an argument without a format type.
+                Object param = params[argumentIndex];
+                if (param instanceof String) {
+                    buffer.append((String) param);
+                } else if (param instanceof Number) {
+                    buffer.append(NumberFormat.getInstance(locale).format(param));
+                } else if (param instanceof Date) {
+                    buffer.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale)
+                                          .format(param));
+                } else {
+                    buffer.append(String.valueOf(param));
+                }
+            }
+            return buffer.toString();
+        }
     }
 }
@@ -21,6 +21,7 @@ package org.wso2.carbon.uuf.core;
 import org.apache.commons.lang3.reflect.MethodUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uuf.api.auth.CachingAuthorizer;
 import org.wso2.carbon.uuf.api.auth.Permission;
 import org.wso2.carbon.uuf.api.auth.Session;
 import org.wso2.carbon.uuf.api.auth.User;
@@ -53,6 +54,7 @@ public class API {
     private final Authorizer authorizer;
     private final RequestLookup requestLookup;
     private Session currentSession;
+    private Map<Permission, Boolean> permissionDecisions;
 
     API(SessionManager sessionManager, Authorizer authorizer, RequestLookup requestLookup) {
         this.sessionManager = sessionManager;
@@ -186,6 +188,7 @@ public class API {
             throw new IllegalArgumentException("User of a session cannot be null.");
         }
         destroySession();
+        invalidateCachedPermissions(user);
         try {
             return sessionManager.createSession(user, requestLookup.getRequest(), requestLookup.getResponse());
         } catch (SessionManagementException e) {
@@ -234,8 +237,19 @@ public class API {
         if (authorizer == null) {
             return false;
         }
+        // Since an API object lives in the request scope, same permission is checked only once per request.
+        if (permissionDecisions == null) {
+            permissionDecisions = new HashMap<>();
+        } else {
+            Boolean decision = permissionDecisions.get(permission);
+            if (decision != null) {
+                return decision;
+            }
+        }
         try {
-            return authorizer.hasPermission(session.get().getUser(), permission);
+            boolean decision = authorizer.hasPermission(session.get().getUser(), permission);
+            permissionDecisions.put(permission, decision);
+            return decision;
         } catch (AuthorizationException e) {
             throw new PluginExecutionException(
                     "Cannot check permission for user '" + session.get().getUser().getId() + "' using authorizer '" +
@@ -255,8 +269,10 @@ public class API {
             // No session found in the current request.
             return false;
         }
-        // Remove cached session.
+        // Remove cached session and permissions.
         currentSession = null;
+        permissionDecisions = null;
+        invalidateCachedPermissions(session.get().getUser());
         try {
             return sessionManager.destroySession(requestLookup.getRequest(), requestLookup.getResponse());
         } catch (SessionManagementException e) {
@@ -266,6 +282,12 @@ public class API {
         }
     }
 
+    private void invalidateCachedPermissions(User user) {
+        if (authorizer instanceof CachingAuthorizer) {
+            ((CachingAuthorizer) authorizer).invalidate(user);
+        }
+    }
+
     private static String joinClassNames(Object[] args) {
         if (args == null) {
             return "null";
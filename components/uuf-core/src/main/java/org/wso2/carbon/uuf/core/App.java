@@ -44,6 +44,7 @@ import org.wso2.carbon.uuf.spi.auth.SessionManager;
 import org.wso2.carbon.uuf.spi.model.Model;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -122,6 +123,24 @@ public class App {
         return configuration;
     }
 
+    public SessionManager getSessionManager() {
+        return sessionManager;
+    }
+
+    /**
+     * Creates a copy of this app that has the given components, bindings and i18n resources. Themes, configuration,
+     * session manager and authorizer of this app are shared with the copy.
+     *
+     * @param components    components of the copy
+     * @param bindings      bindings of the copy
+     * @param i18nResources i18n resources of the copy
+     * @return copy of this app
+     */
+    public App withComponents(Set<Component> components, Bindings bindings, I18nResources i18nResources) {
+        return new App(name, contextPath, components, new HashSet<>(themes.values()), configuration, bindings,
+                       i18nResources, sessionManager, authorizer);
+    }
+
     /**
      * Renders the relevant page for the given request.
      *
@@ -27,6 +27,7 @@ import org.wso2.carbon.uuf.spi.Renderable;
 import org.wso2.carbon.uuf.spi.model.Model;
 
 import java.util.Objects;
+import java.util.Optional;
 
 public class Page implements Comparable<Page> {
 
@@ -50,6 +51,14 @@ public class Page implements Comparable<Page> {
         return uriPatten;
     }
 
+    public Optional<Layout> getLayout() {
+        return Optional.ofNullable(layout);
+    }
+
+    public Page withLayout(Layout layout) {
+        return new Page(uriPatten, renderer, permission, layout);
+    }
+
     public String render(Model model, Lookup lookup, RequestLookup requestLookup, API api) {
         if (permission != null) {
             if (!api.getSession().isPresent()) {
@@ -21,6 +21,7 @@ package org.wso2.carbon.uuf.core;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -37,36 +38,27 @@ import java.util.stream.Collectors;
 public class UriPatten implements Comparable<UriPatten> {
 
     private static final Pattern URI_VARIABLE_PATTERN = Pattern.compile("\\{(.+?)\\}");
-    private static final String URI_VARIABLE_REGEX = "([^/]+)";
-    private static final String PLUS_MARKED_URI_VARIABLE_REGEX = "(.+)";
+    private static final String URI_VARIABLE_REGEX = "[^/]+";
+    private static final String PLUS_MARKED_URI_VARIABLE_REGEX = ".+";
+    private static final String INDEX_PATH_REGEX = "index";
 
     private final String patternString;
     private final Pattern pattern;
     private final List<String> variableNames;
+    private final boolean hasPlusMarkedVariable;
+    private final boolean isIndexPattern;
 
     public UriPatten(String uriPattern) {
         Pair<Boolean, List<String>> analyseResult = analyse(uriPattern);
-        String indexPathRegex = null;
         // URI pattern cleanup
-        if (uriPattern.endsWith("/index")) {
+        this.isIndexPattern = uriPattern.endsWith("/index");
+        if (isIndexPattern) {
             uriPattern = uriPattern.substring(0, (uriPattern.length() - "index".length()));
-            indexPathRegex = "(index)?";
         }
         this.patternString = uriPattern;
-        boolean hasPlusMarkedVariable = analyseResult.getLeft();
+        this.hasPlusMarkedVariable = analyseResult.getLeft();
         this.variableNames = analyseResult.getRight();
-
-        String patternRegex = URI_VARIABLE_PATTERN.splitAsStream(uriPattern)
-                .map(Pattern::quote)
-                .collect(Collectors.joining(URI_VARIABLE_REGEX));
-        if (uriPattern.charAt(uriPattern.length() - 1) == '}') {
-            patternRegex += (hasPlusMarkedVariable) ? PLUS_MARKED_URI_VARIABLE_REGEX : URI_VARIABLE_REGEX;
-        }
-        //append the index path regex if this is uri has ended with /index
-        if (indexPathRegex != null) {
-            patternRegex = patternRegex + indexPathRegex;
-        }
-        pattern = Pattern.compile(patternRegex);
+        this.pattern = Pattern.compile(toRegex(true));
     }
 
     private Pair<Boolean, List<String>> analyse(String uriPattern) {
@@ -120,6 +112,49 @@ public class UriPatten implements Comparable<UriPatten> {
         return Pair.of(hasPlusMarkedVariable, variableNames);
     }
 
+    public String getPatternString() {
+        return patternString;
+    }
+
+    public boolean hasVariables() {
+        return !variableNames.isEmpty();
+    }
+
+    /**
+     * Returns the URIs matched by this pattern if it does not have any variables.
+     *
+     * @return exact URIs matched by this pattern, or an empty list if this pattern has variables
+     */
+    List<String> getLiteralUris() {
+        if (hasVariables()) {
+            return Collections.emptyList();
+        }
+        return isIndexPattern ? Arrays.asList(patternString, patternString + "index") :
+                Collections.singletonList(patternString);
+    }
+
+    /**
+     * Returns the regular expression of this pattern.
+     *
+     * @param capturing whether URI variables should be captured as groups
+     * @return regular expression of this pattern
+     */
+    String toRegex(boolean capturing) {
+        String groupOpening = capturing ? "(" : "(?:";
+        String patternRegex = URI_VARIABLE_PATTERN.splitAsStream(patternString)
+                .map(Pattern::quote)
+                .collect(Collectors.joining(groupOpening + URI_VARIABLE_REGEX + ")"));
+        if (patternString.charAt(patternString.length() - 1) == '}') {
+            patternRegex += groupOpening +
+                    ((hasPlusMarkedVariable) ? PLUS_MARKED_URI_VARIABLE_REGEX : URI_VARIABLE_REGEX) + ")";
+        }
+        //append the index path regex if this is uri has ended with /index
+        if (isIndexPattern) {
+            patternRegex += groupOpening + INDEX_PATH_REGEX + ")?";
+        }
+        return patternRegex;
+    }
+
     public boolean matches(String uri) {
         return pattern.matcher(uri).matches();
     }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * A set of URI patterns compiled into a single matcher, so that whether a URI matches any of the patterns can be
+ * decided without matching the patterns one by one.
+ * <p>
+ * URIs of patterns without variables are looked up in a hash set and all other patterns are combined into one regular
+ * expression without capturing groups.
+ *
+ * @since 1.0.0
+ */
+public class UriPattenSet {
+
+    private static final UriPattenSet EMPTY = new UriPattenSet(Collections.emptySet());
+
+    private final Set<String> literalUris;
+    private final Pattern combinedPattern;
+
+    /**
+     * Creates a new set of the given URI patterns.
+     *
+     * @param uriPatterns URI patterns
+     */
+    public UriPattenSet(Collection<UriPatten> uriPatterns) {
+        Set<String> literalUris = new HashSet<>();
+        List<String> regexes = new ArrayList<>();
+        for (UriPatten uriPattern : uriPatterns) {
+            if (uriPattern.hasVariables()) {
+                regexes.add(uriPattern.toRegex(false));
+            } else {
+                literalUris.addAll(uriPattern.getLiteralUris());
+            }
+        }
+        this.literalUris = literalUris;
+        this.combinedPattern = regexes.isEmpty() ? null :
+                Pattern.compile(regexes.stream().distinct().collect(Collectors.joining(")|(?:", "(?:", ")")));
+    }
+
+    /**
+     * Returns an empty set of URI patterns.
+     *
+     * @return empty set of URI patterns
+     */
+    public static UriPattenSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Checks whether the given URI matches any of the patterns in this set.
+     *
+     * @param uri URI to be checked
+     * @return {@code true} if the URI matches at least one of the patterns, otherwise {@code false}
+     */
+    public boolean matches(String uri) {
+        return literalUris.contains(uri) || ((combinedPattern != null) && combinedPattern.matcher(uri).matches());
+    }
+}
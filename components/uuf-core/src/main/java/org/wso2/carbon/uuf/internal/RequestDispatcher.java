@@ -28,6 +28,7 @@ import org.wso2.carbon.uuf.core.App;
 import org.wso2.carbon.uuf.internal.debug.DebugLogger;
 import org.wso2.carbon.uuf.internal.debug.Debugger;
 import org.wso2.carbon.uuf.internal.deployment.AppRegistry;
+import org.wso2.carbon.uuf.internal.deployment.DeployedApp;
 import org.wso2.carbon.uuf.internal.exception.DeploymentException;
 import org.wso2.carbon.uuf.internal.exception.HttpErrorException;
 import org.wso2.carbon.uuf.internal.exception.PageRedirectException;
@@ -83,22 +84,30 @@ public class RequestDispatcher {
             return;
         }
 
-        App app;
+        DeployedApp deployedApp;
         try {
-            app = appRegistry.getApp(request.getContextPath());
+            deployedApp = appRegistry.acquireApp(request.getContextPath());
         } catch (DeploymentException e) {
             String msg = "Cannot deploy an app for context path '" + request.getContextPath() + "'.";
             LOGGER.error(msg, e);
             serveDefaultErrorPage(STATUS_INTERNAL_SERVER_ERROR, msg, response);
             return;
+        } catch (HttpErrorException e) {
+            serveDefaultErrorPage(e.getHttpStatusCode(), e.getMessage(), response);
+            return;
         }
-        if (app == null) {
+        if (deployedApp == null) {
             serveDefaultErrorPage(STATUS_NOT_FOUND,
                                   "Cannot find an app for context path '" + request.getContextPath() + "'.", response);
             return;
         }
 
-        serve(app, request, response);
+        try {
+            serve(deployedApp.getApp(), request, response);
+        } finally {
+            // A retired version of the app is disposed once all of its requests are served.
+            deployedApp.release();
+        }
     }
 
     private void serve(App app, HttpRequest request, HttpResponse response) {
@@ -34,6 +34,7 @@ import org.wso2.carbon.uuf.api.Server;
 import org.wso2.carbon.uuf.internal.deployment.AppCreator;
 import org.wso2.carbon.uuf.internal.deployment.AppFinder;
 import org.wso2.carbon.uuf.internal.deployment.AppRegistry;
+import org.wso2.carbon.uuf.internal.deployment.AppSnapshotStore;
 import org.wso2.carbon.uuf.internal.deployment.ClassLoaderProvider;
 import org.wso2.carbon.uuf.internal.deployment.DeploymentNotifier;
 import org.wso2.carbon.uuf.internal.deployment.HttpConnectorDeploymentNotifier;
@@ -42,7 +43,9 @@ import org.wso2.carbon.uuf.internal.deployment.OsgiRestApiDeployer;
 import org.wso2.carbon.uuf.internal.deployment.PluginProvider;
 import org.wso2.carbon.uuf.internal.deployment.RestApiDeployer;
 import org.wso2.carbon.uuf.internal.io.deployment.ArtifactAppFinder;
+import org.wso2.carbon.uuf.internal.io.deployment.ArtifactAppSnapshotStore;
 import org.wso2.carbon.uuf.internal.io.deployment.BundleClassLoaderProvider;
+import org.wso2.carbon.uuf.internal.io.util.ZipArtifactHandler;
 import org.wso2.carbon.uuf.spi.HttpRequest;
 import org.wso2.carbon.uuf.spi.HttpResponse;
 import org.wso2.carbon.uuf.spi.RenderableCreator;
@@ -50,6 +53,7 @@ import org.wso2.carbon.uuf.spi.RenderableCreator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component(name = "org.wso2.carbon.uuf.internal.UUFServer",
            service = RequiredCapabilityListener.class,
@@ -67,6 +71,7 @@ public class UUFServer implements Server, RequiredCapabilityListener {
     private final AppFinder appFinder = new ArtifactAppFinder();
     private Set<RenderableCreator> renderableCreators = new HashSet<>();
     private final ClassLoaderProvider classLoaderProvider = new BundleClassLoaderProvider();
+    private final AppSnapshotStore appSnapshotStore = new ArtifactAppSnapshotStore();
     private PluginProvider pluginProvider;
     private RestApiDeployer restApiDeployer;
     private final RequestDispatcher requestDispatcher = new RequestDispatcher();
@@ -104,9 +109,9 @@ public class UUFServer implements Server, RequiredCapabilityListener {
         LOGGER.debug("RenderableCreator '{}' unregistered for {} extensions.",
                     renderableCreator.getClass().getName(), renderableCreator.getSupportedFileExtensions());
         if (appRegistry != null) {
-            // Remove apps that might have used the removed renderable creator to create.
-            appRegistry.clear();
-            appRegistry = createAppRegistry();
+            /* Redeploy apps that might have used the removed renderable creator to create. Current versions of the
+            apps keep serving requests until their new versions are deployed. */
+            appRegistry.redeployApps(createAppCreator());
         }
     }
 
@@ -140,9 +145,12 @@ public class UUFServer implements Server, RequiredCapabilityListener {
     }
 
     private AppRegistry createAppRegistry() {
-        AppCreator appCreator = new AppCreator(renderableCreators, classLoaderProvider, pluginProvider,
-                                               restApiDeployer);
-        return new AppRegistry(appFinder, appCreator);
+        return new AppRegistry(appFinder, createAppCreator());
+    }
+
+    private AppCreator createAppCreator() {
+        return new AppCreator(renderableCreators, classLoaderProvider, pluginProvider, restApiDeployer,
+                              appSnapshotStore);
     }
 
     /**
@@ -153,13 +161,25 @@ public class UUFServer implements Server, RequiredCapabilityListener {
         requestDispatcher.serve(request, response, appRegistry);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reloadComponent(String appContextPath, String componentContextPath) {
+        appRegistry.reloadComponent(appContextPath, componentContextPath);
+    }
+
     public void start() {
         List<Pair<String, String>> availableApps = appFinder.getAvailableApps();
+        appRegistry.deployApps(availableApps.stream().map(Pair::getRight).collect(Collectors.toList()));
+        /* HTTP connectors are notified right away. Requests for an app that is still being deployed (or warmed up) in
+        the background fail fast with a 503 response. */
         deploymentNotifier.notify(availableApps);
     }
 
     public void stop() {
         appRegistry.clear();
+        ZipArtifactHandler.closeArtifacts();
     }
 
     public static boolean isDevModeEnabled() {
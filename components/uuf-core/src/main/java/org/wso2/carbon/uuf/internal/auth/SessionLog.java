@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.auth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uuf.internal.io.util.PrivateDirectories;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumSet;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only, memory-mapped log of session records.
+ * <p>
+ * A record is laid out as {@code length | crc32 | type | timestamp | session ID | payload}, where the length covers
+ * everything after itself and the CRC covers everything after itself. A zero length marks the end of the log. When
+ * the log is replayed, it stops at the first record that is incomplete or corrupted (e.g. due to a crash while it was
+ * being written), and new records are appended from there. The log file grows by doubling its mapped capacity, and is
+ * rewritten with only the live records when it is {@link #compact(Compactor) compacted}.
+ *
+ * @since 1.0.0
+ */
+public class SessionLog implements Closeable {
+
+    /**
+     * Record type of an added or updated session.
+     */
+    public static final byte RECORD_PUT = 1;
+    /**
+     * Record type of a removed session.
+     */
+    public static final byte RECORD_REMOVE = 2;
+
+    private static final int SESSION_ID_BYTES = 16;
+    private static final int HEADER_LENGTH = 4 + 4 + 1 + 8 + SESSION_ID_BYTES;
+    private static final int INITIAL_CAPACITY = 1 << 20; // 1 MB
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionLog.class);
+
+    private final Path logFile;
+    private final CRC32 crc32;
+    private Segment segment;
+
+    /**
+     * Opens the specified session log. The log file is created if it does not exist. As the log holds session IDs and
+     * CSRF tokens, its directory and the log file are made accessible only to the current user.
+     *
+     * @param logFile path to the log file
+     * @throws IOException if the log file cannot be opened, if it is already opened by another process or if its
+     *                     directory is owned by another user
+     */
+    public SessionLog(Path logFile) throws IOException {
+        this.logFile = logFile;
+        this.crc32 = new CRC32();
+        PrivateDirectories.create(logFile.toAbsolutePath().getParent());
+        this.segment = Segment.open(logFile, INITIAL_CAPACITY);
+    }
+
+    /**
+     * Replays all the records in this log in the order they were appended.
+     *
+     * @param recordHandler handler to receive the records
+     * @throws IOException if the record handler throws an exception
+     */
+    public synchronized void replay(RecordHandler recordHandler) throws IOException {
+        MappedByteBuffer buffer = segment.buffer;
+        int position = 0;
+        int limit = buffer.capacity();
+        while (position + HEADER_LENGTH <= limit) {
+            int length = buffer.getInt(position);
+            if (length == 0) {
+                break; // End of the log.
+            }
+            if ((length < HEADER_LENGTH - 4) || (length > limit - position - 4)) {
+                LOGGER.warn("Session log '{}' is truncated at {} due to a malformed record.", logFile, position);
+                break;
+            }
+            byte[] record = new byte[length - 4];
+            buffer.position(position + 8);
+            buffer.get(record);
+            crc32.reset();
+            crc32.update(record, 0, record.length);
+            if ((int) crc32.getValue() != buffer.getInt(position + 4)) {
+                LOGGER.warn("Session log '{}' is truncated at {} due to a corrupted record.", logFile, position);
+                break;
+            }
+
+            ByteBuffer recordBuffer = ByteBuffer.wrap(record);
+            byte type = recordBuffer.get();
+            long timestamp = recordBuffer.getLong();
+            byte[] sessionId = new byte[SESSION_ID_BYTES];
+            recordBuffer.get(sessionId);
+            byte[] payload = new byte[recordBuffer.remaining()];
+            recordBuffer.get(payload);
+            recordHandler.handle(type, timestamp, sessionId, payload, length + 4);
+            position += length + 4;
+        }
+        segment.position = position;
+    }
+
+    /**
+     * Appends a record to this log.
+     *
+     * @param type      type of the record
+     * @param timestamp timestamp of the record
+     * @param sessionId raw bytes of the session ID
+     * @param payload   payload of the record
+     * @return number of bytes the record takes in this log
+     * @throws IOException if the log file cannot be grown to fit the record
+     */
+    public synchronized int append(byte type, long timestamp, byte[] sessionId, byte[] payload) throws IOException {
+        return segment.append(type, timestamp, sessionId, payload, crc32);
+    }
+
+    /**
+     * Rewrites this log with the records written by the specified compactor. The records that are not written by the
+     * compactor are dropped. Appends are blocked while this log is being compacted.
+     *
+     * @param compactor compactor that writes the live records
+     * @throws IOException if an I/O error occurs when rewriting the log file
+     */
+    public synchronized void compact(Compactor compactor) throws IOException {
+        Path compactedFile = logFile.resolveSibling(logFile.getFileName() + ".compacting");
+        Files.deleteIfExists(compactedFile);
+        Segment compactedSegment = Segment.open(compactedFile, INITIAL_CAPACITY);
+        try {
+            compactor.compact((type, timestamp, sessionId, payload) ->
+                                      compactedSegment.append(type, timestamp, sessionId, payload, crc32));
+            compactedSegment.buffer.force();
+        } finally {
+            compactedSegment.close();
+        }
+
+        int previousSize = segment.position;
+        boolean isMoved = false;
+        segment.close();
+        try {
+            Files.move(compactedFile, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            isMoved = true;
+        } finally {
+            // If the compacted log cannot be moved, continue with the current log.
+            segment = Segment.open(logFile, INITIAL_CAPACITY);
+            segment.position = isMoved ? compactedSegment.position : previousSize;
+        }
+        LOGGER.debug("Session log '{}' is compacted from {} bytes to {} bytes.", logFile, previousSize,
+                     segment.position);
+    }
+
+    /**
+     * Returns the number of bytes used in this log.
+     *
+     * @return size of this log
+     */
+    public synchronized int size() {
+        return segment.position;
+    }
+
+    /**
+     * Forces the appended records to be written to the storage device.
+     */
+    public synchronized void force() {
+        segment.buffer.force();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        segment.buffer.force();
+        segment.close();
+    }
+
+    /**
+     * Receives the records of a session log when it is replayed.
+     *
+     * @since 1.0.0
+     */
+    @FunctionalInterface
+    public interface RecordHandler {
+
+        /**
+         * Handles a record.
+         *
+         * @param type       type of the record
+         * @param timestamp  timestamp of the record
+         * @param sessionId  raw bytes of the session ID
+         * @param payload    payload of the record
+         * @param recordSize number of bytes the record takes in the log
+         * @throws IOException if the record cannot be handled
+         */
+        void handle(byte type, long timestamp, byte[] sessionId, byte[] payload, int recordSize) throws IOException;
+    }
+
+    /**
+     * Writes the live records when a session log is compacted.
+     *
+     * @since 1.0.0
+     */
+    @FunctionalInterface
+    public interface Compactor {
+
+        /**
+         * Writes the live records to the specified writer.
+         *
+         * @param recordWriter writer of the compacted log
+         * @throws IOException if a record cannot be written
+         */
+        void compact(RecordWriter recordWriter) throws IOException;
+    }
+
+    /**
+     * Writes records to a compacted session log.
+     *
+     * @since 1.0.0
+     */
+    @FunctionalInterface
+    public interface RecordWriter {
+
+        /**
+         * Writes a record.
+         *
+         * @param type      type of the record
+         * @param timestamp timestamp of the record
+         * @param sessionId raw bytes of the session ID
+         * @param payload   payload of the record
+         * @return number of bytes the record takes in the log
+         * @throws IOException if the record cannot be written
+         */
+        int write(byte type, long timestamp, byte[] sessionId, byte[] payload) throws IOException;
+    }
+
+    /**
+     * A memory-mapped log file.
+     */
+    private static class Segment {
+
+        private final FileChannel channel;
+        private final FileLock fileLock;
+        private MappedByteBuffer buffer;
+        private int position;
+
+        private Segment(FileChannel channel, FileLock fileLock, MappedByteBuffer buffer) {
+            this.channel = channel;
+            this.fileLock = fileLock;
+            this.buffer = buffer;
+        }
+
+        static Segment open(Path file, int minCapacity) throws IOException {
+            FileChannel channel = FileChannel.open(file, EnumSet.of(StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                                                    StandardOpenOption.WRITE),
+                                                   PrivateDirectories.ownerOnlyFileAttributes(file.getFileSystem()));
+            try {
+                FileLock fileLock = channel.tryLock();
+                if (fileLock == null) {
+                    throw new IOException("Session log '" + file + "' is used by another process.");
+                }
+                long capacity = Math.max(channel.size(), minCapacity);
+                return new Segment(channel, fileLock, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity));
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        int append(byte type, long timestamp, byte[] sessionId, byte[] payload, CRC32 crc32) throws IOException {
+            if (sessionId.length != SESSION_ID_BYTES) {
+                throw new IllegalArgumentException("Session ID should be " + SESSION_ID_BYTES + " bytes long.");
+            }
+            int recordSize = HEADER_LENGTH + payload.length;
+            // Keep room for the zero length that marks the end of the log.
+            ensureCapacity((long) position + recordSize + 4);
+
+            buffer.position(position + 8);
+            buffer.put(type);
+            buffer.putLong(timestamp);
+            buffer.put(sessionId);
+            buffer.put(payload);
+            crc32.reset();
+            crc32.update(type);
+            for (int i = 7; i >= 0; i--) {
+                crc32.update((int) (timestamp >>> (i * 8)));
+            }
+            crc32.update(sessionId, 0, sessionId.length);
+            crc32.update(payload, 0, payload.length);
+            buffer.putInt(position + 4, (int) crc32.getValue());
+            buffer.putInt(position + recordSize, 0);
+            buffer.putInt(position, recordSize - 4);
+            position += recordSize;
+            return recordSize;
+        }
+
+        private void ensureCapacity(long requiredCapacity) throws IOException {
+            if (requiredCapacity <= buffer.capacity()) {
+                return;
+            }
+            long newCapacity = buffer.capacity();
+            while (newCapacity < requiredCapacity) {
+                newCapacity *= 2;
+            }
+            if (newCapacity > Integer.MAX_VALUE) {
+                throw new IOException("Session log cannot grow beyond " + Integer.MAX_VALUE + " bytes.");
+            }
+            buffer.force();
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, newCapacity);
+        }
+
+        void close() throws IOException {
+            try {
+                fileLock.release();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
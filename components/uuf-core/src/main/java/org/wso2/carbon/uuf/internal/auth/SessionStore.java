@@ -0,0 +1,418 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.auth;
+
+import org.wso2.carbon.uuf.api.auth.Session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * An in-memory store of sessions that expire after a period of inactivity.
+ * <p>
+ * Sessions are striped across a fixed number of shards, so that a lookup is a lock-free read of a concurrent map and
+ * writes to different shards do not contend. A lookup records the access only once per touch interval (a small
+ * fraction of the timeout), hence most lookups do not write anything. Expiry is driven by a hierarchical timing wheel
+ * that is advanced lazily by the operations of the store; a session is rescheduled only when its slot in the wheel is
+ * reached, not on every access. When a maximum number of sessions is set, the least recently used session of a shard
+ * is evicted when that shard is full.
+ *
+ * @since 1.0.0
+ */
+public class SessionStore {
+
+    private static final long TICK_MILLIS = 1000L;
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int WHEEL_LEVELS = 4;
+    private static final int MAX_SHARDS = 64;
+
+    private final long timeoutMillis;
+    private final long touchIntervalMillis;
+    private final LongSupplier clock;
+    private final Shard[] shards;
+    private final int shardMask;
+    private final int maxSessionsPerShard;
+    private final AtomicInteger count;
+    private final TimingWheel timingWheel;
+
+    /**
+     * Creates a new session store.
+     *
+     * @param timeoutMillis session timeout in milliseconds
+     * @param maxSessions   maximum number of sessions, {@code 0} for no limit
+     */
+    public SessionStore(long timeoutMillis, int maxSessions) {
+        this(timeoutMillis, maxSessions, System::currentTimeMillis);
+    }
+
+    SessionStore(long timeoutMillis, int maxSessions, LongSupplier clock) {
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("Session timeout should be a positive value.");
+        }
+        if (maxSessions < 0) {
+            throw new IllegalArgumentException("Maximum number of sessions should not be a negative value.");
+        }
+        this.timeoutMillis = timeoutMillis;
+        this.touchIntervalMillis = Math.min(Math.max(timeoutMillis / 16, TICK_MILLIS), timeoutMillis);
+        this.clock = clock;
+
+        int shardsCount = Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors() * 2 - 1, 1)) << 1;
+        shardsCount = Math.min(shardsCount, MAX_SHARDS);
+        if (maxSessions > 0) {
+            // Each shard should be able to hold at least a handful of sessions, otherwise LRU eviction is meaningless.
+            while ((shardsCount > 1) && (maxSessions / shardsCount < 8)) {
+                shardsCount >>= 1;
+            }
+        }
+        this.shards = new Shard[shardsCount];
+        for (int i = 0; i < shardsCount; i++) {
+            this.shards[i] = new Shard();
+        }
+        this.shardMask = shardsCount - 1;
+        this.maxSessionsPerShard = (maxSessions == 0) ? 0 : ((maxSessions + shardsCount - 1) / shardsCount);
+        this.count = new AtomicInteger();
+        this.timingWheel = new TimingWheel(toTick(clock.getAsLong()));
+    }
+
+    /**
+     * Adds the specified session to this store.
+     *
+     * @param session session to add
+     */
+    public void put(Session session) {
+        long now = clock.getAsLong();
+        advance(now);
+        Entry entry = new Entry(session, now);
+        Shard shard = getShard(session.getSessionId());
+        shard.lock.lock();
+        try {
+            Entry previousEntry = shard.entries.put(session.getSessionId(), entry);
+            if (previousEntry != null) {
+                unlink(shard, previousEntry);
+            } else {
+                count.incrementAndGet();
+            }
+            shard.linkLast(entry);
+            timingWheel.schedule(entry);
+            if (maxSessionsPerShard > 0) {
+                while (shard.entries.size() > maxSessionsPerShard) {
+                    Entry eldestEntry = shard.head;
+                    shard.entries.remove(eldestEntry.session.getSessionId());
+                    unlink(shard, eldestEntry);
+                    count.decrementAndGet();
+                }
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the session of the specified ID if it is available and not expired. Accessing a session extends its
+     * expiry time.
+     *
+     * @param sessionId ID of the session
+     * @return session of the specified ID or {@code null} if there is no such session
+     */
+    public Session get(String sessionId) {
+        long now = clock.getAsLong();
+        advance(now);
+        Shard shard = getShard(sessionId);
+        Entry entry = shard.entries.get(sessionId);
+        if (entry == null) {
+            return null;
+        }
+        long lastAccessedTime = entry.lastAccessedTime;
+        if (now - lastAccessedTime >= timeoutMillis) {
+            removeIfExpired(shard, entry, now);
+            return null;
+        }
+        if (now - lastAccessedTime >= touchIntervalMillis) {
+            entry.lastAccessedTime = now;
+            if ((maxSessionsPerShard > 0) && shard.lock.tryLock()) {
+                // Re-ordering is best-effort; skipping it under contention only makes the LRU order approximate.
+                try {
+                    if (entry.linked) {
+                        shard.unlink(entry);
+                        shard.linkLast(entry);
+                    }
+                } finally {
+                    shard.lock.unlock();
+                }
+            }
+        }
+        return entry.session;
+    }
+
+    /**
+     * Removes the session of the specified ID from this store.
+     *
+     * @param sessionId ID of the session to remove
+     * @return {@code true} if a session was removed, {@code false} if there was no such session
+     */
+    public boolean remove(String sessionId) {
+        Shard shard = getShard(sessionId);
+        shard.lock.lock();
+        try {
+            Entry entry = shard.entries.remove(sessionId);
+            if (entry == null) {
+                return false;
+            }
+            unlink(shard, entry);
+            count.decrementAndGet();
+            return true;
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of sessions in this store that are not expired.
+     *
+     * @return number of sessions
+     */
+    public int size() {
+        advance(clock.getAsLong());
+        return count.get();
+    }
+
+    private Shard getShard(String sessionId) {
+        int hash = sessionId.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & shardMask];
+    }
+
+    private void unlink(Shard shard, Entry entry) {
+        shard.unlink(entry);
+        timingWheel.cancel(entry);
+    }
+
+    private void removeIfExpired(Shard shard, Entry entry, long now) {
+        shard.lock.lock();
+        try {
+            if (!entry.linked) {
+                return; // Already removed.
+            }
+            if (now - entry.lastAccessedTime >= timeoutMillis) {
+                shard.entries.remove(entry.session.getSessionId(), entry);
+                unlink(shard, entry);
+                count.decrementAndGet();
+            } else {
+                timingWheel.schedule(entry); // Accessed after its slot was reached.
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    private void advance(long now) {
+        long tick = toTick(now);
+        if (tick <= timingWheel.currentTick) {
+            return;
+        }
+        List<Entry> dueEntries = timingWheel.advance(tick);
+        // Shard locks are acquired after releasing the wheel, as shard locks are always acquired before the wheel.
+        for (Entry entry : dueEntries) {
+            removeIfExpired(getShard(entry.session.getSessionId()), entry, now);
+        }
+    }
+
+    private long getExpiryTick(Entry entry) {
+        return toTick(entry.lastAccessedTime + timeoutMillis);
+    }
+
+    private static long toTick(long timeMillis) {
+        return timeMillis / TICK_MILLIS;
+    }
+
+    /**
+     * A session and its bookkeeping in a shard and in the timing wheel.
+     */
+    private static class Entry {
+
+        private final Session session;
+        private volatile long lastAccessedTime;
+        // Guarded by the lock of the shard.
+        private boolean linked;
+        private Entry previous;
+        private Entry next;
+        // Guarded by the timing wheel.
+        private Entry[] bucket;
+        private int bucketIndex;
+        private Entry wheelPrevious;
+        private Entry wheelNext;
+
+        Entry(Session session, long lastAccessedTime) {
+            this.session = session;
+            this.lastAccessedTime = lastAccessedTime;
+        }
+    }
+
+    /**
+     * A stripe of the store with its own sessions map and LRU list.
+     */
+    private static class Shard {
+
+        private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private Entry head;
+        private Entry tail;
+
+        void linkLast(Entry entry) {
+            entry.previous = tail;
+            entry.next = null;
+            if (tail == null) {
+                head = entry;
+            } else {
+                tail.next = entry;
+            }
+            tail = entry;
+            entry.linked = true;
+        }
+
+        void unlink(Entry entry) {
+            if (!entry.linked) {
+                return;
+            }
+            if (entry.previous == null) {
+                head = entry.next;
+            } else {
+                entry.previous.next = entry.next;
+            }
+            if (entry.next == null) {
+                tail = entry.previous;
+            } else {
+                entry.next.previous = entry.previous;
+            }
+            entry.previous = null;
+            entry.next = null;
+            entry.linked = false;
+        }
+    }
+
+    /**
+     * A hierarchical timing wheel with {@value #WHEEL_LEVELS} levels of {@value #WHEEL_SIZE} buckets each. A bucket of
+     * a level spans {@value #WHEEL_SIZE} times the ticks of a bucket of the level below it. Entries in an upper level
+     * are cascaded down when the wheel reaches their bucket, and entries in the lowest level are due when the wheel
+     * reaches their tick.
+     */
+    private class TimingWheel {
+
+        private final Entry[][] levels;
+        private volatile long currentTick;
+
+        TimingWheel(long currentTick) {
+            this.levels = new Entry[WHEEL_LEVELS][WHEEL_SIZE];
+            this.currentTick = currentTick;
+        }
+
+        synchronized void schedule(Entry entry) {
+            cancel(entry);
+            long expiryTick = Math.max(getExpiryTick(entry), currentTick + 1);
+            long delta = expiryTick - currentTick;
+            int level = 0;
+            while ((level < WHEEL_LEVELS - 1) && (delta >= (1L << (WHEEL_BITS * (level + 1))))) {
+                level++;
+            }
+            long maxDelta = (1L << (WHEEL_BITS * (level + 1))) - 1;
+            if (delta > maxDelta) {
+                expiryTick = currentTick + maxDelta; // Beyond the wheel; rescheduled when its bucket is reached.
+            }
+            int bucketIndex = (int) ((expiryTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+            Entry[] buckets = levels[level];
+            Entry first = buckets[bucketIndex];
+            entry.wheelPrevious = null;
+            entry.wheelNext = first;
+            if (first != null) {
+                first.wheelPrevious = entry;
+            }
+            buckets[bucketIndex] = entry;
+            entry.bucket = buckets;
+            entry.bucketIndex = bucketIndex;
+        }
+
+        synchronized void cancel(Entry entry) {
+            Entry[] buckets = entry.bucket;
+            if (buckets == null) {
+                return;
+            }
+            if (entry.wheelPrevious == null) {
+                buckets[entry.bucketIndex] = entry.wheelNext;
+            } else {
+                entry.wheelPrevious.wheelNext = entry.wheelNext;
+            }
+            if (entry.wheelNext != null) {
+                entry.wheelNext.wheelPrevious = entry.wheelPrevious;
+            }
+            entry.bucket = null;
+            entry.wheelPrevious = null;
+            entry.wheelNext = null;
+        }
+
+        synchronized List<Entry> advance(long tick) {
+            List<Entry> dueEntries = new ArrayList<>();
+            while (currentTick < tick) {
+                long nextTick = currentTick + 1;
+                currentTick = nextTick;
+                // Cascade upper levels whose bucket boundary is reached.
+                for (int level = 1; level < WHEEL_LEVELS; level++) {
+                    if ((nextTick & ((1L << (WHEEL_BITS * level)) - 1)) != 0) {
+                        break;
+                    }
+                    int bucketIndex = (int) ((nextTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+                    for (Entry entry : drain(levels[level], bucketIndex)) {
+                        schedule(entry);
+                    }
+                }
+                for (Entry entry : drain(levels[0], (int) (nextTick & WHEEL_MASK))) {
+                    if (getExpiryTick(entry) <= nextTick) {
+                        dueEntries.add(entry);
+                    } else {
+                        schedule(entry); // Accessed since it was scheduled.
+                    }
+                }
+            }
+            return dueEntries;
+        }
+
+        private List<Entry> drain(Entry[] buckets, int bucketIndex) {
+            Entry entry = buckets[bucketIndex];
+            if (entry == null) {
+                return new ArrayList<>(0);
+            }
+            List<Entry> entries = new ArrayList<>();
+            while (entry != null) {
+                Entry next = entry.wheelNext;
+                entry.bucket = null;
+                entry.wheelPrevious = null;
+                entry.wheelNext = null;
+                entries.add(entry);
+                entry = next;
+            }
+            buckets[bucketIndex] = null;
+            return entries;
+        }
+    }
+}
@@ -20,9 +20,11 @@ package org.wso2.carbon.uuf.internal.deployment;
 
 import com.google.common.collect.Sets;
 import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.uuf.api.RestApi;
+import org.wso2.carbon.uuf.api.auth.CachingAuthorizer;
 import org.wso2.carbon.uuf.api.auth.InMemorySessionManagerFactory;
 import org.wso2.carbon.uuf.api.config.Bindings;
 import org.wso2.carbon.uuf.api.config.Configuration;
@@ -46,9 +48,7 @@ import org.wso2.carbon.uuf.core.UriPatten;
 import org.wso2.carbon.uuf.internal.deployment.parser.AppConfig;
 import org.wso2.carbon.uuf.internal.deployment.parser.ComponentConfig;
 import org.wso2.carbon.uuf.internal.deployment.parser.DependencyNode;
-import org.wso2.carbon.uuf.internal.deployment.parser.PropertyFileParser;
 import org.wso2.carbon.uuf.internal.deployment.parser.ThemeConfig;
-import org.wso2.carbon.uuf.internal.deployment.parser.YamlFileParser;
 import org.wso2.carbon.uuf.internal.exception.AppCreationException;
 import org.wso2.carbon.uuf.internal.exception.ConfigurationException;
 import org.wso2.carbon.uuf.internal.util.NameUtils;
@@ -58,7 +58,9 @@ import org.wso2.carbon.uuf.spi.auth.SessionManager;
 import org.wso2.carbon.uuf.spi.auth.SessionManagerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -67,9 +69,14 @@ import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
@@ -84,9 +91,11 @@ public class AppCreator {
     private final ClassLoaderProvider classLoaderProvider;
     private final PluginProvider pluginProvider;
     private final RestApiDeployer restApiDeployer;
+    private final AppSnapshotStore appSnapshotStore;
 
     public AppCreator(Set<RenderableCreator> renderableCreators, ClassLoaderProvider classLoaderProvider,
-                      PluginProvider pluginProvider, RestApiDeployer restApiDeployer) {
+                      PluginProvider pluginProvider, RestApiDeployer restApiDeployer,
+                      AppSnapshotStore appSnapshotStore) {
         this.renderableCreators = new HashMap<>();
         this.supportedExtensions = new HashSet<>();
         for (RenderableCreator renderableCreator : renderableCreators) {
@@ -98,72 +107,204 @@ public class AppCreator {
         this.classLoaderProvider = classLoaderProvider;
         this.pluginProvider = pluginProvider;
         this.restApiDeployer = restApiDeployer;
+        this.appSnapshotStore = appSnapshotStore;
     }
 
     public App createApp(AppReference appReference, String contextPath) {
+        return createApp(appReference, contextPath, null);
+    }
+
+    /**
+     * Creates the app of the given reference. If the session configuration of the app is unchanged since the given
+     * previous version, the session manager of the previous version is carried over, so that users stay logged in.
+     *
+     * @param appReference reference to the app
+     * @param contextPath  context path of the app, or {@code null} to use the one in the dependency tree
+     * @param previousApp  currently deployed version of the app, can be {@code null}
+     * @return created app
+     * @throws AppCreationException if the app cannot be created
+     */
+    public App createApp(AppReference appReference, String contextPath, App previousApp) {
+        // Parsed configurations, i18n files and the file index are taken from the snapshot of the app if present.
+        final AppSnapshot snapshot = appSnapshotStore.getSnapshot(appReference);
+
         // Parse dependency tree.
-        DependencyNode rootNode = YamlFileParser.parse(appReference.getDependencyTree(), DependencyNode.class);
+        DependencyNode rootNode = snapshot.getConfiguration(appReference.getDependencyTree(), DependencyNode.class);
 
         final String appName = rootNode.getArtifactId();
         final String appContextPath = (contextPath == null) ? rootNode.getContextPath() : contextPath;
-        final Configuration configuration = createConfiguration(appReference);
+        final Configuration configuration = createConfiguration(appReference, snapshot);
         final Bindings bindings = new Bindings();
         final I18nResources i18nResources = new I18nResources();
 
-        // Create components.
-        final Map<String, Component> createdComponents = new HashMap<>();
+        // Create components. A component waits only for its own dependencies, hence independent components
+        // (e.g. siblings in the dependency tree) are created concurrently.
+        final Map<String, Component> createdComponents;
+        final List<DependencyNode> componentNodes = new ArrayList<>();
+        final ForkJoinPool forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            Map<String, CompletableFuture<Component>> componentFutures = new HashMap<>();
+            rootNode.traverse(dependencyNode -> {
+                if (componentFutures.containsKey(dependencyNode.getArtifactId())) {
+                    return; // Component for this dependency node is already scheduled.
+                }
+
+                List<CompletableFuture<Component>> dependencyFutures = dependencyNode.getDependencies().stream()
+                        .map(node -> componentFutures.get(node.getArtifactId()))
+                        .collect(toList());
+                CompletableFuture<Component> componentFuture = CompletableFuture
+                        .allOf(dependencyFutures.toArray(new CompletableFuture[dependencyFutures.size()]))
+                        .thenApplyAsync(ignored -> {
+                            Set<Component> dependencies = dependencyFutures.stream()
+                                    .map(CompletableFuture::join)
+                                    .collect(toSet());
+                            return createComponent(dependencyNode, appReference, rootNode, dependencies);
+                        }, forkJoinPool);
+                componentFutures.put(dependencyNode.getArtifactId(), componentFuture);
+                componentNodes.add(dependencyNode);
+            });
+            createdComponents = joinComponents(componentNodes, componentFutures);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+
+        // Configure components sequentially in the dependency order, so that bindings, REST APIs and i18n
+        // resources are applied deterministically.
+        for (DependencyNode componentNode : componentNodes) {
+            configureComponent(createdComponents.get(componentNode.getArtifactId()), appReference, appContextPath,
+                               bindings, i18nResources, snapshot, true);
+        }
+
+        // Create Themes.
+        final Set<Theme> themes = appReference.getThemeReferences()
+                .map(themeReference -> createTheme(themeReference, snapshot))
+                .collect(toSet());
+
+        // Get session manager.
+        final SessionManager sessionManager;
+        if ((previousApp != null) && previousApp.getName().equals(appName) &&
+                hasSameSessionConfiguration(previousApp.getConfiguration(), configuration)) {
+            sessionManager = previousApp.getSessionManager();
+        } else {
+            sessionManager = createSessionManager(appName, configuration);
+        }
+
+        // Get Authorizer.
+        Authorizer authorizer = configuration.getAuthorizer()
+                .map(authorizerClass -> pluginProvider.getPluginInstance(Authorizer.class, authorizerClass,
+                        this.getClass().getClassLoader()))
+                .orElse(null);
+        if (authorizer == null) {
+            LOGGER.warn("No authorizer is configured for '{}' app.", appName);
+        } else if (configuration.getAuthorizationCacheTimeout() > 0) {
+            authorizer = new CachingAuthorizer(authorizer,
+                                               TimeUnit.SECONDS.toMillis(configuration.getAuthorizationCacheTimeout()));
+        }
+
+        // Create App.
+        App app = new App(appName, appContextPath, new HashSet<>(createdComponents.values()), themes, configuration,
+                          bindings, i18nResources, sessionManager, authorizer);
+        // Persist the snapshot of the successfully created app, so that subsequent deployments can use it.
+        appSnapshotStore.saveSnapshot(appReference, snapshot);
+        return app;
+    }
+
+    /**
+     * Creates a copy of the given app in which the specified component is re-created from its files. Other components
+     * are reused as they are, except that components which depend on the reloaded component are re-linked to its new
+     * layouts. Bindings and i18n resources are re-applied, while REST APIs, themes and plugins of the app are kept.
+     *
+     * @param app                  app to reload the component of
+     * @param appReference         reference to the app
+     * @param componentContextPath context path of the component to be reloaded
+     * @return copy of the app with the reloaded component
+     * @throws AppCreationException if the component cannot be reloaded
+     */
+    public App reloadComponent(App app, AppReference appReference, String componentContextPath) {
+        Component reloadingComponent = app.getComponents().get(componentContextPath);
+        if (reloadingComponent == null) {
+            throw new AppCreationException("Cannot find a component for context path '" + componentContextPath +
+                                                   "' in app '" + app.getName() + "' to reload.");
+        }
+
+        // Files of the component may have been added or removed, hence directory listings of the current snapshot are
+        // stale. A transient snapshot is used, so that configurations and i18n files are read again.
+        appSnapshotStore.discardSnapshot(appReference);
+        final AppSnapshot snapshot = new AppSnapshot(null);
+        DependencyNode rootNode = snapshot.getConfiguration(appReference.getDependencyTree(), DependencyNode.class);
+        Map<String, Component> currentComponents = app.getComponents().values().stream()
+                .collect(toMap(Component::getName, component -> component));
+        Map<String, Component> reloadedComponents = new HashMap<>();
+        List<DependencyNode> componentNodes = new ArrayList<>();
         rootNode.traverse(dependencyNode -> {
-            if (createdComponents.containsKey(dependencyNode.getArtifactId())) {
-                return; // Component for this dependency node is already created.
+            if (reloadedComponents.containsKey(dependencyNode.getArtifactId())) {
+                return; // Component for this dependency node is already processed.
             }
 
-            Component component = createComponent(dependencyNode, appReference, rootNode, appContextPath,
-                                                  createdComponents, bindings, i18nResources);
-            createdComponents.put(component.getName(), component);
+            Component currentComponent = currentComponents.get(dependencyNode.getArtifactId());
+            if (currentComponent == null) {
+                throw new AppCreationException(
+                        "Dependencies of app '" + app.getName() + "' have been changed. Hence component '" +
+                                dependencyNode.getArtifactId() + "' cannot be reloaded, redeploy the app instead.");
+            }
+            Set<Component> dependencies = dependencyNode.getDependencies().stream()
+                    .map(node -> reloadedComponents.get(node.getArtifactId()))
+                    .collect(toSet());
+            Component reloadedComponent;
+            if (currentComponent == reloadingComponent) {
+                reloadedComponent = createComponent(dependencyNode, appReference, rootNode, dependencies);
+            } else if (currentComponent.getDependencies().stream()
+                    .allMatch(dependency -> reloadedComponents.get(dependency.getName()) == dependency)) {
+                reloadedComponent = currentComponent; // Not affected by the reload.
+            } else {
+                reloadedComponent = relinkComponent(currentComponent, dependencies);
+            }
+            reloadedComponents.put(dependencyNode.getArtifactId(), reloadedComponent);
+            componentNodes.add(dependencyNode);
         });
 
-        // Create Themes.
-        final Set<Theme> themes = appReference.getThemeReferences().map(this::createTheme).collect(toSet());
+        final Bindings bindings = new Bindings();
+        final I18nResources i18nResources = new I18nResources();
+        for (DependencyNode componentNode : componentNodes) {
+            configureComponent(reloadedComponents.get(componentNode.getArtifactId()), appReference,
+                               app.getContextPath(), bindings, i18nResources, snapshot, false);
+        }
+        return app.withComponents(new HashSet<>(reloadedComponents.values()), bindings, i18nResources);
+    }
 
-        // Get session manager.
+    private SessionManager createSessionManager(String appName, Configuration configuration) {
         SessionManagerFactory sessionManagerFactory = configuration.getSessionManagerFactoryClassName()
                 .map(sessionManagerFactoryClass -> pluginProvider
                         .getPluginInstance(SessionManagerFactory.class, sessionManagerFactoryClass,
                                 this.getClass().getClassLoader()))
                 .orElse(pluginProvider.getPluginInstance(SessionManagerFactory.class,
                         InMemorySessionManagerFactory.class.getName(), this.getClass().getClassLoader()));
-        SessionManager sessionManager;
         try {
-            sessionManager = sessionManagerFactory.getSessionManager(appName, configuration);
+            return sessionManagerFactory.getSessionManager(appName, configuration);
         } catch (SessionManagementException e) {
             throw new AppCreationException(
                     "Cannot get session manager for app '" + appName + "' from session manager factory '" +
                     sessionManagerFactory.getClass().getName() + "'.", e);
         }
+    }
 
-        // Get Authorizer.
-        Authorizer authorizer = configuration.getAuthorizer()
-                .map(authorizerClass -> pluginProvider.getPluginInstance(Authorizer.class, authorizerClass,
-                        this.getClass().getClassLoader()))
-                .orElse(null);
-        if (authorizer == null) {
-            LOGGER.warn("No authorizer is configured for '{}' app.", appName);
-        }
-
-        // Create App.
-        return new App(appName, appContextPath, new HashSet<>(createdComponents.values()), themes, configuration,
-                       bindings, i18nResources, sessionManager, authorizer);
+    private static boolean hasSameSessionConfiguration(Configuration configuration, Configuration other) {
+        return configuration.getSessionManagerFactoryClassName().equals(other.getSessionManagerFactoryClassName()) &&
+                (configuration.getSessionTimeout() == other.getSessionTimeout()) &&
+                (configuration.getMaxSessions() == other.getMaxSessions());
     }
 
-    private Configuration createConfiguration(AppReference appReference) {
-        AppConfig appConfig = YamlFileParser.parse(appReference.getConfiguration(), AppConfig.class);
+    private Configuration createConfiguration(AppReference appReference, AppSnapshot snapshot) {
+        AppConfig appConfig = snapshot.getConfiguration(appReference.getConfiguration(), AppConfig.class);
         Configuration configuration = new Configuration();
         configuration.setContextPath(appConfig.getContextPath());
         configuration.setThemeName(appConfig.getTheme());
         configuration.setLoginPageUri(appConfig.getLoginPageUri());
         configuration.setAuthorizer(appConfig.getAuthorizer());
+        configuration.setAuthorizationCacheTimeout(appConfig.getAuthorizationCacheTimeout());
         configuration.setSessionManagerFactoryClassName(appConfig.getSessionManagement().getFactoryClassName());
         configuration.setSessionTimeout(appConfig.getSessionManagement().getTimeout());
+        configuration.setMaxSessions(appConfig.getSessionManagement().getMaxSessions());
         Map<Integer, String> errorPageUris = appConfig.getErrorPages().entrySet().stream()
                 .filter(entry -> NumberUtils.isNumber(entry.getKey()))
                 .collect(toMap(entry -> Integer.valueOf(entry.getKey()), Map.Entry::getValue));
@@ -179,10 +320,33 @@ public class AppCreator {
         return configuration;
     }
 
+    private Map<String, Component> joinComponents(List<DependencyNode> componentNodes,
+                                                  Map<String, CompletableFuture<Component>> componentFutures) {
+        Map<String, Component> createdComponents = new HashMap<>();
+        RuntimeException failure = null;
+        for (DependencyNode componentNode : componentNodes) {
+            try {
+                createdComponents.put(componentNode.getArtifactId(),
+                                      componentFutures.get(componentNode.getArtifactId()).join());
+            } catch (CompletionException e) {
+                // Failure of a component is propagated to all of its dependents; report it only once.
+                RuntimeException cause = (e.getCause() instanceof RuntimeException) ?
+                        (RuntimeException) e.getCause() : e;
+                if (failure == null) {
+                    failure = cause;
+                } else if ((failure != cause) && !Arrays.asList(failure.getSuppressed()).contains(cause)) {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return createdComponents;
+    }
+
     private Component createComponent(DependencyNode componentNode, AppReference appReference,
-                                      DependencyNode rootNode, String appContextPath,
-                                      Map<String, Component> createdComponents, Bindings bindings,
-                                      I18nResources i18nResources) {
+                                      DependencyNode rootNode, Set<Component> dependencies) {
         final String componentName = componentNode.getArtifactId();
         final String componentVersion = componentNode.getVersion();
         final String componentContextPath =
@@ -191,31 +355,110 @@ public class AppCreator {
         ClassLoader classLoader = classLoaderProvider.getClassLoader(componentName, componentVersion,
                                                                      componentReference);
 
-        // Dependency components.
-        final Set<Component> dependencies = componentNode.getDependencies().stream()
-                .map(dependencyNode -> createdComponents.get(dependencyNode.getArtifactId()))
-                .collect(toSet());
         // Create layouts in the component.
-        final Set<Layout> layouts = componentReference.getLayouts(supportedExtensions)
-                .map(layoutReference -> createLayout(layoutReference, componentName))
-                .collect(toSet());
-        // Create pages in the component.
-        final Set<Fragment> fragments = componentReference.getFragments(supportedExtensions)
-                .map(fragmentReference -> createFragment(fragmentReference, componentName, classLoader))
-                .collect(toSet());
+        final Set<Layout> layouts = new HashSet<>(createInParallel(
+                componentReference.getLayouts(supportedExtensions), LayoutReference::getRenderingFile,
+                layoutReference -> createLayout(layoutReference, componentName)));
+        // Create fragments in the component.
+        final Set<Fragment> fragments = new HashSet<>(createInParallel(
+                componentReference.getFragments(supportedExtensions), FragmentReference::getRenderingFile,
+                fragmentReference -> createFragment(fragmentReference, componentName, classLoader)));
         // Create pages in the component.
         Map<String, Layout> availableLayouts = new HashMap<>();
         layouts.forEach(layout -> availableLayouts.put(layout.getName(), layout));
         dependencies.forEach(cmp -> cmp.getLayouts().forEach(l -> availableLayouts.put(l.getName(), l)));
-        final SortedSet<Page> pages = componentReference.getPages(supportedExtensions)
-                .map(pageReference -> createPage(pageReference, classLoader, availableLayouts, componentName))
-                .collect(toCollection(TreeSet::new));
+        final SortedSet<Page> pages = new TreeSet<>(createInParallel(
+                componentReference.getPages(supportedExtensions), PageReference::getRenderingFile,
+                pageReference -> createPage(pageReference, classLoader, availableLayouts, componentName)));
+
+        return new Component(componentName, componentVersion, componentContextPath, pages, fragments, layouts,
+                             dependencies, componentReference.getPath());
+    }
+
+    private Component relinkComponent(Component component, Set<Component> dependencies) {
+        Map<String, Layout> availableLayouts = new HashMap<>();
+        component.getLayouts().forEach(layout -> availableLayouts.put(layout.getName(), layout));
+        dependencies.forEach(cmp -> cmp.getLayouts().forEach(l -> availableLayouts.put(l.getName(), l)));
+        SortedSet<Page> pages = new TreeSet<>();
+        for (Page page : component.getPages()) {
+            if (!page.getLayout().isPresent()) {
+                pages.add(page);
+                continue;
+            }
+            String layoutName = page.getLayout().get().getName();
+            Layout layout = availableLayouts.get(layoutName);
+            if (layout == null) {
+                throw new AppCreationException(
+                        "Layout '" + layoutName + "' used in page '" + page.getUriPatten() +
+                                "' does not exists in component '" + component.getName() + "' or its dependencies.");
+            }
+            pages.add(page.withLayout(layout));
+        }
+        return new Component(component.getName(), component.getVersion(), component.getContextPath(), pages,
+                             component.getFragments(), component.getLayouts(), dependencies, component.getPath());
+    }
+
+    /**
+     * Creates an item for each of the given references in parallel. References are processed in the order of their
+     * rendering files' relative paths, so that if several of them fail, the failure of the first reference is thrown
+     * and the failures of the rest are added to it as suppressed exceptions.
+     *
+     * @param references    references to create items from
+     * @param renderingFile function that returns the rendering file of a reference
+     * @param creator       function that creates an item from a reference
+     * @param <R>           type of the references
+     * @param <T>           type of the created items
+     * @return created items in the order of the references
+     */
+    private <R, T> List<T> createInParallel(Stream<R> references, Function<R, FileReference> renderingFile,
+                                            Function<R, T> creator) {
+        List<Pair<T, RuntimeException>> results = references
+                .sorted(Comparator.comparing(reference -> renderingFile.apply(reference).getRelativePath()))
+                .collect(toList())
+                .parallelStream()
+                .map(reference -> {
+                    try {
+                        return Pair.<T, RuntimeException>of(creator.apply(reference), null);
+                    } catch (RuntimeException e) {
+                        return Pair.<T, RuntimeException>of(null, e);
+                    }
+                })
+                .collect(toList());
+
+        List<T> createdItems = new ArrayList<>(results.size());
+        RuntimeException failure = null;
+        for (Pair<T, RuntimeException> result : results) {
+            if (result.getRight() == null) {
+                createdItems.add(result.getLeft());
+            } else if (failure == null) {
+                failure = result.getRight();
+            } else {
+                failure.addSuppressed(result.getRight());
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return createdItems;
+    }
+
+    private void configureComponent(Component component, AppReference appReference, String appContextPath,
+                                    Bindings bindings, I18nResources i18nResources, AppSnapshot snapshot,
+                                    boolean addRestApis) {
+        final String componentName = component.getName();
+        final String componentContextPath = component.getContextPath();
+        ComponentReference componentReference = appReference.getComponentReference(componentContextPath);
 
         // Handle component's configurations.
-        ComponentConfig componentConfig = YamlFileParser.parse(componentReference.getConfiguration(),
-                                                               ComponentConfig.class);
-        addBindings(componentConfig.getBindings(), bindings, componentName, fragments, dependencies);
-        addRestApis(componentConfig.getApis(), appContextPath, componentContextPath, classLoader);
+        ComponentConfig componentConfig = snapshot.getConfiguration(componentReference.getConfiguration(),
+                                                                    ComponentConfig.class);
+        addBindings(componentConfig.getBindings(), bindings, componentName, component.getFragments(),
+                    component.getDependencies());
+        if (addRestApis && (componentConfig.getApis() != null) && !componentConfig.getApis().isEmpty()) {
+            ClassLoader classLoader = classLoaderProvider.getClassLoader(componentName, component.getVersion(),
+                                                                         componentReference);
+            addRestApis(componentConfig.getApis(), appContextPath, componentContextPath, classLoader);
+        }
 
         componentReference.getI18nFiles().forEach(i18nFile -> {
             Locale locale = Locale.forLanguageTag(i18nFile.getNameWithoutExtension());
@@ -224,11 +467,8 @@ public class AppCreator {
                         "Cannot identify the locale of the language file '" + i18nFile.getAbsolutePath() +
                                 "' of component '" + componentName + "'.");
             }
-            i18nResources.addI18nResource(locale, PropertyFileParser.parse(i18nFile));
+            i18nResources.addI18nResource(locale, snapshot.getI18nFile(i18nFile));
         });
-
-        return new Component(componentName, componentVersion, componentContextPath, pages, fragments, layouts,
-                             dependencies, componentReference.getPath());
     }
 
     private Layout createLayout(LayoutReference layoutReference, String componentName) {
@@ -354,8 +594,8 @@ public class AppCreator {
         return renderableCreator;
     }
 
-    private Theme createTheme(ThemeReference themeReference) {
-        ThemeConfig themeConfig = YamlFileParser.parse(themeReference.getConfiguration(), ThemeConfig.class);
+    private Theme createTheme(ThemeReference themeReference, AppSnapshot snapshot) {
+        ThemeConfig themeConfig = snapshot.getConfiguration(themeReference.getConfiguration(), ThemeConfig.class);
         List<String> css = (themeConfig.getCss() == null) ? Collections.emptyList() : themeConfig.getCss();
         List<String> headJs = (themeConfig.getHeadJs() == null) ? Collections.emptyList() : themeConfig.getHeadJs();
         List<String> js = (themeConfig.getJs() == null) ? Collections.emptyList() : themeConfig.getJs();
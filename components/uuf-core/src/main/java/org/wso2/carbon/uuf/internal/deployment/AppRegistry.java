@@ -25,12 +25,28 @@ import org.wso2.carbon.uuf.core.App;
 import org.wso2.carbon.uuf.internal.exception.AppCreationException;
 import org.wso2.carbon.uuf.internal.exception.DeploymentException;
 import org.wso2.carbon.uuf.internal.exception.FileOperationException;
+import org.wso2.carbon.uuf.internal.exception.ServiceUnavailableException;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A registry that maintains deployed UUF apps.
+ * <p>
+ * Apps are versioned. A redeployment creates the new version of an app in the background and atomically swaps it in
+ * once it is ready, while the requests that are being served by the previous version complete on it. See
+ * {@link DeployedApp}.
  *
  * @since 1.0.0
  */
@@ -39,8 +55,12 @@ public class AppRegistry {
     private static final Logger LOGGER = LoggerFactory.getLogger(AppRegistry.class);
 
     private final AppFinder appFinder;
-    private final AppCreator appCreator;
-    private final ConcurrentMap<String, App> deployedApps;
+    private volatile AppCreator appCreator;
+    private final ConcurrentMap<String, DeployedApp> deployedApps;
+    private final Set<String> deployingAppContextPaths;
+    private final AtomicLong lastVersion;
+    private volatile long clearedVersion;
+    private final AppWarmer appWarmer;
 
     /**
      * Creates a new app registry with the specified app finder and app creator.
@@ -49,30 +69,212 @@ public class AppRegistry {
      * @param appCreator app creator to be used
      */
     public AppRegistry(AppFinder appFinder, AppCreator appCreator) {
+        this(appFinder, appCreator, AppWarmer.isWarmUpEnabled() ? new AppWarmer() : null);
+    }
+
+    /**
+     * Creates a new app registry with the specified app finder, app creator and app warmer.
+     *
+     * @param appFinder  app finder to be used
+     * @param appCreator app creator to be used
+     * @param appWarmer  app warmer to warm up apps deployed in the background, or {@code null} to skip warming up
+     */
+    AppRegistry(AppFinder appFinder, AppCreator appCreator, AppWarmer appWarmer) {
         this.appFinder = appFinder;
         this.appCreator = appCreator;
         this.deployedApps = new ConcurrentHashMap<>();
+        this.deployingAppContextPaths = ConcurrentHashMap.newKeySet();
+        this.lastVersion = new AtomicLong(0);
+        this.clearedVersion = 0;
+        this.appWarmer = appWarmer;
     }
 
     /**
-     * Returns the app for the given context path.
+     * Acquires the current version of the app for the given context path. The acquired app must be
+     * {@link DeployedApp#release() released} once the request is served.
      *
      * @param appContextPath app's context path
-     * @return if present the app for the given context path, otherwise {@code null}
-     * @throws DeploymentException if some error occurred during app deployment
+     * @return if present the acquired app for the given context path, otherwise {@code null}
+     * @throws DeploymentException         if some error occurred during app deployment
+     * @throws ServiceUnavailableException if the app for the given context path is still being deployed in the
+     *                                     background
      */
-    public App getApp(String appContextPath) throws DeploymentException {
-        return deployedApps.computeIfAbsent(appContextPath, this::createApp);
+    public DeployedApp acquireApp(String appContextPath) throws DeploymentException, ServiceUnavailableException {
+        while (true) {
+            DeployedApp deployedApp = deployedApps.get(appContextPath);
+            if (deployedApp == null) {
+                if (deployingAppContextPaths.contains(appContextPath)) {
+                    // Fail fast instead of blocking the request until the background deployment finishes.
+                    throw new ServiceUnavailableException("App for context path '" + appContextPath +
+                                                                  "' is being deployed. Please try again shortly.");
+                }
+                deployedApp = deployedApps.computeIfAbsent(appContextPath, this::createDeployedApp);
+                if (deployedApp == null) {
+                    return null; // no app found for the given context path
+                }
+            }
+            if (deployedApp.acquire()) {
+                return deployedApp;
+            }
+            // This version was retired and disposed in the meantime, hence retry with the newer version.
+        }
+    }
+
+    /**
+     * Deploys the apps for the given context paths in the background. This method returns immediately, so that HTTP
+     * connectors can be notified about the apps right away. Until an app is deployed (and warmed up if
+     * {@link AppWarmer#isWarmUpEnabled() enabled}), {@link #acquireApp(String)} throws a
+     * {@link ServiceUnavailableException} for its context path. An app that fails to deploy in the background will be
+     * deployed lazily upon the next request for its context path.
+     *
+     * @param appContextPaths context paths of the apps to be deployed
+     * @return futures that complete when the deployments of the apps, keyed by their context paths, finish
+     * (successfully or not)
+     */
+    public Map<String, CompletableFuture<Void>> deployApps(List<String> appContextPaths) {
+        deployingAppContextPaths.addAll(appContextPaths);
+        return deployInBackground(appContextPaths);
+    }
+
+    /**
+     * Redeploys all the apps of this registry in the background using the given app creator. Until the new version of
+     * an app is deployed, the current version keeps serving requests. If the redeployment of an app fails, its current
+     * version is kept.
+     *
+     * @param appCreator app creator to be used
+     */
+    public void redeployApps(AppCreator appCreator) {
+        this.appCreator = appCreator;
+        Set<String> appContextPaths = new HashSet<>(deployedApps.keySet());
+        appContextPaths.addAll(deployingAppContextPaths);
+        deployInBackground(new ArrayList<>(appContextPaths));
+    }
+
+    /**
+     * Reloads the specified component of the deployed app for the given context path. Only the specified component is
+     * re-created from its files; the new version of the app is swapped in atomically, while the requests that are
+     * being served by the current version complete on it.
+     *
+     * @param appContextPath       app's context path
+     * @param componentContextPath context path of the component to be reloaded
+     * @throws DeploymentException if there is no deployed app for the given context path or the component cannot be
+     *                             reloaded
+     */
+    public void reloadComponent(String appContextPath, String componentContextPath) throws DeploymentException {
+        DeployedApp currentApp = deployedApps.get(appContextPath);
+        if (currentApp == null) {
+            throw new DeploymentException("Cannot find a deployed app for context path '" + appContextPath +
+                                                  "' to reload component '" + componentContextPath + "'.");
+        }
+        AppReference appReference;
+        try {
+            appReference = appFinder.getAppReference(appContextPath)
+                    .orElseThrow(() -> new FileOperationException(
+                            "Cannot find the app for context path '" + appContextPath + "'."));
+        } catch (FileOperationException e) {
+            throw new DeploymentException("Cannot load the app for context path '" + appContextPath + "'.", e);
+        }
+
+        long version = lastVersion.incrementAndGet();
+        App app;
+        try {
+            app = appCreator.reloadComponent(currentApp.getApp(), appReference, componentContextPath);
+        } catch (Exception e) {
+            throw new DeploymentException(
+                    "Cannot reload component '" + componentContextPath + "' of app '" + appReference.getName() +
+                            "' for context path '" + appContextPath + "'.", e);
+        }
+        if (!publish(appContextPath, app, version, currentApp)) {
+            throw new DeploymentException(
+                    "App for context path '" + appContextPath + "' was redeployed while reloading component '" +
+                            componentContextPath + "'.");
+        }
+        LOGGER.info("Component '{}' of UUF app '{}' reloaded successfully.", componentContextPath, app.getName());
     }
 
     /**
-     * Clears all the deployed apps of this registry.
+     * Clears all the deployed apps of this registry. Cleared apps are retired.
      */
     public void clear() {
-        deployedApps.clear();
+        clearedVersion = lastVersion.get(); // Deployments that are in progress won't be published.
+        deployingAppContextPaths.clear();
+        for (String appContextPath : deployedApps.keySet()) {
+            DeployedApp removedApp = deployedApps.remove(appContextPath);
+            if (removedApp != null) {
+                removedApp.retire();
+            }
+        }
+    }
+
+    private Map<String, CompletableFuture<Void>> deployInBackground(List<String> appContextPaths) {
+        if (appContextPaths.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        int threadsCount = Math.min(appContextPaths.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executorService = Executors.newFixedThreadPool(threadsCount);
+        Map<String, CompletableFuture<Void>> deployments = new HashMap<>();
+        for (String appContextPath : appContextPaths) {
+            long version = lastVersion.incrementAndGet();
+            deployments.put(appContextPath,
+                            CompletableFuture.runAsync(() -> deployApp(appContextPath, version), executorService));
+        }
+        executorService.shutdown(); // Already submitted deployments will be executed.
+        return deployments;
+    }
+
+    private void deployApp(String appContextPath, long version) {
+        try {
+            DeployedApp currentApp = deployedApps.get(appContextPath);
+            App previousApp = (currentApp == null) ? null : currentApp.getApp();
+            App app = createApp(appContextPath, previousApp);
+            if (app != null) {
+                if (appWarmer != null) {
+                    appWarmer.warmUp(app);
+                }
+                if (!publish(appContextPath, app, version, null)) {
+                    DeployedApp latestApp = deployedApps.get(appContextPath);
+                    if ((latestApp == null) || (latestApp.getApp().getSessionManager() != app.getSessionManager())) {
+                        // This app owns its session manager, unless it was carried over to the published version.
+                        app.getSessionManager().close();
+                    }
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.error("Cannot deploy an app for context path '{}' in the background.", appContextPath, e);
+        } finally {
+            deployingAppContextPaths.remove(appContextPath);
+        }
+    }
+
+    private boolean publish(String appContextPath, App app, long version, DeployedApp expectedApp) {
+        DeployedApp[] replacedApp = new DeployedApp[1];
+        DeployedApp publishedApp = deployedApps.compute(appContextPath, (contextPath, currentApp) -> {
+            if ((version <= clearedVersion) || ((currentApp != null) && (currentApp.getVersion() > version))) {
+                return currentApp; // This registry was cleared or a newer version is already published.
+            }
+            if ((expectedApp != null) && (currentApp != expectedApp)) {
+                return currentApp; // The app that was used to create the new version has been replaced.
+            }
+            replacedApp[0] = currentApp;
+            return new DeployedApp(app, version);
+        });
+        if (replacedApp[0] != null) {
+            LOGGER.info("UUF app '{}' for context path '{}' is replaced with version {}.", app.getName(),
+                        appContextPath, version);
+            // Requests that are being served by the replaced version complete on it.
+            replacedApp[0].retire(publishedApp);
+        }
+        return (publishedApp != null) && (publishedApp.getApp() == app);
+    }
+
+    private DeployedApp createDeployedApp(String appContextPath) throws DeploymentException {
+        long version = lastVersion.incrementAndGet();
+        App app = createApp(appContextPath, null);
+        return (app == null) ? null : new DeployedApp(app, version);
     }
 
-    private App createApp(String appContextPath) throws DeploymentException {
+    private App createApp(String appContextPath, App previousApp) throws DeploymentException {
         AppReference appReference;
         try {
             appReference = appFinder.getAppReference(appContextPath).orElse(null);
@@ -85,7 +287,7 @@ public class AppRegistry {
 
         App app;
         try {
-            app = appCreator.createApp(appReference, appContextPath);
+            app = appCreator.createApp(appReference, appContextPath, previousApp);
         } catch (AppCreationException | FileOperationException e) {
             throw new DeploymentException("Cannot create app '" + appReference.getName() +
                                                   "' to deploy for context path '" + appContextPath + "'.", e);
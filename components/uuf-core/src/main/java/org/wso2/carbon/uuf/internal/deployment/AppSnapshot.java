@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.deployment;
+
+import org.wso2.carbon.uuf.api.reference.FileReference;
+import org.wso2.carbon.uuf.internal.deployment.parser.PropertyFileParser;
+import org.wso2.carbon.uuf.internal.deployment.parser.YamlFileParser;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * A snapshot of the parsed artifacts of an UUF app. A snapshot holds the parsed configuration files (app
+ * configuration, dependency tree, component and theme configurations), the parsed i18n files and the file index
+ * (directory listings) of an app, keyed by the hash of the app's artifact. When the artifact is unchanged, a persisted
+ * snapshot lets subsequent deployments of the app skip walking, reading and parsing those files.
+ *
+ * @since 1.0.0
+ */
+public class AppSnapshot implements Serializable {
+
+    /**
+     * Version of the snapshot format. Increment this whenever the content of a snapshot changes incompatibly, e.g.
+     * when a bean class in the {@link org.wso2.carbon.uuf.internal.deployment.parser} package changes.
+     */
+    public static final int FORMAT_VERSION = 3;
+    private static final long serialVersionUID = FORMAT_VERSION;
+
+    private final int formatVersion;
+    private final String artifactHash;
+    private final ConcurrentMap<String, Object> configurations;
+    private final ConcurrentMap<String, Properties> i18nFiles;
+    private final ConcurrentMap<String, List<String>> fileIndex;
+    private transient boolean restored;
+
+    /**
+     * Creates a new empty snapshot for an artifact with the given hash.
+     *
+     * @param artifactHash hash of the app's artifact, or {@code null} if this snapshot should not be persisted
+     */
+    public AppSnapshot(String artifactHash) {
+        this.formatVersion = FORMAT_VERSION;
+        this.artifactHash = artifactHash;
+        this.configurations = new ConcurrentHashMap<>();
+        this.i18nFiles = new ConcurrentHashMap<>();
+        this.fileIndex = new ConcurrentHashMap<>();
+        this.restored = false;
+    }
+
+    /**
+     * Returns the version of the format of this snapshot.
+     *
+     * @return format version of this snapshot
+     */
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+    /**
+     * Returns the hash of the artifact this snapshot belongs to.
+     *
+     * @return hash of the app's artifact, or {@code null} if this snapshot should not be persisted
+     */
+    public String getArtifactHash() {
+        return artifactHash;
+    }
+
+    /**
+     * Returns whether this snapshot was restored from a persisted snapshot.
+     *
+     * @return {@code true} if this snapshot was restored, {@code false} if it is being populated
+     */
+    public boolean isRestored() {
+        return restored;
+    }
+
+    /**
+     * Marks this snapshot as restored from a persisted snapshot.
+     */
+    public void markRestored() {
+        this.restored = true;
+    }
+
+    /**
+     * Returns the parsed bean of the given YAML configuration file. The file is parsed only if it is not in this
+     * snapshot.
+     *
+     * @param yamlFile reference to the YAML configuration file
+     * @param type     class of the bean
+     * @param <T>      type of the bean
+     * @return parsed bean
+     * @see YamlFileParser#parse(FileReference, Class)
+     */
+    public <T> T getConfiguration(FileReference yamlFile, Class<T> type) {
+        String key = yamlFile.getRelativePath();
+        Object configuration = configurations.get(key);
+        if (type.isInstance(configuration)) {
+            return type.cast(configuration);
+        }
+        T parsedConfiguration = YamlFileParser.parse(yamlFile, type);
+        configurations.put(key, parsedConfiguration);
+        return parsedConfiguration;
+    }
+
+    /**
+     * Returns the parsed properties of the given i18n file. The file is parsed only if it is not in this snapshot.
+     * Since callers may modify the returned properties, a copy is returned.
+     *
+     * @param i18nFile reference to the i18n file
+     * @return parsed properties
+     * @see PropertyFileParser#parse(FileReference)
+     */
+    public Properties getI18nFile(FileReference i18nFile) {
+        String key = i18nFile.getRelativePath();
+        Properties properties = i18nFiles.get(key);
+        if (properties == null) {
+            properties = PropertyFileParser.parse(i18nFile);
+            i18nFiles.put(key, copy(properties));
+        }
+        return copy(properties);
+    }
+
+    /**
+     * Returns the listing of a directory. The directory is listed using the given lister only if its listing is not
+     * in this snapshot.
+     *
+     * @param key    key that identifies the directory and the type of the listing
+     * @param lister lister that lists the directory
+     * @return listing of the directory
+     */
+    public List<String> getFileListing(String key, Supplier<List<String>> lister) {
+        List<String> listing = fileIndex.get(key);
+        if (listing == null) {
+            listing = lister.get();
+            fileIndex.put(key, listing);
+        }
+        return listing;
+    }
+
+    private static Properties copy(Properties properties) {
+        Properties copy = new Properties();
+        copy.putAll(properties);
+        return copy;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.deployment;
+
+import org.wso2.carbon.uuf.api.reference.AppReference;
+
+/**
+ * A store that persists {@link AppSnapshot snapshots} of UUF apps.
+ *
+ * @since 1.0.0
+ */
+public interface AppSnapshotStore {
+
+    /**
+     * Returns the snapshot of the specified app. If a persisted snapshot exists for the current artifact of the app,
+     * then the restored snapshot is returned. Otherwise an empty snapshot is returned.
+     *
+     * @param appReference reference to the app
+     * @return snapshot of the specified app
+     */
+    AppSnapshot getSnapshot(AppReference appReference);
+
+    /**
+     * Persists the given snapshot of the specified app.
+     *
+     * @param appReference reference to the app
+     * @param appSnapshot  snapshot to be persisted
+     */
+    void saveSnapshot(AppReference appReference, AppSnapshot appSnapshot);
+
+    /**
+     * Discards the snapshot of the specified app, e.g. when some files of the app have been changed. Subsequent
+     * reads of the app are served from its artifact.
+     *
+     * @param appReference reference to the app
+     */
+    void discardSnapshot(AppReference appReference);
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.deployment;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uuf.core.App;
+import org.wso2.carbon.uuf.core.Component;
+import org.wso2.carbon.uuf.core.Page;
+import org.wso2.carbon.uuf.internal.util.UriUtils;
+import org.wso2.carbon.uuf.spi.HttpRequest;
+import org.wso2.carbon.uuf.spi.HttpResponse;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import java.io.File;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Warms up a deployed app by rendering all of its parameterless pages and all of its fragments with synthetic
+ * requests, so that templates and executables are already hot when the app starts serving real requests.
+ * <p>
+ * Warm-up is enabled by setting the {@code uuf.warmup} system property to {@code true}. Rendering a page once
+ * compiles its template, but the JIT compiler and the optimistic types of Nashorn need many invocations to settle,
+ * hence pages and fragments are rendered {@code uuf.warmup.iterations} times (default
+ * {@value #DEFAULT_WARM_UP_ITERATIONS}).
+ *
+ * @since 1.0.0
+ */
+public class AppWarmer {
+
+    private static final boolean WARM_UP_ENABLED = Boolean.getBoolean("uuf.warmup");
+    private static final int DEFAULT_WARM_UP_ITERATIONS = 20;
+    private static final Logger LOGGER = LoggerFactory.getLogger(AppWarmer.class);
+
+    private final int iterations;
+
+    /**
+     * Creates a new app warmer that renders pages and fragments the number of times given by the
+     * {@code uuf.warmup.iterations} system property.
+     */
+    public AppWarmer() {
+        this(Integer.getInteger("uuf.warmup.iterations", DEFAULT_WARM_UP_ITERATIONS));
+    }
+
+    /**
+     * Creates a new app warmer that renders pages and fragments the given number of times.
+     *
+     * @param iterations number of times each page and fragment is rendered
+     */
+    public AppWarmer(int iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("Warm-up iterations must be positive. Instead found '" + iterations +
+                                                       "'.");
+        }
+        this.iterations = iterations;
+    }
+
+    /**
+     * Returns whether warming up of apps is enabled.
+     *
+     * @return {@code true} if warm-up is enabled, {@code false} if not
+     */
+    public static boolean isWarmUpEnabled() {
+        return WARM_UP_ENABLED;
+    }
+
+    /**
+     * Renders every parameterless page and every fragment of the given app repeatedly. Rendering errors are ignored,
+     * as pages and fragments may legitimately require a user session or request parameters. Pages and fragments that
+     * fail in the first iteration are not rendered again.
+     *
+     * @param app app to be warmed up
+     */
+    public void warmUp(App app) {
+        long startTime = System.currentTimeMillis();
+        Map<String, Boolean> uris = new LinkedHashMap<>(); // URI without context path -> is a fragment
+        for (Component component : app.getComponents().values()) {
+            String componentContextPath = Component.ROOT_COMPONENT_CONTEXT_PATH.equals(component.getContextPath()) ?
+                    "" : component.getContextPath();
+            for (Page page : component.getPages()) {
+                if (page.getUriPatten().hasVariables()) {
+                    continue; // Cannot create a synthetic request for a page with URI variables.
+                }
+                uris.put(componentContextPath + page.getUriPatten().getPatternString(), false);
+            }
+        }
+        for (String fragmentName : app.getFragments().keySet()) {
+            uris.put(UriUtils.FRAGMENTS_URI_PREFIX + fragmentName, true);
+        }
+
+        uris.entrySet().removeIf(uri -> !render(app, uri.getKey(), uri.getValue()));
+        for (int i = 1; i < iterations; i++) {
+            uris.forEach((uri, isFragment) -> render(app, uri, isFragment));
+        }
+        LOGGER.info("UUF app '{}' warmed up by rendering {} pages and fragments {} times in {} ms.", app.getName(),
+                    uris.size(), iterations, (System.currentTimeMillis() - startTime));
+    }
+
+    private boolean render(App app, String uriWithoutContextPath, boolean isFragment) {
+        WarmUpHttpRequest request = new WarmUpHttpRequest(app.getContextPath(), uriWithoutContextPath);
+        WarmUpHttpResponse response = new WarmUpHttpResponse();
+        try {
+            if (isFragment) {
+                app.renderFragment(request, response);
+            } else {
+                app.renderPage(request, response);
+            }
+            return true;
+        } catch (Exception e) {
+            LOGGER.debug("Cannot warm up '{}' of UUF app '{}'.", uriWithoutContextPath, app.getName(), e);
+            return false;
+        }
+    }
+
+    /**
+     * A synthetic GET request without any headers, cookies or parameters.
+     *
+     * @since 1.0.0
+     */
+    private static class WarmUpHttpRequest implements HttpRequest {
+
+        private final String contextPath;
+        private final String uriWithoutContextPath;
+
+        WarmUpHttpRequest(String contextPath, String uriWithoutContextPath) {
+            this.contextPath = contextPath;
+            this.uriWithoutContextPath = uriWithoutContextPath;
+        }
+
+        @Override
+        public String getMethod() {
+            return "GET";
+        }
+
+        @Override
+        public boolean isGetRequest() {
+            return true;
+        }
+
+        @Override
+        public String getProtocol() {
+            return "HTTP/1.1";
+        }
+
+        @Override
+        public boolean isSecure() {
+            return false;
+        }
+
+        @Override
+        public String getUrl() {
+            return "http://localhost" + getUri();
+        }
+
+        @Override
+        public String getUri() {
+            return contextPath + uriWithoutContextPath;
+        }
+
+        @Override
+        public String getContextPath() {
+            return contextPath;
+        }
+
+        @Override
+        public String getUriWithoutContextPath() {
+            return uriWithoutContextPath;
+        }
+
+        @Override
+        public String getQueryString() {
+            return null;
+        }
+
+        @Override
+        public Map<String, Object> getQueryParams() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public Map<String, String> getHeaders() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public String getCookieValue(String cookieName) {
+            return null;
+        }
+
+        @Override
+        public String getContentType() {
+            return null;
+        }
+
+        @Override
+        public long getContentLength() {
+            return 0;
+        }
+
+        @Override
+        public Map<String, Object> getFormParams() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public Map<String, Object> getFiles() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public String getLocalAddress() {
+            return "127.0.0.1";
+        }
+
+        @Override
+        public int getLocalPort() {
+            return 0;
+        }
+
+        @Override
+        public String getRemoteAddress() {
+            return "127.0.0.1";
+        }
+
+        @Override
+        public int getRemotePort() {
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return "{\"method\": \"GET\", \"uri\": \"" + getUri() + "\", \"warmUp\": true}";
+        }
+    }
+
+    /**
+     * A synthetic response that discards its content.
+     *
+     * @since 1.0.0
+     */
+    private static class WarmUpHttpResponse implements HttpResponse {
+
+        private final MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        private final Map<String, String> cookies = new HashMap<>();
+        private int status = STATUS_OK;
+        private String contentType;
+
+        @Override
+        public void setStatus(int statusCode) {
+            this.status = statusCode;
+        }
+
+        @Override
+        public int getStatus() {
+            return status;
+        }
+
+        @Override
+        public void setContent(String content, String contentType) {
+            setContentType(contentType);
+        }
+
+        @Override
+        public void setContent(File content) {
+        }
+
+        @Override
+        public void setContent(File content, String contentType) {
+            setContentType(contentType);
+        }
+
+        @Override
+        public void setContent(Object content, String contentType) {
+            setContentType(contentType);
+        }
+
+        @Override
+        public void setContent(InputStream content, String contentType) {
+            setContentType(contentType);
+        }
+
+        @Override
+        public Object getContent() {
+            return null;
+        }
+
+        @Override
+        public void setContentType(String contentType) {
+            this.contentType = contentType;
+        }
+
+        @Override
+        public String getContentType() {
+            return contentType;
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            headers.putSingle(name, value);
+        }
+
+        @Override
+        public MultivaluedMap<String, String> getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public void addCookie(String name, String value) {
+            cookies.put(name, value);
+        }
+
+        @Override
+        public String getCookie(String name) {
+            return cookies.get(name);
+        }
+    }
+}
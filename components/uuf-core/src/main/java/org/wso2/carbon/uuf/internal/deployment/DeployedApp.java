@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.deployment;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uuf.api.exception.SessionManagementException;
+import org.wso2.carbon.uuf.core.App;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A version of an app that is deployed in an {@link AppRegistry}.
+ * <p>
+ * A deployed app is reference counted. The registry holds one reference while the app is published, and every request
+ * served by the app holds one reference from {@link #acquire()} until {@link #release()}. When a newer version of the
+ * app is published, this version is {@link #retire() retired}; it is disposed once the requests that are still being
+ * served by it are completed. Disposing closes the session manager of the app, unless it was handed over to the newer
+ * version.
+ *
+ * @since 1.0.0
+ */
+public class DeployedApp {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeployedApp.class);
+
+    private final App app;
+    private final long version;
+    private final AtomicInteger referenceCount;
+    private final AtomicBoolean retired;
+    private volatile boolean sessionManagerHandedOver;
+
+    /**
+     * Creates a new deployed app.
+     *
+     * @param app     app
+     * @param version deployment version of the app
+     */
+    public DeployedApp(App app, long version) {
+        this.app = app;
+        this.version = version;
+        this.referenceCount = new AtomicInteger(1); // Reference held by the registry.
+        this.retired = new AtomicBoolean(false);
+    }
+
+    /**
+     * Returns the app.
+     *
+     * @return app
+     */
+    public App getApp() {
+        return app;
+    }
+
+    /**
+     * Returns the deployment version of the app. A newer deployment of the same context path has a greater version.
+     *
+     * @return deployment version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Acquires a reference to this deployed app. Every successful acquire must be followed by a {@link #release()}.
+     *
+     * @return {@code true} if a reference was acquired, {@code false} if this deployed app is already disposed
+     */
+    public boolean acquire() {
+        while (true) {
+            int count = referenceCount.get();
+            if (count == 0) {
+                return false; // Already disposed.
+            }
+            if (referenceCount.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a reference acquired by {@link #acquire()}.
+     */
+    public void release() {
+        if (referenceCount.decrementAndGet() == 0) {
+            dispose();
+        }
+    }
+
+    /**
+     * Retires this deployed app by releasing the reference held by the registry. This deployed app is disposed as soon
+     * as all the other references are released.
+     */
+    public void retire() {
+        retire(null);
+    }
+
+    /**
+     * Retires this deployed app in favour of the given newer version. If the newer version uses the same session
+     * manager, the session manager is handed over to it and is not closed when this deployed app is disposed.
+     *
+     * @param successor newer version of this app, can be {@code null}
+     */
+    public void retire(DeployedApp successor) {
+        if (retired.compareAndSet(false, true)) {
+            LOGGER.debug("Retiring version {} of UUF app '{}'.", version, app.getName());
+            sessionManagerHandedOver = (successor != null) &&
+                    (successor.app.getSessionManager() == app.getSessionManager());
+            release();
+        }
+    }
+
+    private void dispose() {
+        /* Nashorn engines of executables and other resources of the app are released with the app. OSGi bundles of
+        components are shared among the versions of the app, hence they are kept. */
+        if (!sessionManagerHandedOver && (app.getSessionManager() != null)) {
+            try {
+                app.getSessionManager().close();
+            } catch (SessionManagementException e) {
+                LOGGER.warn("Cannot close the session manager of version {} of UUF app '{}'.", version,
+                            app.getName(), e);
+            }
+        }
+        LOGGER.info("Version {} of UUF app '{}' for context path '{}' is retired.", version, app.getName(),
+                    app.getContextPath());
+    }
+}
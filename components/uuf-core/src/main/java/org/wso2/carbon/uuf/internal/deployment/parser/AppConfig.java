@@ -20,6 +20,7 @@ package org.wso2.carbon.uuf.internal.deployment.parser;
 
 import org.wso2.carbon.uuf.api.config.Configuration;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -33,12 +34,15 @@ import java.util.stream.Collectors;
  *
  * @since 1.0.0
  */
-public class AppConfig {
+public class AppConfig implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private String contextPath;
     private String theme;
     private String loginPageUri;
     private String authorizer;
+    private long authorizationCacheTimeout;
     private SessionConfig sessionManagement = new SessionConfig();
     private Map<String, String> errorPages = Collections.emptyMap();
     private List<Menu> menus = Collections.emptyList();
@@ -117,6 +121,24 @@ public class AppConfig {
         this.authorizer = authorizer;
     }
 
+    /**
+     * Returns the authorization cache timeout (in seconds) in this app's config.
+     *
+     * @return authorization cache timeout in seconds
+     */
+    public long getAuthorizationCacheTimeout() {
+        return authorizationCacheTimeout;
+    }
+
+    /**
+     * Sets the authorization cache timeout (in seconds) in this app's config.
+     *
+     * @param authorizationCacheTimeout authorization cache timeout in seconds
+     */
+    public void setAuthorizationCacheTimeout(long authorizationCacheTimeout) {
+        this.authorizationCacheTimeout = authorizationCacheTimeout;
+    }
+
     /**
      * Returns the session management configuration in this app's config.
      *
@@ -212,10 +234,13 @@ public class AppConfig {
      *
      * @since 1.0.0
      */
-    public static class SessionConfig {
+    public static class SessionConfig implements Serializable {
+
+        private static final long serialVersionUID = 1L;
 
         private String factoryClassName;
         private long timeout;
+        private int maxSessions;
 
         /**
          * Returns the session manager factory class name for this configuration.
@@ -252,6 +277,24 @@ public class AppConfig {
         public void setTimeout(long timeout) {
             this.timeout = timeout;
         }
+
+        /**
+         * Returns the maximum number of concurrent sessions for this configuration.
+         *
+         * @return maximum number of sessions
+         */
+        public int getMaxSessions() {
+            return maxSessions;
+        }
+
+        /**
+         * Sets the maximum number of concurrent sessions for this configuration.
+         *
+         * @param maxSessions maximum number of sessions
+         */
+        public void setMaxSessions(int maxSessions) {
+            this.maxSessions = maxSessions;
+        }
     }
 
     /**
@@ -259,7 +302,9 @@ public class AppConfig {
      *
      * @since 1.0.0
      */
-    public static class Menu {
+    public static class Menu implements Serializable {
+
+        private static final long serialVersionUID = 1L;
 
         private String name;
         private List<MenuItem> items;
@@ -314,7 +359,9 @@ public class AppConfig {
      *
      * @since 1.0.0
      */
-    public static class MenuItem {
+    public static class MenuItem implements Serializable {
+
+        private static final long serialVersionUID = 1L;
 
         private String text;
         private String link;
@@ -407,7 +454,9 @@ public class AppConfig {
      *
      * @since 1.0.0
      */
-    public static class SecurityConfig {
+    public static class SecurityConfig implements Serializable {
+
+        private static final long serialVersionUID = 1L;
 
         private List<String> csrfIgnoreUris = Collections.emptyList();
         private List<String> xssIgnoreUris = Collections.emptyList();
@@ -473,7 +522,9 @@ public class AppConfig {
      *
      * @since 1.0.0
      */
-    public static class ResponseHeaders {
+    public static class ResponseHeaders implements Serializable {
+
+        private static final long serialVersionUID = 1L;
 
         private Map<String, String> staticResources = Collections.emptyMap();
         private Map<String, String> pages = Collections.emptyMap();
@@ -21,6 +21,7 @@ package org.wso2.carbon.uuf.internal.deployment.parser;
 
 import org.wso2.carbon.uuf.api.config.Bindings;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 
@@ -33,7 +34,9 @@ import java.util.Map;
  *
  * @since 1.0.0
  */
-public class ComponentConfig {
+public class ComponentConfig implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private List<API> apis;
     private List<Binding> bindings;
@@ -98,7 +101,9 @@ public class ComponentConfig {
      *
      * @since 1.0.0
      */
-    public static class API {
+    public static class API implements Serializable {
+
+        private static final long serialVersionUID = 1L;
 
         private String className;
         private String uri;
@@ -163,7 +168,9 @@ public class ComponentConfig {
      *
      * @since 1.0.0
      */
-    public static class Binding {
+    public static class Binding implements Serializable {
+
+        private static final long serialVersionUID = 1L;
 
         private String zoneName;
         private Bindings.Mode mode;
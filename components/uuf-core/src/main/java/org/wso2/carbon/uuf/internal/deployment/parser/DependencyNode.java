@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.uuf.internal.deployment.parser;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -30,7 +31,9 @@ import java.util.function.Consumer;
  *
  * @since 1.0.0
  */
-public class DependencyNode {
+public class DependencyNode implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private String artifactId;
     private String version;
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.uuf.internal.deployment.parser;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
 
@@ -28,7 +29,9 @@ import java.util.List;
  * org.wso2.carbon.uuf.maven.bean.ThemeConfig class.
  * @since 1.0.0
  */
-public class ThemeConfig {
+public class ThemeConfig implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private List<String> css;
     private List<String> headJs;
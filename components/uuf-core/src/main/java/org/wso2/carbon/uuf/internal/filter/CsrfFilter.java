@@ -21,7 +21,6 @@ package org.wso2.carbon.uuf.internal.filter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.uuf.api.config.Configuration;
-import org.wso2.carbon.uuf.core.UriPatten;
 import org.wso2.carbon.uuf.spi.HttpRequest;
 
 import static org.wso2.carbon.uuf.spi.HttpResponse.STATUS_FORBIDDEN;
@@ -40,10 +39,8 @@ public class CsrfFilter implements Filter {
         if (request.isGetRequest()) {
             return FilterResult.success();
         }
-        for (UriPatten uriPatten : configuration.getCsrfIgnoreUris()) {
-            if (uriPatten.matches(request.getUriWithoutContextPath())) {
-                return FilterResult.success();
-            }
+        if (configuration.isCsrfIgnoreUri(request.getUriWithoutContextPath())) {
+            return FilterResult.success();
         }
 
         // POST request where the URI isn't in the CSRF ignore list, hence validate the CSRF token.
@@ -18,6 +18,8 @@
 
 package org.wso2.carbon.uuf.internal.io;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.commons.io.FilenameUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,15 +30,18 @@ import org.wso2.carbon.uuf.internal.UUFServer;
 import org.wso2.carbon.uuf.internal.exception.FileOperationException;
 import org.wso2.carbon.uuf.internal.exception.ResourceNotFoundException;
 import org.wso2.carbon.uuf.internal.io.util.MimeMapper;
+import org.wso2.carbon.uuf.internal.io.util.ZipArtifactHandler;
 import org.wso2.carbon.uuf.spi.HttpRequest;
 import org.wso2.carbon.uuf.spi.HttpResponse;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Duration;
 import java.time.ZoneId;
@@ -65,11 +70,17 @@ public class StaticResolver {
 
     public static final String DIR_NAME_COMPONENT_RESOURCES = "base";
     public static final String DIR_NAME_PUBLIC_RESOURCES = "public";
+    private static final long MAX_CACHED_ARCHIVED_RESOURCE_SIZE = 64 * 1024; // 64 KB
+    private static final long MAX_CACHED_ARCHIVED_RESOURCES_SIZE = 32 * 1024 * 1024; // 32 MB
     private static final DateTimeFormatter HTTP_DATE_FORMATTER;
     private static final ZoneId GMT_TIME_ZONE;
     private static final Logger LOGGER = LoggerFactory.getLogger(StaticResolver.class);
 
     private final Map<Path, ZonedDateTime> resourcesLastModifiedDates;
+    /* Contents of small resources in zip artifacts, bounded by their total size. A zip artifact that is closed or
+    reopened gets a new file system (hence new paths), so entries of a closed artifact are never used again and are
+    evicted as the least recently used ones. */
+    private final Cache<Path, byte[]> archivedResourcesContents;
 
     static {
         // See https://tools.ietf.org/html/rfc7231#section-7.1.1.1
@@ -81,6 +92,19 @@ public class StaticResolver {
      * The constructor of StaticResolver class
      */
     public StaticResolver() {
+        this(MAX_CACHED_ARCHIVED_RESOURCES_SIZE);
+    }
+
+    /**
+     * Creates a static resolver that caches contents of resources in zip artifacts up to the given total size.
+     *
+     * @param maxCachedArchivedResourcesSize maximum total size of the cached contents in bytes
+     */
+    StaticResolver(long maxCachedArchivedResourcesSize) {
+        this.archivedResourcesContents = CacheBuilder.newBuilder()
+                .maximumWeight(maxCachedArchivedResourcesSize)
+                .weigher((Path resourcePath, byte[] content) -> content.length)
+                .build();
         if (UUFServer.isDevModeEnabled()) {
             /*
              * When the dev mode is enabled, we do not cache last modified dates of serving static resources. This is
@@ -130,7 +154,13 @@ public class StaticResolver {
                 response.setContent(STATUS_BAD_REQUEST, "Invalid static resource URI '" + request.getUri() + "'.");
                 return;
             }
-            lastModifiedDate = resourcesLastModifiedDates.computeIfAbsent(resourcePath, this::getLastModifiedDate);
+            if (resourcePath.getFileSystem() == FileSystems.getDefault()) {
+                lastModifiedDate = resourcesLastModifiedDates.computeIfAbsent(resourcePath,
+                                                                              this::getLastModifiedDate);
+            } else {
+                // Zip file system keeps attributes of entries in memory, hence those need not to be cached.
+                lastModifiedDate = getLastModifiedDate(resourcePath);
+            }
         } catch (IllegalArgumentException e) {
             // Invalid/incorrect static resource URI.
             response.setContent(STATUS_BAD_REQUEST, e.getMessage());
@@ -151,7 +181,7 @@ public class StaticResolver {
             /* Since we failed to read last modified date of 'resourcePath' file, we cannot set cache headers.
             Therefore just serve the file without any cache headers. */
             response.setStatus(STATUS_OK);
-            response.setContent(resourcePath, getContentType(request, resourcePath));
+            setContent(resourcePath, getContentType(request, resourcePath), response);
             return;
         }
         ZonedDateTime ifModifiedSinceDate = getIfModifiedSinceDate(request);
@@ -163,7 +193,44 @@ public class StaticResolver {
 
         setCacheHeaders(lastModifiedDate, response);
         response.setStatus(STATUS_OK);
-        response.setContent(resourcePath, getContentType(request, resourcePath));
+        setContent(resourcePath, getContentType(request, resourcePath), response);
+    }
+
+    private void setContent(Path resourcePath, String contentType, HttpResponse response) {
+        if (resourcePath.getFileSystem() == FileSystems.getDefault()) {
+            response.setContent(resourcePath, contentType);
+            return;
+        }
+
+        /* Resource is in a zip artifact, hence it cannot be served as a file. Small resources are cached in memory,
+        others are streamed from the archive. Zip file system reads stored (not deflated) entries as they are. */
+        byte[] content = archivedResourcesContents.getIfPresent(resourcePath);
+        if (content != null) {
+            response.setContent(new ByteArrayInputStream(content), contentType);
+            return;
+        }
+        try {
+            if ((Files.size(resourcePath) <= MAX_CACHED_ARCHIVED_RESOURCE_SIZE) && !UUFServer.isDevModeEnabled()) {
+                content = Files.readAllBytes(resourcePath);
+                archivedResourcesContents.put(resourcePath, content);
+                response.setContent(new ByteArrayInputStream(content), contentType);
+            } else {
+                response.setContent(Files.newInputStream(resourcePath), contentType);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Cannot read static resource '{}' from the zip artifact.", resourcePath, e);
+            response.setContent(STATUS_INTERNAL_SERVER_ERROR,
+                                "A server error occurred while reading static resource '" + resourcePath + "'.");
+        }
+    }
+
+    /**
+     * Returns the total size of the cached contents of resources in zip artifacts.
+     *
+     * @return total size of the cached contents in bytes
+     */
+    long getCachedArchivedResourcesSize() {
+        return archivedResourcesContents.asMap().values().stream().mapToLong(content -> content.length).sum();
     }
 
     private Path resolveResourceInComponent(App app, String uriWithoutContextPath) {
@@ -208,11 +275,11 @@ public class StaticResolver {
                                                                     uriWithoutContextPath.length());
         if (DIR_NAME_COMPONENT_RESOURCES.equals(fragmentSimpleName)) {
             // Resource is inside the 'public' directory of the 'component'
-            return Paths.get(component.getPath(), DIR_NAME_PUBLIC_RESOURCES, relativePathString);
+            return ZipArtifactHandler.toPath(component.getPath(), DIR_NAME_PUBLIC_RESOURCES, relativePathString);
         } else {
             // Resource is inside the 'public' directory of fragment 'fragmentSimpleName' of the 'component'
-            return Paths.get(component.getPath(), DIR_NAME_FRAGMENTS, fragmentSimpleName, DIR_NAME_PUBLIC_RESOURCES,
-                             relativePathString);
+            return ZipArtifactHandler.toPath(component.getPath(), DIR_NAME_FRAGMENTS, fragmentSimpleName,
+                                             DIR_NAME_PUBLIC_RESOURCES, relativePathString);
         }
     }
 
@@ -249,7 +316,7 @@ public class StaticResolver {
         // {sub-directory}/{rest-of-the-path}
         String relativePathString = uriWithoutContextPath.substring(fourthSlashIndex + 1,
                                                                     uriWithoutContextPath.length());
-        return Paths.get(theme.getPath(), DIR_NAME_PUBLIC_RESOURCES, relativePathString);
+        return ZipArtifactHandler.toPath(theme.getPath(), DIR_NAME_PUBLIC_RESOURCES, relativePathString);
     }
 
     private ZonedDateTime getLastModifiedDate(Path resourcePath) {
@@ -22,6 +22,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.uuf.api.reference.AppReference;
+import org.wso2.carbon.uuf.internal.UUFServer;
 import org.wso2.carbon.uuf.internal.deployment.AppFinder;
 import org.wso2.carbon.uuf.internal.exception.DeploymentException;
 import org.wso2.carbon.uuf.internal.exception.FileOperationException;
@@ -99,7 +100,7 @@ public class ArtifactAppFinder implements AppFinder {
     private List<AppDetails> findApps(Path appsRepository) {
         try {
             return Files.list(appsRepository)
-                    .filter(Files::isDirectory)
+                    .filter(path -> Files.isDirectory(path) || ZipArtifactHandler.isZipArtifact(path))
                     .map(this::getAppDetails)
                     .collect(Collectors.toList());
         } catch (IOException e) {
@@ -111,14 +112,23 @@ public class ArtifactAppFinder implements AppFinder {
         /* Fully qualified name of the app is equals to the name of the app directory. This is guaranteed by the UUF
         Maven plugin. */
         String appFullyQualifiedName;
+        Path appDirectory;
         if (ZipArtifactHandler.isZipArtifact(appPath)) {
             appFullyQualifiedName = ZipArtifactHandler.getAppName(appPath);
+            if (UUFServer.isDevModeEnabled()) {
+                // In dev mode files of the app are watched for changes, hence the app should be in the file system.
+                appDirectory = ZipArtifactHandler.unzip(appFullyQualifiedName, appPath);
+            } else {
+                // Serve the app straight from its zip artifact.
+                appDirectory = ZipArtifactHandler.getAppDirectory(appFullyQualifiedName, appPath);
+            }
         } else {
             appFullyQualifiedName = appPath.getFileName().toString();
+            appDirectory = appPath;
         }
         // TODO: 5/4/17 through deployment.yaml Dev-Ops should be able to override app's context path
         String appContextPath = "/" + NameUtils.getSimpleName(appFullyQualifiedName);
-        AppReference appReference = new ArtifactAppReference(appPath);
+        AppReference appReference = new ArtifactAppReference(appDirectory);
 
         return new AppDetails(appFullyQualifiedName, appContextPath, appReference);
     }
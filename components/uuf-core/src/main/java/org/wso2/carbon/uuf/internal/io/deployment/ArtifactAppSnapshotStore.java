@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.io.deployment;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uuf.api.config.Bindings;
+import org.wso2.carbon.uuf.api.reference.AppReference;
+import org.wso2.carbon.uuf.internal.UUFServer;
+import org.wso2.carbon.uuf.internal.deployment.AppSnapshot;
+import org.wso2.carbon.uuf.internal.deployment.AppSnapshotStore;
+import org.wso2.carbon.uuf.internal.deployment.parser.AppConfig;
+import org.wso2.carbon.uuf.internal.deployment.parser.ComponentConfig;
+import org.wso2.carbon.uuf.internal.deployment.parser.DependencyNode;
+import org.wso2.carbon.uuf.internal.deployment.parser.ThemeConfig;
+import org.wso2.carbon.uuf.internal.exception.FileOperationException;
+import org.wso2.carbon.uuf.internal.io.StaticResolver;
+import org.wso2.carbon.uuf.internal.io.reference.ArtifactAppReference;
+import org.wso2.carbon.uuf.internal.io.util.PrivateDirectories;
+import org.wso2.carbon.uuf.internal.io.util.ZipArtifactHandler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * An app snapshot store that persists snapshots of artifact apps in {@code <java.io.tmpdir>/uufapps-snapshots}
+ * directory. As snapshots are de-serialized when apps are deployed, the directory is accessible only to the current
+ * user and only the classes that make up a snapshot are de-serialized. A snapshot file is named after the app and the
+ * hash of the app's path, so apps of the same name in different locations do not share a snapshot.
+ * <p>
+ * A snapshot is keyed by the hash of the app's artifact. For an app that is served from its zip artifact, the hash is
+ * computed from the path, size and last modified time of the zip file. For an app directory, it is computed from the
+ * last modified times of the directories, which change whenever an entry is added, removed or renamed, and from the
+ * sizes and last modified times of the configuration and i18n files, which are the only files whose content is kept in
+ * a snapshot. Public resources are never part of a snapshot, hence {@code public} directories are not
+ * walked. Snapshots are not used in the dev mode.
+ *
+ * @since 1.0.0
+ */
+public class ArtifactAppSnapshotStore implements AppSnapshotStore {
+
+    private static final String SNAPSHOT_FILE_EXTENSION = ".snapshot";
+    private static final String DIR_NAME_PUBLIC = StaticResolver.DIR_NAME_PUBLIC_RESOURCES;
+    private static final String DIR_NAME_PAGES = "pages";
+    private static final String[] SNAPSHOT_FILE_EXTENSIONS = {".yaml", ".yml", ".properties"};
+    private static final int APP_PATH_HASH_LENGTH = 16;
+    private static final Set<String> SNAPSHOT_CLASSES = new HashSet<>(Arrays.asList(
+            // Snapshot and parsed configurations.
+            AppSnapshot.class.getName(),
+            AppConfig.class.getName(),
+            AppConfig.SessionConfig.class.getName(),
+            AppConfig.Menu.class.getName(),
+            AppConfig.MenuItem.class.getName(),
+            AppConfig.SecurityConfig.class.getName(),
+            AppConfig.ResponseHeaders.class.getName(),
+            ComponentConfig.class.getName(),
+            ComponentConfig.API.class.getName(),
+            ComponentConfig.Binding.class.getName(),
+            ThemeConfig.class.getName(),
+            DependencyNode.class.getName(),
+            Bindings.Mode.class.getName(),
+            "java.lang.Enum",
+            // Values that SnakeYAML creates for configurations.
+            "java.lang.Number",
+            "java.lang.Boolean",
+            "java.lang.Integer",
+            "java.lang.Long",
+            "java.lang.Double",
+            "java.math.BigInteger",
+            "java.util.Date",
+            "[B",
+            "java.util.ArrayList",
+            "java.util.HashMap",
+            "java.util.LinkedHashMap",
+            "java.util.HashSet",
+            "java.util.LinkedHashSet",
+            "java.util.Collections$EmptyList",
+            "java.util.Collections$EmptyMap",
+            "java.util.Collections$EmptySet",
+            // Maps of the snapshot and i18n files.
+            "java.util.Hashtable",
+            "java.util.Properties",
+            "java.util.concurrent.ConcurrentHashMap",
+            "java.util.concurrent.ConcurrentHashMap$Segment",
+            "[Ljava.util.concurrent.ConcurrentHashMap$Segment;",
+            "java.util.concurrent.locks.ReentrantLock",
+            "java.util.concurrent.locks.ReentrantLock$Sync",
+            "java.util.concurrent.locks.ReentrantLock$NonfairSync",
+            "java.util.concurrent.locks.AbstractQueuedSynchronizer",
+            "java.util.concurrent.locks.AbstractOwnableSynchronizer"));
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArtifactAppSnapshotStore.class);
+
+    private final Path snapshotsDirectory;
+
+    /**
+     * Creates a new snapshot store that persists snapshots in {@code <java.io.tmpdir>/uufapps-snapshots} directory.
+     */
+    public ArtifactAppSnapshotStore() {
+        this(Paths.get(System.getProperty("java.io.tmpdir"), "uufapps-snapshots"));
+    }
+
+    /**
+     * Creates a new snapshot store that persists snapshots in the given directory.
+     *
+     * @param snapshotsDirectory directory to persist snapshots
+     */
+    public ArtifactAppSnapshotStore(Path snapshotsDirectory) {
+        this.snapshotsDirectory = snapshotsDirectory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AppSnapshot getSnapshot(AppReference appReference) {
+        if (UUFServer.isDevModeEnabled() || !(appReference instanceof ArtifactAppReference)) {
+            return new AppSnapshot(null); // A transient snapshot that won't be persisted.
+        }
+
+        ArtifactAppReference artifactAppReference = (ArtifactAppReference) appReference;
+        String artifactHash = computeArtifactHash(artifactAppReference.getDirectory());
+        AppSnapshot snapshot = createSnapshotsDirectory() ?
+                readSnapshot(getSnapshotFile(artifactAppReference), artifactHash) : null;
+        if (snapshot == null) {
+            snapshot = new AppSnapshot(artifactHash);
+        } else {
+            snapshot.markRestored();
+            LOGGER.debug("Restored snapshot of UUF app '{}' for artifact hash '{}'.", appReference.getName(),
+                         artifactHash);
+        }
+        artifactAppReference.setSnapshot(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void saveSnapshot(AppReference appReference, AppSnapshot appSnapshot) {
+        if ((appSnapshot.getArtifactHash() == null) || appSnapshot.isRestored() ||
+                !(appReference instanceof ArtifactAppReference)) {
+            return; // Transient snapshot or already persisted.
+        }
+
+        Path snapshotFile = getSnapshotFile((ArtifactAppReference) appReference);
+        try {
+            PrivateDirectories.create(snapshotsDirectory);
+            // Write to a temporary file first and move it, so that a partially written snapshot is never read.
+            Path tempFile = Files.createTempFile(snapshotsDirectory, appReference.getName(), ".tmp");
+            try (ObjectOutputStream outputStream = new ObjectOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                outputStream.writeInt(AppSnapshot.FORMAT_VERSION);
+                outputStream.writeUTF(appSnapshot.getArtifactHash());
+                outputStream.writeObject(appSnapshot);
+            }
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.debug("Saved snapshot of UUF app '{}' to '{}'.", appReference.getName(), snapshotFile);
+        } catch (IOException e) {
+            // Not being able to save the snapshot is not fatal; the app will be deployed from its artifact next time.
+            LOGGER.warn("Cannot save snapshot of UUF app '{}' to '{}'.", appReference.getName(), snapshotFile, e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void discardSnapshot(AppReference appReference) {
+        if (!(appReference instanceof ArtifactAppReference)) {
+            return;
+        }
+
+        ArtifactAppReference artifactAppReference = (ArtifactAppReference) appReference;
+        artifactAppReference.setSnapshot(null);
+        Path snapshotFile = getSnapshotFile(artifactAppReference);
+        try {
+            Files.deleteIfExists(snapshotFile);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot delete snapshot '{}' of UUF app '{}'.", snapshotFile, appReference.getName(), e);
+        }
+    }
+
+    private boolean createSnapshotsDirectory() {
+        try {
+            PrivateDirectories.create(snapshotsDirectory);
+            return true;
+        } catch (IOException e) {
+            LOGGER.warn("Cannot use directory '{}' for snapshots of UUF apps. Hence apps will be deployed from their " +
+                                "artifacts.", snapshotsDirectory, e);
+            return false;
+        }
+    }
+
+    private Path getSnapshotFile(ArtifactAppReference appReference) {
+        String appPath = ZipArtifactHandler.toPathString(appReference.getDirectory().toAbsolutePath());
+        String appPathHash = toHex(sha256().digest(appPath.getBytes(StandardCharsets.UTF_8)));
+        return snapshotsDirectory.resolve(appReference.getName() + "-" +
+                                                  appPathHash.substring(0, APP_PATH_HASH_LENGTH) +
+                                                  SNAPSHOT_FILE_EXTENSION);
+    }
+
+    private AppSnapshot readSnapshot(Path snapshotFile, String artifactHash) {
+        if (!Files.isRegularFile(snapshotFile)) {
+            return null;
+        }
+
+        try (SnapshotInputStream inputStream = new SnapshotInputStream(
+                new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+            // Check the header first, so that the snapshot itself is de-serialized only if it is usable.
+            if ((inputStream.readInt() != AppSnapshot.FORMAT_VERSION) ||
+                    !artifactHash.equals(inputStream.readUTF())) {
+                LOGGER.debug("Snapshot '{}' is outdated.", snapshotFile);
+                return null;
+            }
+            AppSnapshot snapshot = (AppSnapshot) inputStream.readObject();
+            return artifactHash.equals(snapshot.getArtifactHash()) ? snapshot : null;
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            LOGGER.warn("Cannot read snapshot '{}'. Hence the app will be deployed from its artifact.", snapshotFile,
+                        e);
+            return null;
+        }
+    }
+
+    private String computeArtifactHash(Path appPath) {
+        MessageDigest messageDigest = sha256();
+        try {
+            if (appPath.getFileSystem() == FileSystems.getDefault()) {
+                hashDirectory(appPath, messageDigest);
+            } else {
+                Path zipArtifact = ZipArtifactHandler.getArtifact(appPath).orElseThrow(
+                        () -> new FileOperationException("Cannot find the zip artifact of app '" + appPath + "'."));
+                update(messageDigest, appPath.toString(), Files.readAttributes(zipArtifact,
+                                                                               BasicFileAttributes.class));
+            }
+        } catch (IOException e) {
+            throw new FileOperationException("Cannot compute the hash of app '" + appPath + "'.", e);
+        }
+
+        return toHex(messageDigest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new FileOperationException("Cannot compute hashes of UUF apps.", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static void hashDirectory(Path appPath, MessageDigest messageDigest) throws IOException {
+        // Entries are visited in the order they are listed, hence they are sorted before being hashed.
+        SortedMap<String, BasicFileAttributes> entries = new TreeMap<>();
+        Files.walkFileTree(appPath, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                if (isPublicDirectory(appPath.relativize(dir))) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                entries.put(appPath.relativize(dir) + "/", attributes);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                String fileName = file.getFileName().toString();
+                for (String extension : SNAPSHOT_FILE_EXTENSIONS) {
+                    if (fileName.endsWith(extension)) {
+                        entries.put(appPath.relativize(file).toString(), attributes);
+                        break;
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        for (Map.Entry<String, BasicFileAttributes> entry : entries.entrySet()) {
+            update(messageDigest, entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static boolean isPublicDirectory(Path relativePath) {
+        Path fileName = relativePath.getFileName();
+        if ((fileName == null) || !DIR_NAME_PUBLIC.equals(fileName.toString())) {
+            return false;
+        }
+        // A 'public' directory under a 'pages' directory holds pages, which are listed in the snapshot.
+        for (Path name : relativePath) {
+            if (DIR_NAME_PAGES.equals(name.toString())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void update(MessageDigest messageDigest, String path, BasicFileAttributes attributes) {
+        String entry = path + ":" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis() + "\n";
+        messageDigest.update(entry.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * An object input stream that de-serializes only the classes that can be in an app snapshot.
+     *
+     * @since 1.0.0
+     */
+    private static class SnapshotInputStream extends ObjectInputStream {
+
+        SnapshotInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            String className = desc.getName();
+            if (!SNAPSHOT_CLASSES.contains(className)) {
+                throw new InvalidClassException(className, "Class is not allowed in an app snapshot.");
+            }
+            try {
+                return Class.forName(className, false, ArtifactAppSnapshotStore.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
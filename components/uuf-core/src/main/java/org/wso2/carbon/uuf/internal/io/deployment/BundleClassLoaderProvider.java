@@ -112,7 +112,7 @@ public class BundleClassLoaderProvider implements ClassLoaderProvider {
         return rv;
     }
 
-    private Bundle createBundle(String bundleKey, String bundleVersion, List<String> imports)
+    private synchronized Bundle createBundle(String bundleKey, String bundleVersion, List<String> imports)
             throws IOException, BundleException {
 
         BundleContext bundleContext = FrameworkUtil.getBundle(this.getClass()).getBundleContext();
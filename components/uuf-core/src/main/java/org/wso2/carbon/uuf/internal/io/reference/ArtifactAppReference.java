@@ -22,18 +22,24 @@ import org.wso2.carbon.uuf.api.reference.AppReference;
 import org.wso2.carbon.uuf.api.reference.ComponentReference;
 import org.wso2.carbon.uuf.api.reference.FileReference;
 import org.wso2.carbon.uuf.api.reference.ThemeReference;
+import org.wso2.carbon.uuf.internal.deployment.AppSnapshot;
 import org.wso2.carbon.uuf.internal.exception.FileOperationException;
+import org.wso2.carbon.uuf.internal.io.util.ZipArtifactHandler;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.toList;
+
 public class ArtifactAppReference implements AppReference {
 
     private final Path appDirectory;
     private final Path componentsDirectory;
     private final Path customizationsDirectory;
+    private volatile AppSnapshot snapshot;
 
     public ArtifactAppReference(Path appDirectory) {
         this.appDirectory = appDirectory.normalize().toAbsolutePath();
@@ -69,16 +75,8 @@ public class ArtifactAppReference implements AppReference {
     @Override
     public Stream<ThemeReference> getThemeReferences() {
         Path themesDirectory = this.appDirectory.resolve(DIR_NAME_THEMES);
-        if (!Files.exists(themesDirectory)) {
-            return Stream.<ThemeReference>empty();
-        }
-        try {
-            return Files.list(themesDirectory)
-                    .filter(Files::isDirectory)
-                    .map(path -> new ArtifactThemeReference(path, this));
-        } catch (IOException e) {
-            throw new FileOperationException("An error occurred while listing themes in '" + themesDirectory + "'.", e);
-        }
+        return list(themesDirectory, ListingType.DIRECTORIES, "themes")
+                .map(path -> new ArtifactThemeReference(path, this));
     }
 
     @Override
@@ -105,10 +103,85 @@ public class ArtifactAppReference implements AppReference {
 
     @Override
     public String getPath() {
-        return appDirectory.toString();
+        return ZipArtifactHandler.toPathString(appDirectory);
     }
 
-    Path getDirectory() {
+    /**
+     * Sets the snapshot of this app. Once set, directory listings of this app are served from (and recorded into)
+     * the file index of the given snapshot.
+     *
+     * @param snapshot snapshot of this app
+     */
+    public void setSnapshot(AppSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Returns the directory of this app. For an app that is served from its zip artifact, the returned path belongs
+     * to the zip file system of the artifact.
+     *
+     * @return directory of this app
+     */
+    public Path getDirectory() {
         return appDirectory;
     }
+
+    /**
+     * Lists the specified directory of this app.
+     *
+     * @param directory   directory to be listed
+     * @param listingType type of the listing
+     * @param description description of the listed entries to be used in error messages
+     * @return listed paths, or an empty stream if the directory does not exists
+     */
+    Stream<Path> list(Path directory, ListingType listingType, String description) {
+        AppSnapshot currentSnapshot = this.snapshot;
+        if (currentSnapshot == null) {
+            return listDirectory(directory, listingType, description);
+        }
+
+        String key = listingType.name() + ":" + appDirectory.relativize(directory);
+        List<String> listing = currentSnapshot.getFileListing(key, () -> listDirectory(directory, listingType,
+                                                                                      description)
+                .map(path -> appDirectory.relativize(path).toString())
+                .collect(toList()));
+        return listing.stream().map(appDirectory::resolve);
+    }
+
+    private Stream<Path> listDirectory(Path directory, ListingType listingType, String description) {
+        if (!Files.exists(directory)) {
+            return Stream.<Path>empty();
+        }
+        try {
+            switch (listingType) {
+                case FILES_RECURSIVELY:
+                    return Files.walk(directory).filter(Files::isRegularFile);
+                case FILES:
+                    return Files.list(directory).filter(Files::isRegularFile);
+                default:
+                    return Files.list(directory).filter(Files::isDirectory);
+            }
+        } catch (IOException e) {
+            throw new FileOperationException(
+                    "An error occurred while listing " + description + " in '" + directory + "'.", e);
+        }
+    }
+
+    /**
+     * Types of directory listings.
+     */
+    enum ListingType {
+        /**
+         * Regular files in the directory and its sub-directories.
+         */
+        FILES_RECURSIVELY,
+        /**
+         * Regular files directly in the directory.
+         */
+        FILES,
+        /**
+         * Sub-directories directly in the directory.
+         */
+        DIRECTORIES
+    }
 }
@@ -25,8 +25,9 @@ import org.wso2.carbon.uuf.api.reference.FragmentReference;
 import org.wso2.carbon.uuf.api.reference.LayoutReference;
 import org.wso2.carbon.uuf.api.reference.PageReference;
 import org.wso2.carbon.uuf.internal.exception.FileOperationException;
+import org.wso2.carbon.uuf.internal.io.reference.ArtifactAppReference.ListingType;
+import org.wso2.carbon.uuf.internal.io.util.ZipArtifactHandler;
 
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -47,31 +48,17 @@ public class ArtifactComponentReference implements ComponentReference {
     @Override
     public Stream<PageReference> getPages(Set<String> supportedExtensions) {
         Path pages = componentDirectory.resolve(DIR_NAME_PAGES);
-        if (!Files.exists(pages)) {
-            return Stream.<PageReference>empty();
-        }
-        try {
-            return Files.walk(pages)
-                    .filter(path -> Files.isRegularFile(path) && supportedExtensions.contains(getExtension(path)))
-                    .map(path -> new ArtifactPageReference(path, this));
-        } catch (IOException e) {
-            throw new FileOperationException("An error occurred while listing pages in '" + pages + "'.", e);
-        }
+        return appReference.list(pages, ListingType.FILES_RECURSIVELY, "pages")
+                .filter(path -> supportedExtensions.contains(getExtension(path)))
+                .map(path -> new ArtifactPageReference(path, this));
     }
 
     @Override
     public Stream<LayoutReference> getLayouts(Set<String> supportedExtensions) {
         Path layouts = componentDirectory.resolve(DIR_NAME_LAYOUTS);
-        if (!Files.exists(layouts)) {
-            return Stream.<LayoutReference>empty();
-        }
-        try {
-            return Files.list(layouts)
-                    .filter(path -> Files.isRegularFile(path) && supportedExtensions.contains(getExtension(path)))
-                    .map(path -> new ArtifactLayoutReference(path, this));
-        } catch (IOException e) {
-            throw new FileOperationException("An error occurred while listing layouts in '" + layouts + "'.", e);
-        }
+        return appReference.list(layouts, ListingType.FILES, "layouts")
+                .filter(path -> supportedExtensions.contains(getExtension(path)))
+                .map(path -> new ArtifactLayoutReference(path, this));
     }
 
     private String getExtension(Path filePath) {
@@ -81,16 +68,8 @@ public class ArtifactComponentReference implements ComponentReference {
     @Override
     public Stream<FragmentReference> getFragments(Set<String> supportedExtensions) {
         Path fragments = componentDirectory.resolve(DIR_NAME_FRAGMENTS);
-        if (!Files.exists(fragments)) {
-            return Stream.<FragmentReference>empty();
-        }
-        try {
-            return Files.list(fragments)
-                    .filter(Files::isDirectory)
-                    .map(path -> new ArtifactFragmentReference(path, this, supportedExtensions));
-        } catch (IOException e) {
-            throw new FileOperationException("An error occurred while listing fragments in '" + fragments + "'.", e);
-        }
+        return appReference.list(fragments, ListingType.DIRECTORIES, "fragments")
+                .map(path -> new ArtifactFragmentReference(path, this, supportedExtensions));
     }
 
     @Override
@@ -117,21 +96,14 @@ public class ArtifactComponentReference implements ComponentReference {
     @Override
     public Stream<FileReference> getI18nFiles() {
         Path lang = componentDirectory.resolve(DIR_NAME_LANGUAGE);
-        if (!Files.exists(lang)) {
-            return Stream.<FileReference>empty();
-        }
-        try {
-            return Files.list(lang)
-                    .filter(path -> Files.isRegularFile(path) && "properties".equals(getExtension(path)))
-                    .map(path -> new ArtifactFileReference(path, appReference));
-        } catch (IOException e) {
-            throw new FileOperationException("An error occurred while listing language files in '" + lang + "'.", e);
-        }
+        return appReference.list(lang, ListingType.FILES, "language files")
+                .filter(path -> "properties".equals(getExtension(path)))
+                .map(path -> new ArtifactFileReference(path, appReference));
     }
 
     @Override
     public String getPath() {
-        return componentDirectory.toString();
+        return ZipArtifactHandler.toPathString(componentDirectory);
     }
 
     Path getDirectory() {
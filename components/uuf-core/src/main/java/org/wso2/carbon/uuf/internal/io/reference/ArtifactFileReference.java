@@ -21,9 +21,11 @@ package org.wso2.carbon.uuf.internal.io.reference;
 import org.apache.commons.io.FilenameUtils;
 import org.wso2.carbon.uuf.api.reference.FileReference;
 import org.wso2.carbon.uuf.internal.exception.FileOperationException;
+import org.wso2.carbon.uuf.internal.io.util.ZipArtifactHandler;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -71,6 +73,9 @@ public class ArtifactFileReference implements FileReference {
 
     @Override
     public String getAbsolutePath() {
+        if (path.getFileSystem() != FileSystems.getDefault()) {
+            return ZipArtifactHandler.toPathString(path); // File is in a zip artifact.
+        }
         try {
             return path.toRealPath().toString();
         } catch (IOException e) {
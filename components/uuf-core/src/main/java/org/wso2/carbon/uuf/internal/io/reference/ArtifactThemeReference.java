@@ -21,6 +21,7 @@ package org.wso2.carbon.uuf.internal.io.reference;
 import org.wso2.carbon.uuf.api.reference.FileReference;
 import org.wso2.carbon.uuf.api.reference.ThemeReference;
 import org.wso2.carbon.uuf.internal.exception.FileOperationException;
+import org.wso2.carbon.uuf.internal.io.util.ZipArtifactHandler;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -55,6 +56,6 @@ public class ArtifactThemeReference implements ThemeReference {
 
     @Override
     public String getPath() {
-        return themeDirectory.toString();
+        return ZipArtifactHandler.toPathString(themeDirectory);
     }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.io.util;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.Set;
+
+/**
+ * Creates directories that only the current user can access, for files that must not be read or planted by other
+ * local users (e.g. session logs and app snapshots in the shared temporary directory).
+ * <p>
+ * On file systems without POSIX permissions (e.g. on Windows) directories are created with the default permissions.
+ *
+ * @since 1.0.0
+ */
+public class PrivateDirectories {
+
+    private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY = PosixFilePermissions.fromString("rwx------");
+    private static final Set<PosixFilePermission> OWNER_ONLY_FILE = PosixFilePermissions.fromString("rw-------");
+
+    private PrivateDirectories() {
+    }
+
+    /**
+     * Creates the given directory, and its missing parents, so that only the current user can access it. If the
+     * directory already exists, it must be owned by the current user and its permissions are restricted to the owner.
+     *
+     * @param directory directory to create
+     * @return the given directory
+     * @throws IOException if the directory cannot be created, or if it exists and is not owned by the current user
+     */
+    public static Path create(Path directory) throws IOException {
+        if (!isPosix(directory.getFileSystem())) {
+            return Files.createDirectories(directory);
+        }
+
+        if (Files.notExists(directory, LinkOption.NOFOLLOW_LINKS)) {
+            Files.createDirectories(directory.toAbsolutePath().getParent());
+            try {
+                Files.createDirectory(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIRECTORY));
+            } catch (FileAlreadyExistsException e) {
+                // Created concurrently; verified below.
+            }
+        }
+
+        PosixFileAttributes attributes = Files.readAttributes(directory, PosixFileAttributes.class,
+                                                              LinkOption.NOFOLLOW_LINKS);
+        if (!attributes.isDirectory()) {
+            throw new IOException("'" + directory + "' is not a directory.");
+        }
+        UserPrincipal currentUser = directory.getFileSystem().getUserPrincipalLookupService()
+                .lookupPrincipalByName(System.getProperty("user.name"));
+        if (!attributes.owner().equals(currentUser)) {
+            throw new IOException("Directory '" + directory + "' is owned by '" + attributes.owner().getName() +
+                                          "' instead of the current user '" + currentUser.getName() + "'.");
+        }
+        if (!attributes.permissions().equals(OWNER_ONLY_DIRECTORY)) {
+            Files.setPosixFilePermissions(directory, OWNER_ONLY_DIRECTORY);
+        }
+        return directory;
+    }
+
+    /**
+     * Returns the attributes to create a file that only the current user can read and write.
+     *
+     * @param fileSystem file system the file is created in
+     * @return file attributes for an owner-only file, empty if the file system does not support POSIX permissions
+     */
+    public static FileAttribute<?>[] ownerOnlyFileAttributes(FileSystem fileSystem) {
+        return isPosix(fileSystem) ?
+                new FileAttribute<?>[]{PosixFilePermissions.asFileAttribute(OWNER_ONLY_FILE)} :
+                new FileAttribute<?>[0];
+    }
+
+    private static boolean isPosix(FileSystem fileSystem) {
+        return fileSystem.supportedFileAttributeViews().contains("posix");
+    }
+}
@@ -27,19 +27,40 @@ import org.wso2.carbon.uuf.internal.exception.FileOperationException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Enumeration;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 public class ZipArtifactHandler {
 
     private static final String ZIP_FILE_EXTENSION = "zip";
+    private static final String ZIP_FILE_SYSTEM_URI_SCHEME = "jar:";
+    private static final String MANIFEST_FILE_EXTENSION = ".manifest";
+    private static final String MANIFEST_KEY_ARCHIVE_HASH = "archive.hash";
     private static final Path TEMP_DIRECTORY = Paths.get(System.getProperty("java.io.tmpdir")).resolve("uufapps");
     private static final Logger LOGGER = LoggerFactory.getLogger(ZipArtifactHandler.class);
+    private static final Map<Path, OpenedArtifact> OPENED_ARTIFACTS = new ConcurrentHashMap<>();
 
     public static boolean isZipArtifact(Path appPath) {
         return ZIP_FILE_EXTENSION.equals(FilenameUtils.getExtension(appPath.getFileName().toString()));
@@ -72,19 +93,19 @@ public class ZipArtifactHandler {
         }
     }
 
+    /**
+     * Extracts the given zip artifact into {@code <java.io.tmpdir>/uufapps} directory. A manifest of the CRC and size
+     * of each entry is recorded for every extraction, so that an unchanged artifact is not extracted again and only the
+     * changed entries of a changed artifact are re-written. Hence unchanged files keep their last modified times.
+     *
+     * @param appName name of the app
+     * @param zipFile zip app
+     * @return path to the extracted app directory
+     * @throws FileOperationException I/O error
+     */
     public static Path unzip(String appName, Path zipFile) {
         Path appDirectory = TEMP_DIRECTORY.resolve(appName);
-        if (Files.exists(appDirectory)) {
-            /* A directory already exists in the tmp folder with the same app name, delete it before unzipping the
-            new app. */
-            try {
-                FileUtils.deleteDirectory(appDirectory.toFile());
-            } catch (IOException e) {
-                throw new FileOperationException("An error occurred while deleting directory '" + appDirectory + "'.",
-                                                 e);
-            }
-            LOGGER.debug("Removed the existing app directory '{}' before extracting app '{}'.", appDirectory, appName);
-        }
+        Path manifestFile = TEMP_DIRECTORY.resolve(appName + MANIFEST_FILE_EXTENSION);
 
         ZipFile zip;
         try {
@@ -93,24 +114,33 @@ public class ZipArtifactHandler {
             throw new FileOperationException("Cannot open zip artifact '" + zipFile + "' to extract.", e);
         }
         try {
-            Enumeration<? extends ZipEntry> zipEntries = zip.entries();
-            while (zipEntries.hasMoreElements()) {
-                ZipEntry zipEntry = zipEntries.nextElement();
-                if (zipEntry.isDirectory()) {
-                    createDirectory(TEMP_DIRECTORY.resolve(zipEntry.getName()));
-                } else {
-                    Path tempFilePath = TEMP_DIRECTORY.resolve(zipEntry.getName());
-                    // Here 'tempFilePath.getParent()' is never null.
-                    createDirectory(tempFilePath.getParent());
-                    try (InputStream inputStream = zip.getInputStream(zipEntry)) {
-                        Files.copy(inputStream, tempFilePath);
-                    } catch (IOException e) {
-                        throw new FileOperationException(
-                                "Cannot copy content of zip entry '" + zipEntry.getName() + "' in zip artifact '" +
-                                        zipFile + "' to temporary file '" + tempFilePath + "'.", e);
-                    }
-                }
+            List<? extends ZipEntry> zipEntries = zip.stream().collect(Collectors.toList());
+            Properties manifest = createManifest(zipEntries);
+            Properties extractedManifest = readManifest(appDirectory, manifestFile);
+            if (manifest.getProperty(MANIFEST_KEY_ARCHIVE_HASH)
+                    .equals(extractedManifest.getProperty(MANIFEST_KEY_ARCHIVE_HASH))) {
+                LOGGER.debug("Zip artifact '{}' of app '{}' is already extracted to '{}'.", zipFile, appName,
+                             appDirectory);
+                return appDirectory;
             }
+
+            // Remove files that are not in the artifact anymore.
+            extractedManifest.stringPropertyNames().stream()
+                    .filter(entryName -> !MANIFEST_KEY_ARCHIVE_HASH.equals(entryName))
+                    .filter(entryName -> !manifest.containsKey(entryName))
+                    .forEach(entryName -> deleteFile(TEMP_DIRECTORY.resolve(entryName)));
+            zipEntries.stream()
+                    .filter(ZipEntry::isDirectory)
+                    .forEach(zipEntry -> createDirectory(TEMP_DIRECTORY.resolve(zipEntry.getName())));
+            List<ZipEntry> changedEntries = zipEntries.stream()
+                    .filter(zipEntry -> !zipEntry.isDirectory())
+                    .filter(zipEntry -> !isExtracted(zipEntry, manifest, extractedManifest))
+                    .collect(Collectors.toList());
+            // ZipFile supports reading multiple entries concurrently.
+            changedEntries.parallelStream().forEach(zipEntry -> extract(zip, zipEntry, zipFile));
+            LOGGER.debug("Extracted {} of {} entries of zip artifact '{}' to '{}'.", changedEntries.size(),
+                         zipEntries.size(), zipFile, appDirectory);
+            writeManifest(manifestFile, manifest);
         } finally {
             // Close zip file.
             IOUtils.closeQuietly(zip);
@@ -119,6 +149,202 @@ public class ZipArtifactHandler {
         return appDirectory;
     }
 
+    /**
+     * Returns the app directory inside the given zip artifact. The zip artifact is opened as a zip file system, hence
+     * files of the app are read straight from the archive without extracting them. If the zip artifact is replaced
+     * (i.e. its last modified time is changed) after it was opened, the file system of the old artifact is closed and
+     * the new artifact is opened.
+     *
+     * @param appName name of the app
+     * @param zipFile zip app
+     * @return path to the app directory in the zip file system of the artifact
+     * @throws FileOperationException I/O error
+     */
+    public static Path getAppDirectory(String appName, Path zipFile) {
+        Path artifact = zipFile.toAbsolutePath().normalize();
+        FileTime lastModifiedTime;
+        try {
+            lastModifiedTime = Files.getLastModifiedTime(artifact);
+        } catch (IOException e) {
+            throw new FileOperationException("Cannot read last modified time of zip artifact '" + artifact + "'.", e);
+        }
+        OpenedArtifact openedArtifact = OPENED_ARTIFACTS.compute(artifact, (path, opened) -> {
+            if (opened != null) {
+                if (opened.fileSystem.isOpen() && opened.lastModifiedTime.equals(lastModifiedTime)) {
+                    return opened;
+                }
+                // Zip artifact is replaced, hence the file system of the old one is stale. Close it to open the new one.
+                IOUtils.closeQuietly(opened.fileSystem);
+            }
+            // Zip file systems created with an URI are registered in the provider, so that 'Paths.get(URI)' works.
+            URI zipFileSystemUri = URI.create(ZIP_FILE_SYSTEM_URI_SCHEME + path.toUri());
+            try {
+                LOGGER.debug("Opening zip artifact '{}' as a zip file system.", path);
+                return new OpenedArtifact(FileSystems.newFileSystem(zipFileSystemUri, Collections.emptyMap()),
+                                          lastModifiedTime);
+            } catch (FileSystemAlreadyExistsException e) {
+                return new OpenedArtifact(FileSystems.getFileSystem(zipFileSystemUri), lastModifiedTime);
+            } catch (IOException e) {
+                throw new FileOperationException("Cannot open zip artifact '" + path + "'.", e);
+            }
+        });
+        return openedArtifact.fileSystem.getPath("/", appName);
+    }
+
+    /**
+     * Returns a path for the given path string. The path string can either be a path in the default file system or a
+     * URI of a path in a zip file system of an opened zip artifact.
+     *
+     * @param path path string
+     * @param more additional strings to be joined to form the path
+     * @return path for the given path string
+     * @see #getAppDirectory(String, Path)
+     */
+    public static Path toPath(String path, String... more) {
+        if (path.startsWith(ZIP_FILE_SYSTEM_URI_SCHEME)) {
+            Path zipPath = Paths.get(URI.create(path));
+            return zipPath.getFileSystem().getPath(zipPath.toString(), more);
+        }
+        return Paths.get(path, more);
+    }
+
+    /**
+     * Returns a string for the given path that can be converted back to the path with {@link #toPath(String,
+     * String...)}.
+     *
+     * @param path path
+     * @return path string
+     */
+    public static String toPathString(Path path) {
+        return (path.getFileSystem() == FileSystems.getDefault()) ? path.toString() : path.toUri().toString();
+    }
+
+    /**
+     * Returns the zip artifact that the given path belongs to.
+     *
+     * @param path path in the zip file system of a zip artifact opened by {@link #getAppDirectory(String, Path)}
+     * @return zip artifact, or an empty optional if the path does not belong to an opened zip artifact
+     */
+    public static Optional<Path> getArtifact(Path path) {
+        FileSystem fileSystem = path.getFileSystem();
+        return OPENED_ARTIFACTS.entrySet().stream()
+                .filter(openedArtifact -> openedArtifact.getValue().fileSystem == fileSystem)
+                .map(Map.Entry::getKey)
+                .findFirst();
+    }
+
+    /**
+     * Closes all zip artifacts opened by {@link #getAppDirectory(String, Path)}.
+     */
+    public static void closeArtifacts() {
+        OPENED_ARTIFACTS.values().forEach(openedArtifact -> IOUtils.closeQuietly(openedArtifact.fileSystem));
+        OPENED_ARTIFACTS.clear();
+    }
+
+    private static Properties createManifest(List<? extends ZipEntry> zipEntries) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new FileOperationException("Cannot compute the hash of a zip artifact.", e);
+        }
+
+        Properties manifest = new Properties();
+        zipEntries.stream()
+                .filter(zipEntry -> !zipEntry.isDirectory())
+                .sorted(Comparator.comparing(ZipEntry::getName))
+                .forEach(zipEntry -> {
+                    String entryChecksum = zipEntry.getCrc() + ":" + zipEntry.getSize();
+                    manifest.setProperty(zipEntry.getName(), entryChecksum);
+                    messageDigest.update((zipEntry.getName() + ":" + entryChecksum + "\n")
+                                                 .getBytes(StandardCharsets.UTF_8));
+                });
+        StringBuilder archiveHash = new StringBuilder();
+        for (byte b : messageDigest.digest()) {
+            archiveHash.append(String.format("%02x", b));
+        }
+        manifest.setProperty(MANIFEST_KEY_ARCHIVE_HASH, archiveHash.toString());
+        return manifest;
+    }
+
+    private static Properties readManifest(Path appDirectory, Path manifestFile) {
+        Properties manifest = new Properties();
+        if (!Files.exists(appDirectory)) {
+            return manifest;
+        }
+        if (Files.exists(manifestFile)) {
+            try (InputStream inputStream = Files.newInputStream(manifestFile)) {
+                manifest.load(inputStream);
+                return manifest;
+            } catch (IOException | IllegalArgumentException e) {
+                LOGGER.warn("Cannot read manifest '{}' of the extracted app '{}'.", manifestFile, appDirectory, e);
+                manifest.clear();
+            }
+        }
+
+        /* A directory already exists in the tmp folder with the same app name but without an usable manifest, delete
+        it before unzipping the new app. */
+        try {
+            FileUtils.deleteDirectory(appDirectory.toFile());
+        } catch (IOException e) {
+            throw new FileOperationException("An error occurred while deleting directory '" + appDirectory + "'.", e);
+        }
+        LOGGER.debug("Removed the existing app directory '{}' before extracting app.", appDirectory);
+        return manifest;
+    }
+
+    private static void writeManifest(Path manifestFile, Properties manifest) {
+        try {
+            // Write to a temporary file first and move it, so that a partially written manifest is never read.
+            Path tempFile = Files.createTempFile(TEMP_DIRECTORY, manifestFile.getFileName().toString(), ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                manifest.store(outputStream, null);
+            }
+            Files.move(tempFile, manifestFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Without a manifest, the app will be fully extracted next time.
+            LOGGER.warn("Cannot write manifest '{}' of the extracted app.", manifestFile, e);
+        }
+    }
+
+    private static boolean isExtracted(ZipEntry zipEntry, Properties manifest, Properties extractedManifest) {
+        String entryName = zipEntry.getName();
+        if (!manifest.getProperty(entryName).equals(extractedManifest.getProperty(entryName))) {
+            return false;
+        }
+        Path extractedFile = TEMP_DIRECTORY.resolve(entryName);
+        try {
+            return Files.isRegularFile(extractedFile) && (Files.size(extractedFile) == zipEntry.getSize());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void extract(ZipFile zip, ZipEntry zipEntry, Path zipFile) {
+        Path tempFilePath = TEMP_DIRECTORY.resolve(zipEntry.getName());
+        // Here 'tempFilePath.getParent()' is never null.
+        createDirectory(tempFilePath.getParent());
+        try (InputStream inputStream = zip.getInputStream(zipEntry)) {
+            Files.copy(inputStream, tempFilePath, StandardCopyOption.REPLACE_EXISTING);
+            if (zipEntry.getTime() != -1) {
+                // Use the time of the entry, so that the file is same as the one in the artifact.
+                Files.setLastModifiedTime(tempFilePath, FileTime.fromMillis(zipEntry.getTime()));
+            }
+        } catch (IOException e) {
+            throw new FileOperationException(
+                    "Cannot copy content of zip entry '" + zipEntry.getName() + "' in zip artifact '" + zipFile +
+                            "' to temporary file '" + tempFilePath + "'.", e);
+        }
+    }
+
+    private static void deleteFile(Path filePath) {
+        try {
+            Files.deleteIfExists(filePath);
+        } catch (IOException e) {
+            throw new FileOperationException("An error occurred while deleting file '" + filePath + "'.", e);
+        }
+    }
+
     private static void createDirectory(Path directoryPath) {
         try {
             Files.createDirectories(directoryPath);
@@ -130,4 +356,20 @@ public class ZipArtifactHandler {
                     "An error occurred when creating directory '" + directoryPath + "'.", e);
         }
     }
+
+    /**
+     * A zip artifact opened as a zip file system, along with the last modified time of the artifact when it was opened.
+     *
+     * @since 1.0.0
+     */
+    private static class OpenedArtifact {
+
+        private final FileSystem fileSystem;
+        private final FileTime lastModifiedTime;
+
+        OpenedArtifact(FileSystem fileSystem, FileTime lastModifiedTime) {
+            this.fileSystem = fileSystem;
+            this.lastModifiedTime = lastModifiedTime;
+        }
+    }
 }
@@ -39,6 +39,7 @@ public interface HttpResponse {
     int STATUS_FORBIDDEN = 403;
     int STATUS_NOT_FOUND = 404;
     int STATUS_INTERNAL_SERVER_ERROR = 500;
+    int STATUS_SERVICE_UNAVAILABLE = 503;
 
     String CONTENT_TYPE_WILDCARD = "*/*";
     String CONTENT_TYPE_TEXT_PLAIN = "text/plain";
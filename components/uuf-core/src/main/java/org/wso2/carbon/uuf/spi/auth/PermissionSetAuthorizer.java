@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.spi.auth;
+
+import org.wso2.carbon.uuf.api.auth.Permission;
+import org.wso2.carbon.uuf.api.auth.User;
+import org.wso2.carbon.uuf.api.exception.AuthorizationException;
+
+import java.util.Set;
+
+/**
+ * An authorizer that can return all the permissions of a user at once.
+ * <p>
+ * A user has a permission if and only if that permission is in the set returned by {@link #getPermissions(User)}.
+ * When the authorization cache of an app is enabled, the permissions of a user are fetched once per cache timeout and
+ * all the permission checks in between are answered from the cached set.
+ *
+ * @since 1.0.0
+ */
+public interface PermissionSetAuthorizer extends Authorizer {
+
+    /**
+     * Returns all the permissions of the given user.
+     *
+     * @param user user whose permissions are returned
+     * @return permissions of the user
+     * @throws AuthorizationException if an error occurs when retrieving permissions
+     */
+    Set<Permission> getPermissions(User user) throws AuthorizationException;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default boolean hasPermission(User user, Permission permission) throws AuthorizationException {
+        return getPermissions(user).contains(permission);
+    }
+}
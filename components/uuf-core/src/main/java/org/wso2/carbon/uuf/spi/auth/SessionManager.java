@@ -70,4 +70,14 @@ public interface SessionManager {
      * @return number of active sessions
      */
     int getCount();
+
+    /**
+     * Closes this session manager and releases its resources. This method is called when the app that uses this
+     * session manager is undeployed, unless this session manager is carried over to the new version of the app.
+     * Closing an already closed session manager has no effect.
+     *
+     * @throws SessionManagementException if closing the session manager fails
+     */
+    default void close() throws SessionManagementException {
+    }
 }
@@ -21,6 +21,9 @@ package org.wso2.carbon.uuf.api.auth;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * Test cases for session.
  *
@@ -37,4 +40,18 @@ public class SessionTest {
         Assert.assertEquals(Session.isValidSessionId("12345678901234567890123456789012"), true);
         Assert.assertEquals(Session.isValidSessionId("2B2F3466F1937F70B50A610453509EEB"), true);
     }
+
+    @Test
+    public void testSessionIdGeneration() {
+        // Generates IDs beyond the reseed interval (65536 IDs per thread) of the session ID generator.
+        Set<String> sessionIds = new HashSet<>();
+        for (int i = 0; i < 70000; i++) {
+            Session session = new Session(new User("admin", null));
+            Assert.assertTrue(Session.isValidSessionId(session.getSessionId()));
+            Assert.assertEquals(session.getCsrfToken().length(), Session.SESSION_ID_LENGTH * 2);
+            Assert.assertNotEquals(session.getCsrfToken(), session.getSessionId());
+            Assert.assertTrue(sessionIds.add(session.getSessionId()),
+                              "Session ID '" + session.getSessionId() + "' is generated twice.");
+        }
+    }
 }
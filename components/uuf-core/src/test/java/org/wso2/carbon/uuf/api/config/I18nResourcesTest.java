@@ -76,4 +76,41 @@ public class I18nResourcesTest {
         I18nResources i18nResources = createI18nResources();
         Assert.assertEquals(i18nResources.getLocale(localeString), expectedLocale);
     }
+
+    @Test
+    public void testGetMessage() {
+        I18nResources i18nResources = createI18nResources();
+        Assert.assertEquals(i18nResources.getMessage(Locale.FRENCH, MESSAGE_KEY_HELLO, null, "default"), "Bonjour");
+        Assert.assertEquals(i18nResources.getMessage(Locale.FRENCH, MESSAGE_KEY_HELLO_NAME, new Object[]{"Alice"},
+                                                     "default"), "Bonjour Alice");
+        Assert.assertEquals(i18nResources.getMessage(Locale.ENGLISH, MESSAGE_KEY_HELLO_NAME, new Object[]{1000},
+                                                     "default"), "Hello 1,000");
+        Assert.assertEquals(i18nResources.getMessage(Locale.FRENCH, "test.unknown", null, "default"), "default");
+        Assert.assertEquals(i18nResources.getMessage(Locale.JAPANESE, MESSAGE_KEY_HELLO, null, "default"), "default");
+    }
+
+    @Test
+    public void testGetMessageFromParentLocale() {
+        I18nResources i18nResources = createI18nResources();
+        Properties canadianFrenchMessages = new Properties();
+        canadianFrenchMessages.put(MESSAGE_KEY_HELLO_NAME, "Allô {0}");
+        i18nResources.addI18nResource(Locale.CANADA_FRENCH, canadianFrenchMessages);
+
+        Assert.assertEquals(i18nResources.getMessage(Locale.CANADA_FRENCH, MESSAGE_KEY_HELLO, null, "default"),
+                            "Bonjour");
+        Assert.assertEquals(i18nResources.getMessage(Locale.CANADA_FRENCH, MESSAGE_KEY_HELLO_NAME,
+                                                     new Object[]{"Alice"}, "default"), "Allô Alice");
+        Assert.assertEquals(i18nResources.getMessage(Locale.FRANCE, MESSAGE_KEY_HELLO, null, "default"), "Bonjour");
+    }
+
+    @Test
+    public void testGetMessageWithFormattedParams() {
+        I18nResources i18nResources = new I18nResources();
+        Properties messages = new Properties();
+        messages.put("test.items", "{0} has {1,number,integer} item(s) in ''{2}''");
+        i18nResources.addI18nResource(Locale.ENGLISH, messages);
+
+        Assert.assertEquals(i18nResources.getMessage(Locale.ENGLISH, "test.items", new Object[]{"Bob", 3, "cart"},
+                                                     "default"), "Bob has 3 item(s) in 'cart'");
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.core;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test cases for URI pattern set.
+ *
+ * @since 1.0.0
+ */
+public class UriPattenSetTest {
+
+    private static UriPattenSet createUriPattenSet(String... uriPatterns) {
+        List<UriPatten> uriPattens = Arrays.stream(uriPatterns).map(UriPatten::new).collect(Collectors.toList());
+        return new UriPattenSet(uriPattens);
+    }
+
+    @DataProvider
+    public Object[][] matchingUriPatterns() {
+        return new UriPattenTest().matchingUriPatterns();
+    }
+
+    @DataProvider
+    public Object[][] unmatchingUriPatterns() {
+        return new UriPattenTest().unmatchingUriPatterns();
+    }
+
+    @Test(dataProvider = "matchingUriPatterns")
+    public void testMatching(String uriPattern, String uri) {
+        Assert.assertTrue(createUriPattenSet(uriPattern).matches(uri));
+    }
+
+    @Test(dataProvider = "unmatchingUriPatterns")
+    public void testUnmatching(String uriPattern, String uri) {
+        Assert.assertFalse(createUriPattenSet(uriPattern).matches(uri));
+    }
+
+    @Test
+    public void testMatchingAnyPattern() {
+        UriPattenSet uriPattenSet = createUriPattenSet("/a", "/b/index", "/c/{x}", "/d/{+x}", "/e{x}f");
+        for (String uri : Arrays.asList("/a", "/b/", "/b/index", "/c/1", "/d/1/2", "/e1f")) {
+            Assert.assertTrue(uriPattenSet.matches(uri), uri + " should match.");
+        }
+        for (String uri : Arrays.asList("/", "/a/", "/b", "/c/1/2", "/d/", "/ef", "/x")) {
+            Assert.assertFalse(uriPattenSet.matches(uri), uri + " should not match.");
+        }
+    }
+
+    @Test
+    public void testEmptySet() {
+        Assert.assertFalse(UriPattenSet.empty().matches("/"));
+        Assert.assertFalse(new UriPattenSet(Collections.emptyList()).matches("/a"));
+    }
+}
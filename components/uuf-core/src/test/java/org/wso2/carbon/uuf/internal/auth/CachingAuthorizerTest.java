@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.auth;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.api.auth.CachingAuthorizer;
+import org.wso2.carbon.uuf.api.auth.Permission;
+import org.wso2.carbon.uuf.api.auth.User;
+import org.wso2.carbon.uuf.spi.auth.PermissionSetAuthorizer;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for the caching authorizer.
+ *
+ * @since 1.0.0
+ */
+public class CachingAuthorizerTest {
+
+    private static final Permission READ = new Permission("/resource", "read");
+    private static final Permission WRITE = new Permission("/resource", "write");
+
+    @Test
+    public void testPermissionSetCaching() throws Exception {
+        AtomicInteger lookups = new AtomicInteger();
+        Set<Permission> permissions = new HashSet<>(Collections.singleton(READ));
+        PermissionSetAuthorizer authorizer = user -> {
+            lookups.incrementAndGet();
+            return new HashSet<>(permissions);
+        };
+        CachingAuthorizer cachingAuthorizer = new CachingAuthorizer(authorizer, 60000L);
+        User user = new User("admin", null);
+
+        Assert.assertTrue(cachingAuthorizer.hasPermission(user, READ));
+        Assert.assertFalse(cachingAuthorizer.hasPermission(user, WRITE));
+        Assert.assertTrue(cachingAuthorizer.hasPermission(user, READ));
+        Assert.assertEquals(lookups.get(), 1);
+
+        permissions.add(WRITE);
+        Assert.assertFalse(cachingAuthorizer.hasPermission(user, WRITE));
+        cachingAuthorizer.invalidate(user);
+        Assert.assertTrue(cachingAuthorizer.hasPermission(user, WRITE));
+        Assert.assertEquals(lookups.get(), 2);
+    }
+
+    @Test
+    public void testDecisionCaching() throws Exception {
+        AtomicInteger lookups = new AtomicInteger();
+        CachingAuthorizer cachingAuthorizer = new CachingAuthorizer((user, permission) -> {
+            lookups.incrementAndGet();
+            return permission.equals(READ);
+        }, 60000L);
+        User user = new User("admin", null);
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(cachingAuthorizer.hasPermission(user, READ));
+            Assert.assertFalse(cachingAuthorizer.hasPermission(user, WRITE));
+        }
+        Assert.assertEquals(lookups.get(), 2);
+    }
+}
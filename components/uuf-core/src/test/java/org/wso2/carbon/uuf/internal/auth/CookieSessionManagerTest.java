@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.auth;
+
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.api.auth.CookieSessionManager;
+import org.wso2.carbon.uuf.api.auth.Session;
+import org.wso2.carbon.uuf.api.auth.User;
+import org.wso2.carbon.uuf.api.config.Configuration;
+import org.wso2.carbon.uuf.spi.HttpRequest;
+import org.wso2.carbon.uuf.spi.HttpResponse;
+import org.wso2.carbon.uuf.spi.auth.SessionManager;
+
+import java.util.Collections;
+import java.util.List;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for the cookie session manager.
+ *
+ * @since 1.0.0
+ */
+public class CookieSessionManagerTest {
+
+    private static final String SESSION_COOKIE_NAME = "UUFSESSION";
+    private static final List<SecretKey> KEYS = Collections.singletonList(new SecretKeySpec(new byte[16], "AES"));
+
+    private static SessionManager createSessionManager(String appName) {
+        Configuration configuration = new Configuration();
+        configuration.setSessionTimeout(600L);
+        return new CookieSessionManager(appName, configuration, KEYS);
+    }
+
+    private static String createSessionCookie(SessionManager sessionManager, Session[] session) throws Exception {
+        HttpRequest request = mock(HttpRequest.class);
+        HttpResponse response = mock(HttpResponse.class);
+        when(request.getContextPath()).thenReturn("/test");
+        session[0] = sessionManager.createSession(new User("admin", null), request, response);
+        ArgumentCaptor<String> cookie = ArgumentCaptor.forClass(String.class);
+        verify(response).addCookie(eq(SESSION_COOKIE_NAME), cookie.capture());
+        return cookie.getValue().substring(0, cookie.getValue().indexOf(';'));
+    }
+
+    @Test
+    public void testSessionInAnotherNode() throws Exception {
+        Session[] session = new Session[1];
+        String sessionCookie = createSessionCookie(createSessionManager("test-app"), session);
+
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.getCookieValue(SESSION_COOKIE_NAME)).thenReturn(sessionCookie);
+        Session restoredSession = createSessionManager("test-app").getSession(request, mock(HttpResponse.class))
+                .orElse(null);
+        Assert.assertEquals(restoredSession, session[0]);
+        Assert.assertEquals(restoredSession.getCsrfToken(), session[0].getCsrfToken());
+        Assert.assertEquals(restoredSession.getUser().getId(), "admin");
+    }
+
+    @Test
+    public void testThemeChangeInAnotherNode() throws Exception {
+        SessionManager node1 = createSessionManager("test-app");
+        SessionManager node2 = createSessionManager("test-app");
+        String sessionCookie = createSessionCookie(node1, new Session[1]);
+
+        // Node 2 changes the theme of the session after getting it.
+        HttpRequest request = mock(HttpRequest.class);
+        HttpResponse response = mock(HttpResponse.class);
+        when(request.getContextPath()).thenReturn("/test");
+        when(request.getCookieValue(SESSION_COOKIE_NAME)).thenReturn(sessionCookie);
+        node2.getSession(request, response).get().setThemeName("dark-theme");
+        ArgumentCaptor<String> cookie = ArgumentCaptor.forClass(String.class);
+        verify(response).addCookie(eq(SESSION_COOKIE_NAME), cookie.capture());
+        String changedSessionCookie = cookie.getValue().substring(0, cookie.getValue().indexOf(';'));
+
+        // Node 1 sees the change with the cookie issued by node 2.
+        when(request.getCookieValue(SESSION_COOKIE_NAME)).thenReturn(changedSessionCookie);
+        Session session = node1.getSession(request, mock(HttpResponse.class)).get();
+        Assert.assertEquals(session.getThemeName(), "dark-theme");
+
+        // The cached session of the old cookie is not changed by node 2.
+        when(request.getCookieValue(SESSION_COOKIE_NAME)).thenReturn(sessionCookie);
+        Assert.assertNull(node2.getSession(request, mock(HttpResponse.class)).get().getThemeName());
+    }
+
+    @Test
+    public void testTamperedSessionCookie() throws Exception {
+        SessionManager sessionManager = createSessionManager("test-app");
+        String sessionCookie = createSessionCookie(sessionManager, new Session[1]);
+        char[] tamperedCookie = sessionCookie.toCharArray();
+        tamperedCookie[20] = (tamperedCookie[20] == 'A') ? 'B' : 'A';
+
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.getCookieValue(SESSION_COOKIE_NAME)).thenReturn(new String(tamperedCookie));
+        Assert.assertFalse(sessionManager.getSession(request, mock(HttpResponse.class)).isPresent());
+
+        // A cookie of an app is not valid for another app.
+        when(request.getCookieValue(SESSION_COOKIE_NAME)).thenReturn(sessionCookie);
+        Assert.assertFalse(createSessionManager("other-app").getSession(request, mock(HttpResponse.class))
+                                   .isPresent());
+    }
+
+    @Test
+    public void testCount() throws Exception {
+        SessionManager sessionManager = createSessionManager("test-app");
+        String sessionCookie = createSessionCookie(sessionManager, new Session[1]);
+        String otherSessionCookie = createSessionCookie(sessionManager, new Session[1]);
+        Assert.assertEquals(sessionManager.getCount(), 0);
+
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.getCookieValue(SESSION_COOKIE_NAME)).thenReturn(sessionCookie);
+        sessionManager.getSession(request, mock(HttpResponse.class));
+        sessionManager.getSession(request, mock(HttpResponse.class));
+        Assert.assertEquals(sessionManager.getCount(), 1);
+        when(request.getCookieValue(SESSION_COOKIE_NAME)).thenReturn(otherSessionCookie);
+        sessionManager.getSession(request, mock(HttpResponse.class));
+        Assert.assertEquals(sessionManager.getCount(), 2);
+
+        sessionManager.destroySession(request, mock(HttpResponse.class));
+        Assert.assertEquals(sessionManager.getCount(), 1);
+        sessionManager.close();
+        Assert.assertEquals(sessionManager.getCount(), 0);
+    }
+}
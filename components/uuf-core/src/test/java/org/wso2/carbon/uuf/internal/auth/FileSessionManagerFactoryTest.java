@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.auth;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.api.auth.FileSessionManager;
+import org.wso2.carbon.uuf.api.auth.FileSessionManagerFactory;
+import org.wso2.carbon.uuf.api.config.Configuration;
+import org.wso2.carbon.uuf.spi.auth.SessionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+/**
+ * Test cases for the file session manager factory.
+ *
+ * @since 1.0.0
+ */
+public class FileSessionManagerFactoryTest {
+
+    private static Configuration createConfiguration(long sessionTimeout) {
+        Configuration configuration = new Configuration();
+        configuration.setSessionTimeout(sessionTimeout);
+        return configuration;
+    }
+
+    private static void deleteSessionLog(String appName) throws IOException {
+        Files.deleteIfExists(Paths.get(System.getProperty("java.io.tmpdir"), "uufsessions", appName + ".sessions"));
+    }
+
+    @Test
+    public void testSessionManagerReplacedWhenConfigurationChanges() throws Exception {
+        String appName = "test-app-" + UUID.randomUUID();
+        SessionManager sessionManager = new FileSessionManagerFactory()
+                .getSessionManager(appName, createConfiguration(600L));
+        SessionManager sameSessionManager = new FileSessionManagerFactory()
+                .getSessionManager(appName, createConfiguration(600L));
+        Assert.assertSame(sameSessionManager, sessionManager);
+
+        SessionManager newSessionManager = new FileSessionManagerFactory()
+                .getSessionManager(appName, createConfiguration(1200L));
+        try {
+            Assert.assertNotSame(newSessionManager, sessionManager);
+            Assert.assertTrue(((FileSessionManager) sessionManager).isClosed(),
+                              "Replaced session manager is not closed.");
+        } finally {
+            newSessionManager.close();
+            deleteSessionLog(appName);
+        }
+    }
+
+    @Test
+    public void testClosedSessionManagerReplaced() throws Exception {
+        String appName = "test-app-" + UUID.randomUUID();
+        FileSessionManagerFactory sessionManagerFactory = new FileSessionManagerFactory();
+        SessionManager sessionManager = sessionManagerFactory.getSessionManager(appName, createConfiguration(600L));
+        sessionManager.close();
+
+        SessionManager newSessionManager = sessionManagerFactory.getSessionManager(appName,
+                                                                                   createConfiguration(600L));
+        try {
+            Assert.assertNotSame(newSessionManager, sessionManager);
+            Assert.assertFalse(((FileSessionManager) newSessionManager).isClosed());
+        } finally {
+            newSessionManager.close();
+            deleteSessionLog(appName);
+        }
+    }
+}
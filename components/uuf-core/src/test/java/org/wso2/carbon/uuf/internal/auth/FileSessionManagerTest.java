@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.auth;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.api.auth.FileSessionManager;
+import org.wso2.carbon.uuf.api.auth.Session;
+import org.wso2.carbon.uuf.api.auth.User;
+import org.wso2.carbon.uuf.api.config.Configuration;
+import org.wso2.carbon.uuf.spi.HttpRequest;
+import org.wso2.carbon.uuf.spi.HttpResponse;
+
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for the file session manager.
+ *
+ * @since 1.0.0
+ */
+public class FileSessionManagerTest {
+
+    private static final String SESSION_COOKIE_NAME = "UUFSESSIONID";
+
+    private static FileSessionManager createSessionManager(Path sessionsDirectory) {
+        return createSessionManager(sessionsDirectory, 0);
+    }
+
+    private static FileSessionManager createSessionManager(Path sessionsDirectory, int maxSessions) {
+        Configuration configuration = new Configuration();
+        configuration.setSessionTimeout(600L);
+        configuration.setMaxSessions(maxSessions);
+        return new FileSessionManager("test-app", configuration, sessionsDirectory);
+    }
+
+    private static HttpRequest createRequest() {
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.getContextPath()).thenReturn("/test");
+        return request;
+    }
+
+    @Test
+    public void testSessionsSurviveRestart() throws Exception {
+        Path sessionsDirectory = Files.createTempDirectory("uufsessions-test");
+        HttpRequest request = mock(HttpRequest.class);
+        HttpResponse response = mock(HttpResponse.class);
+        when(request.getContextPath()).thenReturn("/test");
+
+        Map<String, Serializable> properties = new HashMap<>();
+        properties.put("name", "Alice");
+        properties.put("age", 30);
+        FileSessionManager sessionManager = createSessionManager(sessionsDirectory);
+        Session session = sessionManager.createSession(new User("alice", properties), request, response);
+        Session destroyedSession = sessionManager.createSession(new User("bob", null), request, response);
+        when(request.getCookieValue(SESSION_COOKIE_NAME)).thenReturn(destroyedSession.getSessionId());
+        Assert.assertTrue(sessionManager.destroySession(request, response));
+        sessionManager.close();
+
+        sessionManager = createSessionManager(sessionsDirectory);
+        try {
+            Assert.assertEquals(sessionManager.getCount(), 1);
+            when(request.getCookieValue(SESSION_COOKIE_NAME)).thenReturn(session.getSessionId());
+            Session recoveredSession = sessionManager.getSession(request, response).orElse(null);
+            Assert.assertEquals(recoveredSession, session);
+            Assert.assertEquals(recoveredSession.getCsrfToken(), session.getCsrfToken());
+            Assert.assertEquals(recoveredSession.getUser().getId(), "alice");
+            Assert.assertEquals(recoveredSession.getUser().getProperty("name"), "Alice");
+            Assert.assertEquals(recoveredSession.getUser().getProperty("age"), 30);
+
+            when(request.getCookieValue(SESSION_COOKIE_NAME)).thenReturn(destroyedSession.getSessionId());
+            Assert.assertFalse(sessionManager.getSession(request, response).isPresent());
+        } finally {
+            sessionManager.close();
+        }
+    }
+
+    @Test
+    public void testThemeChangePersisted() throws Exception {
+        Path sessionsDirectory = Files.createTempDirectory("uufsessions-test");
+        HttpRequest request = createRequest();
+        HttpResponse response = mock(HttpResponse.class);
+
+        FileSessionManager sessionManager = createSessionManager(sessionsDirectory);
+        Session session = sessionManager.createSession(new User("alice", null), request, response);
+        when(request.getCookieValue(SESSION_COOKIE_NAME)).thenReturn(session.getSessionId());
+        // Change the theme right after the session is created, i.e. well within the touch interval.
+        sessionManager.getSession(request, response).get().setThemeName("org.wso2.carbon.uuf.sample.theme");
+        sessionManager.close();
+
+        sessionManager = createSessionManager(sessionsDirectory);
+        try {
+            Session recoveredSession = sessionManager.getSession(request, response).orElse(null);
+            Assert.assertNotNull(recoveredSession);
+            Assert.assertEquals(recoveredSession.getThemeName(), "org.wso2.carbon.uuf.sample.theme");
+        } finally {
+            sessionManager.close();
+        }
+    }
+
+    @Test
+    public void testMaxSessions() throws Exception {
+        Path sessionsDirectory = Files.createTempDirectory("uufsessions-test");
+        HttpRequest request = createRequest();
+        HttpResponse response = mock(HttpResponse.class);
+
+        FileSessionManager sessionManager = createSessionManager(sessionsDirectory, 2);
+        Session eldestSession = sessionManager.createSession(new User("alice", null), request, response);
+        Thread.sleep(5);
+        Session secondSession = sessionManager.createSession(new User("bob", null), request, response);
+        Thread.sleep(5);
+        Session newestSession = sessionManager.createSession(new User("carol", null), request, response);
+        Assert.assertEquals(sessionManager.getCount(), 2);
+        when(request.getCookieValue(SESSION_COOKIE_NAME)).thenReturn(eldestSession.getSessionId());
+        Assert.assertFalse(sessionManager.getSession(request, response).isPresent(),
+                           "Least recently used session is not evicted.");
+        sessionManager.close();
+
+        sessionManager = createSessionManager(sessionsDirectory, 2);
+        try {
+            Assert.assertEquals(sessionManager.getCount(), 2, "Eviction is not persisted.");
+            when(request.getCookieValue(SESSION_COOKIE_NAME)).thenReturn(secondSession.getSessionId());
+            Assert.assertTrue(sessionManager.getSession(request, response).isPresent());
+            when(request.getCookieValue(SESSION_COOKIE_NAME)).thenReturn(newestSession.getSessionId());
+            Assert.assertTrue(sessionManager.getSession(request, response).isPresent());
+        } finally {
+            sessionManager.close();
+        }
+    }
+
+    @Test
+    public void testPrivateSessionsDirectory() throws Exception {
+        Path parentDirectory = Files.createTempDirectory("uufsessions-test");
+        if (!parentDirectory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return; // Permissions cannot be checked on this file system.
+        }
+        Path newDirectory = parentDirectory.resolve("new");
+        createSessionManager(newDirectory).close();
+        Assert.assertEquals(PosixFilePermissions.toString(Files.getPosixFilePermissions(newDirectory)), "rwx------");
+        Assert.assertEquals(PosixFilePermissions.toString(
+                Files.getPosixFilePermissions(newDirectory.resolve("test-app.sessions"))), "rw-------");
+
+        Path sharedDirectory = Files.createDirectory(parentDirectory.resolve("shared"));
+        Files.setPosixFilePermissions(sharedDirectory, PosixFilePermissions.fromString("rwxrwxrwx"));
+        createSessionManager(sharedDirectory).close();
+        Assert.assertEquals(PosixFilePermissions.toString(Files.getPosixFilePermissions(sharedDirectory)),
+                            "rwx------");
+    }
+}
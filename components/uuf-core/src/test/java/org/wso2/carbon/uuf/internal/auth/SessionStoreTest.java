@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.auth;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.api.auth.Session;
+import org.wso2.carbon.uuf.api.auth.User;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test cases for the session store.
+ *
+ * @since 1.0.0
+ */
+public class SessionStoreTest {
+
+    private static final long TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+
+    @Test
+    public void testPutGetAndRemove() {
+        SessionStore sessionStore = new SessionStore(TIMEOUT, 0, new AtomicLong()::get);
+        Session session = new Session(mock(User.class));
+        sessionStore.put(session);
+        Assert.assertEquals(sessionStore.get(session.getSessionId()), session);
+        Assert.assertEquals(sessionStore.size(), 1);
+
+        Assert.assertTrue(sessionStore.remove(session.getSessionId()));
+        Assert.assertNull(sessionStore.get(session.getSessionId()));
+        Assert.assertFalse(sessionStore.remove(session.getSessionId()));
+        Assert.assertEquals(sessionStore.size(), 0);
+    }
+
+    @Test
+    public void testExpiry() {
+        AtomicLong clock = new AtomicLong();
+        SessionStore sessionStore = new SessionStore(TIMEOUT, 0, clock::get);
+        Session idleSession = new Session(mock(User.class));
+        Session activeSession = new Session(mock(User.class));
+        sessionStore.put(idleSession);
+        sessionStore.put(activeSession);
+
+        // Keep accessing one session for longer than the timeout.
+        for (int i = 0; i < 20; i++) {
+            clock.addAndGet(TIMEOUT / 10);
+            Assert.assertEquals(sessionStore.get(activeSession.getSessionId()), activeSession);
+        }
+        Assert.assertEquals(sessionStore.size(), 1, "Idle session is not expired.");
+        Assert.assertNull(sessionStore.get(idleSession.getSessionId()));
+
+        clock.addAndGet(TIMEOUT);
+        Assert.assertEquals(sessionStore.size(), 0, "Active session is not expired after it became idle.");
+        Assert.assertNull(sessionStore.get(activeSession.getSessionId()));
+    }
+
+    @Test
+    public void testExpiryBeyondTimingWheel() {
+        long timeout = TimeUnit.DAYS.toMillis(400);
+        AtomicLong clock = new AtomicLong();
+        SessionStore sessionStore = new SessionStore(timeout, 0, clock::get);
+        Session session = new Session(mock(User.class));
+        sessionStore.put(session);
+
+        clock.addAndGet(timeout - TimeUnit.DAYS.toMillis(1));
+        Assert.assertEquals(sessionStore.size(), 1);
+        clock.addAndGet(TimeUnit.DAYS.toMillis(2));
+        Assert.assertEquals(sessionStore.size(), 0);
+    }
+
+    @Test
+    public void testLruEviction() {
+        AtomicLong clock = new AtomicLong();
+        SessionStore sessionStore = new SessionStore(TIMEOUT, 8, clock::get);
+        Session[] sessions = new Session[8];
+        for (int i = 0; i < sessions.length; i++) {
+            sessions[i] = new Session(mock(User.class));
+            sessionStore.put(sessions[i]);
+            clock.addAndGet(TimeUnit.SECONDS.toMillis(1));
+        }
+        clock.addAndGet(TIMEOUT / 2);
+        // Touch the eldest session, so that it becomes the most recently used one.
+        Assert.assertEquals(sessionStore.get(sessions[0].getSessionId()), sessions[0]);
+
+        sessionStore.put(new Session(mock(User.class)));
+        Assert.assertEquals(sessionStore.size(), 8);
+        Assert.assertEquals(sessionStore.get(sessions[0].getSessionId()), sessions[0]);
+        Assert.assertNull(sessionStore.get(sessions[1].getSessionId()), "Least recently used session is not evicted.");
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.deployment;
+
+import com.google.common.collect.Sets;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.api.auth.InMemorySessionManagerFactory;
+import org.wso2.carbon.uuf.api.auth.Permission;
+import org.wso2.carbon.uuf.api.exception.RenderableCreationException;
+import org.wso2.carbon.uuf.api.reference.PageReference;
+import org.wso2.carbon.uuf.core.App;
+import org.wso2.carbon.uuf.core.Component;
+import org.wso2.carbon.uuf.internal.exception.AppCreationException;
+import org.wso2.carbon.uuf.internal.io.deployment.ArtifactAppSnapshotStore;
+import org.wso2.carbon.uuf.internal.io.reference.ArtifactAppReference;
+import org.wso2.carbon.uuf.spi.Renderable;
+import org.wso2.carbon.uuf.spi.RenderableCreator;
+import org.wso2.carbon.uuf.spi.auth.SessionManagerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.wso2.carbon.uuf.internal.deployment.DeploymentTestUtil.write;
+
+/**
+ * Test cases for app creator.
+ *
+ * @since 1.0.0
+ */
+public class AppCreatorTest {
+
+    private Path tempDirectory;
+    private Path appDirectory;
+
+    @BeforeClass
+    public void createApp() throws IOException {
+        tempDirectory = Files.createTempDirectory("uuf-app-creator");
+        appDirectory = DeploymentTestUtil.createApp(tempDirectory);
+    }
+
+    @AfterClass
+    public void deleteApp() throws IOException {
+        DeploymentTestUtil.delete(tempDirectory);
+    }
+
+    private static AppCreator createAppCreator(AppSnapshotStore appSnapshotStore) {
+        return createAppCreator(appSnapshotStore, pageReference -> false);
+    }
+
+    private static AppCreator createAppCreator(AppSnapshotStore appSnapshotStore,
+                                               Function<PageReference, Boolean> failingPages) {
+        RenderableCreator renderableCreator = mock(RenderableCreator.class);
+        when(renderableCreator.getSupportedFileExtensions()).thenReturn(Collections.singleton("hbs"));
+        when(renderableCreator.createPageRenderable(any(), any())).thenAnswer(invocation -> {
+            PageReference pageReference = invocation.getArgument(0);
+            if (failingPages.apply(pageReference)) {
+                throw new RenderableCreationException("Cannot compile page '" + pageReference.getPathPattern() + "'.");
+            }
+            return new RenderableCreator.PageRenderableData(mock(Renderable.class), Permission.ANY_PERMISSION);
+        });
+        ClassLoaderProvider classLoaderProvider = mock(ClassLoaderProvider.class);
+        when(classLoaderProvider.getClassLoader(anyString(), anyString(), any()))
+                .thenReturn(AppCreatorTest.class.getClassLoader());
+        PluginProvider pluginProvider = mock(PluginProvider.class);
+        when(pluginProvider.getPluginInstance(eq(SessionManagerFactory.class), anyString(), any()))
+                .thenReturn(new InMemorySessionManagerFactory());
+        return new AppCreator(Collections.singleton(renderableCreator), classLoaderProvider, pluginProvider,
+                              mock(RestApiDeployer.class), appSnapshotStore);
+    }
+
+    @Test
+    public void testReloadComponentWithAddedPage() throws IOException {
+        AppCreator appCreator = createAppCreator(new ArtifactAppSnapshotStore(tempDirectory.resolve("snapshots")));
+        ArtifactAppReference appReference = new ArtifactAppReference(appDirectory);
+        App app = appCreator.createApp(appReference, null);
+        Component rootComponent = app.getComponents().get(Component.ROOT_COMPONENT_CONTEXT_PATH);
+        Assert.assertTrue(rootComponent.hasPage("/index"));
+        Assert.assertFalse(rootComponent.hasPage("/about"));
+
+        write(appDirectory.resolve("components/root/pages/about.hbs"), "about");
+        App reloadedApp = appCreator.reloadComponent(app, appReference, Component.ROOT_COMPONENT_CONTEXT_PATH);
+        Component reloadedComponent = reloadedApp.getComponents().get(Component.ROOT_COMPONENT_CONTEXT_PATH);
+        Assert.assertTrue(reloadedComponent.hasPage("/index"));
+        Assert.assertTrue(reloadedComponent.hasPage("/about"), "Page added to the component is not reloaded.");
+    }
+
+    @Test
+    public void testSessionManagerCarriedOver() throws IOException {
+        Path configurationFile = appDirectory.resolve("components/configuration.yaml");
+        ArtifactAppReference appReference = new ArtifactAppReference(appDirectory);
+        App app = createAppCreator(new ArtifactAppSnapshotStore(tempDirectory.resolve("snapshots-carry-over")))
+                .createApp(appReference, null);
+
+        App redeployedApp = createAppCreator(new ArtifactAppSnapshotStore(tempDirectory.resolve("snapshots-same")))
+                .createApp(appReference, null, app);
+        Assert.assertSame(redeployedApp.getSessionManager(), app.getSessionManager(),
+                          "Session manager is not carried over when the session configuration is unchanged.");
+
+        write(configurationFile, "theme: null\nsessionManagement:\n  timeout: 60\n");
+        try {
+            App reconfiguredApp = createAppCreator(
+                    new ArtifactAppSnapshotStore(tempDirectory.resolve("snapshots-changed")))
+                    .createApp(appReference, null, app);
+            Assert.assertNotSame(reconfiguredApp.getSessionManager(), app.getSessionManager(),
+                                 "Session manager is carried over although the session configuration is changed.");
+        } finally {
+            write(configurationFile, "theme: null\n");
+        }
+    }
+
+    @Test
+    public void testDependencyAwareCreation() throws IOException {
+        Path appDirectory = createAppWithDependencies(tempDirectory.resolve("dependencies"));
+        App app = createAppCreator(new ArtifactAppSnapshotStore(tempDirectory.resolve("snapshots-dependencies")))
+                .createApp(new ArtifactAppReference(appDirectory), null);
+
+        Map<String, Component> components = app.getComponents();
+        Assert.assertEquals(components.keySet(), Sets.newHashSet("/root", "/foo", "/bar", "/base"));
+        Component base = components.get("/base");
+        Assert.assertTrue(base.getDependencies().isEmpty());
+        Assert.assertEquals(components.get("/foo").getDependencies(), Collections.singleton(base));
+        Assert.assertSame(components.get("/bar").getDependencies().iterator().next(), base,
+                          "Shared dependency is created more than once.");
+        Map<String, Component> rootDependencies = components.get(Component.ROOT_COMPONENT_CONTEXT_PATH)
+                .getDependencies().stream()
+                .collect(toMap(Component::getContextPath, Function.identity()));
+        Assert.assertEquals(rootDependencies.keySet(), Sets.newHashSet("/foo", "/bar"));
+        for (Component component : components.values()) {
+            for (String page : new String[]{"/a", "/b", "/c", "/d", "/e"}) {
+                Assert.assertTrue(component.hasPage(page),
+                                  "Page '" + page + "' of component '" + component.getName() + "' is not created.");
+            }
+        }
+    }
+
+    @Test
+    public void testFirstPageFailureThrown() throws IOException {
+        Path appDirectory = createAppWithDependencies(tempDirectory.resolve("failures"));
+        AppCreator appCreator = createAppCreator(
+                new ArtifactAppSnapshotStore(tempDirectory.resolve("snapshots-failures")),
+                pageReference -> pageReference.getPathPattern().equals("/b") ||
+                        pageReference.getPathPattern().equals("/d"));
+        for (int i = 0; i < 5; i++) {
+            try {
+                appCreator.createApp(new ArtifactAppReference(appDirectory), null);
+                Assert.fail("App is created although its pages cannot be created.");
+            } catch (AppCreationException e) {
+                // Only the base component fails, as the other components depend on it.
+                Assert.assertTrue(e.getMessage().contains("'/b'"),
+                                  "First failure by path is not the thrown one: " + e.getMessage());
+                Assert.assertEquals(e.getSuppressed().length, 1);
+                Assert.assertTrue(e.getSuppressed()[0].getMessage().contains("'/d'"),
+                                  "Second failure is not suppressed: " + e.getSuppressed()[0].getMessage());
+            }
+        }
+    }
+
+    private static Path createAppWithDependencies(Path directory) throws IOException {
+        Path appDirectory = directory.resolve(DeploymentTestUtil.APP_NAME);
+        write(appDirectory.resolve("components/dependency-tree.yaml"),
+              "artifactId: " + DeploymentTestUtil.APP_NAME + "\nversion: 1.0.0\ncontextPath: /test\n" +
+              "dependencies:\n" +
+              "- artifactId: org.wso2.carbon.uuf.sample.foo\n  version: 1.0.0\n  contextPath: /foo\n" +
+              "  dependencies:\n" +
+              "  - artifactId: org.wso2.carbon.uuf.sample.base\n    version: 1.0.0\n    contextPath: /base\n" +
+              "    dependencies: []\n" +
+              "- artifactId: org.wso2.carbon.uuf.sample.bar\n  version: 1.0.0\n  contextPath: /bar\n" +
+              "  dependencies:\n" +
+              "  - artifactId: org.wso2.carbon.uuf.sample.base\n    version: 1.0.0\n    contextPath: /base\n" +
+              "    dependencies: []\n");
+        write(appDirectory.resolve("components/configuration.yaml"), "theme: null\n");
+        for (String component : new String[]{"root", "foo", "bar", "base"}) {
+            write(appDirectory.resolve("components/" + component + "/component.yaml"), "bindings: []\n");
+            for (String page : new String[]{"a", "b", "c", "d", "e"}) {
+                write(appDirectory.resolve("components/" + component + "/pages/" + page + ".hbs"), page);
+            }
+        }
+        return appDirectory;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.deployment;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.api.reference.AppReference;
+import org.wso2.carbon.uuf.core.App;
+import org.wso2.carbon.uuf.internal.exception.ServiceUnavailableException;
+import org.wso2.carbon.uuf.spi.auth.SessionManager;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for app registry.
+ *
+ * @since 1.0.0
+ */
+public class AppRegistryTest {
+
+    private static final String APP_CONTEXT_PATH = "/test";
+
+    private static AppFinder createAppFinder() {
+        AppFinder appFinder = mock(AppFinder.class);
+        when(appFinder.getAppReference(APP_CONTEXT_PATH)).thenReturn(Optional.of(mock(AppReference.class)));
+        return appFinder;
+    }
+
+    private static App createApp() {
+        App app = mock(App.class);
+        when(app.getName()).thenReturn("org.wso2.carbon.uuf.sample.test");
+        when(app.getContextPath()).thenReturn(APP_CONTEXT_PATH);
+        when(app.getSessionManager()).thenReturn(mock(SessionManager.class));
+        return app;
+    }
+
+    private static AppCreator createAppCreator(App app, CountDownLatch creationLatch) {
+        AppCreator appCreator = mock(AppCreator.class);
+        when(appCreator.createApp(any(AppReference.class), eq(APP_CONTEXT_PATH), any())).thenAnswer(invocation -> {
+            creationLatch.await();
+            return app;
+        });
+        return appCreator;
+    }
+
+    @Test
+    public void testServiceUnavailableWhileDeploying() throws Exception {
+        App app = createApp();
+        CountDownLatch creationLatch = new CountDownLatch(1);
+        AppRegistry appRegistry = new AppRegistry(createAppFinder(), createAppCreator(app, creationLatch), null);
+
+        CompletableFuture<Void> deployment = appRegistry.deployApps(Collections.singletonList(APP_CONTEXT_PATH))
+                .get(APP_CONTEXT_PATH);
+        Assert.assertThrows(ServiceUnavailableException.class, () -> appRegistry.acquireApp(APP_CONTEXT_PATH));
+
+        creationLatch.countDown();
+        deployment.get(10, TimeUnit.SECONDS);
+        DeployedApp deployedApp = appRegistry.acquireApp(APP_CONTEXT_PATH);
+        Assert.assertSame(deployedApp.getApp(), app);
+        deployedApp.release();
+    }
+
+    @Test
+    public void testServiceUnavailableWhileWarmingUp() throws Exception {
+        App app = createApp();
+        CountDownLatch creationLatch = new CountDownLatch(0);
+        CountDownLatch warmUpStartedLatch = new CountDownLatch(1);
+        CountDownLatch warmUpLatch = new CountDownLatch(1);
+        AppWarmer appWarmer = mock(AppWarmer.class);
+        doAnswer(invocation -> {
+            warmUpStartedLatch.countDown();
+            warmUpLatch.await();
+            return null;
+        }).when(appWarmer).warmUp(app);
+        AppRegistry appRegistry = new AppRegistry(createAppFinder(), createAppCreator(app, creationLatch), appWarmer);
+
+        CompletableFuture<Void> deployment = appRegistry.deployApps(Collections.singletonList(APP_CONTEXT_PATH))
+                .get(APP_CONTEXT_PATH);
+        Assert.assertTrue(warmUpStartedLatch.await(10, TimeUnit.SECONDS), "App is not warmed up.");
+        // App is created, but it is not published until it is warmed up.
+        Assert.assertThrows(ServiceUnavailableException.class, () -> appRegistry.acquireApp(APP_CONTEXT_PATH));
+
+        warmUpLatch.countDown();
+        deployment.get(10, TimeUnit.SECONDS);
+        verify(appWarmer).warmUp(app);
+        DeployedApp deployedApp = appRegistry.acquireApp(APP_CONTEXT_PATH);
+        Assert.assertSame(deployedApp.getApp(), app);
+        deployedApp.release();
+    }
+
+    @Test
+    public void testSessionManagerClosedWhenNotPublished() throws Exception {
+        App app = createApp();
+        CountDownLatch creationLatch = new CountDownLatch(1);
+        AppRegistry appRegistry = new AppRegistry(createAppFinder(), createAppCreator(app, creationLatch), null);
+
+        CompletableFuture<Void> deployment = appRegistry.deployApps(Collections.singletonList(APP_CONTEXT_PATH))
+                .get(APP_CONTEXT_PATH);
+        appRegistry.clear(); // Deployments that are in progress won't be published.
+        creationLatch.countDown();
+        deployment.get(10, TimeUnit.SECONDS);
+        verify(app.getSessionManager()).close();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.deployment;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.api.exception.UUFRuntimeException;
+import org.wso2.carbon.uuf.core.App;
+import org.wso2.carbon.uuf.core.Component;
+import org.wso2.carbon.uuf.core.Fragment;
+import org.wso2.carbon.uuf.core.Page;
+import org.wso2.carbon.uuf.core.UriPatten;
+import org.wso2.carbon.uuf.spi.HttpRequest;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for app warmer.
+ *
+ * @since 1.0.0
+ */
+public class AppWarmerTest {
+
+    private static Component createComponent(String contextPath, String... pageUriPatterns) {
+        SortedSet<Page> pages = new TreeSet<>(Comparator.comparing(page -> page.getUriPatten().getPatternString()));
+        for (String pageUriPattern : pageUriPatterns) {
+            Page page = mock(Page.class);
+            when(page.getUriPatten()).thenReturn(new UriPatten(pageUriPattern));
+            pages.add(page);
+        }
+        Component component = mock(Component.class);
+        when(component.getContextPath()).thenReturn(contextPath);
+        when(component.getPages()).thenReturn(pages);
+        return component;
+    }
+
+    @Test
+    public void testWarmUp() {
+        Map<String, Component> components = new HashMap<>();
+        components.put(Component.ROOT_COMPONENT_CONTEXT_PATH,
+                       createComponent(Component.ROOT_COMPONENT_CONTEXT_PATH, "/about", "/users/{id}"));
+        components.put("/admin", createComponent("/admin", "/settings", "/secured"));
+        App app = mock(App.class);
+        when(app.getName()).thenReturn("test-app");
+        when(app.getContextPath()).thenReturn("/test");
+        when(app.getComponents()).thenReturn(components);
+        when(app.getFragments()).thenReturn(Collections.singletonMap("test-fragment", mock(Fragment.class)));
+
+        Map<String, Integer> renderedUris = new HashMap<>();
+        when(app.renderPage(any(), any())).thenAnswer(invocation -> {
+            String uri = invocation.<HttpRequest>getArgument(0).getUri();
+            renderedUris.merge(uri, 1, Integer::sum);
+            if (uri.endsWith("/secured")) {
+                throw new UUFRuntimeException("A session is required.");
+            }
+            return "page content";
+        });
+        when(app.renderFragment(any(), any())).thenAnswer(invocation -> {
+            renderedUris.merge(invocation.<HttpRequest>getArgument(0).getUri(), 1, Integer::sum);
+            return null;
+        });
+
+        new AppWarmer(3).warmUp(app);
+        Assert.assertEquals(renderedUris.get("/test/about"), Integer.valueOf(3));
+        Assert.assertEquals(renderedUris.get("/test/admin/settings"), Integer.valueOf(3));
+        Assert.assertEquals(renderedUris.get("/test/fragments/test-fragment"), Integer.valueOf(3));
+        // Pages that fail in the first iteration are not rendered again.
+        Assert.assertEquals(renderedUris.get("/test/admin/secured"), Integer.valueOf(1));
+        // Pages with URI variables cannot be warmed up with synthetic requests.
+        Assert.assertEquals(renderedUris.size(), 4);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidIterations() {
+        new AppWarmer(0);
+    }
+}
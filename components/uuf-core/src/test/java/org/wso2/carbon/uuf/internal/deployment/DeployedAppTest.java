@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.deployment;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.core.App;
+import org.wso2.carbon.uuf.spi.auth.SessionManager;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for deployed app.
+ *
+ * @since 1.0.0
+ */
+public class DeployedAppTest {
+
+    @Test
+    public void testAcquireAndRelease() {
+        DeployedApp deployedApp = new DeployedApp(mock(App.class), 1);
+        Assert.assertTrue(deployedApp.acquire());
+        deployedApp.release();
+        Assert.assertTrue(deployedApp.acquire(), "Deployed app is disposed before it is retired.");
+        deployedApp.release();
+    }
+
+    @Test
+    public void testRetireWithInFlightRequests() {
+        DeployedApp deployedApp = new DeployedApp(mock(App.class), 1);
+        Assert.assertTrue(deployedApp.acquire());
+        deployedApp.retire();
+        // In-flight request still holds a reference, hence the app is not disposed yet.
+        Assert.assertTrue(deployedApp.acquire());
+        deployedApp.release();
+        deployedApp.release();
+        Assert.assertFalse(deployedApp.acquire(), "Deployed app is not disposed after all references are released.");
+    }
+
+    @Test
+    public void testRetireTwice() {
+        DeployedApp deployedApp = new DeployedApp(mock(App.class), 1);
+        Assert.assertTrue(deployedApp.acquire());
+        deployedApp.retire();
+        deployedApp.retire();
+        Assert.assertTrue(deployedApp.acquire(), "Retiring twice released an in-flight reference.");
+        deployedApp.release();
+        deployedApp.release();
+        Assert.assertFalse(deployedApp.acquire());
+    }
+
+    @Test
+    public void testDisposeClosesSessionManager() throws Exception {
+        SessionManager sessionManager = mock(SessionManager.class);
+        App app = mock(App.class);
+        when(app.getSessionManager()).thenReturn(sessionManager);
+        DeployedApp deployedApp = new DeployedApp(app, 1);
+        Assert.assertTrue(deployedApp.acquire());
+        deployedApp.retire();
+        verify(sessionManager, never()).close();
+        deployedApp.release();
+        verify(sessionManager).close();
+    }
+
+    @Test
+    public void testSessionManagerHandedOver() throws Exception {
+        SessionManager sessionManager = mock(SessionManager.class);
+        App app = mock(App.class);
+        when(app.getSessionManager()).thenReturn(sessionManager);
+        App newApp = mock(App.class);
+        when(newApp.getSessionManager()).thenReturn(sessionManager);
+        DeployedApp deployedApp = new DeployedApp(app, 1);
+        DeployedApp newDeployedApp = new DeployedApp(newApp, 2);
+        deployedApp.retire(newDeployedApp);
+        verify(sessionManager, never()).close();
+
+        newDeployedApp.retire();
+        verify(sessionManager).close();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.deployment;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Utility methods for the deployment test classes.
+ *
+ * @since 1.0.0
+ */
+public class DeploymentTestUtil {
+
+    public static final String APP_NAME = "org.wso2.carbon.uuf.sample.test";
+
+    /**
+     * Creates a minimal app, which has a root component with an index page, in the given directory.
+     *
+     * @param directory directory to create the app in
+     * @return app directory
+     * @throws IOException I/O error
+     */
+    public static Path createApp(Path directory) throws IOException {
+        Path appDirectory = directory.resolve(APP_NAME);
+        write(appDirectory.resolve("components/dependency-tree.yaml"),
+              "artifactId: " + APP_NAME + "\nversion: 1.0.0\ncontextPath: /test\ndependencies: []\n");
+        write(appDirectory.resolve("components/configuration.yaml"), "theme: null\n");
+        write(appDirectory.resolve("components/root/component.yaml"), "bindings: []\n");
+        write(appDirectory.resolve("components/root/pages/index.hbs"), "index");
+        return appDirectory;
+    }
+
+    public static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
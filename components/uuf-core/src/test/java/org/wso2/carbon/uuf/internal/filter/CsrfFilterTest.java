@@ -18,13 +18,11 @@
 
 package org.wso2.carbon.uuf.internal.filter;
 
-import com.google.common.collect.ImmutableSet;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.wso2.carbon.uuf.api.auth.Session;
 import org.wso2.carbon.uuf.api.config.Configuration;
-import org.wso2.carbon.uuf.core.UriPatten;
 import org.wso2.carbon.uuf.spi.HttpRequest;
 
 import java.util.Collections;
@@ -100,8 +98,8 @@ public class CsrfFilterTest {
      * @return configuration instance
      */
     private static Configuration createConfiguration() {
-        Configuration configuration = mock(Configuration.class);
-        when(configuration.getCsrfIgnoreUris()).thenReturn(ImmutableSet.of(new UriPatten(CSRF_IGNORE_URI)));
+        Configuration configuration = new Configuration();
+        configuration.setCsrfIgnoreUris(Collections.singleton(CSRF_IGNORE_URI));
         return configuration;
     }
 
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.io;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.api.config.Configuration;
+import org.wso2.carbon.uuf.core.App;
+import org.wso2.carbon.uuf.core.Theme;
+import org.wso2.carbon.uuf.internal.io.util.ZipArtifactHandler;
+import org.wso2.carbon.uuf.spi.HttpRequest;
+import org.wso2.carbon.uuf.spi.HttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.wso2.carbon.uuf.internal.io.util.ZipArtifactHandlerTest.writeZipArtifact;
+import static org.wso2.carbon.uuf.spi.HttpResponse.STATUS_OK;
+
+/**
+ * Test cases for static resolver.
+ *
+ * @since 1.0.0
+ */
+public class StaticResolverTest {
+
+    private static final String THEME_PUBLIC_DIRECTORY = "test-app/themes/default/public/";
+    private static final String STYLE_SHEET_ENTRY = THEME_PUBLIC_DIRECTORY + "css/style.css";
+
+    private Path tempDirectory;
+    private Path zipFile;
+
+    @BeforeMethod
+    public void createTempDirectory() throws IOException {
+        tempDirectory = Files.createTempDirectory("uuf-static-resolver");
+        zipFile = tempDirectory.resolve("test-app.zip");
+    }
+
+    @AfterMethod
+    public void deleteTempDirectory() throws IOException {
+        ZipArtifactHandler.closeArtifacts();
+        FileUtils.deleteDirectory(tempDirectory.toFile());
+    }
+
+    private App createApp() {
+        Path appDirectory = ZipArtifactHandler.getAppDirectory("test-app", zipFile);
+        Theme theme = mock(Theme.class);
+        when(theme.getPath()).thenReturn(ZipArtifactHandler.toPathString(appDirectory.resolve("themes/default")));
+        Configuration configuration = new Configuration();
+        configuration.setResponseHeaders(new Configuration.ResponseHeaders(Collections.emptyMap(),
+                                                                           Collections.emptyMap()));
+        App app = mock(App.class);
+        when(app.getConfiguration()).thenReturn(configuration);
+        when(app.getThemes()).thenReturn(Collections.singletonMap("default", theme));
+        return app;
+    }
+
+    private static String serve(StaticResolver staticResolver, App app) throws IOException {
+        return serve(staticResolver, app, "css/style.css");
+    }
+
+    private static String serve(StaticResolver staticResolver, App app, String relativePath) throws IOException {
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.isThemeStaticResourceRequest()).thenReturn(true);
+        when(request.getUriWithoutContextPath()).thenReturn("/public/themes/default/" + relativePath);
+        HttpResponse response = mock(HttpResponse.class);
+        staticResolver.serve(app, request, response);
+
+        verify(response).setStatus(STATUS_OK);
+        ArgumentCaptor<InputStream> content = ArgumentCaptor.forClass(InputStream.class);
+        verify(response).setContent(content.capture(), anyString());
+        try (InputStream inputStream = content.getValue()) {
+            return IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void testServeFromZipArtifact() throws IOException {
+        writeZipArtifact(zipFile, Collections.singletonMap(STYLE_SHEET_ENTRY, "body {}"), 1000L);
+        StaticResolver staticResolver = new StaticResolver();
+        App app = createApp();
+
+        Assert.assertEquals(serve(staticResolver, app), "body {}");
+        // Served again from the cached content.
+        Assert.assertEquals(serve(staticResolver, app), "body {}");
+    }
+
+    @Test
+    public void testServeFromReplacedZipArtifact() throws IOException {
+        writeZipArtifact(zipFile, Collections.singletonMap(STYLE_SHEET_ENTRY, "body {}"), 1000L);
+        StaticResolver staticResolver = new StaticResolver();
+        Assert.assertEquals(serve(staticResolver, createApp()), "body {}");
+
+        // Cached content of the replaced artifact is not served for the new artifact.
+        writeZipArtifact(zipFile, Collections.singletonMap(STYLE_SHEET_ENTRY, "body { margin: 0; }"), 2000L);
+        Assert.assertEquals(serve(staticResolver, createApp()), "body { margin: 0; }");
+    }
+
+    @Test
+    public void testCachedContentsBounded() throws IOException {
+        char[] content = new char[60 * 1024];
+        Map<String, String> entries = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            Arrays.fill(content, (char) ('a' + i));
+            entries.put(THEME_PUBLIC_DIRECTORY + "js/" + i + ".js", new String(content));
+        }
+        writeZipArtifact(zipFile, entries, 1000L);
+        StaticResolver staticResolver = new StaticResolver(256 * 1024);
+        App app = createApp();
+
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(serve(staticResolver, app, "js/" + i + ".js"),
+                                entries.get(THEME_PUBLIC_DIRECTORY + "js/" + i + ".js"));
+        }
+        // Least recently used contents are evicted to keep the cache within the limit.
+        Assert.assertTrue(staticResolver.getCachedArchivedResourcesSize() > 0);
+        Assert.assertTrue(staticResolver.getCachedArchivedResourcesSize() <= 256 * 1024);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.io.deployment;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.internal.deployment.AppSnapshot;
+import org.wso2.carbon.uuf.internal.deployment.DeploymentTestUtil;
+import org.wso2.carbon.uuf.internal.deployment.parser.AppConfig;
+import org.wso2.carbon.uuf.internal.io.reference.ArtifactAppReference;
+import org.wso2.carbon.uuf.internal.io.reference.ArtifactFileReference;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.stream.Stream;
+
+import static org.wso2.carbon.uuf.internal.deployment.DeploymentTestUtil.write;
+
+/**
+ * Test cases for artifact app snapshot store.
+ *
+ * @since 1.0.0
+ */
+public class ArtifactAppSnapshotStoreTest {
+
+    private Path tempDirectory;
+    private Path appDirectory;
+    private ArtifactAppSnapshotStore appSnapshotStore;
+
+    @BeforeClass
+    public void createApp() throws IOException {
+        tempDirectory = Files.createTempDirectory("uuf-snapshot-store");
+        appDirectory = DeploymentTestUtil.createApp(tempDirectory);
+        write(appDirectory.resolve("components/root/public/css/main.css"), "body {}");
+        appSnapshotStore = new ArtifactAppSnapshotStore(tempDirectory.resolve("snapshots"));
+    }
+
+    @AfterClass
+    public void deleteApp() throws IOException {
+        DeploymentTestUtil.delete(tempDirectory);
+    }
+
+    private String getArtifactHash() {
+        return appSnapshotStore.getSnapshot(new ArtifactAppReference(appDirectory)).getArtifactHash();
+    }
+
+    @Test
+    public void testPublicResourcesNotHashed() throws IOException {
+        String artifactHash = getArtifactHash();
+        Path publicDirectory = appDirectory.resolve("components/root/public");
+        write(publicDirectory.resolve("css/main.css"), "body { margin: 0; }");
+        write(publicDirectory.resolve("js/main.js"), "var a;");
+        Assert.assertEquals(getArtifactHash(), artifactHash);
+    }
+
+    @Test
+    public void testArtifactChangesHashed() throws IOException {
+        String artifactHash = getArtifactHash();
+        Path pagesDirectory = appDirectory.resolve("components/root/pages");
+        write(pagesDirectory.resolve("about.hbs"), "about");
+        // Make sure that the change is visible even if the file system has a coarse timestamp resolution.
+        Files.setLastModifiedTime(pagesDirectory, FileTime.fromMillis(System.currentTimeMillis() + 60000L));
+        String pageAddedHash = getArtifactHash();
+        Assert.assertNotEquals(pageAddedHash, artifactHash, "Adding a page does not change the hash.");
+
+        write(appDirectory.resolve("components/configuration.yaml"), "theme: org.wso2.carbon.uuf.sample.theme\n");
+        Assert.assertNotEquals(getArtifactHash(), pageAddedHash, "Changing a configuration does not change the hash.");
+    }
+
+    @Test
+    public void testSnapshotRestored() throws IOException {
+        Path appDirectory = DeploymentTestUtil.createApp(tempDirectory.resolve("restored"));
+        write(appDirectory.resolve("components/configuration.yaml"),
+              "theme: null\nmenus:\n- name: main\n  items:\n  - {text: Home, link: /}\nother:\n  count: 1\n");
+        write(appDirectory.resolve("components/root/i18n/en.properties"), "greeting=Hello\n");
+        Path snapshotsDirectory = tempDirectory.resolve("snapshots-restored");
+        ArtifactAppSnapshotStore snapshotStore = new ArtifactAppSnapshotStore(snapshotsDirectory);
+        ArtifactAppReference appReference = new ArtifactAppReference(appDirectory);
+        AppSnapshot snapshot = snapshotStore.getSnapshot(appReference);
+        snapshot.getConfiguration(new ArtifactFileReference(appDirectory.resolve("components/configuration.yaml"),
+                                                            appReference), AppConfig.class);
+        snapshot.getI18nFile(new ArtifactFileReference(appDirectory.resolve("components/root/i18n/en.properties"),
+                                                       appReference));
+        snapshotStore.saveSnapshot(appReference, snapshot);
+
+        AppSnapshot restoredSnapshot = snapshotStore.getSnapshot(new ArtifactAppReference(appDirectory));
+        Assert.assertTrue(restoredSnapshot.isRestored(), "Snapshot is not restored.");
+        // Configuration is served from the snapshot, not parsed again from the deleted file.
+        Files.delete(appDirectory.resolve("components/configuration.yaml"));
+        AppConfig appConfig = restoredSnapshot.getConfiguration(
+                new ArtifactFileReference(appDirectory.resolve("components/configuration.yaml"), appReference),
+                AppConfig.class);
+        Assert.assertEquals(appConfig.getMenus().get(0).getItems().get(0).getText(), "Home");
+        Assert.assertEquals(appConfig.getOther().get("count"), 1);
+
+        if (snapshotsDirectory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Assert.assertEquals(PosixFilePermissions.toString(Files.getPosixFilePermissions(snapshotsDirectory)),
+                                "rwx------");
+        }
+    }
+
+    @Test
+    public void testSnapshotsKeyedByAppPath() throws IOException {
+        Path snapshotsDirectory = tempDirectory.resolve("snapshots-app-path");
+        ArtifactAppSnapshotStore snapshotStore = new ArtifactAppSnapshotStore(snapshotsDirectory);
+        for (String location : new String[]{"location-1", "location-2"}) {
+            // Apps of the same name in different locations.
+            ArtifactAppReference appReference = new ArtifactAppReference(
+                    DeploymentTestUtil.createApp(tempDirectory.resolve(location)));
+            snapshotStore.saveSnapshot(appReference, snapshotStore.getSnapshot(appReference));
+        }
+        try (Stream<Path> snapshotFiles = Files.list(snapshotsDirectory)) {
+            Assert.assertEquals(snapshotFiles.count(), 2L);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.internal.io.util;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Test cases for zip artifact handler.
+ *
+ * @since 1.0.0
+ */
+public class ZipArtifactHandlerTest {
+
+    private Path tempDirectory;
+
+    @BeforeMethod
+    public void createTempDirectory() throws IOException {
+        tempDirectory = Files.createTempDirectory("uuf-zip-artifact");
+    }
+
+    @AfterMethod
+    public void deleteTempDirectory() throws IOException {
+        ZipArtifactHandler.closeArtifacts();
+        FileUtils.deleteDirectory(tempDirectory.toFile());
+    }
+
+    /**
+     * Writes a zip artifact with the given entries, and sets the given last modified time to it.
+     *
+     * @param zipFile          zip artifact to write
+     * @param entries          entry names and contents
+     * @param lastModifiedTime last modified time of the zip artifact
+     * @throws IOException I/O error
+     */
+    public static void writeZipArtifact(Path zipFile, Map<String, String> entries, long lastModifiedTime)
+            throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(zipFile);
+             ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                zipOutputStream.putNextEntry(new ZipEntry(entry.getKey()));
+                zipOutputStream.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                zipOutputStream.closeEntry();
+            }
+        }
+        Files.setLastModifiedTime(zipFile, FileTime.fromMillis(lastModifiedTime));
+    }
+
+    @Test
+    public void testReopenReplacedArtifact() throws IOException {
+        Path zipFile = tempDirectory.resolve("test-app.zip");
+        writeZipArtifact(zipFile, Collections.singletonMap("test-app/index.hbs", "old"), 1000L);
+        Path appDirectory = ZipArtifactHandler.getAppDirectory("test-app", zipFile);
+        FileSystem zipFileSystem = appDirectory.getFileSystem();
+        Assert.assertEquals(new String(Files.readAllBytes(appDirectory.resolve("index.hbs")), StandardCharsets.UTF_8),
+                            "old");
+        // Unchanged artifact is not opened again.
+        Assert.assertSame(ZipArtifactHandler.getAppDirectory("test-app", zipFile).getFileSystem(), zipFileSystem);
+
+        writeZipArtifact(zipFile, Collections.singletonMap("test-app/index.hbs", "new"), 2000L);
+        Path newAppDirectory = ZipArtifactHandler.getAppDirectory("test-app", zipFile);
+        Assert.assertNotSame(newAppDirectory.getFileSystem(), zipFileSystem);
+        Assert.assertFalse(zipFileSystem.isOpen());
+        Assert.assertEquals(new String(Files.readAllBytes(newAppDirectory.resolve("index.hbs")),
+                                       StandardCharsets.UTF_8), "new");
+        Assert.assertEquals(ZipArtifactHandler.getArtifact(newAppDirectory).orElse(null),
+                            zipFile.toAbsolutePath().normalize());
+    }
+
+    @Test
+    public void testIncrementalUnzip() throws IOException {
+        String appName = "test-app-" + System.nanoTime();
+        Path zipFile = tempDirectory.resolve(appName + ".zip");
+        Map<String, String> entries = new HashMap<>();
+        entries.put(appName + "/unchanged.hbs", "unchanged");
+        entries.put(appName + "/changed.hbs", "old");
+        entries.put(appName + "/removed.hbs", "removed");
+        writeZipArtifact(zipFile, entries, 1000L);
+        Path appDirectory = ZipArtifactHandler.unzip(appName, zipFile);
+        try {
+            // Mark the extracted files, so that re-extracted ones can be told apart.
+            FileTime marker = FileTime.fromMillis(1234000L);
+            Files.setLastModifiedTime(appDirectory.resolve("unchanged.hbs"), marker);
+            Files.setLastModifiedTime(appDirectory.resolve("changed.hbs"), marker);
+
+            entries.put(appName + "/changed.hbs", "new");
+            entries.remove(appName + "/removed.hbs");
+            entries.put(appName + "/added.hbs", "added");
+            writeZipArtifact(zipFile, entries, 2000L);
+            Assert.assertEquals(ZipArtifactHandler.unzip(appName, zipFile), appDirectory);
+
+            Assert.assertEquals(Files.getLastModifiedTime(appDirectory.resolve("unchanged.hbs")), marker,
+                                "Unchanged entry is extracted again.");
+            Assert.assertNotEquals(Files.getLastModifiedTime(appDirectory.resolve("changed.hbs")), marker,
+                                   "Changed entry is not extracted again.");
+            Assert.assertEquals(read(appDirectory.resolve("changed.hbs")), "new");
+            Assert.assertEquals(read(appDirectory.resolve("added.hbs")), "added");
+            Assert.assertFalse(Files.exists(appDirectory.resolve("removed.hbs")), "Removed entry is not deleted.");
+
+            // An extracted file that differs from its entry is extracted again.
+            Files.write(appDirectory.resolve("unchanged.hbs"), "tampered".getBytes(StandardCharsets.UTF_8));
+            entries.put(appName + "/added.hbs", "added again");
+            writeZipArtifact(zipFile, entries, 3000L);
+            ZipArtifactHandler.unzip(appName, zipFile);
+            Assert.assertEquals(read(appDirectory.resolve("unchanged.hbs")), "unchanged");
+        } finally {
+            FileUtils.deleteDirectory(appDirectory.toFile());
+            Files.deleteIfExists(appDirectory.resolveSibling(appName + ".manifest"));
+        }
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+}
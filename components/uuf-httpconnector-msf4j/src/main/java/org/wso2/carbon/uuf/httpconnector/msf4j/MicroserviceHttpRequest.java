@@ -19,6 +19,7 @@ package org.wso2.carbon.uuf.httpconnector.msf4j;
 import io.netty.handler.codec.http.QueryStringDecoder;
 import io.netty.handler.codec.http.cookie.Cookie;
 import io.netty.handler.codec.http.cookie.ServerCookieDecoder;
+import org.wso2.carbon.messaging.Headers;
 import org.wso2.carbon.uuf.spi.HttpRequest;
 import org.wso2.msf4j.Request;
 
@@ -26,14 +27,19 @@ import javax.ws.rs.NotSupportedException;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MultivaluedMap;
 import java.io.File;
+import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * UUF HttpRequest implementation based on MSF4J request.
+ * <p>
+ * Query parameters, cookies and form data are parsed only when they are first accessed, and headers are read
+ * directly from the MSF4J request. Instances are not thread-safe, as a request is served by a single thread.
  */
 public class MicroserviceHttpRequest implements HttpRequest {
 
@@ -47,16 +53,18 @@ public class MicroserviceHttpRequest implements HttpRequest {
 
     private final Request msf4jRequest;
     private final String method;
-    private final Map<String, Cookie> cookies;
     private final Map<String, String> headers;
     private final String uri;
     private final String contextPath;
     private final String uriWithoutContextPath;
     private final String queryString;
-    private final Map<String, Object> queryParams;
-    private final Map<String, Object> formParams;
-    private final Map<String, Object> files;
+    private final MultivaluedMap<String, ?> rawFormParams;
+    private final Object postParams;
     private final boolean isGetRequest;
+    private Map<String, Cookie> cookies;
+    private Map<String, Object> queryParams;
+    private Map<String, Object> formParams;
+    private Map<String, Object> files;
 
     public MicroserviceHttpRequest(Request request) {
         this(request, null, null);
@@ -83,59 +91,18 @@ public class MicroserviceHttpRequest implements HttpRequest {
         this.contextPath = HttpRequest.getContextPath(this.uri);
         this.uriWithoutContextPath = HttpRequest.getUriWithoutContextPath(this.uri);
         this.queryString = rawQueryString; // Query string is not very useful, so we don't bother to decode it.
-        if (rawQueryString != null) {
-            HashMap<String, Object> map = new HashMap<>();
-            new QueryStringDecoder(rawQueryString, false).parameters()
-                    .forEach((key, value) -> map.put(key, (value.size() == 1) ? value.get(0) : value));
-            this.queryParams = map;
-        } else {
-            this.queryParams = Collections.emptyMap();
-        }
 
-        // process headers and cookies
-        this.headers = new HashMap<>();
-        request.getHeaders().getAll().forEach(header -> this.headers.put(header.getName(), header.getValue()));
-        String cookieHeader = this.headers.get(HttpHeaders.COOKIE);
-        this.cookies = (cookieHeader == null) ? Collections.emptyMap() :
-                ServerCookieDecoder.STRICT.decode(cookieHeader).stream().collect(Collectors.toMap(Cookie::name,
-                                                                                                  c -> c));
+        // headers are read from the MSF4J request when needed
+        this.headers = new HeadersMap(request.getHeaders());
 
-        // process POST data
-        if (formParams == null) {
-            // This request is not a form POST submission.
-            this.files = Collections.emptyMap();
-            if (postParams == null) {
-                this.formParams = Collections.emptyMap();
-            } else {
-                if (postParams instanceof List) {
-                    List<?> postParamsList = (List<?>) postParams;
-                    this.formParams = new HashMap<>(postParamsList.size());
-                    for (int i = 0; i < postParamsList.size(); i++) {
-                        this.formParams.put(Integer.toString(i), postParamsList.get(i));
-                    }
-                } else if (postParams instanceof Map) {
-                    this.formParams = (Map<String, Object>) postParams;
-                } else {
-                    throw new NotSupportedException(
-                            "Unsupported JSON data type. Expected Map or List. Instead found '" +
-                                    postParams.getClass().getName() + "'.");
-                }
-            }
-        } else {
-            this.formParams = new HashMap<>();
-            this.files = new HashMap<>();
-            for (Map.Entry<String, ? extends List<?>> entry : formParams.entrySet()) {
-                List<?> values = entry.getValue();
-                if (values.isEmpty()) {
-                    continue;
-                }
-                if (values.get(0) instanceof File) {
-                    this.files.put(entry.getKey(), (values.size() == 1) ? values.get(0) : values);
-                } else {
-                    this.formParams.put(entry.getKey(), (values.size() == 1) ? values.get(0) : values);
-                }
-            }
+        // POST data is processed when needed
+        if ((formParams == null) && (postParams != null) &&
+                !((postParams instanceof List) || (postParams instanceof Map))) {
+            throw new NotSupportedException("Unsupported JSON data type. Expected Map or List. Instead found '" +
+                                                    postParams.getClass().getName() + "'.");
         }
+        this.rawFormParams = formParams;
+        this.postParams = postParams;
     }
 
     @Override
@@ -185,6 +152,16 @@ public class MicroserviceHttpRequest implements HttpRequest {
 
     @Override
     public Map<String, Object> getQueryParams() {
+        if (queryParams == null) {
+            if (queryString == null) {
+                queryParams = Collections.emptyMap();
+            } else {
+                Map<String, Object> map = new HashMap<>();
+                new QueryStringDecoder(queryString, false).parameters()
+                        .forEach((key, value) -> map.put(key, (value.size() == 1) ? value.get(0) : value));
+                queryParams = map;
+            }
+        }
         return queryParams;
     }
 
@@ -195,6 +172,12 @@ public class MicroserviceHttpRequest implements HttpRequest {
 
     @Override
     public String getCookieValue(String cookieName) {
+        if (cookies == null) {
+            String cookieHeader = headers.get(HttpHeaders.COOKIE);
+            cookies = (cookieHeader == null) ? Collections.emptyMap() :
+                    ServerCookieDecoder.STRICT.decode(cookieHeader).stream().collect(Collectors.toMap(Cookie::name,
+                                                                                                      c -> c));
+        }
         Cookie cookie = cookies.get(cookieName);
         return (cookie == null) ? null : cookie.value();
     }
@@ -212,11 +195,17 @@ public class MicroserviceHttpRequest implements HttpRequest {
 
     @Override
     public Map<String, Object> getFormParams() {
+        if (formParams == null) {
+            processPostData();
+        }
         return formParams;
     }
 
     @Override
     public Map<String, Object> getFiles() {
+        if (files == null) {
+            processPostData();
+        }
         return files;
     }
 
@@ -240,9 +229,76 @@ public class MicroserviceHttpRequest implements HttpRequest {
         return (Integer) msf4jRequest.getProperty(PROPERTY_REMOTE_PORT);
     }
 
+    @SuppressWarnings("unchecked")
+    private void processPostData() {
+        if (rawFormParams == null) {
+            // This request is not a form POST submission.
+            files = Collections.emptyMap();
+            if (postParams == null) {
+                formParams = Collections.emptyMap();
+            } else if (postParams instanceof List) {
+                List<?> postParamsList = (List<?>) postParams;
+                formParams = new HashMap<>(postParamsList.size());
+                for (int i = 0; i < postParamsList.size(); i++) {
+                    formParams.put(Integer.toString(i), postParamsList.get(i));
+                }
+            } else {
+                formParams = (Map<String, Object>) postParams;
+            }
+        } else {
+            formParams = new HashMap<>();
+            files = new HashMap<>();
+            for (Map.Entry<String, ? extends List<?>> entry : rawFormParams.entrySet()) {
+                List<?> values = entry.getValue();
+                if (values.isEmpty()) {
+                    continue;
+                }
+                if (values.get(0) instanceof File) {
+                    files.put(entry.getKey(), (values.size() == 1) ? values.get(0) : values);
+                } else {
+                    formParams.put(entry.getKey(), (values.size() == 1) ? values.get(0) : values);
+                }
+            }
+        }
+    }
+
     @Override
     public String toString() {
         return "{\"method\": \"" + method + "\", \"uri\": \"" + uri + "\", \"query\": \"" + queryString +
                 "\", \"protocol\": \"" + getProtocol() + "\"}";
     }
+
+    /**
+     * Read-only map view of the headers of an MSF4J request. Single header lookups are served by the MSF4J headers
+     * and all headers are copied only when the map is iterated.
+     */
+    private static class HeadersMap extends AbstractMap<String, String> {
+
+        private final Headers headers;
+        private Set<Entry<String, String>> entrySet;
+
+        HeadersMap(Headers headers) {
+            this.headers = headers;
+        }
+
+        @Override
+        public String get(Object key) {
+            return (key instanceof String) ? headers.get((String) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return (key instanceof String) && headers.contains((String) key);
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            if (entrySet == null) {
+                Map<String, String> map = new HashMap<>();
+                headers.getAll().forEach(header -> map.put(header.getName(), header.getValue()));
+                entrySet = Collections.unmodifiableMap(map).entrySet();
+            }
+            return entrySet;
+        }
+    }
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.httpconnector.msf4j;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.messaging.Headers;
+import org.wso2.carbon.uuf.spi.HttpRequest;
+import org.wso2.msf4j.Request;
+
+import javax.ws.rs.NotSupportedException;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for the MSF4J HTTP request.
+ *
+ * @since 1.0.0
+ */
+public class MicroserviceHttpRequestTest {
+
+    private static Request createRequest(String method, String uri, Headers headers) {
+        Request request = mock(Request.class);
+        when(request.getHttpMethod()).thenReturn(method);
+        when(request.getUri()).thenReturn(uri);
+        when(request.getHeaders()).thenReturn(headers);
+        return request;
+    }
+
+    private static Request createRequest(String uri) {
+        return createRequest("GET", uri, new Headers());
+    }
+
+    @Test
+    public void testHeaders() {
+        Headers headers = new Headers();
+        headers.set("Content-Type", "application/json");
+        headers.set("Content-Length", "42");
+        headers.set("X-Custom", "value");
+        HttpRequest request = new MicroserviceHttpRequest(createRequest("POST", "/app/api", headers));
+
+        // Single header lookups are case-insensitive.
+        Assert.assertEquals(request.getHeaders().get("X-Custom"), "value");
+        Assert.assertEquals(request.getHeaders().get("x-custom"), "value");
+        Assert.assertTrue(request.getHeaders().containsKey("CONTENT-TYPE"));
+        Assert.assertFalse(request.getHeaders().containsKey("X-Other"));
+        Assert.assertNull(request.getHeaders().get("X-Other"));
+        Assert.assertEquals(request.getContentType(), "application/json");
+        Assert.assertEquals(request.getContentLength(), 42L);
+
+        // Iteration returns all the headers with their original names.
+        Map<String, String> copiedHeaders = new HashMap<>(request.getHeaders());
+        Assert.assertEquals(copiedHeaders.size(), 3);
+        Assert.assertEquals(copiedHeaders.get("Content-Type"), "application/json");
+        Assert.assertEquals(copiedHeaders.get("X-Custom"), "value");
+        Assert.assertEquals(request.getHeaders().size(), 3);
+    }
+
+    @Test
+    public void testMissingContentLength() {
+        HttpRequest request = new MicroserviceHttpRequest(createRequest("/app/page"));
+        Assert.assertNull(request.getContentType());
+        Assert.assertEquals(request.getContentLength(), -1L);
+    }
+
+    @Test
+    public void testCookies() {
+        Headers headers = new Headers();
+        headers.set("Cookie", "UUFSESSIONID=ABC123; CSRFTOKEN=XYZ");
+        HttpRequest request = new MicroserviceHttpRequest(createRequest("GET", "/app/page", headers));
+        Assert.assertEquals(request.getCookieValue("UUFSESSIONID"), "ABC123");
+        Assert.assertEquals(request.getCookieValue("CSRFTOKEN"), "XYZ");
+        Assert.assertNull(request.getCookieValue("OTHER"));
+
+        HttpRequest requestWithoutCookies = new MicroserviceHttpRequest(createRequest("/app/page"));
+        Assert.assertNull(requestWithoutCookies.getCookieValue("UUFSESSIONID"));
+    }
+
+    @Test
+    public void testUri() {
+        HttpRequest request = new MicroserviceHttpRequest(createRequest("/app/a%20page?q=1"));
+        Assert.assertEquals(request.getUri(), "/app/a page");
+        Assert.assertEquals(request.getContextPath(), "/app");
+        Assert.assertEquals(request.getUriWithoutContextPath(), "/a page");
+        Assert.assertEquals(request.getQueryString(), "q=1");
+        Assert.assertTrue(request.isGetRequest());
+    }
+
+    @Test
+    public void testQueryParams() {
+        HttpRequest request = new MicroserviceHttpRequest(createRequest("/app/page?name=alice&tag=a&tag=b&empty="));
+        Map<String, Object> queryParams = request.getQueryParams();
+        Assert.assertEquals(queryParams.get("name"), "alice");
+        Assert.assertEquals(queryParams.get("tag"), Arrays.asList("a", "b"));
+        Assert.assertEquals(queryParams.get("empty"), "");
+        Assert.assertSame(request.getQueryParams(), queryParams, "Query parameters are parsed more than once.");
+
+        HttpRequest requestWithoutQuery = new MicroserviceHttpRequest(createRequest("/app/page"));
+        Assert.assertNull(requestWithoutQuery.getQueryString());
+        Assert.assertTrue(requestWithoutQuery.getQueryParams().isEmpty());
+    }
+
+    @Test
+    public void testFormDataAndFiles() {
+        File file = new File("upload.txt");
+        MultivaluedMap<String, Object> formParams = new MultivaluedHashMap<>();
+        formParams.add("name", "alice");
+        formParams.add("tag", "a");
+        formParams.add("tag", "b");
+        formParams.add("file", file);
+        formParams.put("empty", Collections.emptyList());
+        HttpRequest request = new MicroserviceHttpRequest(createRequest("POST", "/app/page", new Headers()),
+                                                          formParams, null);
+
+        Assert.assertEquals(request.getFormParams().get("name"), "alice");
+        Assert.assertEquals(request.getFormParams().get("tag"), Arrays.asList("a", "b"));
+        Assert.assertFalse(request.getFormParams().containsKey("file"));
+        Assert.assertFalse(request.getFormParams().containsKey("empty"));
+        Assert.assertEquals(request.getFiles().size(), 1);
+        Assert.assertEquals(request.getFiles().get("file"), file);
+    }
+
+    @Test
+    public void testJsonMapBody() {
+        Map<String, Object> json = new HashMap<>();
+        json.put("name", "alice");
+        json.put("age", 30);
+        HttpRequest request = new MicroserviceHttpRequest(createRequest("POST", "/app/page", new Headers()), null,
+                                                          json);
+        Assert.assertEquals(request.getFormParams(), json);
+        Assert.assertTrue(request.getFiles().isEmpty());
+    }
+
+    @Test
+    public void testJsonListBody() {
+        List<Object> json = Arrays.asList("a", 2, true);
+        HttpRequest request = new MicroserviceHttpRequest(createRequest("POST", "/app/page", new Headers()), null,
+                                                          json);
+        Map<String, Object> formParams = request.getFormParams();
+        Assert.assertEquals(formParams.size(), 3);
+        Assert.assertEquals(formParams.get("0"), "a");
+        Assert.assertEquals(formParams.get("1"), 2);
+        Assert.assertEquals(formParams.get("2"), true);
+        Assert.assertTrue(request.getFiles().isEmpty());
+    }
+
+    @Test
+    public void testWithoutBody() {
+        HttpRequest request = new MicroserviceHttpRequest(createRequest("/app/page"));
+        Assert.assertTrue(request.getFormParams().isEmpty());
+        Assert.assertTrue(request.getFiles().isEmpty());
+    }
+
+    @Test(expectedExceptions = NotSupportedException.class)
+    public void testUnsupportedJsonBody() {
+        new MicroserviceHttpRequest(createRequest("POST", "/app/page", new Headers()), null, "a JSON string");
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.carbon.uuf.httpconnector.netty;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.handler.codec.http.cookie.Cookie;
+import io.netty.handler.codec.http.cookie.ServerCookieDecoder;
+import io.netty.handler.codec.http.multipart.Attribute;
+import io.netty.handler.codec.http.multipart.DefaultHttpDataFactory;
+import io.netty.handler.codec.http.multipart.FileUpload;
+import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder;
+import io.netty.handler.codec.http.multipart.InterfaceHttpData;
+import io.netty.handler.ssl.SslHandler;
+import org.wso2.carbon.uuf.api.exception.UUFRuntimeException;
+import org.wso2.carbon.uuf.spi.HttpRequest;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * UUF HttpRequest implementation based on a Netty full HTTP request.
+ * <p>
+ * Headers are read directly from the Netty request, and query parameters, cookies and the request body are parsed only
+ * when they are first accessed. Instances are valid only while the wrapped Netty request is being handled.
+ */
+public class NettyHttpRequest implements HttpRequest {
+
+    private static final String CONTENT_TYPE_FORM_URLENCODED = "application/x-www-form-urlencoded";
+    private static final String CONTENT_TYPE_MULTIPART_FORM_DATA = "multipart/form-data";
+    private static final String CONTENT_TYPE_JSON = "application/json";
+    private static final String REQUEST_GET = "GET";
+    private static final Gson GSON = new Gson();
+
+    private final ChannelHandlerContext ctx;
+    private final FullHttpRequest nettyRequest;
+    private final String method;
+    private final Map<String, String> headers;
+    private final String uri;
+    private final String contextPath;
+    private final String uriWithoutContextPath;
+    private final String queryString;
+    private final boolean isGetRequest;
+    private Map<String, Cookie> cookies;
+    private Map<String, Object> queryParams;
+    private Map<String, Object> formParams;
+    private Map<String, Object> files;
+    private HttpPostRequestDecoder postRequestDecoder;
+
+    public NettyHttpRequest(ChannelHandlerContext ctx, FullHttpRequest request) {
+        this.ctx = ctx;
+        this.nettyRequest = request;
+        this.method = request.getMethod().name();
+        this.isGetRequest = REQUEST_GET.equals(method);
+
+        // process URI
+        String rawUri = request.getUri();
+        int uriPathEndIndex = rawUri.indexOf('?');
+        String rawUriPath, rawQueryString;
+        if (uriPathEndIndex == -1) {
+            rawUriPath = rawUri;
+            rawQueryString = null;
+        } else {
+            rawUriPath = rawUri.substring(0, uriPathEndIndex);
+            rawQueryString = rawUri.substring(uriPathEndIndex + 1, rawUri.length());
+        }
+        this.uri = QueryStringDecoder.decodeComponent(rawUriPath);
+        this.contextPath = HttpRequest.getContextPath(this.uri);
+        this.uriWithoutContextPath = HttpRequest.getUriWithoutContextPath(this.uri);
+        this.queryString = rawQueryString; // Query string is not very useful, so we don't bother to decode it.
+
+        // headers are read from the Netty request when needed
+        this.headers = new HeadersMap(request.headers());
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public boolean isGetRequest() {
+        return isGetRequest;
+    }
+
+    @Override
+    public String getProtocol() {
+        return nettyRequest.getProtocolVersion().text();
+    }
+
+    @Override
+    public boolean isSecure() {
+        return ctx.pipeline().get(SslHandler.class) != null;
+    }
+
+    @Override
+    public String getUrl() {
+        String host = headers.get(HttpHeaders.Names.HOST);
+        if (host == null) {
+            host = getLocalAddress() + ":" + getLocalPort();
+        }
+        return getScheme() + "://" + host + nettyRequest.getUri();
+    }
+
+    @Override
+    public String getUri() {
+        return uri;
+    }
+
+    @Override
+    public String getContextPath() {
+        return contextPath;
+    }
+
+    @Override
+    public String getUriWithoutContextPath() {
+        return uriWithoutContextPath;
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public Map<String, Object> getQueryParams() {
+        if (queryParams == null) {
+            queryParams = (queryString == null) ? Collections.emptyMap() :
+                    toParamsMap(new QueryStringDecoder(queryString, false).parameters());
+        }
+        return queryParams;
+    }
+
+    @Override
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public String getCookieValue(String cookieName) {
+        if (cookies == null) {
+            String cookieHeader = headers.get(HttpHeaders.Names.COOKIE);
+            cookies = (cookieHeader == null) ? Collections.emptyMap() :
+                    ServerCookieDecoder.STRICT.decode(cookieHeader).stream().collect(Collectors.toMap(Cookie::name,
+                                                                                                      c -> c,
+                                                                                                      (a, b) -> a));
+        }
+        Cookie cookie = cookies.get(cookieName);
+        return (cookie == null) ? null : cookie.value();
+    }
+
+    @Override
+    public String getContentType() {
+        return headers.get(HEADER_CONTENT_TYPE);
+    }
+
+    @Override
+    public long getContentLength() {
+        String contentLengthHeader = headers.get(HEADER_CONTENT_LENGTH);
+        if (contentLengthHeader == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentLengthHeader.trim());
+        } catch (NumberFormatException e) {
+            return -1; // malformed header
+        }
+    }
+
+    @Override
+    public Map<String, Object> getFormParams() {
+        if (formParams == null) {
+            processPostData();
+        }
+        return formParams;
+    }
+
+    @Override
+    public Map<String, Object> getFiles() {
+        if (files == null) {
+            processPostData();
+        }
+        return files;
+    }
+
+    @Override
+    public String getLocalAddress() {
+        return getHost(ctx.channel().localAddress());
+    }
+
+    @Override
+    public int getLocalPort() {
+        return getPort(ctx.channel().localAddress());
+    }
+
+    @Override
+    public String getRemoteAddress() {
+        return getHost(ctx.channel().remoteAddress());
+    }
+
+    @Override
+    public int getRemotePort() {
+        return getPort(ctx.channel().remoteAddress());
+    }
+
+    /**
+     * Releases the resources, such as uploaded files, acquired while parsing the body of this request.
+     */
+    public void cleanUp() {
+        if (postRequestDecoder != null) {
+            postRequestDecoder.destroy();
+            postRequestDecoder = null;
+        }
+    }
+
+    private void processPostData() {
+        formParams = Collections.emptyMap();
+        files = Collections.emptyMap();
+        String contentType = getContentType();
+        if (isGetRequest || (contentType == null) || !nettyRequest.content().isReadable()) {
+            return;
+        }
+
+        String mimeType = contentType.toLowerCase();
+        if (mimeType.startsWith(CONTENT_TYPE_FORM_URLENCODED)) {
+            String body = nettyRequest.content().toString(StandardCharsets.UTF_8);
+            formParams = toParamsMap(new QueryStringDecoder(body, false).parameters());
+        } else if (mimeType.startsWith(CONTENT_TYPE_MULTIPART_FORM_DATA)) {
+            processMultipartData();
+        } else if (mimeType.startsWith(CONTENT_TYPE_JSON)) {
+            processJsonData();
+        }
+    }
+
+    private void processMultipartData() {
+        // Uploaded files are always stored on disk, as UUF exposes them as File objects.
+        postRequestDecoder = new HttpPostRequestDecoder(new DefaultHttpDataFactory(true), nettyRequest);
+        Map<String, List<Object>> params = new HashMap<>();
+        Map<String, List<Object>> uploads = new HashMap<>();
+        try {
+            for (InterfaceHttpData data : postRequestDecoder.getBodyHttpDatas()) {
+                if (data.getHttpDataType() == InterfaceHttpData.HttpDataType.Attribute) {
+                    params.computeIfAbsent(data.getName(), key -> new ArrayList<>())
+                            .add(((Attribute) data).getValue());
+                } else if (data.getHttpDataType() == InterfaceHttpData.HttpDataType.FileUpload) {
+                    uploads.computeIfAbsent(data.getName(), key -> new ArrayList<>())
+                            .add(((FileUpload) data).getFile());
+                }
+            }
+        } catch (IOException e) {
+            throw new UUFRuntimeException("Cannot read multipart form data of request " + this + ".", e);
+        }
+        formParams = toParamsMap(params);
+        files = toParamsMap(uploads);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void processJsonData() {
+        Object postParams;
+        try {
+            postParams = GSON.fromJson(nettyRequest.content().toString(StandardCharsets.UTF_8), Object.class);
+        } catch (JsonParseException e) {
+            throw new UUFRuntimeException("Cannot parse JSON data of request " + this + ".", e);
+        }
+        if (postParams instanceof List) {
+            List<?> postParamsList = (List<?>) postParams;
+            formParams = new HashMap<>(postParamsList.size());
+            for (int i = 0; i < postParamsList.size(); i++) {
+                formParams.put(Integer.toString(i), postParamsList.get(i));
+            }
+        } else if (postParams instanceof Map) {
+            formParams = (Map<String, Object>) postParams;
+        } else if (postParams != null) {
+            throw new UUFRuntimeException("Unsupported JSON data type. Expected Map or List. Instead found '" +
+                                                  postParams.getClass().getName() + "'.");
+        }
+    }
+
+    private static <T> Map<String, Object> toParamsMap(Map<String, List<T>> values) {
+        Map<String, Object> map = new HashMap<>(values.size());
+        values.forEach((key, value) -> map.put(key, (value.size() == 1) ? value.get(0) : value));
+        return map;
+    }
+
+    private static String getHost(SocketAddress address) {
+        return (address instanceof InetSocketAddress) ? ((InetSocketAddress) address).getHostString() : null;
+    }
+
+    private static int getPort(SocketAddress address) {
+        return (address instanceof InetSocketAddress) ? ((InetSocketAddress) address).getPort() : -1;
+    }
+
+    @Override
+    public String toString() {
+        return "{\"method\": \"" + method + "\", \"uri\": \"" + uri + "\", \"query\": \"" + queryString +
+                "\", \"protocol\": \"" + getProtocol() + "\"}";
+    }
+
+    /**
+     * Read-only map view of the headers of a Netty request. Single header lookups are served by the Netty headers and
+     * all headers are copied only when the map is iterated.
+     */
+    private static class HeadersMap extends AbstractMap<String, String> {
+
+        private final HttpHeaders headers;
+        private Set<Entry<String, String>> entrySet;
+
+        HeadersMap(HttpHeaders headers) {
+            this.headers = headers;
+        }
+
+        @Override
+        public String get(Object key) {
+            return (key instanceof String) ? headers.get((String) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return (key instanceof String) && headers.contains((String) key);
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            if (entrySet == null) {
+                Map<String, String> map = new HashMap<>();
+                headers.forEach(header -> map.put(header.getKey(), header.getValue()));
+                entrySet = Collections.unmodifiableMap(map).entrySet();
+            }
+            return entrySet;
+        }
+    }
+}
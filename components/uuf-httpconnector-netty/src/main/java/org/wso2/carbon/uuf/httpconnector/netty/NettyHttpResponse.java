@@ -0,0 +1,207 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.carbon.uuf.httpconnector.netty;
+
+import com.google.gson.Gson;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpChunkedInput;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.stream.ChunkedStream;
+import org.apache.commons.io.FilenameUtils;
+import org.wso2.carbon.uuf.spi.HttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * UUF HttpResponse implementation that is written directly to a Netty channel.
+ * <p>
+ * Textual content is wrapped in a {@link ByteBuf} without further copying, files are sent as file regions and streams
+ * are sent using chunked transfer encoding.
+ */
+public class NettyHttpResponse implements HttpResponse {
+
+    private static final Gson GSON = new Gson();
+
+    private int status;
+    private Object content;
+    private String contentType;
+    private MultivaluedMap<String, String> headers;
+    private Map<String, String> cookies;
+
+    public NettyHttpResponse() {
+        this.status = 200;
+        this.headers = new MultivaluedHashMap<>();
+        this.cookies = new HashMap<>();
+    }
+
+    @Override
+    public void setStatus(int statusCode) {
+        this.status = statusCode;
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public void setContent(String content, String contentType) {
+        this.content = content;
+        this.contentType = contentType;
+    }
+
+    @Override
+    public void setContent(File content) {
+        String extension = FilenameUtils.getExtension(content.getName());
+        setContent(content, extension.isEmpty() ? CONTENT_TYPE_WILDCARD : extension);
+    }
+
+    @Override
+    public void setContent(File content, String contentType) {
+        this.content = content;
+        this.contentType = contentType;
+    }
+
+    @Override
+    public void setContent(InputStream content, String contentType) {
+        this.content = content;
+        this.contentType = contentType;
+    }
+
+    @Override
+    public void setContent(Object content, String contentType) {
+        this.content = content;
+        this.contentType = contentType;
+    }
+
+    @Override
+    public Object getContent() {
+        return content;
+    }
+
+    @Override
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        headers.add(name, value);
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getHeaders() {
+        return headers;
+    }
+
+    public void addCookie(String name, String value) {
+        cookies.put(name, value);
+    }
+
+    @Override
+    public String getCookie(String name) {
+        return cookies.get(name);
+    }
+
+    /**
+     * Writes this response to the given channel.
+     *
+     * @param ctx       channel handler context to write to
+     * @param keepAlive whether the connection will be kept alive after this response
+     * @return future of the last write
+     * @throws IOException if the content of this response cannot be read
+     */
+    public ChannelFuture write(ChannelHandlerContext ctx, boolean keepAlive) throws IOException {
+        HttpResponseStatus responseStatus = HttpResponseStatus.valueOf(status);
+        if (content instanceof File) {
+            RandomAccessFile file = new RandomAccessFile((File) content, "r");
+            long fileLength = file.length();
+            DefaultHttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, responseStatus);
+            setHeaders(response.headers(), keepAlive);
+            HttpHeaders.setContentLength(response, fileLength);
+            ctx.write(response);
+            ctx.write(new DefaultFileRegion(file.getChannel(), 0, fileLength));
+            return ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+        }
+        if ((content instanceof InputStream) && !(content instanceof ByteArrayInputStream)) {
+            DefaultHttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, responseStatus);
+            setHeaders(response.headers(), keepAlive);
+            HttpHeaders.setTransferEncodingChunked(response);
+            ctx.write(response);
+            return ctx.writeAndFlush(new HttpChunkedInput(new ChunkedStream((InputStream) content)));
+        }
+
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, responseStatus,
+                                                                toByteBuf(ctx, content));
+        setHeaders(response.headers(), keepAlive);
+        HttpHeaders.setContentLength(response, response.content().readableBytes());
+        return ctx.writeAndFlush(response);
+    }
+
+    private ByteBuf toByteBuf(ChannelHandlerContext ctx, Object content) throws IOException {
+        if (content == null) {
+            return Unpooled.EMPTY_BUFFER;
+        } else if (content instanceof ByteArrayInputStream) {
+            ByteArrayInputStream inputStream = (ByteArrayInputStream) content;
+            ByteBuf buffer = ctx.alloc().buffer(inputStream.available());
+            buffer.writeBytes(inputStream, inputStream.available());
+            return buffer;
+        } else if (content instanceof CharSequence) {
+            return Unpooled.wrappedBuffer(content.toString().getBytes(StandardCharsets.UTF_8));
+        } else {
+            String text = CONTENT_TYPE_APPLICATION_JSON.equals(contentType) ? GSON.toJson(content) :
+                    content.toString();
+            return Unpooled.wrappedBuffer(text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void setHeaders(HttpHeaders responseHeaders, boolean keepAlive) {
+        if ((content != null) && (contentType != null)) {
+            responseHeaders.set(HttpHeaders.Names.CONTENT_TYPE, contentType);
+        }
+        headers.forEach(responseHeaders::add);
+        // Cookie values may carry attributes (e.g. "; Path=/app; Secure"), so they are written as they are.
+        cookies.forEach((name, value) -> responseHeaders.add(HttpHeaders.Names.SET_COOKIE, name + "=" + value));
+        if (keepAlive) {
+            responseHeaders.set(HttpHeaders.Names.CONNECTION, HttpHeaders.Values.KEEP_ALIVE);
+        }
+    }
+}
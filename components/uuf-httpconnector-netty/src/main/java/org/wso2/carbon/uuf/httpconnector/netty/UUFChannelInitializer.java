@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.carbon.uuf.httpconnector.netty;
+
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.stream.ChunkedWriteHandler;
+import io.netty.util.concurrent.EventExecutorGroup;
+
+/**
+ * Sets up the Netty pipeline of a UUF HTTP connection.
+ * <p>
+ * Requests are aggregated into full HTTP requests before they are handed to the {@link UUFHttpHandler}, which runs
+ * on the given executor group so that rendering does not block the I/O threads.
+ */
+public class UUFChannelInitializer extends ChannelInitializer<SocketChannel> {
+
+    private final UUFHttpHandler uufHttpHandler;
+    private final EventExecutorGroup handlerExecutorGroup;
+    private final int maxContentLength;
+
+    /**
+     * Creates a new channel initializer.
+     *
+     * @param uufHttpHandler       handler that serves the requests
+     * @param handlerExecutorGroup executor group to run the handler on
+     * @param maxContentLength     maximum length of a request body in bytes
+     */
+    public UUFChannelInitializer(UUFHttpHandler uufHttpHandler, EventExecutorGroup handlerExecutorGroup,
+                                 int maxContentLength) {
+        this.uufHttpHandler = uufHttpHandler;
+        this.handlerExecutorGroup = handlerExecutorGroup;
+        this.maxContentLength = maxContentLength;
+    }
+
+    @Override
+    protected void initChannel(SocketChannel channel) throws Exception {
+        ChannelPipeline pipeline = channel.pipeline();
+        pipeline.addLast("codec", new HttpServerCodec());
+        pipeline.addLast("aggregator", new HttpObjectAggregator(maxContentLength));
+        pipeline.addLast("chunkedWriter", new ChunkedWriteHandler());
+        pipeline.addLast(handlerExecutorGroup, "uufHandler", uufHttpHandler);
+    }
+}
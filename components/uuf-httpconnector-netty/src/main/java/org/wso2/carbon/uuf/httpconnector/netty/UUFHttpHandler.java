@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.carbon.uuf.httpconnector.netty;
+
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uuf.api.Server;
+import org.wso2.carbon.uuf.spi.HttpResponse;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * UUF Connector for Netty. Serves aggregated HTTP requests of registered apps through the UUF server.
+ * <p>
+ * Requests of a connection are handled one after the other, so responses to pipelined requests are written in the
+ * order in which the requests were received.
+ */
+@ChannelHandler.Sharable
+public class UUFHttpHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UUFHttpHandler.class);
+
+    private final Supplier<Server> uufServer;
+    private final Set<String> appContextPaths;
+
+    /**
+     * Creates a new handler.
+     *
+     * @param uufServer       supplier of the UUF server to serve requests
+     * @param appContextPaths context paths of the registered apps; requests to other context paths are responded
+     *                        with 404
+     */
+    public UUFHttpHandler(Supplier<Server> uufServer, Set<String> appContextPaths) {
+        this.uufServer = uufServer;
+        this.appContextPaths = appContextPaths;
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) throws Exception {
+        boolean keepAlive = HttpHeaders.isKeepAlive(request);
+        NettyHttpResponse httpResponse = new NettyHttpResponse();
+        if (!request.getDecoderResult().isSuccess()) {
+            httpResponse.setContent(HttpResponse.STATUS_BAD_REQUEST, "Cannot decode the request.");
+            keepAlive = false;
+        } else {
+            NettyHttpRequest httpRequest = new NettyHttpRequest(ctx, request);
+            try {
+                Server server = uufServer.get();
+                if (!appContextPaths.contains(httpRequest.getContextPath())) {
+                    httpResponse.setContent(HttpResponse.STATUS_NOT_FOUND,
+                                            "Requested resource '" + httpRequest.getUri() + "' does not exists.");
+                } else if (server == null) {
+                    httpResponse.setContent(HttpResponse.STATUS_SERVICE_UNAVAILABLE, "UUF server is not available.");
+                } else {
+                    server.serve(httpRequest, httpResponse);
+                }
+            } finally {
+                httpRequest.cleanUp();
+            }
+        }
+
+        ChannelFuture lastWriteFuture = httpResponse.write(ctx, keepAlive);
+        if (!keepAlive) {
+            lastWriteFuture.addListener(ChannelFutureListener.CLOSE);
+        }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        LOGGER.error("An error occurred while serving a request through channel {}.", ctx.channel(), cause);
+        ctx.close();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.carbon.uuf.httpconnector.netty;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.EventExecutorGroup;
+import org.wso2.carbon.uuf.api.exception.UUFRuntimeException;
+
+import java.net.InetSocketAddress;
+
+/**
+ * A Netty HTTP server that serves UUF requests through a {@link UUFHttpHandler}.
+ * <p>
+ * Owns the boss and worker event loops, the executor group that runs the handler and the server channel. HTTP
+ * connectors start and stop it from their own lifecycles; a stopped server can be started again.
+ */
+public class UUFNettyServer {
+
+    private final UUFHttpHandler uufHttpHandler;
+    private final int workerThreads;
+    private final int maxContentLength;
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
+    private EventExecutorGroup handlerExecutorGroup;
+    private volatile Channel serverChannel;
+
+    /**
+     * Creates a new server.
+     *
+     * @param uufHttpHandler   handler that serves the requests
+     * @param workerThreads    number of threads that serve requests
+     * @param maxContentLength maximum length of a request body in bytes
+     */
+    public UUFNettyServer(UUFHttpHandler uufHttpHandler, int workerThreads, int maxContentLength) {
+        if (workerThreads <= 0) {
+            throw new IllegalArgumentException("Number of worker threads should be positive.");
+        }
+        this.uufHttpHandler = uufHttpHandler;
+        this.workerThreads = workerThreads;
+        this.maxContentLength = maxContentLength;
+    }
+
+    /**
+     * Starts listening for HTTP requests on the given port.
+     *
+     * @param port port to listen on, or {@code 0} to listen on an ephemeral port
+     * @throws UUFRuntimeException if the server cannot be started
+     */
+    public synchronized void start(int port) {
+        if (serverChannel != null) {
+            throw new IllegalStateException("Netty HTTP server is already started.");
+        }
+        bossGroup = new NioEventLoopGroup(1);
+        workerGroup = new NioEventLoopGroup();
+        handlerExecutorGroup = new DefaultEventExecutorGroup(workerThreads);
+        ServerBootstrap bootstrap = new ServerBootstrap()
+                .group(bossGroup, workerGroup)
+                .channel(NioServerSocketChannel.class)
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childHandler(new UUFChannelInitializer(uufHttpHandler, handlerExecutorGroup, maxContentLength));
+        try {
+            serverChannel = bootstrap.bind(port).sync().channel();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stop();
+            throw new UUFRuntimeException("Interrupted while starting the Netty HTTP server.", e);
+        } catch (Exception e) {
+            stop();
+            throw new UUFRuntimeException("Cannot start the Netty HTTP server on port " + port + ".", e);
+        }
+    }
+
+    /**
+     * Stops listening for HTTP requests and releases the threads of this server.
+     */
+    public synchronized void stop() {
+        if (serverChannel != null) {
+            serverChannel.close().syncUninterruptibly();
+            serverChannel = null;
+        }
+        if (bossGroup != null) {
+            bossGroup.shutdownGracefully();
+            bossGroup = null;
+        }
+        if (workerGroup != null) {
+            workerGroup.shutdownGracefully();
+            workerGroup = null;
+        }
+        if (handlerExecutorGroup != null) {
+            handlerExecutorGroup.shutdownGracefully();
+            handlerExecutorGroup = null;
+        }
+    }
+
+    /**
+     * Returns the port this server is listening on.
+     *
+     * @return port this server is listening on, or {@code -1} if this server is not started
+     */
+    public int getPort() {
+        Channel channel = serverChannel;
+        return (channel == null) ? -1 : ((InetSocketAddress) channel.localAddress()).getPort();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.carbon.uuf.httpconnector.netty.internal;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uuf.api.Server;
+import org.wso2.carbon.uuf.httpconnector.netty.UUFHttpHandler;
+import org.wso2.carbon.uuf.httpconnector.netty.UUFNettyServer;
+import org.wso2.carbon.uuf.spi.HttpConnector;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class serves the registered UUF apps through a Netty HTTP server, without going through a JAX-RS layer.
+ * <p>
+ * The server listens on the port given by the {@code uuf.httpconnector.netty.port} system property (default 9292).
+ * The number of threads that serve requests and the maximum request body size can be set with the {@code
+ * uuf.httpconnector.netty.workerThreads} and {@code uuf.httpconnector.netty.maxContentLength} system properties.
+ */
+@Component(name = "org.wso2.carbon.uuf.httpconnector.netty.internal.NettyHttpConnector",
+           service = HttpConnector.class,
+           immediate = true)
+@SuppressWarnings("unused")
+public class NettyHttpConnector implements HttpConnector {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NettyHttpConnector.class);
+    private static final String PROPERTY_PORT = "uuf.httpconnector.netty.port";
+    private static final String PROPERTY_WORKER_THREADS = "uuf.httpconnector.netty.workerThreads";
+    private static final String PROPERTY_MAX_CONTENT_LENGTH = "uuf.httpconnector.netty.maxContentLength";
+    private static final int DEFAULT_PORT = 9292;
+    private static final int DEFAULT_MAX_CONTENT_LENGTH = 10 * 1024 * 1024;
+
+    private final Set<String> appContextPaths = ConcurrentHashMap.newKeySet();
+    private volatile Server uufServer;
+    private UUFNettyServer nettyServer;
+
+    @Reference(name = "uufServer",
+               service = Server.class,
+               cardinality = ReferenceCardinality.MANDATORY,
+               policy = ReferencePolicy.DYNAMIC,
+               unbind = "unsetServer")
+    @Override
+    public void setServer(Server server) {
+        this.uufServer = server;
+    }
+
+    public void unsetServer(Server server) {
+        this.uufServer = null;
+    }
+
+    /**
+     * Get called when this osgi component get registered. Starts the Netty HTTP server.
+     */
+    @Activate
+    protected void activate() {
+        int port = Integer.getInteger(PROPERTY_PORT, DEFAULT_PORT);
+        int workerThreads = Integer.getInteger(PROPERTY_WORKER_THREADS, Runtime.getRuntime().availableProcessors() * 2);
+        int maxContentLength = Integer.getInteger(PROPERTY_MAX_CONTENT_LENGTH, DEFAULT_MAX_CONTENT_LENGTH);
+        nettyServer = new UUFNettyServer(new UUFHttpHandler(() -> uufServer, appContextPaths), workerThreads,
+                                         maxContentLength);
+        nettyServer.start(port);
+        LOGGER.debug("{} activated and listening on port {}.", getClass().getName(), port);
+    }
+
+    /**
+     * Get called when this osgi component get unregistered. Stops the Netty HTTP server.
+     */
+    @Deactivate
+    protected void deactivate() {
+        if (nettyServer != null) {
+            nettyServer.stop();
+            nettyServer = null;
+        }
+        appContextPaths.clear();
+        LOGGER.debug("{} deactivated.", getClass().getName());
+    }
+
+    /**
+     * Registers the context path of the given app, so that its requests are served.
+     *
+     * @param appContextPath app context path
+     */
+    @Override
+    public void registerApp(String appName, String appContextPath) {
+        appContextPaths.add(appContextPath);
+        LOGGER.info("UUF app '{}' is available at '{}' through the Netty HTTP connector.", appName, appContextPath);
+    }
+}
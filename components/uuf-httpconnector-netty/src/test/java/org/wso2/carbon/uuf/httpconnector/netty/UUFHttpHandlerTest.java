@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.httpconnector.netty;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.api.Server;
+import org.wso2.carbon.uuf.spi.HttpRequest;
+import org.wso2.carbon.uuf.spi.HttpResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.function.BiConsumer;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test cases for the Netty HTTP connector handler.
+ *
+ * @since 1.0.0
+ */
+public class UUFHttpHandlerTest {
+
+    private static EmbeddedChannel createChannel() {
+        return createChannel((request, response) -> {
+            response.setContent("echo " + request.getUriWithoutContextPath() + " " + request.getQueryParams().get("q"));
+            response.addCookie("name", "value");
+        });
+    }
+
+    private static EmbeddedChannel createChannel(BiConsumer<HttpRequest, HttpResponse> serve) {
+        Server server = mock(Server.class);
+        doAnswer(invocation -> {
+            serve.accept((HttpRequest) invocation.getArguments()[0], (HttpResponse) invocation.getArguments()[1]);
+            return null;
+        }).when(server).serve(any(HttpRequest.class), any(HttpResponse.class));
+        return new EmbeddedChannel(new UUFHttpHandler(() -> server, Collections.singleton("/app")));
+    }
+
+    private static FullHttpRequest createRequest(String uri) {
+        return new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+    }
+
+    @Test
+    public void testPipelinedRequests() {
+        EmbeddedChannel channel = createChannel();
+        channel.writeInbound(createRequest("/app/a?q=1"));
+        channel.writeInbound(createRequest("/app/b?q=2"));
+
+        FullHttpResponse first = (FullHttpResponse) channel.readOutbound();
+        Assert.assertEquals(first.getStatus().code(), 200);
+        Assert.assertEquals(first.content().toString(StandardCharsets.UTF_8), "echo /a 1");
+        Assert.assertEquals(HttpHeaders.getContentLength(first), "echo /a 1".length());
+        Assert.assertEquals(first.headers().get(HttpHeaders.Names.SET_COOKIE), "name=value");
+        first.release();
+        FullHttpResponse second = (FullHttpResponse) channel.readOutbound();
+        Assert.assertEquals(second.content().toString(StandardCharsets.UTF_8), "echo /b 2");
+        second.release();
+        Assert.assertTrue(channel.isOpen());
+    }
+
+    @Test
+    public void testConnectionClose() {
+        EmbeddedChannel channel = createChannel();
+        FullHttpRequest request = createRequest("/app/a");
+        HttpHeaders.setKeepAlive(request, false);
+        channel.writeInbound(request);
+
+        FullHttpResponse response = (FullHttpResponse) channel.readOutbound();
+        Assert.assertEquals(response.getStatus().code(), 200);
+        response.release();
+        Assert.assertFalse(channel.isOpen());
+    }
+
+    @Test
+    public void testCookieWithAttributes() {
+        String cookieValue = "ABC123; Path=/app/; Secure; HTTPOnly";
+        EmbeddedChannel channel = createChannel((request, response) -> response.addCookie("UUFSESSIONID",
+                                                                                           cookieValue));
+        channel.writeInbound(createRequest("/app/login"));
+
+        FullHttpResponse response = (FullHttpResponse) channel.readOutbound();
+        Assert.assertEquals(response.getStatus().code(), 200);
+        Assert.assertEquals(response.headers().get(HttpHeaders.Names.SET_COOKIE), "UUFSESSIONID=" + cookieValue);
+        response.release();
+        Assert.assertTrue(channel.isOpen());
+    }
+
+    @Test
+    public void testMalformedContentLength() {
+        EmbeddedChannel channel = createChannel(
+                (request, response) -> response.setContent(Long.toString(request.getContentLength())));
+        FullHttpRequest request = createRequest("/app/a");
+        request.headers().set(HttpHeaders.Names.CONTENT_LENGTH, "abc");
+        channel.writeInbound(request);
+
+        FullHttpResponse response = (FullHttpResponse) channel.readOutbound();
+        Assert.assertEquals(response.getStatus().code(), 200);
+        Assert.assertEquals(response.content().toString(StandardCharsets.UTF_8), "-1");
+        response.release();
+    }
+
+    @Test
+    public void testUnregisteredApp() {
+        EmbeddedChannel channel = createChannel();
+        channel.writeInbound(createRequest("/other/a"));
+
+        FullHttpResponse response = (FullHttpResponse) channel.readOutbound();
+        Assert.assertEquals(response.getStatus().code(), 404);
+        response.release();
+    }
+}
@@ -19,17 +19,21 @@ package org.wso2.carbon.uuf.renderablecreator.hbs.core;
 import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.HandlebarsException;
 import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.io.StringTemplateSource;
 import com.github.jknack.handlebars.io.TemplateSource;
 import org.wso2.carbon.uuf.core.API;
 import org.wso2.carbon.uuf.core.Lookup;
 import org.wso2.carbon.uuf.core.RequestLookup;
 import org.wso2.carbon.uuf.renderablecreator.hbs.exception.HbsRenderableCreationException;
 import org.wso2.carbon.uuf.renderablecreator.hbs.helpers.registry.RuntimeHelperRegistry;
+import org.wso2.carbon.uuf.renderablecreator.hbs.helpers.runtime.I18nHelper;
+import org.wso2.carbon.uuf.renderablecreator.hbs.internal.I18nLiterals;
+import org.wso2.carbon.uuf.renderablecreator.hbs.internal.LazyMap;
 import org.wso2.carbon.uuf.spi.Renderable;
 import org.wso2.carbon.uuf.spi.model.Model;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 
@@ -40,6 +44,8 @@ public abstract class HbsRenderable implements Renderable {
     public static final String DATA_KEY_API = HbsRenderable.class.getName() + "#api";
     public static final String DATA_KEY_CURRENT_WRITER = HbsRenderable.class.getName() + "#writer";
     public static final String DATA_KEY_RESOLVED_RESOURCES = HbsRenderable.class.getName() + "#resolved-resources";
+    private static final String[] TEMPLATE_MODEL_KEYS = {"@contextPath", "@config", "@user", "@pathParams",
+            "@queryParams", "@params"};
     private static final Handlebars HANDLEBARS = new Handlebars().with(new RuntimeHelperRegistry());
 
     private final Template template;
@@ -76,7 +82,10 @@ public abstract class HbsRenderable implements Renderable {
 
     protected static Template compile(TemplateSource templateSource) throws HbsRenderableCreationException{
         try {
-            return HANDLEBARS.compile(templateSource);
+            String content = templateSource.content();
+            String rewrittenContent = I18nLiterals.rewrite(content);
+            return HANDLEBARS.compile((rewrittenContent == content) ? templateSource :
+                                              new StringTemplateSource(templateSource.filename(), rewrittenContent));
         } catch (IOException e) {
             throw new HbsRenderableCreationException(
                     "Cannot load Handlebars template '" + templateSource.filename() + "'.", e);
@@ -88,13 +97,59 @@ public abstract class HbsRenderable implements Renderable {
 
     protected static Map<String, Object> getTemplateModel(Model model, Lookup lookup, RequestLookup requestLookup,
                                                           API api) {
-        Map<String, Object> context = new HashMap<>();
-        context.put("@contextPath", requestLookup.getContextPath());
-        context.put("@config", lookup.getConfiguration().other());
-        context.put("@user", api.getSession().map(session -> (Object) session.getUser()).orElse(false));
-        context.put("@pathParams", requestLookup.getPathParams());
-        context.put("@queryParams", requestLookup.getRequest().getQueryParams());
-        context.put("@params", ((model == null) ? false : model.toMap()));
-        return context;
+        return getTemplateModel(null, model, lookup, requestLookup, api);
+    }
+
+    /**
+     * Returns the template model of a rendering. Values of the template model (e.g. {@code @user}) are computed only
+     * when a template refers them, so templates that do not need the current session never retrieve it.
+     *
+     * @param executableOutput output of the executable, entries of which take precedence, may be {@code null}
+     * @param model            model of the rendering
+     * @param lookup           lookup of the app
+     * @param requestLookup    request lookup of the current request
+     * @param api              API of the current request
+     * @return template model
+     */
+    protected static Map<String, Object> getTemplateModel(Map<?, ?> executableOutput, Model model, Lookup lookup,
+                                                          RequestLookup requestLookup, API api) {
+        return new LazyMap(TEMPLATE_MODEL_KEYS, executableOutput) {
+
+            private Locale locale;
+
+            @Override
+            protected Object resolve(int keyIndex) {
+                switch (keyIndex) {
+                    case 0:
+                        return requestLookup.getContextPath();
+                    case 1:
+                        return lookup.getConfiguration().other();
+                    case 2:
+                        return api.getSession().map(session -> (Object) session.getUser()).orElse(false);
+                    case 3:
+                        return requestLookup.getPathParams();
+                    case 4:
+                        return requestLookup.getRequest().getQueryParams();
+                    default:
+                        return ((model == null) ? false : model.toMap());
+                }
+            }
+
+            @Override
+            public Object get(Object key) {
+                Object value = super.get(key);
+                if ((value == null) && (key instanceof String)) {
+                    // Literal i18n keys rewritten at compile time, see I18nLiterals.
+                    String messageKey = I18nLiterals.getKey((String) key);
+                    if (messageKey != null) {
+                        if (locale == null) {
+                            locale = I18nHelper.resolveLocale(lookup, requestLookup);
+                        }
+                        value = lookup.getI18nResources().getMessage(locale, messageKey, null, messageKey);
+                    }
+                }
+                return value;
+            }
+        };
     }
 }
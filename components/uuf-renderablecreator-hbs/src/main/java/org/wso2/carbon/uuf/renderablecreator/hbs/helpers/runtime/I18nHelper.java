@@ -53,17 +53,7 @@ public class I18nHelper implements Helper<String> {
             if (currentRequestLocale == null) {
                 // Second priority is given to the accept language header of the request.
                 RequestLookup requestLookup = options.data(HbsRenderable.DATA_KEY_REQUEST_LOOKUP);
-                locale = computeLocale(requestLookup.getRequest(), lookup.getI18nResources());
-                if (locale == null) {
-                    // Seems like we have failed to compute a locale in above approaches.
-                    // Let's check whether a default locale is configured in the configuration.
-                    locale = computeLocale(lookup.getConfiguration());
-                    if (locale == null) {
-                        // Since there is no other option, we choose fallback locale.
-                        locale = FALLBACK_LOCALE;
-                    }
-                }
-
+                locale = resolveLocale(lookup, requestLookup);
                 options.data(DATA_KEY_CURRENT_REQUEST_LOCALE, locale);
             } else {
                 locale = currentRequestLocale;
@@ -73,6 +63,29 @@ public class I18nHelper implements Helper<String> {
         return lookup.getI18nResources().getMessage(locale, key, options.params, key);
     }
 
+    /**
+     * Returns the locale of the given request. The locale is chosen from the "Accept-Language" header of the request,
+     * else from the default locale in the app configuration, else the fallback locale is used.
+     *
+     * @param lookup        lookup of the app
+     * @param requestLookup request lookup of the request
+     * @return locale of the request
+     */
+    public static Locale resolveLocale(Lookup lookup, RequestLookup requestLookup) {
+        // Priority is given to the accept language header of the request.
+        Locale locale = computeLocale(requestLookup.getRequest(), lookup.getI18nResources());
+        if (locale == null) {
+            // Seems like we have failed to compute a locale from the request.
+            // Let's check whether a default locale is configured in the configuration.
+            locale = computeLocale(lookup.getConfiguration());
+            if (locale == null) {
+                // Since there is no other option, we choose fallback locale.
+                locale = FALLBACK_LOCALE;
+            }
+        }
+        return locale;
+    }
+
     private static Locale computeLocale(Map<String, Object> hashParams) {
         Object localeParam = hashParams.get("locale");
         if ((localeParam instanceof String) && !localeParam.toString().isEmpty()) {
@@ -20,19 +20,49 @@ import com.github.jknack.handlebars.Context;
 import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.Helper;
 import com.github.jknack.handlebars.Options;
+import com.github.jknack.handlebars.Template;
+import org.wso2.carbon.uuf.api.auth.Permission;
 import org.wso2.carbon.uuf.api.config.Configuration;
+import org.wso2.carbon.uuf.core.API;
 import org.wso2.carbon.uuf.core.Lookup;
+import org.wso2.carbon.uuf.core.RequestLookup;
 import org.wso2.carbon.uuf.renderablecreator.hbs.core.HbsRenderable;
+import org.wso2.carbon.uuf.renderablecreator.hbs.internal.I18nLiterals;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/**
+ * Implements handlebars {@code {{#menu}}} block helper.
+ * <p>
+ * Menus referred by name (e.g. {@code {{#menu "main"}}}) are rendered once and cached, if the block template only
+ * refers menu item properties, i18n messages and {@code {{#secured}}} blocks. Cached menus are keyed by the menu name,
+ * the block template, the locale (if the block has i18n messages) and the permissions checked by the block.
+ *
+ * @since 1.0.0
+ */
 public class MenuHelper implements Helper<Object> {
 
     public static final String HELPER_NAME = "menu";
 
+    private static final int MAX_CACHED_MENUS = 1024;
+    private static final int MAX_CACHED_TEMPLATES = 256;
+
+    private final ConcurrentMap<Template, MenuTemplate> menuTemplates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MenuKey, String> renderedMenus = new ConcurrentHashMap<>();
+
     @Override
     @SuppressWarnings("unchecked")
     public CharSequence apply(Object context, Options options) throws IOException {
@@ -45,6 +75,21 @@ public class MenuHelper implements Helper<Object> {
             String menuName = (String) context;
             Lookup lookup = options.data(HbsRenderable.DATA_KEY_LOOKUP);
             menuItems = lookup.getConfiguration().getMenu(menuName);
+
+            MenuKey menuKey = createMenuKey(menuName, lookup, options);
+            if (menuKey != null) {
+                String renderedMenu = renderedMenus.get(menuKey);
+                if (renderedMenu == null) {
+                    renderedMenu = render(menuItems, options);
+                    if (renderedMenus.size() >= MAX_CACHED_MENUS) {
+                        renderedMenus.clear();
+                    }
+                    renderedMenus.put(menuKey, renderedMenu);
+                }
+                Options.Buffer buffer = options.buffer();
+                buffer.append(renderedMenu);
+                return buffer;
+            }
         } else if (context instanceof Configuration.MenuItem[]) {
             menuItems = Arrays.asList((Configuration.MenuItem[]) context);
         } else if (context instanceof List) {
@@ -62,7 +107,14 @@ public class MenuHelper implements Helper<Object> {
                     "Menu helper context must be either a string (menu name) or a Configuration.MenuItem[] or a " +
                             "List<Configuration.MenuItem>. Instead found a '" + context.getClass().getName() + "'.");
         }
+        Options.Buffer buffer = options.buffer();
+        buffer.append(render(menuItems, options));
+        return buffer;
+    }
 
+    private static String render(List<Configuration.MenuItem> menuItems, Options options) throws IOException {
+        // Options.buffer() may write straight to the template writer, so the output is collected here to be cached.
+        StringBuilder output = new StringBuilder();
         Iterator<Configuration.MenuItem> iterator = menuItems.iterator();
         Context parentContext = options.context;
         boolean isFirstIteration = true;
@@ -74,9 +126,200 @@ public class MenuHelper implements Helper<Object> {
                     .combine("@last", !iterator.hasNext())
                     .combine("@leaf", isLeaf)
                     .combine("@nested", !isLeaf);
-            options.buffer().append(options.fn(iterationContext));
+            output.append(options.fn(iterationContext));
             isFirstIteration = false;
         }
-        return options.buffer();
+        return output.toString();
+    }
+
+    private MenuKey createMenuKey(String menuName, Lookup lookup, Options options) {
+        MenuTemplate menuTemplate = menuTemplates.get(options.fn);
+        if (menuTemplate == null) {
+            menuTemplate = new MenuTemplate(options.fn.text());
+            if (menuTemplates.size() >= MAX_CACHED_TEMPLATES) {
+                menuTemplates.clear();
+            }
+            menuTemplates.put(options.fn, menuTemplate);
+        }
+        if (!menuTemplate.isCacheable) {
+            return null;
+        }
+
+        RequestLookup requestLookup = options.data(HbsRenderable.DATA_KEY_REQUEST_LOOKUP);
+        Locale locale = menuTemplate.isLocaleSensitive ? I18nHelper.resolveLocale(lookup, requestLookup) : null;
+        API api = options.data(HbsRenderable.DATA_KEY_API);
+        long grantedPermissions = 0L;
+        for (int i = 0; i < menuTemplate.permissions.size(); i++) {
+            if (api.hasPermission(menuTemplate.permissions.get(i))) {
+                grantedPermissions |= (1L << i);
+            }
+        }
+        return new MenuKey(lookup.getConfiguration(), requestLookup.getContextPath(), menuName, options.fn, locale,
+                           grantedPermissions);
+    }
+
+    /**
+     * Analysis of a menu block template, which tells whether the rendered output of the block depends only on the
+     * menu items, the locale and the permissions of the user.
+     */
+    private static class MenuTemplate {
+
+        private static final Pattern COMMENT = Pattern.compile("\\{\\{!--.*?--\\}\\}|\\{\\{![^}]*\\}\\}",
+                                                               Pattern.DOTALL);
+        private static final Pattern TAG = Pattern.compile("\\{\\{\\{?(.*?)\\}?\\}\\}", Pattern.DOTALL);
+        private static final Pattern TOKEN = Pattern.compile("\"[^\"]*\"|'[^']*'|\\S+");
+        private static final Pattern LITERAL = Pattern.compile("\"[^\"]*\"|'[^']*'|-?\\d+(\\.\\d+)?|true|false");
+        private static final Set<String> CONSTANT_VARIABLES = new HashSet<>(Arrays.asList(
+                "this", ".", "text", "link", "icon", "subMenus", "@first", "@last", "@leaf", "@nested",
+                "@contextPath", "@config"));
+        private static final Set<String> BLOCK_HELPERS = new HashSet<>(Arrays.asList(
+                "if", "unless", HELPER_NAME, BlockSecuredHelper.HELPER_NAME));
+
+        private final boolean isCacheable;
+        private final boolean isLocaleSensitive;
+        private final List<Permission> permissions;
+
+        MenuTemplate(String templateText) {
+            List<Permission> permissions = new ArrayList<>();
+            boolean[] isLocaleSensitive = new boolean[1];
+            boolean isCacheable = true;
+            Matcher tags = TAG.matcher(COMMENT.matcher(templateText).replaceAll(""));
+            while (isCacheable && tags.find()) {
+                isCacheable = isConstantTag(tags.group(1), permissions, isLocaleSensitive);
+            }
+            this.isCacheable = isCacheable && (permissions.size() <= Long.SIZE);
+            this.isLocaleSensitive = isLocaleSensitive[0];
+            this.permissions = Collections.unmodifiableList(permissions);
+        }
+
+        private static boolean isConstantTag(String tag, List<Permission> permissions, boolean[] isLocaleSensitive) {
+            String body = tag.trim();
+            if (body.startsWith("~")) {
+                body = body.substring(1);
+            }
+            if (body.endsWith("~")) {
+                body = body.substring(0, body.length() - 1);
+            }
+            body = body.trim();
+            if (body.isEmpty() || body.equals("else") || body.equals("^")) {
+                return true;
+            }
+
+            char type = body.charAt(0);
+            if ((type == '#') || (type == '/') || (type == '^') || (type == '&')) {
+                body = body.substring(1).trim();
+            } else if (!Character.isLetterOrDigit(type) && (type != '@') && (type != '.') && (type != '_')) {
+                return false; // e.g. partials
+            }
+            List<String> tokens = new ArrayList<>();
+            Matcher matcher = TOKEN.matcher(body);
+            while (matcher.find()) {
+                tokens.add(matcher.group());
+            }
+            if (tokens.isEmpty()) {
+                return false;
+            }
+            String name = tokens.get(0);
+            List<String> args = tokens.subList(1, tokens.size());
+
+            if (type == '/') {
+                return BLOCK_HELPERS.contains(name);
+            }
+            if (type == '#') {
+                if (name.equals(BlockSecuredHelper.HELPER_NAME)) {
+                    if (args.isEmpty()) {
+                        permissions.add(Permission.ANY_PERMISSION);
+                        return true;
+                    }
+                    if ((args.size() == 2) && isStringLiteral(args.get(0)) && isStringLiteral(args.get(1))) {
+                        permissions.add(new Permission(unquote(args.get(0)), unquote(args.get(1))));
+                        return true;
+                    }
+                    return false;
+                }
+                return (name.equals("if") || name.equals("unless") || name.equals(HELPER_NAME)) &&
+                        (args.size() == 1) && isConstantArgument(args.get(0), isLocaleSensitive);
+            }
+            if ((type != '^') && name.equals(I18nHelper.HELPER_NAME)) {
+                isLocaleSensitive[0] = true;
+                return args.stream().allMatch(arg -> isConstantArgument(arg, isLocaleSensitive));
+            }
+            return args.isEmpty() && isConstantArgument(name, isLocaleSensitive);
+        }
+
+        private static boolean isConstantArgument(String argument, boolean[] isLocaleSensitive) {
+            int hashIndex = argument.indexOf('=');
+            if ((hashIndex > 0) && !isStringLiteral(argument)) {
+                argument = argument.substring(hashIndex + 1); // hash argument, e.g. locale="fr"
+            }
+            if (LITERAL.matcher(argument).matches()) {
+                return true;
+            }
+            if (argument.startsWith("this.")) {
+                argument = argument.substring("this.".length());
+            }
+            int dotIndex = argument.indexOf('.');
+            String variable = (dotIndex > 0) ? argument.substring(0, dotIndex) : argument;
+            if (I18nLiterals.getKey(variable) != null) {
+                isLocaleSensitive[0] = true;
+                return true;
+            }
+            return CONSTANT_VARIABLES.contains(variable);
+        }
+
+        private static boolean isStringLiteral(String token) {
+            return (token.length() >= 2) && ((token.charAt(0) == '"') || (token.charAt(0) == '\'')) &&
+                    (token.charAt(token.length() - 1) == token.charAt(0));
+        }
+
+        private static String unquote(String token) {
+            return token.substring(1, token.length() - 1);
+        }
+    }
+
+    /**
+     * Cache key of a rendered menu.
+     */
+    private static class MenuKey {
+
+        private final Configuration configuration;
+        private final String contextPath;
+        private final String menuName;
+        private final Template template;
+        private final Locale locale;
+        private final long grantedPermissions;
+        private final int hashCode;
+
+        MenuKey(Configuration configuration, String contextPath, String menuName, Template template, Locale locale,
+                long grantedPermissions) {
+            this.configuration = configuration;
+            this.contextPath = contextPath;
+            this.menuName = menuName;
+            this.template = template;
+            this.locale = locale;
+            this.grantedPermissions = grantedPermissions;
+            this.hashCode = Objects.hash(System.identityHashCode(configuration), contextPath, menuName,
+                                         System.identityHashCode(template), locale, grantedPermissions);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof MenuKey)) {
+                return false;
+            }
+            MenuKey other = (MenuKey) obj;
+            // Configuration and template are compared by identity, as they are replaced when the app is reloaded.
+            return (configuration == other.configuration) && (template == other.template) &&
+                    (grantedPermissions == other.grantedPermissions) && menuName.equals(other.menuName) &&
+                    Objects.equals(contextPath, other.contextPath) && Objects.equals(locale, other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
     }
 }
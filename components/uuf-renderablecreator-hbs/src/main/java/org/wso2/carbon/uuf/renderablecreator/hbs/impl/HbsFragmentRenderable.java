@@ -73,12 +73,12 @@ public class HbsFragmentRenderable extends HbsPageRenderable {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Executable output \"" + toPrettyJson(executeOutput) + "\".");
             }
+            Map<String, Object> templateModel = getTemplateModel(executeOutput, model, lookup, requestLookup, api);
             if (model instanceof ContextModel) {
-                context = Context.newContext(((ContextModel) model).getParentContext(), executeOutput);
+                context = Context.newContext(((ContextModel) model).getParentContext(), templateModel);
             } else {
-                context = Context.newContext(executeOutput);
+                context = Context.newContext(templateModel);
             }
-            context.combine(getTemplateModel(model, lookup, requestLookup, api));
         }
 
         context.data(DATA_KEY_LOOKUP, lookup);
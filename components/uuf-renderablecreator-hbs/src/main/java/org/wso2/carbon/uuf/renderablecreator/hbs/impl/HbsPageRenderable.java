@@ -28,12 +28,12 @@ import org.wso2.carbon.uuf.renderablecreator.hbs.core.Executable;
 import org.wso2.carbon.uuf.renderablecreator.hbs.core.HbsRenderable;
 import org.wso2.carbon.uuf.renderablecreator.hbs.exception.ExecutionException;
 import org.wso2.carbon.uuf.renderablecreator.hbs.exception.HbsRenderingException;
+import org.wso2.carbon.uuf.renderablecreator.hbs.internal.LazyMap;
 import org.wso2.carbon.uuf.renderablecreator.hbs.internal.io.PlaceholderWriter;
 import org.wso2.carbon.uuf.spi.model.Model;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -42,6 +42,8 @@ import static org.wso2.carbon.uuf.renderablecreator.hbs.internal.serialize.JsonS
 public class HbsPageRenderable extends HbsRenderable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HbsPageRenderable.class);
+    private static final String[] EXECUTABLE_CONTEXT_KEYS = {"contextPath", "config", "request", "response",
+            "pathParams", "params"};
 
     private final Executable executable;
 
@@ -79,7 +81,7 @@ public class HbsPageRenderable extends HbsRenderable {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Executable output \"" + toPrettyJson(executeOutput) + "\".");
             }
-            context = Context.newContext(executeOutput).combine(getTemplateModel(model, lookup, requestLookup, api));
+            context = Context.newContext(getTemplateModel(executeOutput, model, lookup, requestLookup, api));
         }
 
         context.data(DATA_KEY_LOOKUP, lookup);
@@ -114,14 +116,25 @@ public class HbsPageRenderable extends HbsRenderable {
     }
 
     protected static Map<String, Object> getExecutableContext(Model model, Lookup lookup, RequestLookup requestLookup) {
-        Map<String, Object> context = new HashMap<>();
-        context.put("contextPath", requestLookup.getContextPath());
-        context.put("config", lookup.getConfiguration().other());
-        context.put("request", requestLookup.getRequest());
-        context.put("response", requestLookup.getResponse());
-        context.put("pathParams", requestLookup.getPathParams());
-        context.put("params", ((model == null) ? null : model.toMap()));
-        return context;
+        return new LazyMap(EXECUTABLE_CONTEXT_KEYS, null) {
+            @Override
+            protected Object resolve(int keyIndex) {
+                switch (keyIndex) {
+                    case 0:
+                        return requestLookup.getContextPath();
+                    case 1:
+                        return lookup.getConfiguration().other();
+                    case 2:
+                        return requestLookup.getRequest();
+                    case 3:
+                        return requestLookup.getResponse();
+                    case 4:
+                        return requestLookup.getPathParams();
+                    default:
+                        return ((model == null) ? null : model.toMap());
+                }
+            }
+        };
     }
 
     protected static Map execute(Executable executable, Object context, API api, Lookup lookup,
@@ -33,10 +33,11 @@ import org.wso2.carbon.uuf.renderablecreator.hbs.core.js.SendErrorFunction;
 import org.wso2.carbon.uuf.renderablecreator.hbs.core.js.SendRedirectFunction;
 import org.wso2.carbon.uuf.renderablecreator.hbs.core.js.SendToClientFunction;
 import org.wso2.carbon.uuf.renderablecreator.hbs.exception.ExecutableCreationException;
+import org.wso2.carbon.uuf.renderablecreator.hbs.helpers.runtime.I18nHelper;
 import org.wso2.carbon.uuf.renderablecreator.hbs.internal.serialize.JsonSerializer;
-import org.wso2.carbon.uuf.spi.HttpRequest;
 
 import java.io.IOException;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -98,7 +99,7 @@ public class JsFunctionsImpl {
 
     public static ModuleFunction getModuleFunction(String componentPath, ScriptEngine engine) {
         return moduleName -> {
-            Path modulesDirPath = Paths.get(componentPath, "modules");
+            Path modulesDirPath = getComponentDirectory(componentPath).resolve("modules");
             Path jsFilePath = modulesDirPath.resolve(moduleName + ".js");
             if (!Files.exists(jsFilePath)) {
                 throw new IllegalArgumentException(
@@ -121,6 +122,11 @@ public class JsFunctionsImpl {
         };
     }
 
+    private static Path getComponentDirectory(String componentPath) {
+        // Path of a component that is served from a zip artifact is the URI of its directory in the zip file system.
+        return componentPath.startsWith("jar:") ? Paths.get(URI.create(componentPath)) : Paths.get(componentPath);
+    }
+
     public static LoggerObject getLoggerObject(String name) {
         return new LoggerObject(name);
     }
@@ -162,22 +168,7 @@ public class JsFunctionsImpl {
     public I18nFunction getI18nFunction() {
         if (i18nFunction == null) {
             i18nFunction = (String messageKey, String... messageParams) -> {
-                Locale locale;
-
-                String headerLocale = requestLookup.getRequest().getHeaders().get(HttpRequest.HEADER_ACCEPT_LANGUAGE);
-                locale = lookup.getI18nResources().getLocale(headerLocale);
-                if (locale == null) {
-                    // Seems like request doesn't carry a locale.
-                    // So let's check whether a default locale is configured in the configuration.
-                    Object defaultLocale = lookup.getConfiguration().other().get("defaultLocale");
-                    if ((defaultLocale instanceof String) && !defaultLocale.toString().isEmpty()) {
-                        locale = Locale.forLanguageTag(defaultLocale.toString());
-                    } else {
-                        // Since there is no other way to compute the locale, let's fall back to 'en'.
-                        locale = Locale.ENGLISH;
-                    }
-                }
-
+                Locale locale = I18nHelper.resolveLocale(lookup, requestLookup);
                 return lookup.getI18nResources().getMessage(locale, messageKey, messageParams, messageKey);
             };
         }
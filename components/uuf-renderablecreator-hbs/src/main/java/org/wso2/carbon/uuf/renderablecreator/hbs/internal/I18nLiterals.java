@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.carbon.uuf.renderablecreator.hbs.internal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites {@code {{i18n}}} helper calls with a literal key and no other parameters (e.g. {@code {{i18n
+ * "some.key"}}}) into plain template variables (e.g. {@code {{@i18n_3}}}), so that such messages are resolved as
+ * template model values instead of helper calls. Keys are interned globally and the variable name carries the index
+ * of the key.
+ *
+ * @since 1.0.0
+ */
+public class I18nLiterals {
+
+    /**
+     * Prefix of the template variables of literal i18n keys.
+     */
+    public static final String VARIABLE_PREFIX = "@i18n_";
+
+    private static final Pattern LITERAL_I18N_CALL = Pattern.compile(
+            "(\\{\\{\\{?~?)\\s*i18n\\s+(?:\"([^\"\\\\]*)\"|'([^'\\\\]*)')\\s*(~?\\}\\}\\}?)");
+    private static final Map<String, Integer> KEY_INDEXES = new ConcurrentHashMap<>();
+    private static final List<String> KEYS = new CopyOnWriteArrayList<>();
+
+    private I18nLiterals() {
+    }
+
+    /**
+     * Rewrites the literal i18n helper calls in the given template content.
+     *
+     * @param templateContent content of a Handlebars template
+     * @return rewritten template content, or the same content if there are no literal i18n helper calls
+     */
+    public static String rewrite(String templateContent) {
+        if (!templateContent.contains("i18n")) {
+            return templateContent;
+        }
+
+        Matcher matcher = LITERAL_I18N_CALL.matcher(templateContent);
+        StringBuffer buffer = null;
+        while (matcher.find()) {
+            String open = matcher.group(1);
+            String close = matcher.group(4);
+            boolean isEscaped = (matcher.start() > 0) && (templateContent.charAt(matcher.start() - 1) == '\\');
+            if (isEscaped || (open.startsWith("{{{") != close.endsWith("}}}"))) {
+                continue;
+            }
+            String key = (matcher.group(2) != null) ? matcher.group(2) : matcher.group(3);
+            if (buffer == null) {
+                buffer = new StringBuffer(templateContent.length());
+            }
+            matcher.appendReplacement(buffer, Matcher.quoteReplacement(open + VARIABLE_PREFIX + intern(key) + close));
+        }
+        if (buffer == null) {
+            return templateContent;
+        }
+        matcher.appendTail(buffer);
+        return buffer.toString();
+    }
+
+    /**
+     * Returns the i18n key of the given template variable.
+     *
+     * @param variableName name of a template variable
+     * @return i18n key, or {@code null} if the given variable is not a literal i18n key variable
+     */
+    public static String getKey(String variableName) {
+        if (!variableName.startsWith(VARIABLE_PREFIX)) {
+            return null;
+        }
+        try {
+            int index = Integer.parseInt(variableName.substring(VARIABLE_PREFIX.length()));
+            return ((index >= 0) && (index < KEYS.size())) ? KEYS.get(index) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static synchronized int intern(String key) {
+        Integer index = KEY_INDEXES.get(key);
+        if (index == null) {
+            KEYS.add(key);
+            index = KEYS.size() - 1;
+            KEY_INDEXES.put(key, index);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.carbon.uuf.renderablecreator.hbs.internal;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A read-only map with a fixed set of keys whose values are computed only when they are first accessed.
+ * <p>
+ * Entries of an optional backing map take precedence over the lazily computed entries. Lookups through {@link
+ * #get(Object)} and {@link #containsKey(Object)} compute only the requested value, whereas iterating the map computes
+ * all of them. Instances are not thread-safe, as they are meant to live within a single rendering.
+ *
+ * @since 1.0.0
+ */
+public abstract class LazyMap extends AbstractMap<String, Object> {
+
+    private static final Object UNRESOLVED = new Object();
+
+    private final String[] keys;
+    private final Object[] values;
+    private final Map<?, ?> backingMap;
+
+    /**
+     * Creates a new lazy map.
+     *
+     * @param keys       keys of the lazily computed values
+     * @param backingMap map whose entries take precedence, may be {@code null}
+     */
+    protected LazyMap(String[] keys, Map<?, ?> backingMap) {
+        this.keys = keys;
+        this.values = new Object[keys.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = UNRESOLVED;
+        }
+        this.backingMap = backingMap;
+    }
+
+    /**
+     * Computes the value of the key at the given index.
+     *
+     * @param keyIndex index of the key in the keys array given to the constructor
+     * @return value of the key
+     */
+    protected abstract Object resolve(int keyIndex);
+
+    @Override
+    public Object get(Object key) {
+        if ((backingMap != null) && backingMap.containsKey(key)) {
+            return backingMap.get(key);
+        }
+        int index = indexOf(key);
+        return (index < 0) ? null : valueAt(index);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return ((backingMap != null) && backingMap.containsKey(key)) || (indexOf(key) >= 0);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Map<String, Object> entries = new LinkedHashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            entries.put(keys[i], valueAt(i));
+        }
+        if (backingMap != null) {
+            backingMap.forEach((key, value) -> entries.put(String.valueOf(key), value));
+        }
+        return Collections.unmodifiableMap(entries).entrySet();
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Object valueAt(int index) {
+        Object value = values[index];
+        if (value == UNRESOLVED) {
+            value = resolve(index);
+            values[index] = value;
+        }
+        return value;
+    }
+}
@@ -35,7 +35,6 @@ import org.wso2.carbon.uuf.renderablecreator.hbs.exception.HbsRenderableUpdateEx
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.ClosedWatchServiceException;
-import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.NotDirectoryException;
@@ -46,12 +45,27 @@ import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 public class HbsRenderableUpdater {
 
+    /**
+     * Editors emit several events for a single save, hence changes that happen within this window are coalesced.
+     */
+    private static final long DEBOUNCE_WINDOW_MILLIS = 100;
+    /**
+     * Maximum time to coalesce changes for, so that a stream of changes (e.g. a build writing to the watched
+     * directories) does not postpone reloading indefinitely.
+     */
+    private static final long MAX_DEBOUNCE_MILLIS = 1000;
     private static final Logger LOGGER = LoggerFactory.getLogger(HbsRenderableUpdater.class);
 
     private final Set<Path> watchingDirectories;
@@ -59,7 +73,9 @@ public class HbsRenderableUpdater {
     private final ConcurrentMap<Path, MutableExecutable> watchingExecutables;
     private final WatchService watcher;
     private final Thread watchService;
-    private boolean isWatchServiceStopped;
+    private final ExecutorService reloadExecutor;
+    private final Set<Path> pendingFiles;
+    private volatile boolean isWatchServiceStopped;
 
     public HbsRenderableUpdater() {
         this.watchingDirectories = new HashSet<>();
@@ -71,6 +87,17 @@ public class HbsRenderableUpdater {
             throw new HbsRenderableUpdateException("Cannot create file watch service for Handlebars renderables.", e);
         }
         this.watchService = new Thread(this::run, HbsRenderableUpdater.class.getName() + "-WatchService");
+        // A small pool of low priority threads, so that reloading does not steal CPU from serving requests.
+        AtomicInteger reloaderCount = new AtomicInteger();
+        int reloadersCount = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        this.reloadExecutor = Executors.newFixedThreadPool(reloadersCount, runnable -> {
+            Thread reloader = new Thread(runnable, HbsRenderableUpdater.class.getName() + "-Reloader-" +
+                    reloaderCount.incrementAndGet());
+            reloader.setDaemon(true);
+            reloader.setPriority(Thread.MIN_PRIORITY);
+            return reloader;
+        });
+        this.pendingFiles = ConcurrentHashMap.newKeySet();
         this.isWatchServiceStopped = false;
     }
 
@@ -119,13 +146,29 @@ public class HbsRenderableUpdater {
     public void finish() {
         isWatchServiceStopped = true;
         IOUtils.closeQuietly(watcher);
+        reloadExecutor.shutdownNow();
     }
 
     private void run() {
         while (!isWatchServiceStopped) {
-            WatchKey watchKey;
+            Set<Path> updatedFiles = new LinkedHashSet<>();
             try {
-                watchKey = watcher.take();
+                /* Wait for the first change, then coalesce the changes that follow it within the debounce window, but
+                not for longer than the maximum debounce time since the first change. */
+                WatchKey watchKey = watcher.take();
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_DEBOUNCE_MILLIS);
+                while (watchKey != null) {
+                    if (!collectUpdatedFiles(watchKey, updatedFiles)) {
+                        // Watch key cannot not be reset because watch service is already closed.
+                        return;
+                    }
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (remainingNanos <= 0) {
+                        break; // Reload what has been collected; later changes are picked up in the next round.
+                    }
+                    watchKey = watcher.poll(Math.min(TimeUnit.MILLISECONDS.toNanos(DEBOUNCE_WINDOW_MILLIS),
+                                                     remainingNanos), TimeUnit.NANOSECONDS);
+                }
             } catch (ClosedWatchServiceException e) {
                 LOGGER.debug("File watch service is closed.");
                 return;
@@ -134,63 +177,69 @@ public class HbsRenderableUpdater {
                 return;
             }
 
-            for (WatchEvent<?> event : watchKey.pollEvents()) {
-                if (event.kind() != StandardWatchEventKinds.ENTRY_MODIFY) {
-                    continue; // We only watch file modify events.
-                }
+            for (Path updatedFile : updatedFiles) {
+                if (pendingFiles.add(updatedFile)) {
+                    reloadExecutor.execute(() -> reload(updatedFile));
+                } // else a reload of this file is already queued
+            }
+        }
+    }
 
-                Path updatedDirectory = (Path) watchKey.watchable();
+    private boolean collectUpdatedFiles(WatchKey watchKey, Set<Path> updatedFiles) {
+        Path updatedDirectory = (Path) watchKey.watchable();
+        for (WatchEvent<?> event : watchKey.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Some events were lost, hence consider all the watched files in the directory as updated.
+                Stream.concat(watchingRenderables.keySet().stream(), watchingExecutables.keySet().stream())
+                        .filter(path -> updatedDirectory.equals(path.getParent()))
+                        .forEach(updatedFiles::add);
+            } else if (event.kind() == StandardWatchEventKinds.ENTRY_MODIFY) {
                 @SuppressWarnings("unchecked")
                 Path updatedFileName = ((WatchEvent<Path>) event).context();
-                Path updatedFileAbsolutePath = updatedDirectory.resolve(updatedFileName);
-                try (DirectoryStream<Path> stream = Files.newDirectoryStream(updatedFileAbsolutePath.getParent())) {
-                    for (Path entry : stream) {
-                        if (Files.isDirectory(entry)) {
-                            continue;
-                        }
-
-                        MutableHbsRenderable mutableRenderable = watchingRenderables.get(entry);
-                        if (mutableRenderable != null) {
-                            // Updated file is a MutableHbsRenderable
-                            try {
-                                mutableRenderable.reload(new StringTemplateSource(mutableRenderable.getComponentPath(),
-                                                                                  readFileContent(entry)));
-                                LOGGER.info("Handlebars template '{}' reloaded successfully.", entry);
-                            } catch (IOException e) {
-                                LOGGER.error("An error occurred while reloading Handlebars template '{}'.", entry, e);
-                            } catch (HbsRenderableCreationException e) {
-                                LOGGER.error("An error occurred while compiling Handlebars template '{}'.", entry, e);
-                            } catch (Exception e) {
-                                LOGGER.error("An unexpected error occurred while reloading Handlebars template '{}'.",
-                                             entry, e);
-                            }
-                            continue;
-                        }
-
-                        MutableExecutable mutableExecutable = watchingExecutables.get(entry);
-                        if (mutableExecutable != null) {
-                            // Updated file is a MutableExecutable
-                            try {
-                                mutableExecutable.reload(readFileContent(entry));
-                                LOGGER.info("JavaScript file '{}' reloaded successfully.", entry);
-                            } catch (IOException e) {
-                                LOGGER.error("An error occurred while reloading JavaScript file '{}'.", entry, e);
-                            } catch (ExecutableUpdateException e) {
-                                LOGGER.error("An error occurred while compiling JavaScript file '{}'.", entry, e);
-                            } catch (Exception e) {
-                                LOGGER.error("An unexpected error occurred while reloading JavaScript file '{}'.", entry, e);
-                            }
-                        }
-                    }
+                updatedFiles.add(updatedDirectory.resolve(updatedFileName));
+            } // We only watch file modify events.
+        }
+        return watchKey.reset();
+    }
+
+    private void reload(Path updatedFile) {
+        pendingFiles.remove(updatedFile); // Changes after this point will be reloaded again.
+
+        MutableHbsRenderable mutableRenderable = watchingRenderables.get(updatedFile);
+        if (mutableRenderable != null) {
+            // Updated file is a MutableHbsRenderable
+            synchronized (mutableRenderable) {
+                try {
+                    mutableRenderable.reload(new StringTemplateSource(mutableRenderable.getComponentPath(),
+                                                                      readFileContent(updatedFile)));
+                    LOGGER.info("Handlebars template '{}' reloaded successfully.", updatedFile);
                 } catch (IOException e) {
-                    LOGGER.error("An error occurred while reloading modified files '{}'.", updatedFileAbsolutePath, e);
+                    LOGGER.error("An error occurred while reloading Handlebars template '{}'.", updatedFile, e);
+                } catch (HbsRenderableCreationException e) {
+                    LOGGER.error("An error occurred while compiling Handlebars template '{}'.", updatedFile, e);
+                } catch (Exception e) {
+                    LOGGER.error("An unexpected error occurred while reloading Handlebars template '{}'.",
+                                 updatedFile, e);
                 }
             }
+            return;
+        }
 
-            boolean valid = watchKey.reset();
-            if (!valid) {
-                // Watch key cannot not be reset because watch service is already closed.
-                break;
+        MutableExecutable mutableExecutable = watchingExecutables.get(updatedFile);
+        if (mutableExecutable != null) {
+            // Updated file is a MutableExecutable
+            synchronized (mutableExecutable) {
+                try {
+                    mutableExecutable.reload(readFileContent(updatedFile));
+                    LOGGER.info("JavaScript file '{}' reloaded successfully.", updatedFile);
+                } catch (IOException e) {
+                    LOGGER.error("An error occurred while reloading JavaScript file '{}'.", updatedFile, e);
+                } catch (ExecutableUpdateException e) {
+                    LOGGER.error("An error occurred while compiling JavaScript file '{}'.", updatedFile, e);
+                } catch (Exception e) {
+                    LOGGER.error("An unexpected error occurred while reloading JavaScript file '{}'.", updatedFile,
+                                 e);
+                }
             }
         }
     }
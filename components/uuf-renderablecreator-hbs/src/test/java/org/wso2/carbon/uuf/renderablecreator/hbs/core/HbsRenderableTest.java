@@ -25,6 +25,7 @@ import com.google.common.collect.ImmutableMap;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import org.wso2.carbon.uuf.api.config.Configuration;
+import org.wso2.carbon.uuf.api.config.I18nResources;
 import org.wso2.carbon.uuf.api.model.MapModel;
 import org.wso2.carbon.uuf.core.API;
 import org.wso2.carbon.uuf.core.Fragment;
@@ -32,19 +33,25 @@ import org.wso2.carbon.uuf.core.Lookup;
 import org.wso2.carbon.uuf.core.RequestLookup;
 import org.wso2.carbon.uuf.renderablecreator.hbs.impl.HbsFragmentRenderable;
 import org.wso2.carbon.uuf.renderablecreator.hbs.impl.HbsPageRenderable;
+import org.wso2.carbon.uuf.renderablecreator.hbs.internal.I18nLiterals;
 import org.wso2.carbon.uuf.renderablecreator.hbs.model.ContextModel;
 import org.wso2.carbon.uuf.spi.HttpRequest;
 import org.wso2.carbon.uuf.spi.model.Model;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Properties;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -122,6 +129,19 @@ public class HbsRenderableTest {
         Assert.assertEquals(output, "Hello Alice! Have a good day.");
     }
 
+    @Test
+    public void testSessionIsRetrievedOnlyWhenReferred() {
+        API api = createAPI();
+        createPageRenderable("Hello {{@params.name}}!").render(new MapModel(ImmutableMap.of("name", "Bob")),
+                                                               createLookup(), createRequestLookup(), api);
+        verify(api, never()).getSession();
+
+        String output = createPageRenderable("{{#if @user}}Hello!{{else}}Please login.{{/if}}")
+                .render(createModel(), createLookup(), createRequestLookup(), api);
+        Assert.assertEquals(output, "Please login.");
+        verify(api).getSession();
+    }
+
     @Test
     public void testFragmentTemplate() {
         final String templateContent = "A Plain Handlebars template of a fragment.";
@@ -206,4 +226,27 @@ public class HbsRenderableTest {
                 "<label>default content</label><!--[UUF-ZONE]{\"name\": \"test-zone\",\"position\": \"end\"}-->\n" +
                 " Y");
     }
+
+    @Test
+    public void testI18nLiteralKeys() {
+        String templateContent = "{{i18n \"greeting\"}}, {{i18n \"greeting\"}}! {{i18n \"unknown.key\"}}";
+        // Literal keys are rendered through the template model, not through the i18n helper.
+        Assert.assertFalse(I18nLiterals.rewrite(templateContent).contains("{{i18n "));
+        HbsPageRenderable pageRenderable = createPageRenderable(templateContent);
+        Properties messages = new Properties();
+        messages.setProperty("greeting", "Bonjour");
+        I18nResources i18nResources = new I18nResources();
+        i18nResources.addI18nResource(Locale.FRENCH, messages);
+        Lookup lookup = createLookup();
+        when(lookup.getI18nResources()).thenReturn(i18nResources);
+        HttpRequest request = mock(HttpRequest.class);
+        when(request.getQueryParams()).thenReturn(Collections.emptyMap());
+        when(request.getHeaders()).thenReturn(ImmutableMap.of(HttpRequest.HEADER_ACCEPT_LANGUAGE, "fr"));
+
+        String output = pageRenderable.render(createModel(), lookup, new RequestLookup("/contextPath", request, null),
+                                              createAPI());
+        Assert.assertEquals(output, "Bonjour, Bonjour! unknown.key");
+        // Locale is resolved once per rendering, not once per message.
+        verify(request, times(1)).getHeaders();
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.renderablecreator.hbs.helpers.runtime;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.api.auth.Permission;
+import org.wso2.carbon.uuf.api.config.Configuration;
+import org.wso2.carbon.uuf.core.API;
+import org.wso2.carbon.uuf.core.Lookup;
+import org.wso2.carbon.uuf.renderablecreator.hbs.core.HbsRenderable;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+import static org.wso2.carbon.uuf.renderablecreator.hbs.helpers.runtime.RuntimeHelpersTestUtil.createAPI;
+import static org.wso2.carbon.uuf.renderablecreator.hbs.helpers.runtime.RuntimeHelpersTestUtil.createLookup;
+import static org.wso2.carbon.uuf.renderablecreator.hbs.helpers.runtime.RuntimeHelpersTestUtil.createRenderable;
+import static org.wso2.carbon.uuf.renderablecreator.hbs.helpers.runtime.RuntimeHelpersTestUtil.createRequestLookup;
+
+/**
+ * Test cases for {@code {{#menu}}} helper.
+ *
+ * @since 1.0.0
+ */
+public class MenuHelperTest {
+
+    private static Lookup createMenuLookup() {
+        Configuration.MenuItem subMenuItem = new Configuration.MenuItem("Users", "/users", null,
+                                                                        Collections.emptyList());
+        Configuration.MenuItem menuItem = new Configuration.MenuItem("Admin", "/admin", "fw-settings",
+                                                                     Collections.singletonList(subMenuItem));
+        Configuration.MenuItem homeMenuItem = new Configuration.MenuItem("Home", "/", "fw-home",
+                                                                         Collections.emptyList());
+        Lookup lookup = createLookup();
+        Configuration configuration = lookup.getConfiguration();
+        when(configuration.getMenu("main")).thenReturn(Arrays.asList(homeMenuItem, menuItem));
+        return lookup;
+    }
+
+    private static API createAuthorizedAPI(boolean hasPermission) {
+        API api = createAPI();
+        when(api.hasPermission(any(Permission.class))).thenReturn(hasPermission);
+        return api;
+    }
+
+    @Test
+    public void testMenu() {
+        HbsRenderable renderable = createRenderable(
+                "{{#menu \"main\"}}" +
+                        "<a href=\"{{link}}\">{{text}}</a>" +
+                        "{{#if @nested}}[{{#menu subMenus}}{{text}}{{/menu}}]{{/if}}" +
+                        "{{/menu}}");
+        Lookup lookup = createMenuLookup();
+        String expectedOutput = "<a href=\"/\">Home</a><a href=\"/admin\">Admin</a>[Users]";
+        // Second rendering is served from the cache.
+        Assert.assertEquals(renderable.render(null, lookup, createRequestLookup(), createAPI()), expectedOutput);
+        Assert.assertEquals(renderable.render(null, lookup, createRequestLookup(), createAPI()), expectedOutput);
+    }
+
+    @Test
+    public void testSecuredMenu() {
+        HbsRenderable renderable = createRenderable(
+                "{{#menu \"main\"}}{{#secured \"/menu\" \"view\"}}{{text}};{{/secured}}{{/menu}}");
+        Lookup lookup = createMenuLookup();
+        String output = renderable.render(null, lookup, createRequestLookup(), createAuthorizedAPI(true));
+        Assert.assertEquals(output, "Home;Admin;");
+        output = renderable.render(null, lookup, createRequestLookup(), createAuthorizedAPI(false));
+        Assert.assertEquals(output, "");
+        output = renderable.render(null, lookup, createRequestLookup(), createAuthorizedAPI(true));
+        Assert.assertEquals(output, "Home;Admin;");
+    }
+}
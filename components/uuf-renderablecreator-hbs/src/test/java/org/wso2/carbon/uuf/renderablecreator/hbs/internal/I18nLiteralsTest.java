@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.renderablecreator.hbs.internal;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for rewriting literal i18n helper calls.
+ *
+ * @since 1.0.0
+ */
+public class I18nLiteralsTest {
+
+    @DataProvider
+    public Object[][] dynamicCalls() {
+        return new Object[][]{
+                {"{{i18n key}}"},
+                {"{{i18n \"test.hello.name\" @params.name}}"},
+                {"{{i18n \"test.hello\" locale=\"fr\"}}"},
+                {"\\{{i18n \"test.hello\"}}"},
+                {"{{{i18n \"test.hello\"}}"}
+        };
+    }
+
+    @Test
+    public void testRewriteLiteralCalls() {
+        String rewritten = I18nLiterals.rewrite("<p>{{i18n \"test.hello\"}}</p>{{{i18n 'test.bye'}}}" +
+                                                        "{{~ i18n \"test.hello\" ~}}");
+        int helloIndex = rewritten.indexOf(I18nLiterals.VARIABLE_PREFIX);
+        String helloVariable = rewritten.substring(helloIndex, rewritten.indexOf('}', helloIndex));
+        Assert.assertEquals(I18nLiterals.getKey(helloVariable), "test.hello");
+        int byeIndex = rewritten.indexOf(I18nLiterals.VARIABLE_PREFIX, helloIndex + 1);
+        String byeVariable = rewritten.substring(byeIndex, rewritten.indexOf('}', byeIndex));
+        Assert.assertEquals(I18nLiterals.getKey(byeVariable), "test.bye");
+
+        Assert.assertEquals(rewritten, "<p>{{" + helloVariable + "}}</p>{{{" + byeVariable + "}}}{{~" +
+                helloVariable + "~}}");
+    }
+
+    @Test(dataProvider = "dynamicCalls")
+    public void testDynamicCallsAreNotRewritten(String templateContent) {
+        Assert.assertEquals(I18nLiterals.rewrite(templateContent), templateContent);
+    }
+
+    @Test
+    public void testGetKeyOfOtherVariables() {
+        Assert.assertNull(I18nLiterals.getKey("@params"));
+        Assert.assertNull(I18nLiterals.getKey(I18nLiterals.VARIABLE_PREFIX + "x"));
+        Assert.assertNull(I18nLiterals.getKey(I18nLiterals.VARIABLE_PREFIX + Integer.MAX_VALUE));
+    }
+}
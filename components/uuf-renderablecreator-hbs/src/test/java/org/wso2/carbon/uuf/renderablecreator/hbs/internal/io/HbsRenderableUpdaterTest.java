@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2016, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.renderablecreator.hbs.internal.io;
+
+import com.github.jknack.handlebars.io.TemplateSource;
+import org.apache.commons.io.FileUtils;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.api.reference.FileReference;
+import org.wso2.carbon.uuf.api.reference.PageReference;
+import org.wso2.carbon.uuf.renderablecreator.hbs.core.MutableHbsRenderable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for the {@link HbsRenderableUpdater} class.
+ *
+ * @since 1.0.0
+ */
+public class HbsRenderableUpdaterTest {
+
+    private static final long RELOAD_TIMEOUT_MILLIS = 5000;
+
+    private Path pagesDirectory;
+    private HbsRenderableUpdater renderableUpdater;
+
+    @BeforeMethod
+    public void createUpdater() throws IOException {
+        pagesDirectory = Files.createTempDirectory("uuf-renderable-updater");
+        renderableUpdater = new HbsRenderableUpdater();
+    }
+
+    @AfterMethod
+    public void finishUpdater() throws IOException {
+        renderableUpdater.finish();
+        FileUtils.deleteDirectory(pagesDirectory.toFile());
+    }
+
+    private MutableHbsRenderable watch(Path file) {
+        FileReference renderingFile = mock(FileReference.class);
+        when(renderingFile.getAbsolutePath()).thenReturn(file.toString());
+        PageReference pageReference = mock(PageReference.class);
+        when(pageReference.getRenderingFile()).thenReturn(renderingFile);
+        MutableHbsRenderable renderable = mock(MutableHbsRenderable.class);
+        when(renderable.getComponentPath()).thenReturn("/root");
+        when(renderable.getMutableExecutable()).thenReturn(Optional.empty());
+        renderableUpdater.add(pageReference, renderable);
+        return renderable;
+    }
+
+    private Path write(String fileName, String content) throws IOException {
+        return Files.write(pagesDirectory.resolve(fileName), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testChangesCoalesced() throws Exception {
+        // Files are created before they are watched, so that creating one does not count as a change.
+        Path changedFile = write("changed.hbs", "initial");
+        Path unchangedFile = write("unchanged.hbs", "initial");
+        MutableHbsRenderable changedRenderable = watch(changedFile);
+        MutableHbsRenderable unchangedRenderable = watch(unchangedFile);
+        renderableUpdater.start();
+
+        // Several writes within the debounce window, as an editor does for a single save.
+        for (int i = 1; i <= 5; i++) {
+            write("changed.hbs", "content " + i);
+        }
+        ArgumentCaptor<TemplateSource> templateSource = ArgumentCaptor.forClass(TemplateSource.class);
+        verify(changedRenderable, timeout(RELOAD_TIMEOUT_MILLIS)).reload(templateSource.capture());
+        Assert.assertEquals(templateSource.getValue().content(), "content 5");
+        Thread.sleep(500L);
+        verify(changedRenderable, times(1)).reload(any());
+        // Only the changed file is reloaded, not every watched file in the directory.
+        verify(unchangedRenderable, never()).reload(any());
+    }
+
+    @Test
+    public void testDebounceCapped() throws Exception {
+        MutableHbsRenderable renderable = watch(write("index.hbs", "initial"));
+        renderableUpdater.start();
+
+        // Changes keep coming within the debounce window, yet the file is reloaded while they are still coming.
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            try {
+                for (int i = 0; writing.get(); i++) {
+                    write("index.hbs", "content " + i);
+                    Thread.sleep(20L);
+                }
+            } catch (IOException | InterruptedException e) {
+                writing.set(false);
+            }
+        });
+        writer.start();
+        try {
+            verify(renderable, timeout(2500L).atLeastOnce()).reload(any());
+            Assert.assertTrue(writing.get(), "Writer stopped before the file is reloaded.");
+        } finally {
+            writing.set(false);
+            writer.join();
+        }
+    }
+
+    @Test
+    public void testPendingReloadsDeduplicated() throws Exception {
+        MutableHbsRenderable renderable = watch(write("index.hbs", "initial"));
+        CountDownLatch reloadBlocker = new CountDownLatch(1);
+        AtomicInteger reloadsCount = new AtomicInteger();
+        doAnswer(invocation -> {
+            reloadsCount.incrementAndGet();
+            reloadBlocker.await(RELOAD_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(renderable).reload(any());
+        renderableUpdater.start();
+
+        /* Changes in separate debounce rounds while reloads are blocked. Each reloader thread (at most 4) takes one
+        reload; after that a change of a file whose reload is already queued does not queue another one. */
+        int roundsCount = 8;
+        for (int i = 0; i < roundsCount; i++) {
+            write("index.hbs", "content " + i);
+            Thread.sleep(250L);
+        }
+        reloadBlocker.countDown();
+        Thread.sleep(500L);
+        Assert.assertTrue(reloadsCount.get() >= 1, "File is not reloaded.");
+        Assert.assertTrue(reloadsCount.get() <= 5, "Queued reloads are not deduplicated; reloaded " +
+                reloadsCount.get() + " times for " + roundsCount + " changes.");
+    }
+}
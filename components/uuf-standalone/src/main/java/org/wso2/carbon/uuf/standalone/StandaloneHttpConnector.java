@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.standalone;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uuf.api.Server;
+import org.wso2.carbon.uuf.httpconnector.netty.UUFHttpHandler;
+import org.wso2.carbon.uuf.httpconnector.netty.UUFNettyServer;
+import org.wso2.carbon.uuf.spi.HttpConnector;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HTTP connector of the standalone runtime. Serves the registered UUF apps through a Netty HTTP server that is started
+ * and stopped explicitly, instead of through the OSGi component lifecycle.
+ *
+ * @since 1.0.0
+ */
+public class StandaloneHttpConnector implements HttpConnector {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StandaloneHttpConnector.class);
+    private static final int DEFAULT_MAX_CONTENT_LENGTH = 10 * 1024 * 1024;
+
+    private final int port;
+    private final Set<String> appContextPaths = ConcurrentHashMap.newKeySet();
+    private final UUFNettyServer nettyServer;
+    private volatile Server uufServer;
+
+    /**
+     * Creates a new connector for the given port.
+     *
+     * @param port port to listen on, or {@code 0} to listen on an ephemeral port
+     */
+    public StandaloneHttpConnector(int port) {
+        this(port, Runtime.getRuntime().availableProcessors() * 2, DEFAULT_MAX_CONTENT_LENGTH);
+    }
+
+    /**
+     * Creates a new connector.
+     *
+     * @param port             port to listen on, or {@code 0} to listen on an ephemeral port
+     * @param workerThreads    number of threads that serve requests
+     * @param maxContentLength maximum length of a request body in bytes
+     */
+    public StandaloneHttpConnector(int port, int workerThreads, int maxContentLength) {
+        if (port < 0) {
+            throw new IllegalArgumentException("Port cannot be negative.");
+        }
+        this.port = port;
+        this.nettyServer = new UUFNettyServer(new UUFHttpHandler(() -> uufServer, appContextPaths), workerThreads,
+                                              maxContentLength);
+    }
+
+    @Override
+    public void setServer(Server server) {
+        this.uufServer = server;
+    }
+
+    @Override
+    public void registerApp(String appName, String appContextPath) {
+        appContextPaths.add(appContextPath);
+        LOGGER.info("UUF app '{}' is available at '{}'.", appName, appContextPath);
+    }
+
+    /**
+     * Starts listening for HTTP requests.
+     */
+    public void start() {
+        nettyServer.start(port);
+        LOGGER.debug("Standalone HTTP connector listening on port {}.", getPort());
+    }
+
+    /**
+     * Stops listening for HTTP requests and releases the threads of this connector.
+     */
+    public void stop() {
+        nettyServer.stop();
+    }
+
+    /**
+     * Returns the port this connector is listening on.
+     *
+     * @return the actual port if this connector is started, otherwise the configured port
+     */
+    public int getPort() {
+        int actualPort = nettyServer.getPort();
+        return (actualPort == -1) ? port : actualPort;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.standalone;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts a {@link StandaloneServer} with a {@link StandaloneHttpConnector} from the command line.
+ * <p>
+ * Usage: {@code java -jar org.wso2.carbon.uuf.standalone-<version>-launcher.jar <apps-directory> [port]}
+ *
+ * @since 1.0.0
+ */
+public class StandaloneLauncher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StandaloneLauncher.class);
+    private static final int DEFAULT_PORT = 9292;
+
+    public static void main(String[] args) {
+        if ((args.length < 1) || (args.length > 2)) {
+            System.err.println("Usage: " + StandaloneLauncher.class.getName() + " <apps-directory> [port]");
+            System.exit(1);
+        }
+        Path appsRepository = Paths.get(args[0]).toAbsolutePath();
+        if (!Files.isDirectory(appsRepository)) {
+            System.err.println("Apps directory '" + appsRepository + "' does not exist.");
+            System.exit(1);
+        }
+        int port = (args.length == 2) ? Integer.parseInt(args[1]) : DEFAULT_PORT;
+
+        long startTime = System.nanoTime();
+        StandaloneServer server = new StandaloneServer(appsRepository);
+        StandaloneHttpConnector httpConnector = new StandaloneHttpConnector(port);
+        server.addHttpConnector(httpConnector);
+        httpConnector.start();
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            httpConnector.stop();
+            server.stop();
+        }, "uuf-standalone-shutdown"));
+        LOGGER.info("UUF started on port {} in {} ms.", httpConnector.getPort(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.standalone;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uuf.api.Server;
+import org.wso2.carbon.uuf.internal.RequestDispatcher;
+import org.wso2.carbon.uuf.internal.deployment.AppCreator;
+import org.wso2.carbon.uuf.internal.deployment.AppFinder;
+import org.wso2.carbon.uuf.internal.deployment.AppRegistry;
+import org.wso2.carbon.uuf.internal.io.deployment.ArtifactAppFinder;
+import org.wso2.carbon.uuf.internal.io.deployment.ArtifactAppSnapshotStore;
+import org.wso2.carbon.uuf.internal.io.util.ZipArtifactHandler;
+import org.wso2.carbon.uuf.spi.HttpConnector;
+import org.wso2.carbon.uuf.spi.HttpRequest;
+import org.wso2.carbon.uuf.spi.HttpResponse;
+import org.wso2.carbon.uuf.spi.RenderableCreator;
+import org.wso2.carbon.uuf.standalone.internal.FlatClassLoaderProvider;
+import org.wso2.carbon.uuf.standalone.internal.ReflectivePluginProvider;
+import org.wso2.carbon.uuf.standalone.internal.SkippingRestApiDeployer;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * UUF server that runs apps without an OSGi container. All the classes are loaded through a single class loader and
+ * apps are deployed from an apps repository directory, in the same format as in {@code deployment/uufapps} of a
+ * Carbon server.
+ * <p>
+ * REST APIs of apps are not deployed, as there is no microservices runtime to deploy them to.
+ *
+ * @since 1.0.0
+ */
+public class StandaloneServer implements Server {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StandaloneServer.class);
+
+    private final AppFinder appFinder;
+    private final AppRegistry appRegistry;
+    private final RequestDispatcher requestDispatcher;
+    private final List<HttpConnector> httpConnectors;
+    private boolean deployInBackground;
+    private List<Pair<String, String>> availableApps;
+
+    /**
+     * Creates a new server for the apps in the given repository, using the renderable creators available through the
+     * {@link ServiceLoader} of the class loader of this class.
+     *
+     * @param appsRepository apps repository directory
+     */
+    public StandaloneServer(Path appsRepository) {
+        this(appsRepository, loadRenderableCreators(StandaloneServer.class.getClassLoader()),
+             StandaloneServer.class.getClassLoader());
+    }
+
+    /**
+     * Creates a new server for the apps in the given repository.
+     *
+     * @param appsRepository     apps repository directory
+     * @param renderableCreators renderable creators to create the pages, layouts and fragments of the apps
+     * @param classLoader        class loader to load the classes of the apps and their plugins
+     */
+    public StandaloneServer(Path appsRepository, Set<RenderableCreator> renderableCreators,
+                            ClassLoader classLoader) {
+        if (renderableCreators.isEmpty()) {
+            throw new IllegalArgumentException("At least one renderable creator is required.");
+        }
+        this.appFinder = new ArtifactAppFinder(appsRepository);
+        AppCreator appCreator = new AppCreator(renderableCreators, new FlatClassLoaderProvider(classLoader),
+                                               new ReflectivePluginProvider(), new SkippingRestApiDeployer(),
+                                               new ArtifactAppSnapshotStore());
+        this.appRegistry = new AppRegistry(appFinder, appCreator);
+        this.requestDispatcher = new RequestDispatcher();
+        this.httpConnectors = new ArrayList<>();
+        this.deployInBackground = true;
+        this.availableApps = Collections.emptyList();
+    }
+
+    /**
+     * Sets whether the apps are deployed in the background when this server starts. Otherwise an app is deployed when
+     * the first request for it is served, which keeps the startup time of this server to a minimum. Default is
+     * {@code true}.
+     *
+     * @param deployInBackground whether to deploy the apps in the background on start
+     */
+    public void setDeployInBackground(boolean deployInBackground) {
+        this.deployInBackground = deployInBackground;
+    }
+
+    /**
+     * Adds the given HTTP connector to this server. Apps are registered in the connector when this server starts.
+     *
+     * @param httpConnector HTTP connector to be added
+     */
+    public void addHttpConnector(HttpConnector httpConnector) {
+        httpConnector.setServer(this);
+        httpConnectors.add(httpConnector);
+    }
+
+    /**
+     * Finds the apps in the apps repository and registers them in the HTTP connectors of this server. When the apps
+     * are deployed in the background, requests for an app that is still being deployed get a 503 response.
+     */
+    public void start() {
+        availableApps = appFinder.getAvailableApps();
+        if (deployInBackground) {
+            appRegistry.deployApps(availableApps.stream().map(Pair::getRight).collect(Collectors.toList()));
+        }
+        availableApps.forEach(this::registerApp);
+        LOGGER.info("Standalone UUF server started with {} app(s).", availableApps.size());
+    }
+
+    private void registerApp(Pair<String, String> appNameContextPath) {
+        for (HttpConnector httpConnector : httpConnectors) {
+            httpConnector.registerApp(appNameContextPath.getLeft(), appNameContextPath.getRight());
+        }
+    }
+
+    /**
+     * Retires the deployed apps of this server.
+     */
+    public void stop() {
+        appRegistry.clear();
+        ZipArtifactHandler.closeArtifacts();
+        availableApps = Collections.emptyList();
+    }
+
+    /**
+     * Returns the names and the context paths of the apps found when this server started.
+     *
+     * @return names and context paths of the apps
+     */
+    public List<Pair<String, String>> getAvailableApps() {
+        return availableApps;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serve(HttpRequest request, HttpResponse response) {
+        requestDispatcher.serve(request, response, appRegistry);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reloadComponent(String appContextPath, String componentContextPath) {
+        appRegistry.reloadComponent(appContextPath, componentContextPath);
+    }
+
+    private static Set<RenderableCreator> loadRenderableCreators(ClassLoader classLoader) {
+        Set<RenderableCreator> renderableCreators = new HashSet<>();
+        for (RenderableCreator renderableCreator : ServiceLoader.load(RenderableCreator.class, classLoader)) {
+            renderableCreators.add(renderableCreator);
+            LOGGER.debug("RenderableCreator '{}' loaded for {} extensions.", renderableCreator.getClass().getName(),
+                         renderableCreator.getSupportedFileExtensions());
+        }
+        return renderableCreators;
+    }
+}
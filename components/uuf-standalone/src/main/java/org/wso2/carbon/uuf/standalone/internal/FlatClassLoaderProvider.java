@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.standalone.internal;
+
+import org.wso2.carbon.uuf.api.reference.ComponentReference;
+import org.wso2.carbon.uuf.internal.deployment.ClassLoaderProvider;
+
+/**
+ * Class loader provider that loads the classes of all UUF components through a single class loader.
+ *
+ * @since 1.0.0
+ */
+public class FlatClassLoaderProvider implements ClassLoaderProvider {
+
+    private final ClassLoader classLoader;
+
+    public FlatClassLoaderProvider(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClassLoader getClassLoader(String componentName, String componentVersion,
+                                      ComponentReference componentReference) {
+        return classLoader;
+    }
+}
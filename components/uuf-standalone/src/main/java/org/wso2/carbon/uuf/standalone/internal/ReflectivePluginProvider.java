@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.standalone.internal;
+
+import org.wso2.carbon.uuf.internal.deployment.PluginProvider;
+import org.wso2.carbon.uuf.internal.exception.PluginLoadingException;
+
+/**
+ * Plugins provider that instantiates plugins from their classes, as there is no service registry to look them up.
+ *
+ * @since 1.0.0
+ */
+public class ReflectivePluginProvider implements PluginProvider {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T getPluginInstance(Class<T> type, String className, ClassLoader classLoader)
+            throws PluginLoadingException {
+        Object pluginInstance;
+        try {
+            pluginInstance = classLoader.loadClass(className).newInstance();
+        } catch (ClassNotFoundException e) {
+            throw new PluginLoadingException(
+                    "Cannot load plugin '" + className + "' via the class loader '" + classLoader + "'.", e);
+        } catch (IllegalAccessException | InstantiationException | SecurityException e) {
+            throw new PluginLoadingException(
+                    "Cannot instantiate plugin '" + className + "' via the class loader '" + classLoader + "'.", e);
+        }
+
+        try {
+            return type.cast(pluginInstance);
+        } catch (ClassCastException e) {
+            throw new PluginLoadingException(
+                    "Plugin '" + className + "' is not a sub class of the plugin type '" + type.getName() + "'.", e);
+        }
+    }
+}
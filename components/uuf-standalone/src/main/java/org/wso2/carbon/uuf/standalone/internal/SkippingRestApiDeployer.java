@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.standalone.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.uuf.api.RestApi;
+import org.wso2.carbon.uuf.internal.deployment.RestApiDeployer;
+import org.wso2.carbon.uuf.internal.exception.RestApiDeploymentException;
+
+/**
+ * REST API deployer that skips the REST APIs of apps, as there is no microservices runtime to deploy them to.
+ *
+ * @since 1.0.0
+ */
+public class SkippingRestApiDeployer implements RestApiDeployer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SkippingRestApiDeployer.class);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deploy(RestApi restApi, String apiContextPath) throws RestApiDeploymentException {
+        LOGGER.warn("REST API '{}' is not deployed to '{}' as REST APIs are not supported in the standalone runtime.",
+                    restApi.getClass().getName(), apiContextPath);
+    }
+}
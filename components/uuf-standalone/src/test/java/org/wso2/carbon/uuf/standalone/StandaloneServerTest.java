@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.standalone;
+
+import org.apache.commons.io.IOUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.api.Server;
+import org.wso2.carbon.uuf.spi.HttpConnector;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for the standalone UUF runtime.
+ *
+ * @since 1.0.0
+ */
+public class StandaloneServerTest {
+
+    private StandaloneServer server;
+    private StandaloneHttpConnector httpConnector;
+
+    @BeforeClass
+    public void startServer() throws URISyntaxException {
+        Path appsRepository = Paths.get(StandaloneServerTest.class.getResource("/apps").toURI());
+        server = new StandaloneServer(appsRepository);
+        server.setDeployInBackground(false);
+        httpConnector = new StandaloneHttpConnector(0);
+        server.addHttpConnector(httpConnector);
+        httpConnector.start();
+        server.start();
+    }
+
+    @AfterClass
+    public void stopServer() {
+        httpConnector.stop();
+        server.stop();
+    }
+
+    private HttpURLConnection request(String uri) throws IOException {
+        URL url = new URL("http://localhost:" + httpConnector.getPort() + uri);
+        return (HttpURLConnection) url.openConnection();
+    }
+
+    @Test
+    public void testAvailableApps() {
+        Assert.assertEquals(server.getAvailableApps().size(), 1);
+        Assert.assertEquals(server.getAvailableApps().get(0).getRight(), "/standalone");
+    }
+
+    @Test
+    public void testServingPage() throws IOException {
+        HttpURLConnection connection = request("/standalone/");
+        Assert.assertEquals(connection.getResponseCode(), 200);
+        try (InputStream inputStream = connection.getInputStream()) {
+            String content = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+            Assert.assertTrue(content.contains("Hello from the standalone runtime"), content);
+        }
+    }
+
+    @Test
+    public void testAppsRegisteredBeforeDeployment() throws URISyntaxException {
+        Path appsRepository = Paths.get(StandaloneServerTest.class.getResource("/apps").toURI());
+        StandaloneServer backgroundServer = new StandaloneServer(appsRepository);
+        List<String> registeredContextPaths = new ArrayList<>();
+        backgroundServer.addHttpConnector(new HttpConnector() {
+            @Override
+            public void setServer(Server server) {
+            }
+
+            @Override
+            public void registerApp(String appName, String appContextPath) {
+                registeredContextPaths.add(appContextPath);
+            }
+        });
+        try {
+            backgroundServer.start();
+            // Apps are registered right away; requests that arrive while they are being deployed get a 503 response.
+            Assert.assertEquals(registeredContextPaths.size(), 1);
+            Assert.assertEquals(registeredContextPaths.get(0), "/standalone");
+        } finally {
+            backgroundServer.stop();
+        }
+    }
+
+    @Test
+    public void testUnknownApp() throws IOException {
+        Assert.assertEquals(request("/unknown/").getResponseCode(), 404);
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.loadgen;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs a {@link Workload} against a UUF app and measures the latencies of its scenarios with HdrHistogram.
+ * <p>
+ * In the open model requests are started at evenly spaced intended start times and are sent through a fixed number
+ * of connections. Latencies are measured from the intended start times, so they are not affected by coordinated
+ * omission. In the closed model each user sends its next request only after the previous response, as ApacheBench
+ * does. If the workload has a pacing interval, each user intends to start a request at every interval and latencies
+ * are measured from those intended start times as well. Otherwise there is no intended start time, hence closed model
+ * latencies are reported as measured, without correcting for coordinated omission.
+ * <p>
+ * Requests are sent through {@link java.net.HttpURLConnection}, which keeps at most {@code http.maxConnections}
+ * (default 5) idle connections per host alive. Hence that property is raised to the concurrency of the workload when a
+ * load generator is created; this takes effect only if no HTTP connection has been kept alive in this JVM yet.
+ * <p>
+ * Usage: {@code java -jar loadgen.jar <workload-file> [output-directory]}
+ *
+ * @since 1.0.0
+ */
+public class LoadGenerator {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long DRAIN_TIMEOUT_SECONDS = 60;
+    private static final int SIGNIFICANT_VALUE_DIGITS = 3;
+    private static final String PROPERTY_HTTP_MAX_CONNECTIONS = "http.maxConnections";
+    private static final int DEFAULT_HTTP_MAX_CONNECTIONS = 5;
+
+    private final Workload workload;
+    private final List<VirtualUser> users;
+    private final AtomicInteger nextUserIndex;
+
+    public LoadGenerator(Workload workload) {
+        // Otherwise connections beyond the keep-alive cache are closed, and most requests open a new connection.
+        if (Integer.getInteger(PROPERTY_HTTP_MAX_CONNECTIONS, DEFAULT_HTTP_MAX_CONNECTIONS) <
+                workload.getMaxConcurrency()) {
+            System.setProperty(PROPERTY_HTTP_MAX_CONNECTIONS, String.valueOf(workload.getMaxConcurrency()));
+        }
+        this.workload = workload;
+        this.users = IntStream.range(0, workload.getUsers())
+                .mapToObj(i -> new VirtualUser(workload.getBaseUrl()))
+                .collect(Collectors.toList());
+        this.nextUserIndex = new AtomicInteger();
+    }
+
+    /**
+     * Logs the users in if the workload requires so, and then measures each load of the workload after warming up.
+     *
+     * @return results of the loads, in the order of the loads in the workload
+     * @throws InterruptedException if interrupted while waiting for requests to complete
+     */
+    public List<LoadResult> run() throws InterruptedException {
+        if (workload.getLoginUri() != null) {
+            for (VirtualUser user : users) {
+                user.logIn(workload.getLoginUri(), workload.getLoginFormParams());
+            }
+        }
+
+        if (!workload.isCoordinatedOmissionFree()) {
+            System.out.println("Latencies of the closed model without pacing are not corrected for coordinated " +
+                                       "omission.");
+        }
+        List<LoadResult> results = new ArrayList<>();
+        String loadName = (workload.getModel() == Workload.Model.OPEN) ? "rate" : "concurrency";
+        for (int load : workload.getLoads()) {
+            if (workload.getWarmUpSeconds() > 0) {
+                System.out.printf(Locale.ENGLISH, "Warming up '%s' at %s %d for %d s%n", workload.getName(), loadName,
+                                  load, workload.getWarmUpSeconds());
+                measure(load, workload.getWarmUpSeconds());
+            }
+            System.out.printf(Locale.ENGLISH, "Testing '%s' at %s %d for %d s%n", workload.getName(), loadName, load,
+                              workload.getDurationSeconds());
+            LoadResult result = measure(load, workload.getDurationSeconds());
+            ScenarioResult all = result.getScenarios().get(result.getScenarios().size() - 1);
+            System.out.printf(Locale.ENGLISH, "\t%d requests, %d errors, %.1f req/s, mean %.3f ms, p99 %.3f ms, " +
+                                      "max %.3f ms%n", all.getRequests(), all.getErrors(), all.getThroughput(),
+                              all.getMeanLatency(), all.getP99Latency(), all.getMaxLatency());
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * Sends requests at the given load for the given time and measures them.
+     *
+     * @param load    request rate or concurrency level, depending on the model of the workload
+     * @param seconds time to send requests
+     * @return measured results
+     * @throws InterruptedException if interrupted while waiting for requests to complete
+     */
+    public LoadResult measure(int load, int seconds) throws InterruptedException {
+        Map<Scenario, ScenarioRecorder> recorders = new LinkedHashMap<>();
+        workload.getScenarios().forEach(scenario -> recorders.put(scenario, new ScenarioRecorder(scenario)));
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + (seconds * NANOS_PER_SECOND);
+        if (workload.getModel() == Workload.Model.OPEN) {
+            runOpen(load, startNanos, endNanos, recorders);
+        } else {
+            runClosed(load, endNanos, recorders);
+        }
+        double elapsedSeconds = (System.nanoTime() - startNanos) / (double) NANOS_PER_SECOND;
+
+        List<ScenarioResult> results = new ArrayList<>();
+        Histogram allResponseTimes = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+        Histogram allServiceTimes = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+        long allErrors = 0;
+        for (ScenarioRecorder recorder : recorders.values()) {
+            Histogram responseTimes = recorder.getResponseTimes();
+            Histogram serviceTimes = recorder.getServiceTimes();
+            results.add(new ScenarioResult(recorder.getScenario().getName(), responseTimes, serviceTimes,
+                                           recorder.getErrors(), elapsedSeconds));
+            allResponseTimes.add(responseTimes);
+            allServiceTimes.add(serviceTimes);
+            allErrors += recorder.getErrors();
+        }
+        results.add(new ScenarioResult(LoadResult.ALL_SCENARIOS, allResponseTimes, allServiceTimes, allErrors,
+                                       elapsedSeconds));
+        return new LoadResult(load, results);
+    }
+
+    private void runOpen(int rate, long startNanos, long endNanos, Map<Scenario, ScenarioRecorder> recorders)
+            throws InterruptedException {
+        int connections = workload.getConnections();
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                connections, connections, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> new Thread(runnable, "uuf-loadgen-" + threadCount.incrementAndGet()));
+        executor.prestartAllCoreThreads();
+        double intervalNanos = NANOS_PER_SECOND / (double) rate;
+        Random random = ThreadLocalRandom.current();
+        try {
+            for (long i = 0; ; i++) {
+                long intendedStartNanos = startNanos + (long) (i * intervalNanos);
+                if (intendedStartNanos >= endNanos) {
+                    break;
+                }
+                long delayNanos;
+                while ((delayNanos = intendedStartNanos - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(delayNanos);
+                }
+                executor.execute(new Request(nextUser(), recorders.get(workload.pickScenario(random)),
+                                             intendedStartNanos));
+            }
+        } finally {
+            executor.shutdown();
+            if (!executor.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                // Requests that are still queued could not be sent in time, hence they count as errors.
+                executor.shutdownNow().forEach(request -> ((Request) request).recorder.recordDropped());
+            }
+        }
+    }
+
+    private void runClosed(int concurrency, long endNanos, Map<Scenario, ScenarioRecorder> recorders)
+            throws InterruptedException {
+        long pacingNanos = TimeUnit.MILLISECONDS.toNanos(workload.getPacingMillis());
+        List<Thread> threads = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            VirtualUser user = users.get(i % users.size());
+            threads.add(new Thread(() -> {
+                Random random = ThreadLocalRandom.current();
+                long intendedStartNanos = System.nanoTime();
+                while (intendedStartNanos < endNanos) {
+                    long delayNanos;
+                    while ((delayNanos = intendedStartNanos - System.nanoTime()) > 0) {
+                        LockSupport.parkNanos(delayNanos);
+                    }
+                    new Request(user, recorders.get(workload.pickScenario(random)), intendedStartNanos).run();
+                    // A late response delays the following requests, which is then included in their latencies.
+                    intendedStartNanos = (pacingNanos > 0) ? (intendedStartNanos + pacingNanos) : System.nanoTime();
+                }
+            }, "uuf-loadgen-" + (i + 1)));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    private VirtualUser nextUser() {
+        return users.get((nextUserIndex.getAndIncrement() & Integer.MAX_VALUE) % users.size());
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if ((args.length < 1) || (args.length > 2)) {
+            System.err.println("Usage: " + LoadGenerator.class.getName() + " <workload-file> [output-directory]");
+            System.exit(1);
+        }
+        Workload workload = Workload.fromYaml(Paths.get(args[0]));
+        Path outputDirectory = Paths.get((args.length == 2) ? args[1] : ("target/loadgen/" + workload.getName()));
+        List<LoadResult> results = new LoadGenerator(workload).run();
+        new ResultsWriter(workload, results).write(outputDirectory);
+        System.out.println("Results are written to " + outputDirectory.toAbsolutePath());
+    }
+
+    /**
+     * A single request of a scenario, sent by a user.
+     */
+    private static class Request implements Runnable {
+
+        private final VirtualUser user;
+        private final ScenarioRecorder recorder;
+        private final long intendedStartNanos;
+
+        Request(VirtualUser user, ScenarioRecorder recorder, long intendedStartNanos) {
+            this.user = user;
+            this.recorder = recorder;
+            this.intendedStartNanos = intendedStartNanos;
+        }
+
+        @Override
+        public void run() {
+            long startNanos = System.nanoTime();
+            boolean isError;
+            try {
+                isError = user.send(recorder.getScenario()) >= 400;
+            } catch (UncheckedIOException e) {
+                isError = true;
+            }
+            recorder.record(intendedStartNanos, startNanos, System.nanoTime(), isError);
+        }
+    }
+}
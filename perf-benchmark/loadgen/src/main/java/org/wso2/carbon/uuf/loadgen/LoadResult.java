@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.loadgen;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Measured results of all the scenarios of a workload under a single load.
+ *
+ * @since 1.0.0
+ */
+public class LoadResult {
+
+    /**
+     * Name of the result that aggregates all the scenarios.
+     */
+    public static final String ALL_SCENARIOS = "All";
+
+    private final int load;
+    private final List<ScenarioResult> scenarios;
+
+    /**
+     * Creates a new result.
+     *
+     * @param load      request rate or concurrency level that was measured
+     * @param scenarios results of the scenarios, followed by the aggregated result named {@link #ALL_SCENARIOS}
+     */
+    public LoadResult(int load, List<ScenarioResult> scenarios) {
+        this.load = load;
+        this.scenarios = Collections.unmodifiableList(scenarios);
+    }
+
+    public int getLoad() {
+        return load;
+    }
+
+    public List<ScenarioResult> getScenarios() {
+        return scenarios;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.loadgen;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Writes the results of a workload as CSV files laid out like the {@code results-*.csv} files of {@code run.sh}, and
+ * as a JSON file.
+ * <p>
+ * In the CSV files each scenario is a column and each load is a row, whereas {@code run.sh} uses a column for each
+ * tested server. Hence results of the same workload run against different servers can be compared side by side.
+ *
+ * @since 1.0.0
+ */
+public class ResultsWriter {
+
+    public static final String FILE_THROUGHPUT = "results-tps.csv";
+    public static final String FILE_LATENCY = "results-latency.csv";
+    public static final String FILE_PERCENTILES = "results-percentiles.csv";
+    public static final String FILE_JSON = "results.json";
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private final Workload workload;
+    private final List<LoadResult> results;
+
+    public ResultsWriter(Workload workload, List<LoadResult> results) {
+        this.workload = workload;
+        this.results = results;
+    }
+
+    /**
+     * Writes the results to the given directory, replacing any existing results.
+     *
+     * @param outputDirectory directory to write to; created if it does not exist
+     * @throws IOException if a file cannot be written
+     */
+    public void write(Path outputDirectory) throws IOException {
+        Files.createDirectories(outputDirectory);
+        write(outputDirectory.resolve(FILE_THROUGHPUT), getMetricCsv(ScenarioResult::getThroughput));
+        write(outputDirectory.resolve(FILE_LATENCY), getMetricCsv(ScenarioResult::getMeanLatency));
+        write(outputDirectory.resolve(FILE_PERCENTILES), getPercentilesCsv());
+        write(outputDirectory.resolve(FILE_JSON), getJson());
+    }
+
+    /**
+     * Returns a CSV of the given metric, with a row for each load and a column for each scenario.
+     *
+     * @param metric metric to write
+     * @return CSV content
+     */
+    public String getMetricCsv(ToDoubleFunction<ScenarioResult> metric) {
+        StringBuilder csv = new StringBuilder();
+        csv.append("Test: ").append(workload.getName()).append(",\n");
+        csv.append(getLoadHeader());
+        for (ScenarioResult scenarioResult : results.get(0).getScenarios()) {
+            csv.append(", ").append(scenarioResult.getScenario());
+        }
+        csv.append('\n');
+        for (LoadResult loadResult : results) {
+            csv.append(loadResult.getLoad());
+            for (ScenarioResult scenarioResult : loadResult.getScenarios()) {
+                csv.append(", ").append(format(metric.applyAsDouble(scenarioResult)));
+            }
+            csv.append('\n');
+        }
+        csv.append('\n');
+        return csv.toString();
+    }
+
+    /**
+     * Returns a CSV of the response time percentiles from 0 to 100 of each scenario under each load.
+     *
+     * @return CSV content
+     */
+    public String getPercentilesCsv() {
+        StringBuilder header = new StringBuilder("Test, ").append(getLoadHeader());
+        for (int i = 0; i <= 100; i++) {
+            header.append(", ").append(i);
+        }
+        header.append('\n');
+
+        StringBuilder csv = new StringBuilder();
+        csv.append("Test: ").append(workload.getName()).append(",\n");
+        for (LoadResult loadResult : results) {
+            csv.append(header);
+            for (ScenarioResult scenarioResult : loadResult.getScenarios()) {
+                csv.append(scenarioResult.getScenario()).append(", ").append(loadResult.getLoad());
+                for (double percentile : scenarioResult.getPercentiles()) {
+                    csv.append(", ").append(format(percentile));
+                }
+                csv.append('\n');
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Returns a JSON document with the workload settings and all the results.
+     *
+     * @return JSON content
+     */
+    public String getJson() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("workload", workload.getName());
+        json.put("baseUrl", workload.getBaseUrl());
+        json.put("model", workload.getModel().name().toLowerCase(Locale.ENGLISH));
+        json.put("warmUpSeconds", workload.getWarmUpSeconds());
+        json.put("durationSeconds", workload.getDurationSeconds());
+        json.put("pacingMillis", workload.getPacingMillis());
+        json.put("coordinatedOmissionFree", workload.isCoordinatedOmissionFree());
+        json.put("latencyUnit", "ms");
+        json.put("results", results);
+        return GSON.toJson(json);
+    }
+
+    private String getLoadHeader() {
+        return (workload.getModel() == Workload.Model.OPEN) ? "Rate" : "Concurrency";
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ENGLISH, "%.3f", value);
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(content);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.loadgen;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A single kind of request in a workload, together with its share of the traffic.
+ *
+ * @since 1.0.0
+ */
+public class Scenario {
+
+    /**
+     * Kind of requests sent by a scenario.
+     */
+    public enum Type {
+        /**
+         * GET request to a page.
+         */
+        PAGE,
+        /**
+         * GET request to a fragment, sent the way a page polls a fragment through AJAX.
+         */
+        FRAGMENT,
+        /**
+         * GET request to a static resource.
+         */
+        STATIC,
+        /**
+         * Form POST request, sent with the CSRF token of the session of the user.
+         */
+        POST
+    }
+
+    private final String name;
+    private final Type type;
+    private final String uri;
+    private final int weight;
+    private final Map<String, String> formParams;
+
+    /**
+     * Creates a new scenario.
+     *
+     * @param name       name of this scenario, used in the results
+     * @param type       kind of requests of this scenario
+     * @param uri        URI of the requests, relative to the base URL of the workload
+     * @param weight     relative share of the requests of this scenario in the workload
+     * @param formParams form parameters of the requests; used only for {@link Type#POST} scenarios
+     */
+    public Scenario(String name, Type type, String uri, int weight, Map<String, String> formParams) {
+        if ((name == null) || name.isEmpty()) {
+            throw new IllegalArgumentException("Name of a scenario cannot be null or empty.");
+        }
+        if ((uri == null) || !uri.startsWith("/")) {
+            throw new IllegalArgumentException("URI of scenario '" + name + "' must start with a '/'. Instead found '" +
+                                                       uri + "'.");
+        }
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight of scenario '" + name + "' must be a positive integer. " +
+                                                       "Instead found '" + weight + "'.");
+        }
+        this.name = name;
+        this.type = type;
+        this.uri = uri;
+        this.weight = weight;
+        this.formParams = (formParams == null) ? Collections.emptyMap() : Collections.unmodifiableMap(formParams);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public Map<String, String> getFormParams() {
+        return formParams;
+    }
+
+    @Override
+    public String toString() {
+        return "{\"name\": \"" + name + "\", \"type\": \"" + type + "\", \"uri\": \"" + uri + "\", \"weight\": " +
+                weight + "}";
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.loadgen;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the latencies of the requests of a scenario. Latencies are recorded in microseconds and may be recorded from
+ * several threads at the same time.
+ * <p>
+ * Two latencies are recorded for each request. The response time is measured from the time at which the request was
+ * supposed to be sent, so it includes the time the request waited for a free connection. Hence a stalled server
+ * cannot hide its stall by delaying the requests that would have measured it (coordinated omission). The service time
+ * is measured from the time at which the request was actually sent.
+ *
+ * @since 1.0.0
+ */
+public class ScenarioRecorder {
+
+    private static final int SIGNIFICANT_VALUE_DIGITS = 3;
+
+    private final Scenario scenario;
+    private final Recorder responseTimes;
+    private final Recorder serviceTimes;
+    private final LongAdder errors;
+
+    public ScenarioRecorder(Scenario scenario) {
+        this.scenario = scenario;
+        this.responseTimes = new Recorder(SIGNIFICANT_VALUE_DIGITS);
+        this.serviceTimes = new Recorder(SIGNIFICANT_VALUE_DIGITS);
+        this.errors = new LongAdder();
+    }
+
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    /**
+     * Records a completed request.
+     *
+     * @param intendedStartNanos time at which the request was supposed to be sent, in {@link System#nanoTime()}
+     * @param startNanos         time at which the request was sent
+     * @param endNanos           time at which the response was received, or the request failed
+     * @param isError            whether the request failed or was responded with an error status
+     */
+    public void record(long intendedStartNanos, long startNanos, long endNanos, boolean isError) {
+        responseTimes.recordValue(TimeUnit.NANOSECONDS.toMicros(endNanos - intendedStartNanos));
+        serviceTimes.recordValue(TimeUnit.NANOSECONDS.toMicros(endNanos - startNanos));
+        if (isError) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Records a request that was never sent, e.g. because the test ended before a connection became free.
+     */
+    public void recordDropped() {
+        errors.increment();
+    }
+
+    /**
+     * Returns the response times recorded since the previous call of this method.
+     *
+     * @return response times in microseconds
+     */
+    public Histogram getResponseTimes() {
+        return responseTimes.getIntervalHistogram();
+    }
+
+    /**
+     * Returns the service times recorded since the previous call of this method.
+     *
+     * @return service times in microseconds
+     */
+    public Histogram getServiceTimes() {
+        return serviceTimes.getIntervalHistogram();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.loadgen;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Measured results of a scenario under a single load.
+ *
+ * @since 1.0.0
+ */
+public class ScenarioResult {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final String scenario;
+    private final long requests;
+    private final long errors;
+    private final double throughput;
+    private final double meanLatency;
+    private final double meanServiceTime;
+    private final double p50Latency;
+    private final double p90Latency;
+    private final double p99Latency;
+    private final double p999Latency;
+    private final double maxLatency;
+    private final double[] percentiles;
+
+    /**
+     * Creates a new result. All latencies of the result are in milliseconds.
+     *
+     * @param scenario       name of the scenario
+     * @param responseTimes  response times of the scenario, in microseconds
+     * @param serviceTimes   service times of the scenario, in microseconds
+     * @param errors         number of failed requests
+     * @param elapsedSeconds time taken to complete the requests
+     */
+    public ScenarioResult(String scenario, Histogram responseTimes, Histogram serviceTimes, long errors,
+                          double elapsedSeconds) {
+        this.scenario = scenario;
+        // Response times may have been corrected with synthetic values, hence requests are counted from service times.
+        this.requests = serviceTimes.getTotalCount();
+        this.errors = errors;
+        this.throughput = requests / elapsedSeconds;
+        this.meanLatency = responseTimes.getMean() / MICROS_PER_MILLI;
+        this.meanServiceTime = serviceTimes.getMean() / MICROS_PER_MILLI;
+        this.p50Latency = getPercentile(responseTimes, 50);
+        this.p90Latency = getPercentile(responseTimes, 90);
+        this.p99Latency = getPercentile(responseTimes, 99);
+        this.p999Latency = getPercentile(responseTimes, 99.9);
+        this.maxLatency = responseTimes.getMaxValue() / MICROS_PER_MILLI;
+        this.percentiles = new double[101];
+        for (int i = 0; i < percentiles.length; i++) {
+            percentiles[i] = getPercentile(responseTimes, i);
+        }
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getThroughput() {
+        return throughput;
+    }
+
+    public double getMeanLatency() {
+        return meanLatency;
+    }
+
+    public double getMeanServiceTime() {
+        return meanServiceTime;
+    }
+
+    public double getP50Latency() {
+        return p50Latency;
+    }
+
+    public double getP90Latency() {
+        return p90Latency;
+    }
+
+    public double getP99Latency() {
+        return p99Latency;
+    }
+
+    public double getP999Latency() {
+        return p999Latency;
+    }
+
+    public double getMaxLatency() {
+        return maxLatency;
+    }
+
+    /**
+     * Returns the response time of each percentile from 0 to 100.
+     *
+     * @return response times in milliseconds, indexed by the percentile
+     */
+    public double[] getPercentiles() {
+        return percentiles;
+    }
+
+    private static double getPercentile(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+}
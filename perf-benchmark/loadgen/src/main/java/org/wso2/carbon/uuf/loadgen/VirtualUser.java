@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.loadgen;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+import java.net.HttpCookie;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A user of the app under test, who has its own cookies and hence its own session.
+ * <p>
+ * Responses are read fully, so that the underlying connection is kept alive and reused for the next request. Redirects
+ * are not followed. A user may send requests from several threads at the same time.
+ *
+ * @since 1.0.0
+ */
+public class VirtualUser {
+
+    private static final String COOKIE_CSRF_TOKEN = "CSRFTOKEN";
+    private static final String CONTENT_TYPE_FORM_URLENCODED = "application/x-www-form-urlencoded";
+    private static final int TIMEOUT_MILLIS = 60_000;
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final String baseUrl;
+    private final Map<String, String> cookies;
+
+    /**
+     * Creates a new user.
+     *
+     * @param baseUrl URL of the app, which the URIs of the requests are relative to
+     */
+    public VirtualUser(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.cookies = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Logs this user in by posting the given form parameters, so that the following requests are in a session.
+     *
+     * @param loginUri   URI of the login page, relative to the base URL
+     * @param formParams form parameters of the login request
+     * @throws UncheckedIOException  if the login request fails
+     * @throws IllegalStateException if the server did not create a session
+     */
+    public void logIn(String loginUri, Map<String, String> formParams) {
+        int status = send("POST", loginUri, formParams, false);
+        if ((status >= 400) || !cookies.containsKey(COOKIE_CSRF_TOKEN)) {
+            throw new IllegalStateException("Cannot log in through '" + baseUrl + loginUri + "'. Server responded " +
+                                                    "with status " + status + " and cookies " + cookies.keySet() +
+                                                    ".");
+        }
+    }
+
+    /**
+     * Sends a request of the given scenario and waits for the response.
+     *
+     * @param scenario scenario of the request
+     * @return HTTP status of the response
+     * @throws UncheckedIOException if the request fails
+     */
+    public int send(Scenario scenario) {
+        switch (scenario.getType()) {
+            case POST:
+                return send("POST", scenario.getUri(), scenario.getFormParams(), true);
+            case FRAGMENT:
+                return send("GET", scenario.getUri(), null, true);
+            default:
+                return send("GET", scenario.getUri(), null, false);
+        }
+    }
+
+    private int send(String method, String uri, Map<String, String> formParams, boolean isAjax) {
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) new URL(baseUrl + uri).openConnection();
+            connection.setRequestMethod(method);
+            connection.setInstanceFollowRedirects(false);
+            connection.setUseCaches(false);
+            connection.setConnectTimeout(TIMEOUT_MILLIS);
+            connection.setReadTimeout(TIMEOUT_MILLIS);
+            if (!cookies.isEmpty()) {
+                connection.setRequestProperty("Cookie", getCookieHeader());
+            }
+            if (isAjax) {
+                connection.setRequestProperty("X-Requested-With", "XMLHttpRequest");
+            }
+            if (formParams != null) {
+                byte[] body = getFormBody(formParams);
+                connection.setDoOutput(true);
+                connection.setFixedLengthStreamingMode(body.length);
+                connection.setRequestProperty("Content-Type", CONTENT_TYPE_FORM_URLENCODED);
+                try (OutputStream outputStream = connection.getOutputStream()) {
+                    outputStream.write(body);
+                }
+            }
+
+            int status = connection.getResponseCode();
+            for (Map.Entry<String, List<String>> header : connection.getHeaderFields().entrySet()) {
+                // Header names are case-insensitive, and the status line is keyed by null.
+                if ("Set-Cookie".equalsIgnoreCase(header.getKey())) {
+                    for (String setCookieHeader : header.getValue()) {
+                        HttpCookie.parse(setCookieHeader).forEach(c -> cookies.put(c.getName(), c.getValue()));
+                    }
+                }
+            }
+            InputStream inputStream = (status >= 400) ? connection.getErrorStream() : connection.getInputStream();
+            if (inputStream != null) {
+                try (InputStream in = inputStream) {
+                    byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+                    while (in.read(readBuffer) != -1) {
+                        // Read the whole response, so that the connection can be reused.
+                    }
+                }
+            }
+            return status;
+        } catch (IOException e) {
+            if (connection != null) {
+                connection.disconnect();
+            }
+            throw new UncheckedIOException("Cannot send " + method + " request to '" + baseUrl + uri + "'.", e);
+        }
+    }
+
+    private String getCookieHeader() {
+        StringBuilder cookieHeader = new StringBuilder();
+        cookies.forEach((name, value) -> {
+            if (cookieHeader.length() > 0) {
+                cookieHeader.append("; ");
+            }
+            cookieHeader.append(name).append('=').append(value);
+        });
+        return cookieHeader.toString();
+    }
+
+    private byte[] getFormBody(Map<String, String> formParams) throws UnsupportedEncodingException {
+        StringBuilder body = new StringBuilder();
+        for (Map.Entry<String, String> entry : formParams.entrySet()) {
+            appendFormParam(body, entry.getKey(), entry.getValue());
+        }
+        String csrfToken = cookies.get(COOKIE_CSRF_TOKEN);
+        if ((csrfToken != null) && !formParams.containsKey(COOKIE_CSRF_TOKEN)) {
+            appendFormParam(body, COOKIE_CSRF_TOKEN, csrfToken);
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void appendFormParam(StringBuilder body, String name, String value)
+            throws UnsupportedEncodingException {
+        if (body.length() > 0) {
+            body.append('&');
+        }
+        body.append(URLEncoder.encode(name, "UTF-8")).append('=').append(URLEncoder.encode(value, "UTF-8"));
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.loadgen;
+
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Describes the traffic sent to a UUF app in a load test.
+ * <p>
+ * A workload is read from a YAML file; see {@code perf-benchmark/loadgen/workloads} for examples. Each value in
+ * {@code loads} is tested one after the other. In the {@link Model#OPEN open} model a load is the number of requests
+ * started per second, whereas in the {@link Model#CLOSED closed} model it is the number of users sending requests back
+ * to back.
+ *
+ * @since 1.0.0
+ */
+public class Workload {
+
+    /**
+     * How requests are issued.
+     */
+    public enum Model {
+        /**
+         * Requests arrive at a fixed rate, independent of how fast the server responds.
+         */
+        OPEN,
+        /**
+         * A fixed number of users send a new request as soon as the previous one is responded, like ApacheBench, or
+         * at a fixed pacing interval if one is given.
+         */
+        CLOSED
+    }
+
+    private static final int DEFAULT_WARM_UP_SECONDS = 10;
+    private static final int DEFAULT_DURATION_SECONDS = 30;
+    private static final int DEFAULT_CONNECTIONS = 200;
+
+    private final String name;
+    private final String baseUrl;
+    private final Model model;
+    private final List<Integer> loads;
+    private final int warmUpSeconds;
+    private final int durationSeconds;
+    private final int connections;
+    private final int users;
+    private final int pacingMillis;
+    private final String loginUri;
+    private final Map<String, String> loginFormParams;
+    private final List<Scenario> scenarios;
+    private final int[] cumulativeWeights;
+
+    /**
+     * Creates a new workload.
+     *
+     * @param name            name of this workload, used as the test name in the results
+     * @param baseUrl         URL of the app, e.g. {@code http://localhost:9292/pets-store}
+     * @param model           how requests are issued
+     * @param loads           request rates or concurrency levels to test, depending on the model
+     * @param warmUpSeconds   time to send requests before each load is measured
+     * @param durationSeconds time to measure each load
+     * @param connections     maximum number of requests in flight in the open model
+     * @param users           number of sessions that requests are distributed among
+     * @param pacingMillis    interval at which each user of the closed model starts a request; {@code 0} to send
+     *                        requests back to back
+     * @param loginUri        URI to log each user in, relative to the base URL; {@code null} to not log in
+     * @param loginFormParams form parameters of the login request
+     * @param scenarios       scenarios of this workload
+     */
+    public Workload(String name, String baseUrl, Model model, List<Integer> loads, int warmUpSeconds,
+                    int durationSeconds, int connections, int users, int pacingMillis, String loginUri,
+                    Map<String, String> loginFormParams, List<Scenario> scenarios) {
+        if ((loads == null) || loads.isEmpty() || loads.stream().anyMatch(load -> load <= 0)) {
+            throw new IllegalArgumentException("Loads of workload '" + name + "' must be a non-empty list of " +
+                                                       "positive integers. Instead found '" + loads + "'.");
+        }
+        if ((scenarios == null) || scenarios.isEmpty()) {
+            throw new IllegalArgumentException("Workload '" + name + "' must have at least one scenario.");
+        }
+        if ((warmUpSeconds < 0) || (durationSeconds <= 0) || (connections <= 0) || (users <= 0)) {
+            throw new IllegalArgumentException("Warm-up time of workload '" + name + "' cannot be negative and its " +
+                                                       "duration, connections & users must be positive.");
+        }
+        if (pacingMillis < 0) {
+            throw new IllegalArgumentException("Pacing of workload '" + name + "' cannot be negative. Instead found '" +
+                                                       pacingMillis + "'.");
+        }
+        this.name = name;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.model = model;
+        this.loads = Collections.unmodifiableList(new ArrayList<>(loads));
+        this.warmUpSeconds = warmUpSeconds;
+        this.durationSeconds = durationSeconds;
+        this.connections = connections;
+        this.users = users;
+        this.pacingMillis = pacingMillis;
+        this.loginUri = loginUri;
+        this.loginFormParams = (loginFormParams == null) ? Collections.emptyMap() : loginFormParams;
+        this.scenarios = Collections.unmodifiableList(new ArrayList<>(scenarios));
+        this.cumulativeWeights = new int[scenarios.size()];
+        int totalWeight = 0;
+        for (int i = 0; i < scenarios.size(); i++) {
+            totalWeight += scenarios.get(i).getWeight();
+            cumulativeWeights[i] = totalWeight;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public List<Integer> getLoads() {
+        return loads;
+    }
+
+    public int getWarmUpSeconds() {
+        return warmUpSeconds;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public int getConnections() {
+        return connections;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getPacingMillis() {
+        return pacingMillis;
+    }
+
+    /**
+     * Returns whether latencies of this workload are measured from the intended start times of the requests, and hence
+     * are free of coordinated omission. This is not the case in the closed model without pacing, where a request has
+     * no intended start time other than the time the previous response was received.
+     *
+     * @return {@code true} if latencies are measured from intended start times
+     */
+    public boolean isCoordinatedOmissionFree() {
+        return (model == Model.OPEN) || (pacingMillis > 0);
+    }
+
+    /**
+     * Returns the maximum number of requests this workload has in flight at the same time.
+     *
+     * @return maximum number of concurrent requests
+     */
+    public int getMaxConcurrency() {
+        return (model == Model.OPEN) ? connections : Collections.max(loads);
+    }
+
+    public String getLoginUri() {
+        return loginUri;
+    }
+
+    public Map<String, String> getLoginFormParams() {
+        return loginFormParams;
+    }
+
+    public List<Scenario> getScenarios() {
+        return scenarios;
+    }
+
+    /**
+     * Picks a scenario at random, in proportion to the weights of the scenarios.
+     *
+     * @param random random number generator to use
+     * @return picked scenario
+     */
+    public Scenario pickScenario(Random random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return scenarios.get(i);
+            }
+        }
+        throw new IllegalStateException("Cannot pick a scenario for value " + value + "."); // unreachable
+    }
+
+    /**
+     * Reads a workload from the given YAML file.
+     *
+     * @param workloadFile YAML file to read
+     * @return read workload
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file does not describe a valid workload
+     */
+    public static Workload fromYaml(Path workloadFile) throws IOException {
+        try (Reader reader = Files.newBufferedReader(workloadFile, StandardCharsets.UTF_8)) {
+            Object root = new Yaml().load(reader);
+            if (!(root instanceof Map)) {
+                throw new IllegalArgumentException("Workload file '" + workloadFile + "' must contain a map.");
+            }
+            return fromMap((Map<?, ?>) root);
+        }
+    }
+
+    private static Workload fromMap(Map<?, ?> map) {
+        String name = getString(map, "name", true);
+        List<Scenario> scenarios = new ArrayList<>();
+        for (Map<?, ?> scenarioMap : getList(map, "scenarios", Map.class)) {
+            String scenarioName = getString(scenarioMap, "name", true);
+            String type = getString(scenarioMap, "type", true);
+            Scenario.Type scenarioType;
+            try {
+                scenarioType = Scenario.Type.valueOf(type.toUpperCase(Locale.ENGLISH));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Type of scenario '" + scenarioName + "' must be one of 'page', " +
+                                                           "'fragment', 'static' or 'post'. Instead found '" +
+                                                           type + "'.", e);
+            }
+            scenarios.add(new Scenario(scenarioName, scenarioType, getString(scenarioMap, "uri", true),
+                                       getInt(scenarioMap, "weight", 1), getStringMap(scenarioMap, "formParams")));
+        }
+
+        String model = getString(map, "model", false);
+        Map<?, ?> login = (Map<?, ?>) map.get("login");
+        return new Workload(name, getString(map, "baseUrl", true),
+                            (model == null) ? Model.OPEN : Model.valueOf(model.toUpperCase(Locale.ENGLISH)),
+                            getList(map, "loads", Integer.class),
+                            getInt(map, "warmUpSeconds", DEFAULT_WARM_UP_SECONDS),
+                            getInt(map, "durationSeconds", DEFAULT_DURATION_SECONDS),
+                            getInt(map, "connections", DEFAULT_CONNECTIONS), getInt(map, "users", 1),
+                            getInt(map, "pacingMillis", 0),
+                            (login == null) ? null : getString(login, "uri", true),
+                            (login == null) ? null : getStringMap(login, "formParams"), scenarios);
+    }
+
+    private static String getString(Map<?, ?> map, String key, boolean isRequired) {
+        Object value = map.get(key);
+        if (value == null) {
+            if (isRequired) {
+                throw new IllegalArgumentException("Value of '" + key + "' is missing in the workload.");
+            }
+            return null;
+        }
+        return value.toString();
+    }
+
+    private static int getInt(Map<?, ?> map, String key, int defaultValue) {
+        Object value = map.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (!(value instanceof Integer)) {
+            throw new IllegalArgumentException("Value of '" + key + "' in the workload must be an integer. " +
+                                                       "Instead found '" + value + "'.");
+        }
+        return (Integer) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> getList(Map<?, ?> map, String key, Class<T> elementType) {
+        Object value = map.get(key);
+        if (!(value instanceof List) || ((List<?>) value).stream().anyMatch(e -> !elementType.isInstance(e))) {
+            throw new IllegalArgumentException("Value of '" + key + "' in the workload must be a list of " +
+                                                       elementType.getSimpleName() + ". Instead found '" + value +
+                                                       "'.");
+        }
+        return (List<T>) value;
+    }
+
+    private static Map<String, String> getStringMap(Map<?, ?> map, String key) {
+        Object value = map.get(key);
+        if (value == null) {
+            return Collections.emptyMap();
+        }
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException("Value of '" + key + "' in the workload must be a map. Instead found '" +
+                                                       value + "'.");
+        }
+        Map<String, String> stringMap = new HashMap<>();
+        ((Map<?, ?>) value).forEach((k, v) -> stringMap.put(k.toString(), (v == null) ? "" : v.toString()));
+        return stringMap;
+    }
+}
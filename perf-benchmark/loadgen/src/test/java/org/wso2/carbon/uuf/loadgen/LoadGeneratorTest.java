@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.loadgen;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * Test cases for the load generator, run against an in-process HTTP server.
+ *
+ * @since 1.0.0
+ */
+public class LoadGeneratorTest {
+
+    private static final String CSRF_TOKEN = "token";
+
+    private HttpServer server;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext("/app/login", exchange -> {
+            exchange.getResponseHeaders().add("Set-Cookie", "UUFSESSIONID=session; Path=/app; HTTPOnly");
+            exchange.getResponseHeaders().add("Set-Cookie", "CSRFTOKEN=" + CSRF_TOKEN + "; Path=/app");
+            respond(exchange, 302);
+        });
+        server.createContext("/app/form", exchange -> {
+            String body = read(exchange.getRequestBody());
+            String cookies = exchange.getRequestHeaders().getFirst("Cookie");
+            boolean isValid = body.contains("CSRFTOKEN=" + CSRF_TOKEN) && (cookies != null) &&
+                    cookies.contains("UUFSESSIONID=session");
+            respond(exchange, isValid ? 200 : 403);
+        });
+        server.createContext("/app/", exchange -> respond(exchange, 200));
+        server.start();
+    }
+
+    @AfterClass
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, int status) throws IOException {
+        byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, content.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(content);
+        }
+    }
+
+    private static String read(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int length;
+        while ((length = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, length);
+        }
+        return outputStream.toString("UTF-8");
+    }
+
+    private Workload createWorkload(Workload.Model model, int load) {
+        return createWorkload(model, load, 0);
+    }
+
+    private Workload createWorkload(Workload.Model model, int load, int pacingMillis) {
+        List<Scenario> scenarios = Arrays.asList(new Scenario("page", Scenario.Type.PAGE, "/", 2, null),
+                                                 new Scenario("post", Scenario.Type.POST, "/form", 1,
+                                                              Collections.singletonMap("text", "a & b")));
+        return new Workload("test", "http://localhost:" + server.getAddress().getPort() + "/app", model,
+                            Collections.singletonList(load), 0, 1, 4, 2, pacingMillis, "/login",
+                            Collections.singletonMap("username", "admin"), scenarios);
+    }
+
+    @Test
+    public void testOpenModel() throws InterruptedException {
+        List<LoadResult> results = new LoadGenerator(createWorkload(Workload.Model.OPEN, 100)).run();
+
+        Assert.assertEquals(results.size(), 1);
+        List<ScenarioResult> scenarioResults = results.get(0).getScenarios();
+        Assert.assertEquals(scenarioResults.size(), 3);
+        ScenarioResult all = scenarioResults.get(2);
+        Assert.assertEquals(all.getScenario(), LoadResult.ALL_SCENARIOS);
+        Assert.assertEquals(all.getRequests(), 100);
+        Assert.assertEquals(all.getErrors(), 0, "CSRF protected POST requests should succeed.");
+        Assert.assertEquals(scenarioResults.get(0).getRequests() + scenarioResults.get(1).getRequests(), 100);
+        Assert.assertTrue(all.getMaxLatency() >= all.getP50Latency());
+    }
+
+    @Test
+    public void testClosedModel() throws InterruptedException {
+        List<LoadResult> results = new LoadGenerator(createWorkload(Workload.Model.CLOSED, 2)).run();
+
+        ScenarioResult all = results.get(0).getScenarios().get(2);
+        Assert.assertTrue(all.getRequests() > 0);
+        Assert.assertEquals(all.getErrors(), 0);
+    }
+
+    @Test
+    public void testPacedClosedModel() throws InterruptedException {
+        List<LoadResult> results = new LoadGenerator(createWorkload(Workload.Model.CLOSED, 2, 50)).run();
+
+        // Each of the 2 users starts a request every 50 ms for 1 s.
+        ScenarioResult all = results.get(0).getScenarios().get(2);
+        Assert.assertEquals(all.getRequests(), 40, 2);
+        Assert.assertEquals(all.getErrors(), 0);
+    }
+
+    @Test
+    public void testKeepAliveConnections() {
+        // Keep-alive cache of HttpURLConnection holds only 5 connections per host by default.
+        new LoadGenerator(createWorkload(Workload.Model.CLOSED, 8));
+        Assert.assertTrue(Integer.getInteger("http.maxConnections", 5) >= 8);
+    }
+
+    @Test
+    public void testWriteResults() throws InterruptedException, IOException {
+        Workload workload = createWorkload(Workload.Model.OPEN, 20);
+        List<LoadResult> results = new LoadGenerator(workload).run();
+        Path outputDirectory = Files.createTempDirectory("uuf-loadgen");
+
+        new ResultsWriter(workload, results).write(outputDirectory);
+        List<String> throughput = Files.readAllLines(outputDirectory.resolve(ResultsWriter.FILE_THROUGHPUT));
+        Assert.assertEquals(throughput.get(0), "Test: test,");
+        Assert.assertEquals(throughput.get(1), "Rate, page, post, All");
+        Assert.assertTrue(throughput.get(2).startsWith("20, "), throughput.get(2));
+        List<String> percentiles = Files.readAllLines(outputDirectory.resolve(ResultsWriter.FILE_PERCENTILES));
+        Assert.assertEquals(percentiles.get(2).split(", ").length, 103); // scenario, load & 101 percentiles
+        Assert.assertTrue(Files.exists(outputDirectory.resolve(ResultsWriter.FILE_LATENCY)));
+        Assert.assertTrue(Files.exists(outputDirectory.resolve(ResultsWriter.FILE_JSON)));
+    }
+}
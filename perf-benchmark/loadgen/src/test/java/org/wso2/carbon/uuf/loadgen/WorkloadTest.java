@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.loadgen;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Test cases for workloads.
+ *
+ * @since 1.0.0
+ */
+public class WorkloadTest {
+
+    private static Workload createWorkload(Scenario... scenarios) {
+        return new Workload("test", "http://localhost", Workload.Model.OPEN, Collections.singletonList(1), 0, 1, 1,
+                            1, 0, null, null, Arrays.asList(scenarios));
+    }
+
+    @Test
+    public void testFromYaml() throws IOException, URISyntaxException {
+        Workload workload = Workload.fromYaml(Paths.get(WorkloadTest.class.getResource("/workload.yaml").toURI()));
+
+        Assert.assertEquals(workload.getName(), "test");
+        Assert.assertEquals(workload.getBaseUrl(), "http://localhost:9292/test");
+        Assert.assertEquals(workload.getModel(), Workload.Model.CLOSED);
+        Assert.assertEquals(workload.getLoads(), Arrays.asList(1, 10));
+        Assert.assertEquals(workload.getWarmUpSeconds(), 5);
+        Assert.assertEquals(workload.getDurationSeconds(), 20);
+        Assert.assertEquals(workload.getConnections(), 200);
+        Assert.assertEquals(workload.getUsers(), 4);
+        Assert.assertEquals(workload.getPacingMillis(), 100);
+        Assert.assertTrue(workload.isCoordinatedOmissionFree());
+        Assert.assertEquals(workload.getMaxConcurrency(), 10);
+        Assert.assertEquals(workload.getLoginUri(), "/login");
+        Assert.assertEquals(workload.getLoginFormParams().get("username"), "admin");
+        Assert.assertEquals(workload.getScenarios().size(), 2);
+        Scenario post = workload.getScenarios().get(1);
+        Assert.assertEquals(post.getType(), Scenario.Type.POST);
+        Assert.assertEquals(post.getWeight(), 1);
+        Assert.assertEquals(post.getFormParams().get("text"), "hello");
+    }
+
+    @Test
+    public void testPickScenario() {
+        Scenario page = new Scenario("page", Scenario.Type.PAGE, "/", 3, null);
+        Scenario asset = new Scenario("static", Scenario.Type.STATIC, "/public/style.css", 1, null);
+        Workload workload = createWorkload(page, asset);
+
+        Map<Scenario, Integer> counts = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 40_000; i++) {
+            counts.merge(workload.pickScenario(random), 1, Integer::sum);
+        }
+        Assert.assertEquals(counts.get(page) / 10_000.0, 3.0, 0.1);
+        Assert.assertEquals(counts.get(asset) / 10_000.0, 1.0, 0.1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidScenarioWeight() {
+        createWorkload(new Scenario("page", Scenario.Type.PAGE, "/", 0, null));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.benchmark;
+
+import org.wso2.carbon.uuf.api.config.Configuration;
+
+import java.util.Collections;
+
+/**
+ * Shared fixtures of the benchmarks.
+ *
+ * @since 1.0.0
+ */
+public class BenchmarkFixtures {
+
+    /**
+     * Context path of the benchmarked app.
+     */
+    public static final String APP_CONTEXT_PATH = "/bench";
+    /**
+     * Name of the root component of the benchmarked app.
+     */
+    public static final String ROOT_COMPONENT_NAME = "org.wso2.carbon.uuf.benchmark.app";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Creates an app configuration with the defaults that are set when an app is deployed.
+     *
+     * @return app configuration
+     */
+    public static Configuration createConfiguration() {
+        Configuration configuration = new Configuration();
+        configuration.setErrorPageUris(Collections.emptyMap());
+        configuration.setMenus(Collections.emptyList());
+        configuration.setCsrfIgnoreUris(Collections.emptySet());
+        configuration.setXssIgnoreUris(Collections.emptySet());
+        configuration.setResponseHeaders(new Configuration.ResponseHeaders(Collections.emptyMap(),
+                                                                           Collections.emptyMap()));
+        configuration.setOther(Collections.emptyMap());
+        return configuration;
+    }
+}
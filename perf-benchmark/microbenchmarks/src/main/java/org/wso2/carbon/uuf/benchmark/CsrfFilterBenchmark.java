@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.uuf.api.config.Configuration;
+import org.wso2.carbon.uuf.benchmark.http.InMemoryHttpRequest;
+import org.wso2.carbon.uuf.internal.filter.CsrfFilter;
+import org.wso2.carbon.uuf.internal.filter.FilterResult;
+import org.wso2.carbon.uuf.spi.HttpRequest;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the CSRF filter, which is applied to every page request.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsrfFilterBenchmark {
+
+    private static final String CSRF_TOKEN = "D2A8C3E0B9F14C6A8E5D7B1F3A9C0E4D";
+
+    private final CsrfFilter csrfFilter = new CsrfFilter();
+    private Configuration configuration;
+    private InMemoryHttpRequest getRequest;
+    private InMemoryHttpRequest postRequest;
+    private InMemoryHttpRequest ignoredPostRequest;
+
+    @Setup
+    public void setup() {
+        configuration = BenchmarkFixtures.createConfiguration();
+        configuration.setCsrfIgnoreUris(new HashSet<>(Arrays.asList("/apis/login", "/apis/users/{userId}",
+                                                                    "/apis/files/{+path}", "/hooks/index")));
+
+        getRequest = new InMemoryHttpRequest("GET", "/bench/users/42");
+        postRequest = new InMemoryHttpRequest("POST", "/bench/users/42");
+        postRequest.addFormParam(HttpRequest.COOKIE_CSRFTOKEN, CSRF_TOKEN);
+        postRequest.addCookie(HttpRequest.COOKIE_CSRFTOKEN, CSRF_TOKEN);
+        ignoredPostRequest = new InMemoryHttpRequest("POST", "/bench/apis/users/42");
+    }
+
+    @Benchmark
+    public FilterResult filterGetRequest() {
+        return csrfFilter.doFilter(getRequest, configuration);
+    }
+
+    @Benchmark
+    public FilterResult filterPostRequest() {
+        return csrfFilter.doFilter(postRequest, configuration);
+    }
+
+    @Benchmark
+    public FilterResult filterIgnoredPostRequest() {
+        return csrfFilter.doFilter(ignoredPostRequest, configuration);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.uuf.api.config.I18nResources;
+
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks resolving of i18n messages, which is done for every {@code {{i18n}}} helper call in templates.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class I18nBenchmark {
+
+    private static final int MESSAGES_COUNT = 200;
+    private static final Locale LOCALE_EN = Locale.forLanguageTag("en");
+    private static final Locale LOCALE_EN_US = Locale.forLanguageTag("en-US");
+    private static final Object[] MESSAGE_PARAMS = {"Alice", 3};
+
+    private I18nResources i18nResources;
+
+    @Setup
+    public void setup() {
+        Properties en = new Properties();
+        Properties enUs = new Properties();
+        for (int i = 0; i < MESSAGES_COUNT; i++) {
+            en.setProperty("message.plain." + i, "Plain message " + i);
+            en.setProperty("message.params." + i, "Hello {0}, you have {1} new messages.");
+        }
+        enUs.setProperty("message.plain.0", "Plain US message 0");
+        enUs.setProperty("message.params.0", "Hi {0}, you've got {1} new messages.");
+        i18nResources = new I18nResources();
+        i18nResources.addI18nResource(LOCALE_EN, en);
+        i18nResources.addI18nResource(LOCALE_EN_US, enUs);
+    }
+
+    @Benchmark
+    public String getMessage() {
+        return i18nResources.getMessage(LOCALE_EN_US, "message.plain.0", null, "default");
+    }
+
+    @Benchmark
+    public String getMessageWithParams() {
+        return i18nResources.getMessage(LOCALE_EN_US, "message.params.0", MESSAGE_PARAMS, "default");
+    }
+
+    @Benchmark
+    public String getMessageFromParentLocale() {
+        return i18nResources.getMessage(LOCALE_EN_US, "message.plain.100", null, "default");
+    }
+
+    @Benchmark
+    public String getMissingMessage() {
+        return i18nResources.getMessage(LOCALE_EN_US, "message.missing", null, "default");
+    }
+
+    @Benchmark
+    public Locale getLocale() {
+        return i18nResources.getLocale("en-US,en;q=0.8,fr;q=0.5");
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.benchmark;
+
+import com.google.common.collect.ImmutableMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.uuf.renderablecreator.hbs.internal.io.PlaceholderWriter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the writer that every Handlebars page is rendered into, with the placeholders that a typical page has
+ * (e.g. CSS, head JS and JS).
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceholderWriterBenchmark {
+
+    private static final String[] PLACEHOLDERS = {"favicon", "title", "css", "headJs", "headOther", "js"};
+    private static final String HTML_CHUNK = "<div class=\"row\"><div class=\"col-md-12\"><p>Lorem ipsum dolor sit " +
+            "amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore.</p></div></div>\n";
+
+    private final Map<String, String> placeholderValues = ImmutableMap.of(
+            "title", "<title>Benchmark</title>",
+            "css", "<link href=\"/bench/public/components/root/base/css/style.css\" rel=\"stylesheet\" />",
+            "js", "<script src=\"/bench/public/components/root/base/js/app.js\"></script>");
+
+    @Benchmark
+    public String writeWithPlaceholders() throws IOException {
+        PlaceholderWriter writer = new PlaceholderWriter();
+        for (String placeholder : PLACEHOLDERS) {
+            for (int i = 0; i < 4; i++) {
+                writer.write(HTML_CHUNK);
+            }
+            writer.addPlaceholder(placeholder);
+        }
+        writer.write(HTML_CHUNK);
+        String output = writer.toString(placeholderValues);
+        writer.close();
+        return output;
+    }
+}
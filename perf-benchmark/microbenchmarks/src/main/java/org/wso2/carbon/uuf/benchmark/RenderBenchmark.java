@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.benchmark;
+
+import com.github.jknack.handlebars.io.StringTemplateSource;
+import com.google.common.collect.ImmutableMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.uuf.api.config.Bindings;
+import org.wso2.carbon.uuf.api.config.I18nResources;
+import org.wso2.carbon.uuf.api.model.MapModel;
+import org.wso2.carbon.uuf.benchmark.http.InMemoryHttpRequest;
+import org.wso2.carbon.uuf.benchmark.http.InMemoryHttpResponse;
+import org.wso2.carbon.uuf.core.ApiFactory;
+import org.wso2.carbon.uuf.core.Component;
+import org.wso2.carbon.uuf.core.Fragment;
+import org.wso2.carbon.uuf.core.Lookup;
+import org.wso2.carbon.uuf.core.Page;
+import org.wso2.carbon.uuf.core.RequestLookup;
+import org.wso2.carbon.uuf.core.UriPatten;
+import org.wso2.carbon.uuf.renderablecreator.hbs.impl.HbsFragmentRenderable;
+import org.wso2.carbon.uuf.renderablecreator.hbs.impl.HbsPageRenderable;
+import org.wso2.carbon.uuf.renderablecreator.hbs.impl.JsExecutable;
+import org.wso2.carbon.uuf.spi.model.Model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the rendering hot path: Handlebars page rendering with and without a JavaScript executable, page lookup
+ * and rendering of a component, and zones that have bound fragments.
+ * <p>
+ * A new request lookup is created for every rendering, as it accumulates the state of a single request.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderBenchmark {
+
+    private static final String PAGE_TEMPLATE = "<!DOCTYPE html>\n<html>\n<head><title>{{@params.title}}</title>" +
+            "{{placeholder \"css\"}}</head>\n<body>\n<h1>Hello {{@params.name}}!</h1>\n<ul>\n" +
+            "{{#each @params.items}}<li class=\"item\">{{this}}</li>\n{{/each}}</ul>\n" +
+            "<p>{{@contextPath}}{{@pathParams.userId}}</p>\n</body>\n</html>";
+    private static final String JS_PAGE_TEMPLATE = "<!DOCTYPE html>\n<html>\n<head><title>{{title}}</title></head>" +
+            "\n<body>\n<h1>Hello {{name}}!</h1>\n<ul>\n{{#each items}}<li class=\"item\">{{this}}</li>\n{{/each}}" +
+            "</ul>\n</body>\n</html>";
+    private static final String JS_SOURCE = "function onGet(env) {\n" +
+            "    return {title: \"Benchmark\", name: \"Alice\", items: [\"one\", \"two\", \"three\", \"four\"]};\n" +
+            "}";
+    private static final String ZONES_PAGE_TEMPLATE = "<!DOCTYPE html>\n<html>\n<body>\n" +
+            "<header>{{defineZone \"header\"}}</header>\n<main>{{defineZone \"main\"}}</main>\n" +
+            "<footer>{{#defineZone \"footer\"}}Default footer{{/defineZone}}</footer>\n</body>\n</html>";
+    private static final String FRAGMENT_TEMPLATE = "<div class=\"card\"><h2>{{@params.title}}</h2>" +
+            "<p>Card content of {{@contextPath}}</p></div>\n";
+
+    private final Model model = new MapModel(ImmutableMap.of(
+            "title", "Benchmark", "name", "Alice", "items", Arrays.asList("one", "two", "three", "four")));
+    private final InMemoryHttpRequest request = new InMemoryHttpRequest("GET",
+                                                                        BenchmarkFixtures.APP_CONTEXT_PATH + "/");
+    private HbsPageRenderable pageRenderable;
+    private HbsPageRenderable jsPageRenderable;
+    private Component component;
+    private Lookup lookup;
+
+    @Setup
+    public void setup() {
+        pageRenderable = new HbsPageRenderable(new StringTemplateSource("page.hbs", PAGE_TEMPLATE));
+        JsExecutable executable = new JsExecutable(JS_SOURCE, RenderBenchmark.class.getClassLoader(), "page.js",
+                                                   "page.js", null);
+        jsPageRenderable = new HbsPageRenderable(new StringTemplateSource("js-page.hbs", JS_PAGE_TEMPLATE),
+                                                 executable);
+
+        SortedSet<Page> pages = new TreeSet<>();
+        for (String uriPatten : new String[]{"/index", "/users", "/users/{userId}", "/settings/{+section}"}) {
+            pages.add(new Page(new UriPatten(uriPatten), pageRenderable, null));
+        }
+        pages.add(new Page(new UriPatten("/users/{userId}/posts/{postId}"), pageRenderable, null));
+        pages.add(new Page(new UriPatten("/zones"),
+                           new HbsPageRenderable(new StringTemplateSource("zones.hbs", ZONES_PAGE_TEMPLATE)), null));
+
+        Bindings bindings = new Bindings();
+        Set<Fragment> fragments = new HashSet<>();
+        for (String zoneName : new String[]{"header", "main"}) {
+            List<Fragment> zoneFragments = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                String fragmentName = BenchmarkFixtures.ROOT_COMPONENT_NAME + "." + zoneName + "-card-" + i;
+                zoneFragments.add(new Fragment(fragmentName, new HbsFragmentRenderable(
+                        new StringTemplateSource(fragmentName + ".hbs", FRAGMENT_TEMPLATE)), null));
+            }
+            fragments.addAll(zoneFragments);
+            bindings.addBinding(BenchmarkFixtures.ROOT_COMPONENT_NAME + "." + zoneName, zoneFragments,
+                                Bindings.Mode.append);
+        }
+
+        component = new Component(BenchmarkFixtures.ROOT_COMPONENT_NAME, "1.0.0",
+                                  Component.ROOT_COMPONENT_CONTEXT_PATH, pages, fragments, Collections.emptySet(),
+                                  Collections.emptySet(), "/");
+        lookup = new Lookup(Collections.singleton(component), BenchmarkFixtures.createConfiguration(), bindings,
+                            new I18nResources());
+    }
+
+    private RequestLookup createRequestLookup() {
+        return new RequestLookup(BenchmarkFixtures.APP_CONTEXT_PATH, request, new InMemoryHttpResponse());
+    }
+
+    @Benchmark
+    public String renderHbsPage() {
+        RequestLookup requestLookup = createRequestLookup();
+        return pageRenderable.render(model, lookup, requestLookup, ApiFactory.createApi(requestLookup));
+    }
+
+    @Benchmark
+    public String renderHbsPageWithJsExecutable() {
+        RequestLookup requestLookup = createRequestLookup();
+        return jsPageRenderable.render(model, lookup, requestLookup, ApiFactory.createApi(requestLookup));
+    }
+
+    @Benchmark
+    public Optional<String> renderComponentPage() {
+        RequestLookup requestLookup = createRequestLookup();
+        return component.renderPage("/users/42/posts/7", model, lookup, requestLookup,
+                                    ApiFactory.createApi(requestLookup));
+    }
+
+    @Benchmark
+    public Optional<String> renderZonesWithBindings() {
+        RequestLookup requestLookup = createRequestLookup();
+        return component.renderPage("/zones", model, lookup, requestLookup, ApiFactory.createApi(requestLookup));
+    }
+}
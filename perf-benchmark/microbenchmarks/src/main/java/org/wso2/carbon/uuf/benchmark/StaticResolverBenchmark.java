@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.benchmark;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.uuf.api.config.Bindings;
+import org.wso2.carbon.uuf.api.config.I18nResources;
+import org.wso2.carbon.uuf.benchmark.http.InMemoryHttpRequest;
+import org.wso2.carbon.uuf.benchmark.http.InMemoryHttpResponse;
+import org.wso2.carbon.uuf.core.App;
+import org.wso2.carbon.uuf.core.Component;
+import org.wso2.carbon.uuf.internal.io.StaticResolver;
+import org.wso2.carbon.uuf.spi.HttpResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks serving of static resources of components, both with and without a matching {@code If-Modified-Since}
+ * header.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StaticResolverBenchmark {
+
+    private static final String RESOURCE_URI = BenchmarkFixtures.APP_CONTEXT_PATH +
+            "/public/components/root/base/css/style.css";
+
+    private final StaticResolver staticResolver = new StaticResolver();
+    private Path componentDirectory;
+    private App app;
+    private InMemoryHttpRequest request;
+    private InMemoryHttpRequest conditionalRequest;
+
+    @Setup
+    public void setup() throws IOException {
+        componentDirectory = Files.createTempDirectory("uuf-benchmark-component");
+        Path cssDirectory = Files.createDirectories(componentDirectory.resolve("public").resolve("css"));
+        Files.write(cssDirectory.resolve("style.css"),
+                    "body { margin: 0; }\n".getBytes(StandardCharsets.UTF_8));
+
+        Component component = new Component(BenchmarkFixtures.ROOT_COMPONENT_NAME, "1.0.0",
+                                            Component.ROOT_COMPONENT_CONTEXT_PATH, new TreeSet<>(),
+                                            Collections.emptySet(), Collections.emptySet(), Collections.emptySet(),
+                                            componentDirectory.toString());
+        app = new App("org.wso2.carbon.uuf.benchmark", BenchmarkFixtures.APP_CONTEXT_PATH,
+                      Collections.singleton(component), Collections.emptySet(),
+                      BenchmarkFixtures.createConfiguration(), new Bindings(), new I18nResources(), null, null);
+
+        request = new InMemoryHttpRequest("GET", RESOURCE_URI);
+        InMemoryHttpResponse response = new InMemoryHttpResponse();
+        staticResolver.serve(app, request, response);
+        if (response.getStatus() != HttpResponse.STATUS_OK) {
+            throw new IllegalStateException("Cannot serve static resource '" + RESOURCE_URI + "'.");
+        }
+        conditionalRequest = new InMemoryHttpRequest("GET", RESOURCE_URI);
+        conditionalRequest.addHeader("If-Modified-Since",
+                                     response.getHeaders().getFirst(HttpResponse.HEADER_LAST_MODIFIED));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(componentDirectory.toFile());
+    }
+
+    @Benchmark
+    public InMemoryHttpResponse serve() {
+        InMemoryHttpResponse response = new InMemoryHttpResponse();
+        staticResolver.serve(app, request, response);
+        return response;
+    }
+
+    @Benchmark
+    public InMemoryHttpResponse serveNotModified() {
+        InMemoryHttpResponse response = new InMemoryHttpResponse();
+        staticResolver.serve(app, conditionalRequest, response);
+        return response;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.uuf.core.UriPatten;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks matching of page URIs against URI patterns, which is done for every page request.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UriPattenBenchmark {
+
+    private final UriPatten literalPatten = new UriPatten("/users/profile");
+    private final UriPatten indexPatten = new UriPatten("/users/index");
+    private final UriPatten variablesPatten = new UriPatten("/users/{userId}/posts/{postId}");
+    private final UriPatten plusMarkedPatten = new UriPatten("/files/{+path}");
+
+    @Benchmark
+    public Optional<Map<String, String>> matchLiteral() {
+        return literalPatten.match("/users/profile");
+    }
+
+    @Benchmark
+    public Optional<Map<String, String>> matchIndex() {
+        return indexPatten.match("/users/");
+    }
+
+    @Benchmark
+    public Optional<Map<String, String>> matchVariables() {
+        return variablesPatten.match("/users/42/posts/7");
+    }
+
+    @Benchmark
+    public Optional<Map<String, String>> matchPlusMarkedVariable() {
+        return plusMarkedPatten.match("/files/docs/2017/report.pdf");
+    }
+
+    @Benchmark
+    public Optional<Map<String, String>> mismatch() {
+        return variablesPatten.match("/groups/42/members/7");
+    }
+}
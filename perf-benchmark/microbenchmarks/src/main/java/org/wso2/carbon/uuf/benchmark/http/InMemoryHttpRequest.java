@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.benchmark.http;
+
+import org.wso2.carbon.uuf.spi.HttpRequest;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory {@link HttpRequest} for benchmarks. Parsing of the request is done once when it is created, so that
+ * benchmarks measure only the code that serves the request.
+ *
+ * @since 1.0.0
+ */
+public class InMemoryHttpRequest implements HttpRequest {
+
+    private final String method;
+    private final String uri;
+    private final String contextPath;
+    private final String uriWithoutContextPath;
+    private final String queryString;
+    private final Map<String, Object> queryParams;
+    private final Map<String, String> headers;
+    private final Map<String, String> cookies;
+    private final Map<String, Object> formParams;
+
+    /**
+     * Creates a new request.
+     *
+     * @param method HTTP method of the request
+     * @param uri    URI of the request, which may contain a query string
+     */
+    public InMemoryHttpRequest(String method, String uri) {
+        this.method = method;
+        int queryStart = uri.indexOf('?');
+        this.uri = (queryStart == -1) ? uri : uri.substring(0, queryStart);
+        this.contextPath = HttpRequest.getContextPath(this.uri);
+        this.uriWithoutContextPath = HttpRequest.getUriWithoutContextPath(this.uri);
+        this.queryString = (queryStart == -1) ? null : uri.substring(queryStart + 1);
+        this.queryParams = new HashMap<>();
+        if (queryString != null) {
+            for (String param : queryString.split("&")) {
+                int equalsIndex = param.indexOf('=');
+                if (equalsIndex == -1) {
+                    queryParams.put(param, "");
+                } else {
+                    queryParams.put(param.substring(0, equalsIndex), param.substring(equalsIndex + 1));
+                }
+            }
+        }
+        this.headers = new HashMap<>();
+        this.cookies = new HashMap<>();
+        this.formParams = new HashMap<>();
+    }
+
+    public void addHeader(String name, String value) {
+        headers.put(name, value);
+    }
+
+    public void addCookie(String name, String value) {
+        cookies.put(name, value);
+    }
+
+    public void addFormParam(String name, Object value) {
+        formParams.put(name, value);
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public boolean isGetRequest() {
+        return "GET".equals(method);
+    }
+
+    @Override
+    public String getProtocol() {
+        return "HTTP/1.1";
+    }
+
+    @Override
+    public boolean isSecure() {
+        return false;
+    }
+
+    @Override
+    public String getUrl() {
+        return "http://localhost" + uri + ((queryString == null) ? "" : ("?" + queryString));
+    }
+
+    @Override
+    public String getUri() {
+        return uri;
+    }
+
+    @Override
+    public String getContextPath() {
+        return contextPath;
+    }
+
+    @Override
+    public String getUriWithoutContextPath() {
+        return uriWithoutContextPath;
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public Map<String, Object> getQueryParams() {
+        return queryParams;
+    }
+
+    @Override
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public String getCookieValue(String cookieName) {
+        return cookies.get(cookieName);
+    }
+
+    @Override
+    public String getContentType() {
+        return headers.get(HEADER_CONTENT_TYPE);
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public Map<String, Object> getFormParams() {
+        return formParams;
+    }
+
+    @Override
+    public Map<String, Object> getFiles() {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public String getLocalAddress() {
+        return "127.0.0.1";
+    }
+
+    @Override
+    public int getLocalPort() {
+        return 9292;
+    }
+
+    @Override
+    public String getRemoteAddress() {
+        return "127.0.0.1";
+    }
+
+    @Override
+    public int getRemotePort() {
+        return 49152;
+    }
+
+    @Override
+    public String toString() {
+        return "{\"method\": \"" + method + "\", \"uri\": \"" + uri + "\", \"query\": \"" + queryString + "\"}";
+    }
+}
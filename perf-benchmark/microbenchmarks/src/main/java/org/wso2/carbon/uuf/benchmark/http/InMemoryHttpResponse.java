@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.benchmark.http;
+
+import org.wso2.carbon.uuf.spi.HttpResponse;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * In-memory {@link HttpResponse} for benchmarks. The content is kept as it is set, so that benchmarks can consume it.
+ *
+ * @since 1.0.0
+ */
+public class InMemoryHttpResponse implements HttpResponse {
+
+    private int status = STATUS_OK;
+    private Object content;
+    private String contentType;
+    private final MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+    private final Map<String, String> cookies = new HashMap<>();
+
+    @Override
+    public void setStatus(int statusCode) {
+        this.status = statusCode;
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public void setContent(String content, String contentType) {
+        this.content = content;
+        this.contentType = contentType;
+    }
+
+    @Override
+    public void setContent(File content) {
+        setContent(content, CONTENT_TYPE_WILDCARD);
+    }
+
+    @Override
+    public void setContent(File content, String contentType) {
+        this.content = content;
+        this.contentType = contentType;
+    }
+
+    @Override
+    public void setContent(Object content, String contentType) {
+        this.content = content;
+        this.contentType = contentType;
+    }
+
+    @Override
+    public void setContent(InputStream content, String contentType) {
+        this.content = content;
+        this.contentType = contentType;
+    }
+
+    @Override
+    public Object getContent() {
+        return content;
+    }
+
+    @Override
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        headers.add(name, value);
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public void addCookie(String name, String value) {
+        cookies.put(name, value);
+    }
+
+    @Override
+    public String getCookie(String name) {
+        return cookies.get(name);
+    }
+}
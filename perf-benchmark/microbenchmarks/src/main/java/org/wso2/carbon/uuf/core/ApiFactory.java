@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.core;
+
+/**
+ * Creates {@link API} instances for benchmarks, as the constructor of {@link API} is package private.
+ *
+ * @since 1.0.0
+ */
+public class ApiFactory {
+
+    private ApiFactory() {
+    }
+
+    /**
+     * Creates an API without a session manager and an authorizer for the given request lookup. Hence benchmarked
+     * templates and scripts must not refer the current session.
+     *
+     * @param requestLookup request lookup of the API
+     * @return API for the request lookup
+     */
+    public static API createApi(RequestLookup requestLookup) {
+        return new API(null, null, requestLookup);
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.scaling;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Generates synthetic UUF apps of a given {@link AppShape shape}, in the deployable (artifact) layout.
+ * <p>
+ * Each component has a layout with a {@code content} and a {@code sidebar} zone, pages that fill the {@code content}
+ * zone and include a fragment of their own component and a fragment of a dependency, fragments that are bound to the
+ * {@code sidebar} zone and a language file with a message for each page. Generated apps are deterministic, so the
+ * same shape always produces the same files.
+ *
+ * @since 1.0.0
+ */
+public class AppGenerator {
+
+    private static final String VERSION = "1.0.0-SNAPSHOT";
+    private static final String COMPONENT_NAME_PREFIX = "org.wso2.carbon.uuf.scaling.";
+
+    /**
+     * Generates an app of the given shape in the given apps directory. An existing app of the same name is replaced.
+     *
+     * @param shape          shape of the app
+     * @param appsDirectory  directory to generate the app in
+     * @return directory of the generated app
+     * @throws IOException if a file cannot be written
+     */
+    public Path generate(AppShape shape, Path appsDirectory) throws IOException {
+        Path appDirectory = appsDirectory.resolve(shape.getName());
+        deleteDirectory(appDirectory);
+        Path componentsDirectory = appDirectory.resolve("components");
+        write(componentsDirectory.resolve("dependency-tree.yaml"), getDependencyTree(shape));
+        write(componentsDirectory.resolve("configuration.yaml"),
+              "errorPages: {}\nother:\n  appName: \"" + shape.getName() + "\"\n");
+        for (int i = 0; i < shape.getComponents(); i++) {
+            generateComponent(shape, i, componentsDirectory.resolve((i == 0) ? "root" : getComponentSimpleName(i)));
+        }
+        return appDirectory;
+    }
+
+    private void generateComponent(AppShape shape, int componentIndex, Path componentDirectory) throws IOException {
+        OptionalInt dependency = getDependencies(shape, componentIndex).findFirst();
+        String dependencyName = dependency.isPresent() ? getComponentName(shape, dependency.getAsInt()) : null;
+        // i18n messages of all the components are merged, hence keys are prefixed with the component.
+        String messagePrefix = ((componentIndex == 0) ? "root" : getComponentSimpleName(componentIndex)) + ".";
+
+        write(componentDirectory.resolve("layouts").resolve("main.hbs"), getLayout());
+        StringBuilder i18n = new StringBuilder();
+        for (int i = 0; i < shape.getPages(); i++) {
+            String pageName = "page-" + format(i + 1);
+            Path pagesDirectory = componentDirectory.resolve("pages");
+            write(pagesDirectory.resolve(pageName + ".hbs"),
+                  getPage(shape, i, pageName, messagePrefix, dependencyName));
+            if (shape.hasExecutable(i)) {
+                write(pagesDirectory.resolve(pageName + ".js"), getExecutable(i));
+            }
+            i18n.append(messagePrefix).append(pageName).append(".title=Page ").append(i + 1).append(" of ")
+                    .append(getComponentName(shape, componentIndex)).append('\n');
+        }
+        for (int i = 0; i < shape.getFragments(); i++) {
+            String fragmentName = getFragmentName(i);
+            Path fragmentDirectory = componentDirectory.resolve("fragments").resolve(fragmentName);
+            write(fragmentDirectory.resolve(fragmentName + ".hbs"), getFragment(i, fragmentName));
+            if (shape.hasExecutable(i)) {
+                write(fragmentDirectory.resolve(fragmentName + ".js"), getExecutable(i));
+            }
+        }
+        write(componentDirectory.resolve("lang").resolve("en.properties"), i18n.toString());
+        write(componentDirectory.resolve("component.yaml"), getComponentConfiguration(shape));
+    }
+
+    private String getDependencyTree(AppShape shape) {
+        StringBuilder yaml = new StringBuilder();
+        appendDependencyNode(yaml, shape, 0, "");
+        return yaml.toString();
+    }
+
+    private void appendDependencyNode(StringBuilder yaml, AppShape shape, int componentIndex, String indent) {
+        yaml.append("artifactId: ").append(getComponentName(shape, componentIndex)).append('\n');
+        yaml.append(indent).append("version: ").append(VERSION).append('\n');
+        String contextPath = (componentIndex == 0) ? shape.getName() : getComponentSimpleName(componentIndex);
+        yaml.append(indent).append("contextPath: /").append(contextPath).append('\n');
+        int[] dependencies = getDependencies(shape, componentIndex).toArray();
+        if (dependencies.length == 0) {
+            yaml.append(indent).append("dependencies: []\n");
+            return;
+        }
+        yaml.append(indent).append("dependencies:\n");
+        for (int dependency : dependencies) {
+            yaml.append(indent).append("  - ");
+            appendDependencyNode(yaml, shape, dependency, indent + "    ");
+        }
+    }
+
+    /**
+     * Returns the indexes of the components that the given component depends on. The root component depends on the
+     * first component of each chain, and every other component depends on the next component of its chain.
+     */
+    private IntStream getDependencies(AppShape shape, int componentIndex) {
+        int depth = shape.getDependencyDepth();
+        if (shape.getComponents() == 1) {
+            return IntStream.empty();
+        }
+        if (componentIndex == 0) {
+            return IntStream.iterate(1, i -> i + depth).limit((shape.getComponents() - 2 + depth) / depth);
+        }
+        boolean isLastInChain = ((componentIndex % depth) == 0) || (componentIndex == (shape.getComponents() - 1));
+        return isLastInChain ? IntStream.empty() : IntStream.of(componentIndex + 1);
+    }
+
+    private String getLayout() {
+        return "<!DOCTYPE html>\n" +
+                "<html>\n" +
+                "<head>\n" +
+                "    <title>{{placeholder \"title\"}}</title>\n" +
+                "    {{placeholder \"css\"}}\n" +
+                "    {{placeholder \"headJs\"}}\n" +
+                "</head>\n" +
+                "<body>\n" +
+                "<aside>\n" +
+                "    {{defineZone \"sidebar\"}}\n" +
+                "</aside>\n" +
+                "<main>\n" +
+                "    {{defineZone \"content\"}}\n" +
+                "</main>\n" +
+                "{{placeholder \"js\"}}\n" +
+                "</body>\n" +
+                "</html>\n";
+    }
+
+    private String getPage(AppShape shape, int index, String pageName, String messagePrefix,
+                           String dependencyName) {
+        StringBuilder page = new StringBuilder();
+        page.append("{{layout \"main\"}}\n");
+        page.append("{{title \"").append(pageName).append(" | \" @config.appName}}\n\n");
+        page.append("{{#fillZone \"content\"}}\n");
+        page.append("    <h1>{{i18n \"").append(messagePrefix).append(pageName).append(".title\"}}</h1>\n");
+        if (shape.getFragments() > 0) {
+            String fragmentName = getFragmentName(index % shape.getFragments());
+            page.append("    {{fragment \"").append(fragmentName).append("\"}}\n");
+            if (dependencyName != null) {
+                page.append("    {{fragment \"").append(dependencyName).append('.').append(fragmentName)
+                        .append("\"}}\n");
+            }
+        }
+        if (shape.hasExecutable(index)) {
+            page.append("    <ul>\n");
+            page.append("        {{#each items}}\n");
+            page.append("            <li data-id=\"{{id}}\">{{name}}</li>\n");
+            page.append("        {{/each}}\n");
+            page.append("    </ul>\n");
+        }
+        page.append("{{/fillZone}}\n");
+        return page.toString();
+    }
+
+    private String getFragment(int index, String fragmentName) {
+        return "<section class=\"" + fragmentName + "\">\n" +
+                "    <h4>{{@config.appName}}</h4>\n" +
+                "    <p>Fragment " + (index + 1) + "</p>\n" +
+                "    {{#each items}}\n" +
+                "        <span data-id=\"{{id}}\">{{name}}</span>\n" +
+                "    {{/each}}\n" +
+                "</section>\n";
+    }
+
+    private String getExecutable(int index) {
+        return "function onGet(env) {\n" +
+                "    var items = [];\n" +
+                "    for (var i = 0; i < " + (10 + (index % 10)) + "; i++) {\n" +
+                "        items.push({id: String(i), name: \"item-\" + i});\n" +
+                "    }\n" +
+                "    return {items: items};\n" +
+                "}\n";
+    }
+
+    private String getComponentConfiguration(AppShape shape) {
+        if (shape.getFragments() == 0) {
+            return "bindings: []\n";
+        }
+        StringBuilder yaml = new StringBuilder();
+        yaml.append("bindings:\n");
+        yaml.append("  - zoneName: \"sidebar\"\n");
+        yaml.append("    mode: \"append\"\n");
+        yaml.append("    fragments:\n");
+        for (int i = 0; i < shape.getFragments(); i++) {
+            yaml.append("      - \"").append(getFragmentName(i)).append("\"\n");
+        }
+        return yaml.toString();
+    }
+
+    private static String getComponentName(AppShape shape, int componentIndex) {
+        // Root component's name is the name of the app.
+        return COMPONENT_NAME_PREFIX +
+                ((componentIndex == 0) ? shape.getName() : getComponentSimpleName(componentIndex));
+    }
+
+    private static String getComponentSimpleName(int componentIndex) {
+        return "component-" + format(componentIndex);
+    }
+
+    private static String getFragmentName(int index) {
+        return "fragment-" + format(index + 1);
+    }
+
+    private static String format(int number) {
+        return String.format("%03d", number);
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Deletes the given directory and its content, if it exists.
+     *
+     * @param directory directory to delete
+     * @throws IOException if a file cannot be deleted
+     */
+    static void deleteDirectory(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.scaling;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Size and structure of a synthetic UUF app generated by the {@link AppGenerator}.
+ * <p>
+ * An app has the given number of components (including the root component), each with the same number of pages and
+ * fragments. Components other than the root are arranged in dependency chains of the given depth, which the root
+ * component depends on. The given ratio of pages and fragments have a JS executable, each of which creates its own
+ * Nashorn engine when the app is deployed.
+ *
+ * @since 1.0.0
+ */
+public class AppShape {
+
+    private static final int DEFAULT_COMPONENTS = 10;
+    private static final int DEFAULT_PAGES = 10;
+    private static final int DEFAULT_FRAGMENTS = 10;
+    private static final double DEFAULT_JS_RATIO = 0.5;
+    private static final int DEFAULT_DEPTH = 3;
+
+    private final int components;
+    private final int pages;
+    private final int fragments;
+    private final double jsRatio;
+    private final int dependencyDepth;
+
+    /**
+     * Creates a new app shape.
+     *
+     * @param components      number of components, including the root component
+     * @param pages           number of pages in each component
+     * @param fragments       number of fragments in each component
+     * @param jsRatio         ratio of the pages and fragments that have a JS executable, from 0 to 1
+     * @param dependencyDepth length of the dependency chains of the non-root components
+     */
+    public AppShape(int components, int pages, int fragments, double jsRatio, int dependencyDepth) {
+        if ((components <= 0) || (pages <= 0) || (fragments < 0)) {
+            throw new IllegalArgumentException("An app must have at least one component and one page per component, " +
+                                                       "and fragments cannot be negative.");
+        }
+        if ((jsRatio < 0) || (jsRatio > 1)) {
+            throw new IllegalArgumentException("JS ratio must be between 0 and 1. Instead found '" + jsRatio + "'.");
+        }
+        if ((dependencyDepth <= 0) && (components > 1)) {
+            throw new IllegalArgumentException("Dependency depth must be positive when an app has more than one " +
+                                                       "component. Instead found '" + dependencyDepth + "'.");
+        }
+        this.components = components;
+        this.pages = pages;
+        this.fragments = fragments;
+        this.jsRatio = jsRatio;
+        this.dependencyDepth = (components == 1) ? 0 : Math.min(dependencyDepth, components - 1);
+    }
+
+    public int getComponents() {
+        return components;
+    }
+
+    public int getPages() {
+        return pages;
+    }
+
+    public int getFragments() {
+        return fragments;
+    }
+
+    public double getJsRatio() {
+        return jsRatio;
+    }
+
+    public int getDependencyDepth() {
+        return dependencyDepth;
+    }
+
+    /**
+     * Returns the name of the app generated for this shape, e.g. {@code c10-p10-f10-js50-d3}.
+     *
+     * @return name of the app
+     */
+    public String getName() {
+        return "c" + components + "-p" + pages + "-f" + fragments + "-js" + Math.round(jsRatio * 100) + "-d" +
+                dependencyDepth;
+    }
+
+    /**
+     * Returns whether the page or the fragment at the given index (of its kind, within a component) has a JS
+     * executable. JS executables are spread evenly over the pages and fragments.
+     *
+     * @param index index of the page or the fragment
+     * @return {@code true} if it has a JS executable
+     */
+    public boolean hasExecutable(int index) {
+        return Math.floor((index + 1) * jsRatio) > Math.floor(index * jsRatio);
+    }
+
+    /**
+     * Returns the number of JS executables in the app, which is the number of Nashorn engines created to deploy it.
+     *
+     * @return number of JS executables
+     */
+    public int getExecutableCount() {
+        return components * (countExecutables(pages) + countExecutables(fragments));
+    }
+
+    private int countExecutables(int count) {
+        int executables = 0;
+        for (int i = 0; i < count; i++) {
+            if (hasExecutable(i)) {
+                executables++;
+            }
+        }
+        return executables;
+    }
+
+    /**
+     * Parses an app shape from comma separated key-value pairs, e.g.
+     * {@code components=20,pages=10,fragments=10,jsRatio=0.5,depth=3}. Omitted keys take default values.
+     *
+     * @param text text to parse
+     * @return parsed app shape
+     * @throws IllegalArgumentException if the text is not a valid app shape
+     */
+    public static AppShape parse(String text) {
+        Map<String, String> values = new HashMap<>();
+        for (String pair : text.split(",")) {
+            String[] keyValue = pair.split("=", 2);
+            if (keyValue.length != 2) {
+                throw new IllegalArgumentException("App shape '" + text + "' must consist of comma separated " +
+                                                           "key=value pairs.");
+            }
+            values.put(keyValue[0].trim().toLowerCase(Locale.ENGLISH), keyValue[1].trim());
+        }
+        try {
+            AppShape shape = new AppShape(getInt(values, "components", DEFAULT_COMPONENTS),
+                                          getInt(values, "pages", DEFAULT_PAGES),
+                                          getInt(values, "fragments", DEFAULT_FRAGMENTS),
+                                          values.containsKey("jsratio") ? Double.parseDouble(values.remove("jsratio")) :
+                                                  DEFAULT_JS_RATIO,
+                                          getInt(values, "depth", DEFAULT_DEPTH));
+            if (!values.isEmpty()) {
+                throw new IllegalArgumentException("Unknown keys " + values.keySet() + " in app shape '" + text +
+                                                           "'. Keys are 'components', 'pages', 'fragments', " +
+                                                           "'jsRatio' and 'depth'.");
+            }
+            return shape;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Values of app shape '" + text + "' must be numbers.", e);
+        }
+    }
+
+    private static int getInt(Map<String, String> values, String key, int defaultValue) {
+        String value = values.remove(key);
+        return (value == null) ? defaultValue : Integer.parseInt(value);
+    }
+
+    @Override
+    public String toString() {
+        return "components=" + components + ",pages=" + pages + ",fragments=" + fragments + ",jsRatio=" + jsRatio +
+                ",depth=" + dependencyDepth;
+    }
+}
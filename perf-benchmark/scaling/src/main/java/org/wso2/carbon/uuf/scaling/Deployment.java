@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.scaling;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Measurements of a single deployment of an app.
+ *
+ * @since 1.0.0
+ */
+public class Deployment {
+
+    private final boolean hasSnapshot;
+    private final double deployTime;
+    private final Map<String, Double> phaseTimes;
+    private final long retainedHeap;
+    private final long metaspace;
+
+    /**
+     * Creates a new deployment.
+     *
+     * @param hasSnapshot  whether a persisted snapshot of the app was used
+     * @param deployTime   wall-clock time taken to create the app, in milliseconds
+     * @param phaseTimes   time spent in each phase of the deployment, in milliseconds
+     * @param retainedHeap heap retained by the app after a garbage collection, in bytes
+     * @param metaspace    growth of the metaspace during the deployment, in bytes
+     */
+    public Deployment(boolean hasSnapshot, double deployTime, Map<String, Double> phaseTimes, long retainedHeap,
+                      long metaspace) {
+        this.hasSnapshot = hasSnapshot;
+        this.deployTime = deployTime;
+        this.phaseTimes = Collections.unmodifiableMap(phaseTimes);
+        this.retainedHeap = retainedHeap;
+        this.metaspace = metaspace;
+    }
+
+    public boolean hasSnapshot() {
+        return hasSnapshot;
+    }
+
+    public double getDeployTime() {
+        return deployTime;
+    }
+
+    public Map<String, Double> getPhaseTimes() {
+        return phaseTimes;
+    }
+
+    public long getRetainedHeap() {
+        return retainedHeap;
+    }
+
+    public long getMetaspace() {
+        return metaspace;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.scaling;
+
+import org.wso2.carbon.uuf.core.App;
+import org.wso2.carbon.uuf.internal.deployment.AppCreator;
+import org.wso2.carbon.uuf.internal.io.deployment.ArtifactAppSnapshotStore;
+import org.wso2.carbon.uuf.internal.io.reference.ArtifactAppReference;
+import org.wso2.carbon.uuf.scaling.internal.TimingAppSnapshotStore;
+import org.wso2.carbon.uuf.scaling.internal.TimingPluginProvider;
+import org.wso2.carbon.uuf.scaling.internal.TimingRenderableCreator;
+import org.wso2.carbon.uuf.spi.RenderableCreator;
+import org.wso2.carbon.uuf.standalone.internal.FlatClassLoaderProvider;
+import org.wso2.carbon.uuf.standalone.internal.ReflectivePluginProvider;
+import org.wso2.carbon.uuf.standalone.internal.SkippingRestApiDeployer;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures how the deployment of an app scales with the size of the app.
+ * <p>
+ * For each {@link AppShape shape}, an app is generated and deployed several times through the {@link AppCreator}, as
+ * the standalone runtime does. The deploy time, the time of each {@link PhaseTimings phase}, the heap retained by the
+ * deployed app and the growth of the metaspace are recorded for each deployment.
+ * <p>
+ * Heap and metaspace are measured after explicit garbage collections, hence run this benchmark in a JVM of its own
+ * and without {@code -XX:+DisableExplicitGC}.
+ *
+ * @since 1.0.0
+ */
+public class DeploymentBenchmark {
+
+    private static final int DEFAULT_ITERATIONS = 5;
+    private static final List<String> DEFAULT_SHAPES = Arrays.asList("components=1", "components=5",
+                                                                     "components=10", "components=20",
+                                                                     "components=40", "components=80");
+    private static final String METASPACE_POOL_NAME = "Metaspace";
+    private static final int MAX_GC_ROUNDS = 5;
+
+    private final Path workingDirectory;
+    private final int iterations;
+    private final Set<RenderableCreator> renderableCreators;
+    private final AppGenerator appGenerator;
+
+    /**
+     * Creates a new benchmark that uses the renderable creators available through the {@link ServiceLoader}.
+     *
+     * @param workingDirectory directory to generate apps and persist their snapshots in
+     * @param iterations       number of times each app is deployed
+     */
+    public DeploymentBenchmark(Path workingDirectory, int iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("Iterations must be positive. Instead found '" + iterations + "'.");
+        }
+        this.workingDirectory = workingDirectory;
+        this.iterations = iterations;
+        this.renderableCreators = new HashSet<>();
+        ServiceLoader.load(RenderableCreator.class, DeploymentBenchmark.class.getClassLoader())
+                .forEach(renderableCreators::add);
+        if (renderableCreators.isEmpty()) {
+            throw new IllegalStateException("Cannot find any renderable creators in the class path.");
+        }
+        this.appGenerator = new AppGenerator();
+    }
+
+    /**
+     * Generates an app of the given shape and measures its deployments.
+     *
+     * @param shape shape of the app
+     * @return measurements of the deployments
+     * @throws IOException if the app cannot be generated
+     */
+    public DeploymentResult run(AppShape shape) throws IOException {
+        Path appDirectory = appGenerator.generate(shape, workingDirectory.resolve("apps"));
+        Path snapshotsDirectory = workingDirectory.resolve("snapshots").resolve(shape.getName());
+        AppGenerator.deleteDirectory(snapshotsDirectory);
+        Files.createDirectories(snapshotsDirectory);
+
+        PhaseTimings timings = new PhaseTimings();
+        Set<RenderableCreator> timedRenderableCreators = renderableCreators.stream()
+                .map(renderableCreator -> new TimingRenderableCreator(renderableCreator, timings))
+                .collect(Collectors.toSet());
+        ClassLoader classLoader = DeploymentBenchmark.class.getClassLoader();
+        AppCreator appCreator = new AppCreator(timedRenderableCreators, new FlatClassLoaderProvider(classLoader),
+                                               new TimingPluginProvider(new ReflectivePluginProvider(), timings),
+                                               new SkippingRestApiDeployer(),
+                                               new TimingAppSnapshotStore(
+                                                       new ArtifactAppSnapshotStore(snapshotsDirectory), timings));
+
+        List<Deployment> deployments = new ArrayList<>(iterations);
+        int pages = 0;
+        int fragments = 0;
+        for (int i = 0; i < iterations; i++) {
+            boolean hasSnapshot = hasFiles(snapshotsDirectory);
+            timings.reset();
+            collectGarbage();
+            long heapBefore = getUsedHeap();
+            long metaspaceBefore = getUsedMetaspace();
+
+            long startNanos = System.nanoTime();
+            App app = appCreator.createApp(new ArtifactAppReference(appDirectory), null);
+            double deployTime = PhaseTimings.toMillis(System.nanoTime() - startNanos);
+
+            collectGarbage();
+            long retainedHeap = getUsedHeap() - heapBefore;
+            long metaspace = getUsedMetaspace() - metaspaceBefore;
+            // Using the app after the measurements keeps it reachable until then.
+            pages = app.getComponents().values().stream().mapToInt(component -> component.getPages().size()).sum();
+            fragments = app.getFragments().size();
+            deployments.add(new Deployment(hasSnapshot, deployTime, timings.toMillis(), retainedHeap, metaspace));
+        }
+        return new DeploymentResult(shape, pages, fragments, deployments);
+    }
+
+    private static boolean hasFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.findAny().isPresent();
+        }
+    }
+
+    private static void collectGarbage() {
+        // Repeat until the used heap stops shrinking, as a single collection may not free everything.
+        long usedHeap = getUsedHeap();
+        for (int i = 0; i < MAX_GC_ROUNDS; i++) {
+            System.gc();
+            System.runFinalization();
+            long newUsedHeap = getUsedHeap();
+            if (newUsedHeap >= usedHeap) {
+                return;
+            }
+            usedHeap = newUsedHeap;
+        }
+    }
+
+    private static long getUsedHeap() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long getUsedMetaspace() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> METASPACE_POOL_NAME.equals(pool.getName()))
+                .mapToLong(pool -> pool.getUsage().getUsed())
+                .sum();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: " + DeploymentBenchmark.class.getName() +
+                                       " <output-directory> [app-shape ...]\n" +
+                                       "  app-shape: components=<n>,pages=<n>,fragments=<n>,jsRatio=<0..1>," +
+                                       "depth=<n> (omitted keys take default values)");
+            System.exit(1);
+        }
+        Path outputDirectory = Paths.get(args[0]);
+        List<String> shapeArgs = (args.length > 1) ? Arrays.asList(args).subList(1, args.length) : DEFAULT_SHAPES;
+        List<AppShape> shapes = shapeArgs.stream().map(AppShape::parse).collect(Collectors.toList());
+        int iterations = Integer.getInteger("iterations", DEFAULT_ITERATIONS);
+
+        DeploymentBenchmark benchmark = new DeploymentBenchmark(outputDirectory, iterations);
+        List<DeploymentResult> results = new ArrayList<>();
+        for (AppShape shape : shapes) {
+            DeploymentResult result = benchmark.run(shape);
+            System.out.printf("%s: cold %.1f ms, warm %.1f ms, %d JS executables, %.1f MB heap retained%n",
+                              result.getApp(), result.getColdDeployment().getDeployTime(),
+                              result.getWarmDeployment().getDeployTime(), result.getExecutables(),
+                              ResultsWriter.toMegabytes(result.getWarmDeployment().getRetainedHeap()));
+            results.add(result);
+        }
+        new ResultsWriter(results).write(outputDirectory);
+        System.out.println("Results are written to " + outputDirectory.toAbsolutePath());
+    }
+}
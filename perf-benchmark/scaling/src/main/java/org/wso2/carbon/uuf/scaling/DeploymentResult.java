@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.scaling;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Measurements of the deployments of an app of a particular shape.
+ * <p>
+ * The first deployment is cold: there is no persisted snapshot of the app and the JVM has not yet compiled the
+ * deployment code of that app size. Following deployments use the snapshot persisted by the previous one and are
+ * summarized by their median.
+ *
+ * @since 1.0.0
+ */
+public class DeploymentResult {
+
+    private final String app;
+    private final AppShape shape;
+    private final int pages;
+    private final int fragments;
+    private final int executables;
+    private final List<Deployment> deployments;
+
+    /**
+     * Creates a new result.
+     *
+     * @param shape       shape of the deployed app
+     * @param pages       number of pages in the deployed app
+     * @param fragments   number of fragments in the deployed app
+     * @param deployments deployments of the app, starting from the cold deployment
+     */
+    public DeploymentResult(AppShape shape, int pages, int fragments, List<Deployment> deployments) {
+        if (deployments.isEmpty()) {
+            throw new IllegalArgumentException("A result must have at least one deployment.");
+        }
+        this.app = shape.getName();
+        this.shape = shape;
+        this.pages = pages;
+        this.fragments = fragments;
+        this.executables = shape.getExecutableCount();
+        this.deployments = Collections.unmodifiableList(new ArrayList<>(deployments));
+    }
+
+    public String getApp() {
+        return app;
+    }
+
+    public AppShape getShape() {
+        return shape;
+    }
+
+    public int getPages() {
+        return pages;
+    }
+
+    public int getFragments() {
+        return fragments;
+    }
+
+    /**
+     * Returns the number of JS executables in the app. Each of them has its own Nashorn engine.
+     *
+     * @return number of JS executables
+     */
+    public int getExecutables() {
+        return executables;
+    }
+
+    public List<Deployment> getDeployments() {
+        return deployments;
+    }
+
+    public Deployment getColdDeployment() {
+        return deployments.get(0);
+    }
+
+    /**
+     * Returns the deployment with the median deploy time among the deployments after the cold deployment, or the
+     * cold deployment if it is the only one.
+     *
+     * @return median warm deployment
+     */
+    public Deployment getWarmDeployment() {
+        if (deployments.size() == 1) {
+            return deployments.get(0);
+        }
+        List<Deployment> warmDeployments = new ArrayList<>(deployments.subList(1, deployments.size()));
+        warmDeployments.sort(Comparator.comparingDouble(Deployment::getDeployTime));
+        return warmDeployments.get(warmDeployments.size() / 2);
+    }
+}
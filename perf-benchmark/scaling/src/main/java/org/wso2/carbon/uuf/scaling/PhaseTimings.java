@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.scaling;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Time spent in each phase of an app deployment.
+ * <p>
+ * Components of an app are created concurrently, hence the time of a phase that runs in several threads (e.g.
+ * creating pages) is the sum of the time spent in each thread, which can exceed the wall-clock time of the deployment.
+ *
+ * @since 1.0.0
+ */
+public class PhaseTimings {
+
+    /**
+     * Reading the snapshot of the app, which parses the configurations when there is no persisted snapshot.
+     */
+    public static final String READ_SNAPSHOT = "readSnapshot";
+    /**
+     * Creating the renderables of layouts.
+     */
+    public static final String LAYOUTS = "layouts";
+    /**
+     * Creating the renderables of fragments, including their JS executables.
+     */
+    public static final String FRAGMENTS = "fragments";
+    /**
+     * Creating the renderables of pages, including their JS executables.
+     */
+    public static final String PAGES = "pages";
+    /**
+     * Loading plugins, e.g. the session manager factory and the authorizer.
+     */
+    public static final String PLUGINS = "plugins";
+    /**
+     * Persisting the snapshot of the app.
+     */
+    public static final String SAVE_SNAPSHOT = "saveSnapshot";
+
+    private static final String[] PHASES = {READ_SNAPSHOT, LAYOUTS, FRAGMENTS, PAGES, PLUGINS, SAVE_SNAPSHOT};
+
+    private final Map<String, LongAdder> nanos;
+
+    public PhaseTimings() {
+        this.nanos = new LinkedHashMap<>();
+        for (String phase : PHASES) {
+            nanos.put(phase, new LongAdder());
+        }
+    }
+
+    /**
+     * Adds the given time to the given phase. This method is thread-safe.
+     *
+     * @param phase      phase to add the time to
+     * @param startNanos {@link System#nanoTime()} at the start of the phase
+     */
+    public void record(String phase, long startNanos) {
+        LongAdder phaseNanos = nanos.get(phase);
+        if (phaseNanos == null) {
+            throw new IllegalArgumentException("Unknown phase '" + phase + "'.");
+        }
+        phaseNanos.add(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Clears the recorded times of all the phases.
+     */
+    public void reset() {
+        nanos.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * Returns the recorded time of each phase in milliseconds, in the order in which the phases occur.
+     *
+     * @return times of the phases
+     */
+    public Map<String, Double> toMillis() {
+        Map<String, Double> millis = new LinkedHashMap<>();
+        nanos.forEach((phase, phaseNanos) -> millis.put(phase, toMillis(phaseNanos.sum())));
+        return millis;
+    }
+
+    static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
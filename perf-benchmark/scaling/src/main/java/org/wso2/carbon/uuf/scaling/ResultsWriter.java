@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.scaling;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes the results of a {@link DeploymentBenchmark} as a CSV file with a row for each app, and as a JSON file with
+ * all the deployments.
+ *
+ * @since 1.0.0
+ */
+public class ResultsWriter {
+
+    public static final String FILE_CSV = "results-deployment.csv";
+    public static final String FILE_JSON = "results.json";
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private final List<DeploymentResult> results;
+
+    public ResultsWriter(List<DeploymentResult> results) {
+        this.results = results;
+    }
+
+    /**
+     * Writes the results to the given directory, replacing any existing results.
+     *
+     * @param outputDirectory directory to write to; created if it does not exist
+     * @throws IOException if a file cannot be written
+     */
+    public void write(Path outputDirectory) throws IOException {
+        Files.createDirectories(outputDirectory);
+        write(outputDirectory.resolve(FILE_CSV), getCsv());
+        write(outputDirectory.resolve(FILE_JSON), getJson());
+    }
+
+    /**
+     * Returns a CSV with a row for each app. Phase times and the metaspace growth are of the cold deployment, while the
+     * retained heap is of the median warm deployment. Times are in milliseconds.
+     *
+     * @return CSV content
+     */
+    public String getCsv() {
+        StringBuilder csv = new StringBuilder();
+        csv.append("App, Components, Pages, Fragments, JS executables, JS ratio, Dependency depth, " +
+                           "Cold deploy time, Warm deploy time, Retained heap (MB), Metaspace (MB)");
+        for (String phase : new PhaseTimings().toMillis().keySet()) {
+            csv.append(", ").append(phase);
+        }
+        csv.append('\n');
+        for (DeploymentResult result : results) {
+            AppShape shape = result.getShape();
+            Deployment cold = result.getColdDeployment();
+            Deployment warm = result.getWarmDeployment();
+            csv.append(result.getApp()).append(", ").append(shape.getComponents())
+                    .append(", ").append(result.getPages())
+                    .append(", ").append(result.getFragments())
+                    .append(", ").append(result.getExecutables())
+                    .append(", ").append(format(shape.getJsRatio()))
+                    .append(", ").append(shape.getDependencyDepth())
+                    .append(", ").append(format(cold.getDeployTime()))
+                    .append(", ").append(format(warm.getDeployTime()))
+                    .append(", ").append(format(toMegabytes(warm.getRetainedHeap())))
+                    .append(", ").append(format(toMegabytes(cold.getMetaspace())));
+            for (double phaseTime : cold.getPhaseTimes().values()) {
+                csv.append(", ").append(format(phaseTime));
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Returns all the results, including every deployment of each app, as JSON.
+     *
+     * @return JSON content
+     */
+    public String getJson() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("timeUnit", "ms");
+        json.put("memoryUnit", "bytes");
+        json.put("results", results);
+        return GSON.toJson(json);
+    }
+
+    static double toMegabytes(long bytes) {
+        return bytes / BYTES_PER_MEGABYTE;
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ENGLISH, "%.3f", value);
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(content);
+        }
+    }
+}
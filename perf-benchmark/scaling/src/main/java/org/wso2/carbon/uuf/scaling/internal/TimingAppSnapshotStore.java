@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.scaling.internal;
+
+import org.wso2.carbon.uuf.api.reference.AppReference;
+import org.wso2.carbon.uuf.internal.deployment.AppSnapshot;
+import org.wso2.carbon.uuf.internal.deployment.AppSnapshotStore;
+import org.wso2.carbon.uuf.scaling.PhaseTimings;
+
+/**
+ * App snapshot store that records the time taken by another app snapshot store.
+ *
+ * @since 1.0.0
+ */
+public class TimingAppSnapshotStore implements AppSnapshotStore {
+
+    private final AppSnapshotStore appSnapshotStore;
+    private final PhaseTimings timings;
+
+    public TimingAppSnapshotStore(AppSnapshotStore appSnapshotStore, PhaseTimings timings) {
+        this.appSnapshotStore = appSnapshotStore;
+        this.timings = timings;
+    }
+
+    @Override
+    public AppSnapshot getSnapshot(AppReference appReference) {
+        long startNanos = System.nanoTime();
+        try {
+            return appSnapshotStore.getSnapshot(appReference);
+        } finally {
+            timings.record(PhaseTimings.READ_SNAPSHOT, startNanos);
+        }
+    }
+
+    @Override
+    public void saveSnapshot(AppReference appReference, AppSnapshot appSnapshot) {
+        long startNanos = System.nanoTime();
+        try {
+            appSnapshotStore.saveSnapshot(appReference, appSnapshot);
+        } finally {
+            timings.record(PhaseTimings.SAVE_SNAPSHOT, startNanos);
+        }
+    }
+
+    @Override
+    public void discardSnapshot(AppReference appReference) {
+        appSnapshotStore.discardSnapshot(appReference);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.scaling.internal;
+
+import org.wso2.carbon.uuf.internal.deployment.PluginProvider;
+import org.wso2.carbon.uuf.internal.exception.PluginLoadingException;
+import org.wso2.carbon.uuf.scaling.PhaseTimings;
+
+/**
+ * Plugin provider that records the time taken by another plugin provider.
+ *
+ * @since 1.0.0
+ */
+public class TimingPluginProvider implements PluginProvider {
+
+    private final PluginProvider pluginProvider;
+    private final PhaseTimings timings;
+
+    public TimingPluginProvider(PluginProvider pluginProvider, PhaseTimings timings) {
+        this.pluginProvider = pluginProvider;
+        this.timings = timings;
+    }
+
+    @Override
+    public <T> T getPluginInstance(Class<T> type, String className, ClassLoader classLoader)
+            throws PluginLoadingException {
+        long startNanos = System.nanoTime();
+        try {
+            return pluginProvider.getPluginInstance(type, className, classLoader);
+        } finally {
+            timings.record(PhaseTimings.PLUGINS, startNanos);
+        }
+    }
+}
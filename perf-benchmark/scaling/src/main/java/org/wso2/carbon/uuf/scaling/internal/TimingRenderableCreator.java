@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.scaling.internal;
+
+import org.wso2.carbon.uuf.api.exception.RenderableCreationException;
+import org.wso2.carbon.uuf.api.reference.FragmentReference;
+import org.wso2.carbon.uuf.api.reference.LayoutReference;
+import org.wso2.carbon.uuf.api.reference.PageReference;
+import org.wso2.carbon.uuf.scaling.PhaseTimings;
+import org.wso2.carbon.uuf.spi.RenderableCreator;
+
+import java.util.Set;
+
+/**
+ * Renderable creator that records the time taken by another renderable creator.
+ *
+ * @since 1.0.0
+ */
+public class TimingRenderableCreator implements RenderableCreator {
+
+    private final RenderableCreator renderableCreator;
+    private final PhaseTimings timings;
+
+    public TimingRenderableCreator(RenderableCreator renderableCreator, PhaseTimings timings) {
+        this.renderableCreator = renderableCreator;
+        this.timings = timings;
+    }
+
+    @Override
+    public Set<String> getSupportedFileExtensions() {
+        return renderableCreator.getSupportedFileExtensions();
+    }
+
+    @Override
+    public FragmentRenderableData createFragmentRenderable(FragmentReference fragmentReference,
+                                                           ClassLoader classLoader)
+            throws RenderableCreationException {
+        long startNanos = System.nanoTime();
+        try {
+            return renderableCreator.createFragmentRenderable(fragmentReference, classLoader);
+        } finally {
+            timings.record(PhaseTimings.FRAGMENTS, startNanos);
+        }
+    }
+
+    @Override
+    public PageRenderableData createPageRenderable(PageReference pageReference, ClassLoader classLoader)
+            throws RenderableCreationException {
+        long startNanos = System.nanoTime();
+        try {
+            return renderableCreator.createPageRenderable(pageReference, classLoader);
+        } finally {
+            timings.record(PhaseTimings.PAGES, startNanos);
+        }
+    }
+
+    @Override
+    public LayoutRenderableData createLayoutRenderable(LayoutReference layoutReference)
+            throws RenderableCreationException {
+        long startNanos = System.nanoTime();
+        try {
+            return renderableCreator.createLayoutRenderable(layoutReference);
+        } finally {
+            timings.record(PhaseTimings.LAYOUTS, startNanos);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return renderableCreator.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return (obj instanceof TimingRenderableCreator) &&
+                renderableCreator.equals(((TimingRenderableCreator) obj).renderableCreator);
+    }
+}
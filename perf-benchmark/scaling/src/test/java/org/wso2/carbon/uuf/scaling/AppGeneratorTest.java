@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.scaling;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Test cases for the synthetic app generator.
+ *
+ * @since 1.0.0
+ */
+public class AppGeneratorTest {
+
+    private Path appsDirectory;
+
+    @BeforeClass
+    public void createAppsDirectory() throws IOException {
+        appsDirectory = Files.createTempDirectory("uuf-scaling-apps");
+    }
+
+    @AfterClass
+    public void deleteAppsDirectory() throws IOException {
+        AppGenerator.deleteDirectory(appsDirectory);
+    }
+
+    private static long countFiles(Path directory, String extension) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(file -> file.toString().endsWith(extension)).count();
+        }
+    }
+
+    @Test
+    public void testParseShape() {
+        AppShape shape = AppShape.parse("components=7, pages=4,fragments=2,jsRatio=0.25");
+        Assert.assertEquals(shape.getComponents(), 7);
+        Assert.assertEquals(shape.getPages(), 4);
+        Assert.assertEquals(shape.getFragments(), 2);
+        Assert.assertEquals(shape.getJsRatio(), 0.25, 0);
+        Assert.assertEquals(shape.getDependencyDepth(), 3);
+        Assert.assertEquals(shape.getName(), "c7-p4-f2-js25-d3");
+        // One of the 4 pages and none of the 2 fragments of each component.
+        Assert.assertEquals(shape.getExecutableCount(), 7);
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> AppShape.parse("components=0"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> AppShape.parse("jsRatio=2"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> AppShape.parse("size=2"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> AppShape.parse("pages=many"));
+    }
+
+    @Test
+    public void testGenerate() throws IOException {
+        AppShape shape = new AppShape(8, 3, 4, 0.5, 3);
+        Path appDirectory = new AppGenerator().generate(shape, appsDirectory);
+
+        Assert.assertEquals(appDirectory.getFileName().toString(), shape.getName());
+        Path componentsDirectory = appDirectory.resolve("components");
+        Assert.assertTrue(Files.isDirectory(componentsDirectory.resolve("root")));
+        Assert.assertTrue(Files.isDirectory(componentsDirectory.resolve("component-007")));
+        Assert.assertEquals(countFiles(componentsDirectory, ".hbs"), 8 * (1 + 3 + 4));
+        Assert.assertEquals(countFiles(componentsDirectory, ".js"), shape.getExecutableCount());
+        Assert.assertEquals(countFiles(componentsDirectory, "component.yaml"), 8);
+
+        // Root depends on chains 1-2-3, 4-5-6 and 7.
+        String dependencyTree = new String(Files.readAllBytes(componentsDirectory.resolve("dependency-tree.yaml")),
+                                           StandardCharsets.UTF_8);
+        Assert.assertTrue(dependencyTree.startsWith("artifactId: org.wso2.carbon.uuf.scaling." + shape.getName()));
+        Assert.assertTrue(dependencyTree.contains("\n  - artifactId: org.wso2.carbon.uuf.scaling.component-004\n"));
+        Assert.assertTrue(dependencyTree.contains(
+                "\n          - artifactId: org.wso2.carbon.uuf.scaling.component-006\n"));
+        Assert.assertTrue(dependencyTree.contains("\n  - artifactId: org.wso2.carbon.uuf.scaling.component-007\n"));
+
+        String page = new String(Files.readAllBytes(componentsDirectory.resolve("component-001/pages/page-002.hbs")),
+                                 StandardCharsets.UTF_8);
+        Assert.assertTrue(page.contains("{{fragment \"fragment-002\"}}"), page);
+        Assert.assertTrue(page.contains("{{fragment \"org.wso2.carbon.uuf.scaling.component-002.fragment-002\"}}"),
+                          page);
+    }
+
+    @Test
+    public void testGenerateSingleComponent() throws IOException {
+        AppShape shape = new AppShape(1, 2, 0, 1, 3);
+        Path appDirectory = new AppGenerator().generate(shape, appsDirectory);
+
+        Assert.assertEquals(shape.getDependencyDepth(), 0);
+        Assert.assertEquals(countFiles(appDirectory, ".js"), 2);
+        String dependencyTree = new String(Files.readAllBytes(appDirectory.resolve("components/dependency-tree.yaml")),
+                                           StandardCharsets.UTF_8);
+        Assert.assertTrue(dependencyTree.endsWith("dependencies: []\n"), dependencyTree);
+    }
+}
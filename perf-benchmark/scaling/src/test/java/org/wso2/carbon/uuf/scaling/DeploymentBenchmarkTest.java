@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.scaling;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+/**
+ * Test cases for the deployment scaling benchmark.
+ *
+ * @since 1.0.0
+ */
+public class DeploymentBenchmarkTest {
+
+    private Path workingDirectory;
+
+    @BeforeClass
+    public void createWorkingDirectory() throws IOException {
+        workingDirectory = Files.createTempDirectory("uuf-scaling");
+    }
+
+    @AfterClass
+    public void deleteWorkingDirectory() throws IOException {
+        AppGenerator.deleteDirectory(workingDirectory);
+    }
+
+    @Test
+    public void testRun() throws IOException {
+        AppShape shape = new AppShape(3, 2, 2, 0.5, 2);
+        DeploymentResult result = new DeploymentBenchmark(workingDirectory, 2).run(shape);
+
+        Assert.assertEquals(result.getApp(), shape.getName());
+        Assert.assertEquals(result.getPages(), 3 * 2);
+        Assert.assertEquals(result.getFragments(), 3 * 2);
+        Assert.assertEquals(result.getExecutables(), 3 * 2);
+        Assert.assertEquals(result.getDeployments().size(), 2);
+        Deployment cold = result.getColdDeployment();
+        Assert.assertFalse(cold.hasSnapshot());
+        Assert.assertTrue(cold.getDeployTime() > 0);
+        Assert.assertTrue(cold.getPhaseTimes().get(PhaseTimings.PAGES) > 0);
+        Assert.assertTrue(cold.getPhaseTimes().get(PhaseTimings.FRAGMENTS) > 0);
+        Assert.assertTrue(result.getWarmDeployment().hasSnapshot());
+    }
+
+    @Test
+    public void testWriteResults() throws IOException {
+        DeploymentResult result = new DeploymentBenchmark(workingDirectory, 1).run(new AppShape(1, 1, 1, 0, 1));
+        Path outputDirectory = workingDirectory.resolve("results");
+        new ResultsWriter(Collections.singletonList(result)).write(outputDirectory);
+
+        String[] lines = new String(Files.readAllBytes(outputDirectory.resolve(ResultsWriter.FILE_CSV)), "UTF-8")
+                .split("\n");
+        Assert.assertEquals(lines.length, 2);
+        Assert.assertTrue(lines[0].startsWith("App, Components, Pages, Fragments"), lines[0]);
+        Assert.assertTrue(lines[1].startsWith("c1-p1-f1-js0-d0, 1, 1, 1, 0, "), lines[1]);
+        Assert.assertTrue(Files.exists(outputDirectory.resolve(ResultsWriter.FILE_JSON)));
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.sample.benchmark.bundle;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Back-end service that the pages of the benchmark app call through {@code callOSGiService}.
+ * <p>
+ * All the returned data is deterministic, so that the rendered pages can be compared with their expected outputs.
+ *
+ * @since 1.0.0
+ */
+public interface BenchmarkDataService {
+
+    /**
+     * Returns the given number of items. Item {@code i} has the id {@code i}, the name {@code item-i}, the price
+     * {@code (i * 37) % 100} and is in the category {@code category-(i % 5)}.
+     *
+     * @param count number of items to return
+     * @return items as maps of id, name, price and category
+     */
+    List<Map<String, Object>> getItems(int count);
+
+    /**
+     * Returns a greeting for the given name.
+     *
+     * @param name name to greet
+     * @return greeting in the form {@code Hello <name>!}
+     */
+    String getGreeting(String name);
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.sample.benchmark.bundle.api.auth;
+
+import org.osgi.service.component.annotations.Component;
+import org.wso2.carbon.uuf.api.auth.Permission;
+import org.wso2.carbon.uuf.api.auth.User;
+import org.wso2.carbon.uuf.api.exception.AuthorizationException;
+import org.wso2.carbon.uuf.spi.auth.Authorizer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Authorizer of the benchmark app. User {@code bench} may view the secured page and its reports section, but may not
+ * view its admin section; any other user has no permissions.
+ *
+ * @since 1.0.0
+ */
+@Component(name = "org.wso2.carbon.uuf.sample.benchmark.bundle.api.auth.BenchmarkAuthorizer",
+           service = Authorizer.class,
+           immediate = true
+)
+public class BenchmarkAuthorizer implements Authorizer {
+
+    private static final String USER_ID = "bench";
+    private static final Set<Permission> PERMISSIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            new Permission("benchmark/secured", "view"), new Permission("benchmark/secured/reports", "view"))));
+
+    @Override
+    public boolean hasPermission(User user, Permission permission) throws AuthorizationException {
+        if (user == null) {
+            return false;
+        }
+        if ((permission.getResourceUri() == null) || permission.getResourceUri().trim().isEmpty()) {
+            throw new IllegalArgumentException("Permission resource URI cannot be null or empty.");
+        }
+        return USER_ID.equals(user.getId()) && PERMISSIONS.contains(permission);
+    }
+}
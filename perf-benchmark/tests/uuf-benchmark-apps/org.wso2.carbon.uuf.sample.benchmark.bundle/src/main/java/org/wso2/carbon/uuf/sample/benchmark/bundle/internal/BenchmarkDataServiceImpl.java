@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.sample.benchmark.bundle.internal;
+
+import org.osgi.service.component.annotations.Component;
+import org.wso2.carbon.uuf.sample.benchmark.bundle.BenchmarkDataService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Default implementation of the benchmark data service.
+ *
+ * @since 1.0.0
+ */
+@Component(name = "org.wso2.carbon.uuf.sample.benchmark.bundle.internal.BenchmarkDataServiceImpl",
+           service = BenchmarkDataService.class,
+           immediate = true
+)
+public class BenchmarkDataServiceImpl implements BenchmarkDataService {
+
+    private static final int CATEGORIES = 5;
+
+    @Override
+    public List<Map<String, Object>> getItems(int count) {
+        List<Map<String, Object>> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("id", i);
+            item.put("name", "item-" + i);
+            item.put("price", (i * 37) % 100);
+            item.put("category", "category-" + (i % CATEGORIES));
+            items.add(item);
+        }
+        return items;
+    }
+
+    @Override
+    public String getGreeting(String name) {
+        return "Hello " + name + "!";
+    }
+}
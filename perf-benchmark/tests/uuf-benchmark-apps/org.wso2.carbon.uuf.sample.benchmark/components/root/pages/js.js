@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+var SERVICE = "org.wso2.carbon.uuf.sample.benchmark.bundle.BenchmarkDataService";
+
+function onGet(env) {
+    var items = callOSGiService(SERVICE, "getItems", [100]);
+    var greeting = callOSGiService(SERVICE, "getGreeting", ["UUF"]);
+
+    var categories = {};
+    var all = [];
+    var total = 0;
+    for (var i = 0; i < items.size(); i++) {
+        var item = items.get(i);
+        var record = {id: item.get("id"), name: item.get("name"), price: item.get("price")};
+        var category = item.get("category");
+        if (!categories[category]) {
+            categories[category] = {name: category, count: 0, total: 0};
+        }
+        categories[category].count++;
+        categories[category].total += record.price;
+        total += record.price;
+        all.push(record);
+    }
+    all.sort(function (a, b) {
+        return b.price - a.price;
+    });
+    var topItems = all.slice(0, 20);
+    // Sums are doubles in JavaScript, hence they are formatted here to be rendered without decimal points.
+    var categoryList = Object.keys(categories).sort().map(function (name) {
+        var category = categories[name];
+        return {name: name, count: String(category.count), total: String(category.total)};
+    });
+    var summary = {count: String(all.length), total: String(total)};
+
+    sendToClient("benchmarkSummary", summary);
+    sendToClient("benchmarkItems", topItems);
+    return {greeting: greeting, summary: summary, categories: categoryList, topItems: topItems};
+}
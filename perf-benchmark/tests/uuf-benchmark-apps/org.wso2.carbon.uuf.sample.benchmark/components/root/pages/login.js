@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+function onPost(env) {
+    var username = env.request.formParams["username"];
+    if (!username) {
+        return {errorMessage: "Username is required."};
+    }
+    // No password check; permissions are decided by the benchmark authorizer.
+    var User = Java.type("org.wso2.carbon.uuf.api.auth.User");
+    createSession(new User(username, null));
+    sendRedirect(env.contextPath + "/secured");
+}
@@ -0,0 +1,402 @@
+/* Generated script of the UUF benchmark app. */
+var benchmark = {};
+benchmark.handler001 = function (event) { return event.target.getAttribute('data-widget') + '-001'; };
+benchmark.handler002 = function (event) { return event.target.getAttribute('data-widget') + '-002'; };
+benchmark.handler003 = function (event) { return event.target.getAttribute('data-widget') + '-003'; };
+benchmark.handler004 = function (event) { return event.target.getAttribute('data-widget') + '-004'; };
+benchmark.handler005 = function (event) { return event.target.getAttribute('data-widget') + '-005'; };
+benchmark.handler006 = function (event) { return event.target.getAttribute('data-widget') + '-006'; };
+benchmark.handler007 = function (event) { return event.target.getAttribute('data-widget') + '-007'; };
+benchmark.handler008 = function (event) { return event.target.getAttribute('data-widget') + '-008'; };
+benchmark.handler009 = function (event) { return event.target.getAttribute('data-widget') + '-009'; };
+benchmark.handler010 = function (event) { return event.target.getAttribute('data-widget') + '-010'; };
+benchmark.handler011 = function (event) { return event.target.getAttribute('data-widget') + '-011'; };
+benchmark.handler012 = function (event) { return event.target.getAttribute('data-widget') + '-012'; };
+benchmark.handler013 = function (event) { return event.target.getAttribute('data-widget') + '-013'; };
+benchmark.handler014 = function (event) { return event.target.getAttribute('data-widget') + '-014'; };
+benchmark.handler015 = function (event) { return event.target.getAttribute('data-widget') + '-015'; };
+benchmark.handler016 = function (event) { return event.target.getAttribute('data-widget') + '-016'; };
+benchmark.handler017 = function (event) { return event.target.getAttribute('data-widget') + '-017'; };
+benchmark.handler018 = function (event) { return event.target.getAttribute('data-widget') + '-018'; };
+benchmark.handler019 = function (event) { return event.target.getAttribute('data-widget') + '-019'; };
+benchmark.handler020 = function (event) { return event.target.getAttribute('data-widget') + '-020'; };
+benchmark.handler021 = function (event) { return event.target.getAttribute('data-widget') + '-021'; };
+benchmark.handler022 = function (event) { return event.target.getAttribute('data-widget') + '-022'; };
+benchmark.handler023 = function (event) { return event.target.getAttribute('data-widget') + '-023'; };
+benchmark.handler024 = function (event) { return event.target.getAttribute('data-widget') + '-024'; };
+benchmark.handler025 = function (event) { return event.target.getAttribute('data-widget') + '-025'; };
+benchmark.handler026 = function (event) { return event.target.getAttribute('data-widget') + '-026'; };
+benchmark.handler027 = function (event) { return event.target.getAttribute('data-widget') + '-027'; };
+benchmark.handler028 = function (event) { return event.target.getAttribute('data-widget') + '-028'; };
+benchmark.handler029 = function (event) { return event.target.getAttribute('data-widget') + '-029'; };
+benchmark.handler030 = function (event) { return event.target.getAttribute('data-widget') + '-030'; };
+benchmark.handler031 = function (event) { return event.target.getAttribute('data-widget') + '-031'; };
+benchmark.handler032 = function (event) { return event.target.getAttribute('data-widget') + '-032'; };
+benchmark.handler033 = function (event) { return event.target.getAttribute('data-widget') + '-033'; };
+benchmark.handler034 = function (event) { return event.target.getAttribute('data-widget') + '-034'; };
+benchmark.handler035 = function (event) { return event.target.getAttribute('data-widget') + '-035'; };
+benchmark.handler036 = function (event) { return event.target.getAttribute('data-widget') + '-036'; };
+benchmark.handler037 = function (event) { return event.target.getAttribute('data-widget') + '-037'; };
+benchmark.handler038 = function (event) { return event.target.getAttribute('data-widget') + '-038'; };
+benchmark.handler039 = function (event) { return event.target.getAttribute('data-widget') + '-039'; };
+benchmark.handler040 = function (event) { return event.target.getAttribute('data-widget') + '-040'; };
+benchmark.handler041 = function (event) { return event.target.getAttribute('data-widget') + '-041'; };
+benchmark.handler042 = function (event) { return event.target.getAttribute('data-widget') + '-042'; };
+benchmark.handler043 = function (event) { return event.target.getAttribute('data-widget') + '-043'; };
+benchmark.handler044 = function (event) { return event.target.getAttribute('data-widget') + '-044'; };
+benchmark.handler045 = function (event) { return event.target.getAttribute('data-widget') + '-045'; };
+benchmark.handler046 = function (event) { return event.target.getAttribute('data-widget') + '-046'; };
+benchmark.handler047 = function (event) { return event.target.getAttribute('data-widget') + '-047'; };
+benchmark.handler048 = function (event) { return event.target.getAttribute('data-widget') + '-048'; };
+benchmark.handler049 = function (event) { return event.target.getAttribute('data-widget') + '-049'; };
+benchmark.handler050 = function (event) { return event.target.getAttribute('data-widget') + '-050'; };
+benchmark.handler051 = function (event) { return event.target.getAttribute('data-widget') + '-051'; };
+benchmark.handler052 = function (event) { return event.target.getAttribute('data-widget') + '-052'; };
+benchmark.handler053 = function (event) { return event.target.getAttribute('data-widget') + '-053'; };
+benchmark.handler054 = function (event) { return event.target.getAttribute('data-widget') + '-054'; };
+benchmark.handler055 = function (event) { return event.target.getAttribute('data-widget') + '-055'; };
+benchmark.handler056 = function (event) { return event.target.getAttribute('data-widget') + '-056'; };
+benchmark.handler057 = function (event) { return event.target.getAttribute('data-widget') + '-057'; };
+benchmark.handler058 = function (event) { return event.target.getAttribute('data-widget') + '-058'; };
+benchmark.handler059 = function (event) { return event.target.getAttribute('data-widget') + '-059'; };
+benchmark.handler060 = function (event) { return event.target.getAttribute('data-widget') + '-060'; };
+benchmark.handler061 = function (event) { return event.target.getAttribute('data-widget') + '-061'; };
+benchmark.handler062 = function (event) { return event.target.getAttribute('data-widget') + '-062'; };
+benchmark.handler063 = function (event) { return event.target.getAttribute('data-widget') + '-063'; };
+benchmark.handler064 = function (event) { return event.target.getAttribute('data-widget') + '-064'; };
+benchmark.handler065 = function (event) { return event.target.getAttribute('data-widget') + '-065'; };
+benchmark.handler066 = function (event) { return event.target.getAttribute('data-widget') + '-066'; };
+benchmark.handler067 = function (event) { return event.target.getAttribute('data-widget') + '-067'; };
+benchmark.handler068 = function (event) { return event.target.getAttribute('data-widget') + '-068'; };
+benchmark.handler069 = function (event) { return event.target.getAttribute('data-widget') + '-069'; };
+benchmark.handler070 = function (event) { return event.target.getAttribute('data-widget') + '-070'; };
+benchmark.handler071 = function (event) { return event.target.getAttribute('data-widget') + '-071'; };
+benchmark.handler072 = function (event) { return event.target.getAttribute('data-widget') + '-072'; };
+benchmark.handler073 = function (event) { return event.target.getAttribute('data-widget') + '-073'; };
+benchmark.handler074 = function (event) { return event.target.getAttribute('data-widget') + '-074'; };
+benchmark.handler075 = function (event) { return event.target.getAttribute('data-widget') + '-075'; };
+benchmark.handler076 = function (event) { return event.target.getAttribute('data-widget') + '-076'; };
+benchmark.handler077 = function (event) { return event.target.getAttribute('data-widget') + '-077'; };
+benchmark.handler078 = function (event) { return event.target.getAttribute('data-widget') + '-078'; };
+benchmark.handler079 = function (event) { return event.target.getAttribute('data-widget') + '-079'; };
+benchmark.handler080 = function (event) { return event.target.getAttribute('data-widget') + '-080'; };
+benchmark.handler081 = function (event) { return event.target.getAttribute('data-widget') + '-081'; };
+benchmark.handler082 = function (event) { return event.target.getAttribute('data-widget') + '-082'; };
+benchmark.handler083 = function (event) { return event.target.getAttribute('data-widget') + '-083'; };
+benchmark.handler084 = function (event) { return event.target.getAttribute('data-widget') + '-084'; };
+benchmark.handler085 = function (event) { return event.target.getAttribute('data-widget') + '-085'; };
+benchmark.handler086 = function (event) { return event.target.getAttribute('data-widget') + '-086'; };
+benchmark.handler087 = function (event) { return event.target.getAttribute('data-widget') + '-087'; };
+benchmark.handler088 = function (event) { return event.target.getAttribute('data-widget') + '-088'; };
+benchmark.handler089 = function (event) { return event.target.getAttribute('data-widget') + '-089'; };
+benchmark.handler090 = function (event) { return event.target.getAttribute('data-widget') + '-090'; };
+benchmark.handler091 = function (event) { return event.target.getAttribute('data-widget') + '-091'; };
+benchmark.handler092 = function (event) { return event.target.getAttribute('data-widget') + '-092'; };
+benchmark.handler093 = function (event) { return event.target.getAttribute('data-widget') + '-093'; };
+benchmark.handler094 = function (event) { return event.target.getAttribute('data-widget') + '-094'; };
+benchmark.handler095 = function (event) { return event.target.getAttribute('data-widget') + '-095'; };
+benchmark.handler096 = function (event) { return event.target.getAttribute('data-widget') + '-096'; };
+benchmark.handler097 = function (event) { return event.target.getAttribute('data-widget') + '-097'; };
+benchmark.handler098 = function (event) { return event.target.getAttribute('data-widget') + '-098'; };
+benchmark.handler099 = function (event) { return event.target.getAttribute('data-widget') + '-099'; };
+benchmark.handler100 = function (event) { return event.target.getAttribute('data-widget') + '-100'; };
+benchmark.handler101 = function (event) { return event.target.getAttribute('data-widget') + '-101'; };
+benchmark.handler102 = function (event) { return event.target.getAttribute('data-widget') + '-102'; };
+benchmark.handler103 = function (event) { return event.target.getAttribute('data-widget') + '-103'; };
+benchmark.handler104 = function (event) { return event.target.getAttribute('data-widget') + '-104'; };
+benchmark.handler105 = function (event) { return event.target.getAttribute('data-widget') + '-105'; };
+benchmark.handler106 = function (event) { return event.target.getAttribute('data-widget') + '-106'; };
+benchmark.handler107 = function (event) { return event.target.getAttribute('data-widget') + '-107'; };
+benchmark.handler108 = function (event) { return event.target.getAttribute('data-widget') + '-108'; };
+benchmark.handler109 = function (event) { return event.target.getAttribute('data-widget') + '-109'; };
+benchmark.handler110 = function (event) { return event.target.getAttribute('data-widget') + '-110'; };
+benchmark.handler111 = function (event) { return event.target.getAttribute('data-widget') + '-111'; };
+benchmark.handler112 = function (event) { return event.target.getAttribute('data-widget') + '-112'; };
+benchmark.handler113 = function (event) { return event.target.getAttribute('data-widget') + '-113'; };
+benchmark.handler114 = function (event) { return event.target.getAttribute('data-widget') + '-114'; };
+benchmark.handler115 = function (event) { return event.target.getAttribute('data-widget') + '-115'; };
+benchmark.handler116 = function (event) { return event.target.getAttribute('data-widget') + '-116'; };
+benchmark.handler117 = function (event) { return event.target.getAttribute('data-widget') + '-117'; };
+benchmark.handler118 = function (event) { return event.target.getAttribute('data-widget') + '-118'; };
+benchmark.handler119 = function (event) { return event.target.getAttribute('data-widget') + '-119'; };
+benchmark.handler120 = function (event) { return event.target.getAttribute('data-widget') + '-120'; };
+benchmark.handler121 = function (event) { return event.target.getAttribute('data-widget') + '-121'; };
+benchmark.handler122 = function (event) { return event.target.getAttribute('data-widget') + '-122'; };
+benchmark.handler123 = function (event) { return event.target.getAttribute('data-widget') + '-123'; };
+benchmark.handler124 = function (event) { return event.target.getAttribute('data-widget') + '-124'; };
+benchmark.handler125 = function (event) { return event.target.getAttribute('data-widget') + '-125'; };
+benchmark.handler126 = function (event) { return event.target.getAttribute('data-widget') + '-126'; };
+benchmark.handler127 = function (event) { return event.target.getAttribute('data-widget') + '-127'; };
+benchmark.handler128 = function (event) { return event.target.getAttribute('data-widget') + '-128'; };
+benchmark.handler129 = function (event) { return event.target.getAttribute('data-widget') + '-129'; };
+benchmark.handler130 = function (event) { return event.target.getAttribute('data-widget') + '-130'; };
+benchmark.handler131 = function (event) { return event.target.getAttribute('data-widget') + '-131'; };
+benchmark.handler132 = function (event) { return event.target.getAttribute('data-widget') + '-132'; };
+benchmark.handler133 = function (event) { return event.target.getAttribute('data-widget') + '-133'; };
+benchmark.handler134 = function (event) { return event.target.getAttribute('data-widget') + '-134'; };
+benchmark.handler135 = function (event) { return event.target.getAttribute('data-widget') + '-135'; };
+benchmark.handler136 = function (event) { return event.target.getAttribute('data-widget') + '-136'; };
+benchmark.handler137 = function (event) { return event.target.getAttribute('data-widget') + '-137'; };
+benchmark.handler138 = function (event) { return event.target.getAttribute('data-widget') + '-138'; };
+benchmark.handler139 = function (event) { return event.target.getAttribute('data-widget') + '-139'; };
+benchmark.handler140 = function (event) { return event.target.getAttribute('data-widget') + '-140'; };
+benchmark.handler141 = function (event) { return event.target.getAttribute('data-widget') + '-141'; };
+benchmark.handler142 = function (event) { return event.target.getAttribute('data-widget') + '-142'; };
+benchmark.handler143 = function (event) { return event.target.getAttribute('data-widget') + '-143'; };
+benchmark.handler144 = function (event) { return event.target.getAttribute('data-widget') + '-144'; };
+benchmark.handler145 = function (event) { return event.target.getAttribute('data-widget') + '-145'; };
+benchmark.handler146 = function (event) { return event.target.getAttribute('data-widget') + '-146'; };
+benchmark.handler147 = function (event) { return event.target.getAttribute('data-widget') + '-147'; };
+benchmark.handler148 = function (event) { return event.target.getAttribute('data-widget') + '-148'; };
+benchmark.handler149 = function (event) { return event.target.getAttribute('data-widget') + '-149'; };
+benchmark.handler150 = function (event) { return event.target.getAttribute('data-widget') + '-150'; };
+benchmark.handler151 = function (event) { return event.target.getAttribute('data-widget') + '-151'; };
+benchmark.handler152 = function (event) { return event.target.getAttribute('data-widget') + '-152'; };
+benchmark.handler153 = function (event) { return event.target.getAttribute('data-widget') + '-153'; };
+benchmark.handler154 = function (event) { return event.target.getAttribute('data-widget') + '-154'; };
+benchmark.handler155 = function (event) { return event.target.getAttribute('data-widget') + '-155'; };
+benchmark.handler156 = function (event) { return event.target.getAttribute('data-widget') + '-156'; };
+benchmark.handler157 = function (event) { return event.target.getAttribute('data-widget') + '-157'; };
+benchmark.handler158 = function (event) { return event.target.getAttribute('data-widget') + '-158'; };
+benchmark.handler159 = function (event) { return event.target.getAttribute('data-widget') + '-159'; };
+benchmark.handler160 = function (event) { return event.target.getAttribute('data-widget') + '-160'; };
+benchmark.handler161 = function (event) { return event.target.getAttribute('data-widget') + '-161'; };
+benchmark.handler162 = function (event) { return event.target.getAttribute('data-widget') + '-162'; };
+benchmark.handler163 = function (event) { return event.target.getAttribute('data-widget') + '-163'; };
+benchmark.handler164 = function (event) { return event.target.getAttribute('data-widget') + '-164'; };
+benchmark.handler165 = function (event) { return event.target.getAttribute('data-widget') + '-165'; };
+benchmark.handler166 = function (event) { return event.target.getAttribute('data-widget') + '-166'; };
+benchmark.handler167 = function (event) { return event.target.getAttribute('data-widget') + '-167'; };
+benchmark.handler168 = function (event) { return event.target.getAttribute('data-widget') + '-168'; };
+benchmark.handler169 = function (event) { return event.target.getAttribute('data-widget') + '-169'; };
+benchmark.handler170 = function (event) { return event.target.getAttribute('data-widget') + '-170'; };
+benchmark.handler171 = function (event) { return event.target.getAttribute('data-widget') + '-171'; };
+benchmark.handler172 = function (event) { return event.target.getAttribute('data-widget') + '-172'; };
+benchmark.handler173 = function (event) { return event.target.getAttribute('data-widget') + '-173'; };
+benchmark.handler174 = function (event) { return event.target.getAttribute('data-widget') + '-174'; };
+benchmark.handler175 = function (event) { return event.target.getAttribute('data-widget') + '-175'; };
+benchmark.handler176 = function (event) { return event.target.getAttribute('data-widget') + '-176'; };
+benchmark.handler177 = function (event) { return event.target.getAttribute('data-widget') + '-177'; };
+benchmark.handler178 = function (event) { return event.target.getAttribute('data-widget') + '-178'; };
+benchmark.handler179 = function (event) { return event.target.getAttribute('data-widget') + '-179'; };
+benchmark.handler180 = function (event) { return event.target.getAttribute('data-widget') + '-180'; };
+benchmark.handler181 = function (event) { return event.target.getAttribute('data-widget') + '-181'; };
+benchmark.handler182 = function (event) { return event.target.getAttribute('data-widget') + '-182'; };
+benchmark.handler183 = function (event) { return event.target.getAttribute('data-widget') + '-183'; };
+benchmark.handler184 = function (event) { return event.target.getAttribute('data-widget') + '-184'; };
+benchmark.handler185 = function (event) { return event.target.getAttribute('data-widget') + '-185'; };
+benchmark.handler186 = function (event) { return event.target.getAttribute('data-widget') + '-186'; };
+benchmark.handler187 = function (event) { return event.target.getAttribute('data-widget') + '-187'; };
+benchmark.handler188 = function (event) { return event.target.getAttribute('data-widget') + '-188'; };
+benchmark.handler189 = function (event) { return event.target.getAttribute('data-widget') + '-189'; };
+benchmark.handler190 = function (event) { return event.target.getAttribute('data-widget') + '-190'; };
+benchmark.handler191 = function (event) { return event.target.getAttribute('data-widget') + '-191'; };
+benchmark.handler192 = function (event) { return event.target.getAttribute('data-widget') + '-192'; };
+benchmark.handler193 = function (event) { return event.target.getAttribute('data-widget') + '-193'; };
+benchmark.handler194 = function (event) { return event.target.getAttribute('data-widget') + '-194'; };
+benchmark.handler195 = function (event) { return event.target.getAttribute('data-widget') + '-195'; };
+benchmark.handler196 = function (event) { return event.target.getAttribute('data-widget') + '-196'; };
+benchmark.handler197 = function (event) { return event.target.getAttribute('data-widget') + '-197'; };
+benchmark.handler198 = function (event) { return event.target.getAttribute('data-widget') + '-198'; };
+benchmark.handler199 = function (event) { return event.target.getAttribute('data-widget') + '-199'; };
+benchmark.handler200 = function (event) { return event.target.getAttribute('data-widget') + '-200'; };
+benchmark.handler201 = function (event) { return event.target.getAttribute('data-widget') + '-201'; };
+benchmark.handler202 = function (event) { return event.target.getAttribute('data-widget') + '-202'; };
+benchmark.handler203 = function (event) { return event.target.getAttribute('data-widget') + '-203'; };
+benchmark.handler204 = function (event) { return event.target.getAttribute('data-widget') + '-204'; };
+benchmark.handler205 = function (event) { return event.target.getAttribute('data-widget') + '-205'; };
+benchmark.handler206 = function (event) { return event.target.getAttribute('data-widget') + '-206'; };
+benchmark.handler207 = function (event) { return event.target.getAttribute('data-widget') + '-207'; };
+benchmark.handler208 = function (event) { return event.target.getAttribute('data-widget') + '-208'; };
+benchmark.handler209 = function (event) { return event.target.getAttribute('data-widget') + '-209'; };
+benchmark.handler210 = function (event) { return event.target.getAttribute('data-widget') + '-210'; };
+benchmark.handler211 = function (event) { return event.target.getAttribute('data-widget') + '-211'; };
+benchmark.handler212 = function (event) { return event.target.getAttribute('data-widget') + '-212'; };
+benchmark.handler213 = function (event) { return event.target.getAttribute('data-widget') + '-213'; };
+benchmark.handler214 = function (event) { return event.target.getAttribute('data-widget') + '-214'; };
+benchmark.handler215 = function (event) { return event.target.getAttribute('data-widget') + '-215'; };
+benchmark.handler216 = function (event) { return event.target.getAttribute('data-widget') + '-216'; };
+benchmark.handler217 = function (event) { return event.target.getAttribute('data-widget') + '-217'; };
+benchmark.handler218 = function (event) { return event.target.getAttribute('data-widget') + '-218'; };
+benchmark.handler219 = function (event) { return event.target.getAttribute('data-widget') + '-219'; };
+benchmark.handler220 = function (event) { return event.target.getAttribute('data-widget') + '-220'; };
+benchmark.handler221 = function (event) { return event.target.getAttribute('data-widget') + '-221'; };
+benchmark.handler222 = function (event) { return event.target.getAttribute('data-widget') + '-222'; };
+benchmark.handler223 = function (event) { return event.target.getAttribute('data-widget') + '-223'; };
+benchmark.handler224 = function (event) { return event.target.getAttribute('data-widget') + '-224'; };
+benchmark.handler225 = function (event) { return event.target.getAttribute('data-widget') + '-225'; };
+benchmark.handler226 = function (event) { return event.target.getAttribute('data-widget') + '-226'; };
+benchmark.handler227 = function (event) { return event.target.getAttribute('data-widget') + '-227'; };
+benchmark.handler228 = function (event) { return event.target.getAttribute('data-widget') + '-228'; };
+benchmark.handler229 = function (event) { return event.target.getAttribute('data-widget') + '-229'; };
+benchmark.handler230 = function (event) { return event.target.getAttribute('data-widget') + '-230'; };
+benchmark.handler231 = function (event) { return event.target.getAttribute('data-widget') + '-231'; };
+benchmark.handler232 = function (event) { return event.target.getAttribute('data-widget') + '-232'; };
+benchmark.handler233 = function (event) { return event.target.getAttribute('data-widget') + '-233'; };
+benchmark.handler234 = function (event) { return event.target.getAttribute('data-widget') + '-234'; };
+benchmark.handler235 = function (event) { return event.target.getAttribute('data-widget') + '-235'; };
+benchmark.handler236 = function (event) { return event.target.getAttribute('data-widget') + '-236'; };
+benchmark.handler237 = function (event) { return event.target.getAttribute('data-widget') + '-237'; };
+benchmark.handler238 = function (event) { return event.target.getAttribute('data-widget') + '-238'; };
+benchmark.handler239 = function (event) { return event.target.getAttribute('data-widget') + '-239'; };
+benchmark.handler240 = function (event) { return event.target.getAttribute('data-widget') + '-240'; };
+benchmark.handler241 = function (event) { return event.target.getAttribute('data-widget') + '-241'; };
+benchmark.handler242 = function (event) { return event.target.getAttribute('data-widget') + '-242'; };
+benchmark.handler243 = function (event) { return event.target.getAttribute('data-widget') + '-243'; };
+benchmark.handler244 = function (event) { return event.target.getAttribute('data-widget') + '-244'; };
+benchmark.handler245 = function (event) { return event.target.getAttribute('data-widget') + '-245'; };
+benchmark.handler246 = function (event) { return event.target.getAttribute('data-widget') + '-246'; };
+benchmark.handler247 = function (event) { return event.target.getAttribute('data-widget') + '-247'; };
+benchmark.handler248 = function (event) { return event.target.getAttribute('data-widget') + '-248'; };
+benchmark.handler249 = function (event) { return event.target.getAttribute('data-widget') + '-249'; };
+benchmark.handler250 = function (event) { return event.target.getAttribute('data-widget') + '-250'; };
+benchmark.handler251 = function (event) { return event.target.getAttribute('data-widget') + '-251'; };
+benchmark.handler252 = function (event) { return event.target.getAttribute('data-widget') + '-252'; };
+benchmark.handler253 = function (event) { return event.target.getAttribute('data-widget') + '-253'; };
+benchmark.handler254 = function (event) { return event.target.getAttribute('data-widget') + '-254'; };
+benchmark.handler255 = function (event) { return event.target.getAttribute('data-widget') + '-255'; };
+benchmark.handler256 = function (event) { return event.target.getAttribute('data-widget') + '-256'; };
+benchmark.handler257 = function (event) { return event.target.getAttribute('data-widget') + '-257'; };
+benchmark.handler258 = function (event) { return event.target.getAttribute('data-widget') + '-258'; };
+benchmark.handler259 = function (event) { return event.target.getAttribute('data-widget') + '-259'; };
+benchmark.handler260 = function (event) { return event.target.getAttribute('data-widget') + '-260'; };
+benchmark.handler261 = function (event) { return event.target.getAttribute('data-widget') + '-261'; };
+benchmark.handler262 = function (event) { return event.target.getAttribute('data-widget') + '-262'; };
+benchmark.handler263 = function (event) { return event.target.getAttribute('data-widget') + '-263'; };
+benchmark.handler264 = function (event) { return event.target.getAttribute('data-widget') + '-264'; };
+benchmark.handler265 = function (event) { return event.target.getAttribute('data-widget') + '-265'; };
+benchmark.handler266 = function (event) { return event.target.getAttribute('data-widget') + '-266'; };
+benchmark.handler267 = function (event) { return event.target.getAttribute('data-widget') + '-267'; };
+benchmark.handler268 = function (event) { return event.target.getAttribute('data-widget') + '-268'; };
+benchmark.handler269 = function (event) { return event.target.getAttribute('data-widget') + '-269'; };
+benchmark.handler270 = function (event) { return event.target.getAttribute('data-widget') + '-270'; };
+benchmark.handler271 = function (event) { return event.target.getAttribute('data-widget') + '-271'; };
+benchmark.handler272 = function (event) { return event.target.getAttribute('data-widget') + '-272'; };
+benchmark.handler273 = function (event) { return event.target.getAttribute('data-widget') + '-273'; };
+benchmark.handler274 = function (event) { return event.target.getAttribute('data-widget') + '-274'; };
+benchmark.handler275 = function (event) { return event.target.getAttribute('data-widget') + '-275'; };
+benchmark.handler276 = function (event) { return event.target.getAttribute('data-widget') + '-276'; };
+benchmark.handler277 = function (event) { return event.target.getAttribute('data-widget') + '-277'; };
+benchmark.handler278 = function (event) { return event.target.getAttribute('data-widget') + '-278'; };
+benchmark.handler279 = function (event) { return event.target.getAttribute('data-widget') + '-279'; };
+benchmark.handler280 = function (event) { return event.target.getAttribute('data-widget') + '-280'; };
+benchmark.handler281 = function (event) { return event.target.getAttribute('data-widget') + '-281'; };
+benchmark.handler282 = function (event) { return event.target.getAttribute('data-widget') + '-282'; };
+benchmark.handler283 = function (event) { return event.target.getAttribute('data-widget') + '-283'; };
+benchmark.handler284 = function (event) { return event.target.getAttribute('data-widget') + '-284'; };
+benchmark.handler285 = function (event) { return event.target.getAttribute('data-widget') + '-285'; };
+benchmark.handler286 = function (event) { return event.target.getAttribute('data-widget') + '-286'; };
+benchmark.handler287 = function (event) { return event.target.getAttribute('data-widget') + '-287'; };
+benchmark.handler288 = function (event) { return event.target.getAttribute('data-widget') + '-288'; };
+benchmark.handler289 = function (event) { return event.target.getAttribute('data-widget') + '-289'; };
+benchmark.handler290 = function (event) { return event.target.getAttribute('data-widget') + '-290'; };
+benchmark.handler291 = function (event) { return event.target.getAttribute('data-widget') + '-291'; };
+benchmark.handler292 = function (event) { return event.target.getAttribute('data-widget') + '-292'; };
+benchmark.handler293 = function (event) { return event.target.getAttribute('data-widget') + '-293'; };
+benchmark.handler294 = function (event) { return event.target.getAttribute('data-widget') + '-294'; };
+benchmark.handler295 = function (event) { return event.target.getAttribute('data-widget') + '-295'; };
+benchmark.handler296 = function (event) { return event.target.getAttribute('data-widget') + '-296'; };
+benchmark.handler297 = function (event) { return event.target.getAttribute('data-widget') + '-297'; };
+benchmark.handler298 = function (event) { return event.target.getAttribute('data-widget') + '-298'; };
+benchmark.handler299 = function (event) { return event.target.getAttribute('data-widget') + '-299'; };
+benchmark.handler300 = function (event) { return event.target.getAttribute('data-widget') + '-300'; };
+benchmark.handler301 = function (event) { return event.target.getAttribute('data-widget') + '-301'; };
+benchmark.handler302 = function (event) { return event.target.getAttribute('data-widget') + '-302'; };
+benchmark.handler303 = function (event) { return event.target.getAttribute('data-widget') + '-303'; };
+benchmark.handler304 = function (event) { return event.target.getAttribute('data-widget') + '-304'; };
+benchmark.handler305 = function (event) { return event.target.getAttribute('data-widget') + '-305'; };
+benchmark.handler306 = function (event) { return event.target.getAttribute('data-widget') + '-306'; };
+benchmark.handler307 = function (event) { return event.target.getAttribute('data-widget') + '-307'; };
+benchmark.handler308 = function (event) { return event.target.getAttribute('data-widget') + '-308'; };
+benchmark.handler309 = function (event) { return event.target.getAttribute('data-widget') + '-309'; };
+benchmark.handler310 = function (event) { return event.target.getAttribute('data-widget') + '-310'; };
+benchmark.handler311 = function (event) { return event.target.getAttribute('data-widget') + '-311'; };
+benchmark.handler312 = function (event) { return event.target.getAttribute('data-widget') + '-312'; };
+benchmark.handler313 = function (event) { return event.target.getAttribute('data-widget') + '-313'; };
+benchmark.handler314 = function (event) { return event.target.getAttribute('data-widget') + '-314'; };
+benchmark.handler315 = function (event) { return event.target.getAttribute('data-widget') + '-315'; };
+benchmark.handler316 = function (event) { return event.target.getAttribute('data-widget') + '-316'; };
+benchmark.handler317 = function (event) { return event.target.getAttribute('data-widget') + '-317'; };
+benchmark.handler318 = function (event) { return event.target.getAttribute('data-widget') + '-318'; };
+benchmark.handler319 = function (event) { return event.target.getAttribute('data-widget') + '-319'; };
+benchmark.handler320 = function (event) { return event.target.getAttribute('data-widget') + '-320'; };
+benchmark.handler321 = function (event) { return event.target.getAttribute('data-widget') + '-321'; };
+benchmark.handler322 = function (event) { return event.target.getAttribute('data-widget') + '-322'; };
+benchmark.handler323 = function (event) { return event.target.getAttribute('data-widget') + '-323'; };
+benchmark.handler324 = function (event) { return event.target.getAttribute('data-widget') + '-324'; };
+benchmark.handler325 = function (event) { return event.target.getAttribute('data-widget') + '-325'; };
+benchmark.handler326 = function (event) { return event.target.getAttribute('data-widget') + '-326'; };
+benchmark.handler327 = function (event) { return event.target.getAttribute('data-widget') + '-327'; };
+benchmark.handler328 = function (event) { return event.target.getAttribute('data-widget') + '-328'; };
+benchmark.handler329 = function (event) { return event.target.getAttribute('data-widget') + '-329'; };
+benchmark.handler330 = function (event) { return event.target.getAttribute('data-widget') + '-330'; };
+benchmark.handler331 = function (event) { return event.target.getAttribute('data-widget') + '-331'; };
+benchmark.handler332 = function (event) { return event.target.getAttribute('data-widget') + '-332'; };
+benchmark.handler333 = function (event) { return event.target.getAttribute('data-widget') + '-333'; };
+benchmark.handler334 = function (event) { return event.target.getAttribute('data-widget') + '-334'; };
+benchmark.handler335 = function (event) { return event.target.getAttribute('data-widget') + '-335'; };
+benchmark.handler336 = function (event) { return event.target.getAttribute('data-widget') + '-336'; };
+benchmark.handler337 = function (event) { return event.target.getAttribute('data-widget') + '-337'; };
+benchmark.handler338 = function (event) { return event.target.getAttribute('data-widget') + '-338'; };
+benchmark.handler339 = function (event) { return event.target.getAttribute('data-widget') + '-339'; };
+benchmark.handler340 = function (event) { return event.target.getAttribute('data-widget') + '-340'; };
+benchmark.handler341 = function (event) { return event.target.getAttribute('data-widget') + '-341'; };
+benchmark.handler342 = function (event) { return event.target.getAttribute('data-widget') + '-342'; };
+benchmark.handler343 = function (event) { return event.target.getAttribute('data-widget') + '-343'; };
+benchmark.handler344 = function (event) { return event.target.getAttribute('data-widget') + '-344'; };
+benchmark.handler345 = function (event) { return event.target.getAttribute('data-widget') + '-345'; };
+benchmark.handler346 = function (event) { return event.target.getAttribute('data-widget') + '-346'; };
+benchmark.handler347 = function (event) { return event.target.getAttribute('data-widget') + '-347'; };
+benchmark.handler348 = function (event) { return event.target.getAttribute('data-widget') + '-348'; };
+benchmark.handler349 = function (event) { return event.target.getAttribute('data-widget') + '-349'; };
+benchmark.handler350 = function (event) { return event.target.getAttribute('data-widget') + '-350'; };
+benchmark.handler351 = function (event) { return event.target.getAttribute('data-widget') + '-351'; };
+benchmark.handler352 = function (event) { return event.target.getAttribute('data-widget') + '-352'; };
+benchmark.handler353 = function (event) { return event.target.getAttribute('data-widget') + '-353'; };
+benchmark.handler354 = function (event) { return event.target.getAttribute('data-widget') + '-354'; };
+benchmark.handler355 = function (event) { return event.target.getAttribute('data-widget') + '-355'; };
+benchmark.handler356 = function (event) { return event.target.getAttribute('data-widget') + '-356'; };
+benchmark.handler357 = function (event) { return event.target.getAttribute('data-widget') + '-357'; };
+benchmark.handler358 = function (event) { return event.target.getAttribute('data-widget') + '-358'; };
+benchmark.handler359 = function (event) { return event.target.getAttribute('data-widget') + '-359'; };
+benchmark.handler360 = function (event) { return event.target.getAttribute('data-widget') + '-360'; };
+benchmark.handler361 = function (event) { return event.target.getAttribute('data-widget') + '-361'; };
+benchmark.handler362 = function (event) { return event.target.getAttribute('data-widget') + '-362'; };
+benchmark.handler363 = function (event) { return event.target.getAttribute('data-widget') + '-363'; };
+benchmark.handler364 = function (event) { return event.target.getAttribute('data-widget') + '-364'; };
+benchmark.handler365 = function (event) { return event.target.getAttribute('data-widget') + '-365'; };
+benchmark.handler366 = function (event) { return event.target.getAttribute('data-widget') + '-366'; };
+benchmark.handler367 = function (event) { return event.target.getAttribute('data-widget') + '-367'; };
+benchmark.handler368 = function (event) { return event.target.getAttribute('data-widget') + '-368'; };
+benchmark.handler369 = function (event) { return event.target.getAttribute('data-widget') + '-369'; };
+benchmark.handler370 = function (event) { return event.target.getAttribute('data-widget') + '-370'; };
+benchmark.handler371 = function (event) { return event.target.getAttribute('data-widget') + '-371'; };
+benchmark.handler372 = function (event) { return event.target.getAttribute('data-widget') + '-372'; };
+benchmark.handler373 = function (event) { return event.target.getAttribute('data-widget') + '-373'; };
+benchmark.handler374 = function (event) { return event.target.getAttribute('data-widget') + '-374'; };
+benchmark.handler375 = function (event) { return event.target.getAttribute('data-widget') + '-375'; };
+benchmark.handler376 = function (event) { return event.target.getAttribute('data-widget') + '-376'; };
+benchmark.handler377 = function (event) { return event.target.getAttribute('data-widget') + '-377'; };
+benchmark.handler378 = function (event) { return event.target.getAttribute('data-widget') + '-378'; };
+benchmark.handler379 = function (event) { return event.target.getAttribute('data-widget') + '-379'; };
+benchmark.handler380 = function (event) { return event.target.getAttribute('data-widget') + '-380'; };
+benchmark.handler381 = function (event) { return event.target.getAttribute('data-widget') + '-381'; };
+benchmark.handler382 = function (event) { return event.target.getAttribute('data-widget') + '-382'; };
+benchmark.handler383 = function (event) { return event.target.getAttribute('data-widget') + '-383'; };
+benchmark.handler384 = function (event) { return event.target.getAttribute('data-widget') + '-384'; };
+benchmark.handler385 = function (event) { return event.target.getAttribute('data-widget') + '-385'; };
+benchmark.handler386 = function (event) { return event.target.getAttribute('data-widget') + '-386'; };
+benchmark.handler387 = function (event) { return event.target.getAttribute('data-widget') + '-387'; };
+benchmark.handler388 = function (event) { return event.target.getAttribute('data-widget') + '-388'; };
+benchmark.handler389 = function (event) { return event.target.getAttribute('data-widget') + '-389'; };
+benchmark.handler390 = function (event) { return event.target.getAttribute('data-widget') + '-390'; };
+benchmark.handler391 = function (event) { return event.target.getAttribute('data-widget') + '-391'; };
+benchmark.handler392 = function (event) { return event.target.getAttribute('data-widget') + '-392'; };
+benchmark.handler393 = function (event) { return event.target.getAttribute('data-widget') + '-393'; };
+benchmark.handler394 = function (event) { return event.target.getAttribute('data-widget') + '-394'; };
+benchmark.handler395 = function (event) { return event.target.getAttribute('data-widget') + '-395'; };
+benchmark.handler396 = function (event) { return event.target.getAttribute('data-widget') + '-396'; };
+benchmark.handler397 = function (event) { return event.target.getAttribute('data-widget') + '-397'; };
+benchmark.handler398 = function (event) { return event.target.getAttribute('data-widget') + '-398'; };
+benchmark.handler399 = function (event) { return event.target.getAttribute('data-widget') + '-399'; };
+benchmark.handler400 = function (event) { return event.target.getAttribute('data-widget') + '-400'; };
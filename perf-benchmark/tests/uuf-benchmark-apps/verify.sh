@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+
+# Checks that each scenario of the benchmark app returns its expected output. Start the server using "./run.sh start"
+# before running this script. An optional base URL of the app can be given as the first argument.
+
+appUrl=${1:-"http://localhost:9292/benchmark"}
+cookieJar=$(mktemp)
+failures=0
+
+# check <name> <expected-status> <expected-text> <curl-arguments...>
+function check(){
+    local name=$1
+    local expectedStatus=$2
+    local expectedText=$3
+    shift 3
+    local body=$(mktemp)
+    local status=$(curl -s -o "$body" -w "%{http_code}" -b "$cookieJar" -c "$cookieJar" "$@")
+    if [ "$status" != "$expectedStatus" ]
+    then
+        echo "FAIL $name: expected status $expectedStatus but got $status"
+        ((failures++))
+    elif ! grep -qF -- "$expectedText" "$body"
+    then
+        echo "FAIL $name: response does not contain '$expectedText'"
+        ((failures++))
+    else
+        echo "OK   $name"
+    fi
+    rm -f "$body"
+}
+
+function csrfToken(){
+    awk '$6 == "CSRFTOKEN" {print $7}' "$cookieJar"
+}
+
+# Zones: 32 bound fragments, in binding order, and the default content of the unbound zone.
+check "Zones (header)" 200 '<section class="widget" data-widget="01">' "$appUrl/zones"
+check "Zones (main)" 200 '<section class="widget" data-widget="26">' "$appUrl/zones"
+check "Zones (footer)" 200 '<section class="widget" data-widget="32">' "$appUrl/zones"
+check "Zones (fragment JS)" 200 '<span class="total">96</span>' "$appUrl/zones"
+check "Zones (default content)" 200 '<p class="no-notices">No notices.</p>' "$appUrl/zones"
+# JS: OSGi service calls, aggregation and sendToClient.
+check "JS (greeting)" 200 '<h3 id="greeting">Hello UUF!</h3>' "$appUrl/js"
+check "JS (summary)" 200 '<p id="summary">100 items, total price 4950</p>' "$appUrl/js"
+check "JS (top item)" 200 '<li data-id="27">item-27 (99)</li>' "$appUrl/js"
+check "JS (sendToClient)" 200 'var benchmarkSummary=' "$appUrl/js"
+# I18n: messages with parameters, locale from the Accept-Language header and missing keys.
+check "I18n (en)" 200 '<h3 id="welcome">Welcome Alice, you have 3 new messages.</h3>' "$appUrl/i18n"
+check "I18n (fr)" 200 '<li>Tableau de bord</li>' -H "Accept-Language: fr" "$appUrl/i18n"
+check "I18n (missing key)" 200 '<p id="missing">benchmark.label.missing</p>' "$appUrl/i18n"
+# Static resources.
+check "Static (page)" 200 '/public/components/root/base/css/benchmark.css' "$appUrl/static"
+check "Static (CSS)" 200 '.benchmark-rule-400' "$appUrl/public/components/root/base/css/benchmark.css"
+check "Static (JS)" 200 'benchmark.handler400' "$appUrl/public/components/root/base/js/benchmark.js"
+check "Static (JSON)" 200 '"name":"record-1000"' "$appUrl/public/components/root/base/data/large.json"
+# Fragment polling.
+check "Fragment" 200 '<span class=\"pending\">42</span>' "$appUrl/fragments/status?queue=orders"
+check "Fragment (sendToClient)" 200 'var benchmarkStatus=' "$appUrl/fragments/status?queue=orders"
+# Secured page: redirected to the login page without a session, rendered after logging in.
+check "Secured (no session)" 302 '' "$appUrl/secured"
+check "Login" 302 '' -d "username=bench" "$appUrl/login"
+check "Secured (page)" 200 '<span id="user">bench</span>' "$appUrl/secured"
+check "Secured (allowed block)" 200 '<p id="reports">Reports are visible.</p>' "$appUrl/secured"
+check "Secured (denied block)" 200 '<p id="admin-denied">Administration is hidden.</p>' "$appUrl/secured"
+check "Secured (POST)" 200 '<p id="echo">benchmark</p>' -d "text=benchmark" -d "CSRFTOKEN=$(csrfToken)" \
+    "$appUrl/secured"
+
+rm -f "$cookieJar"
+if [ $failures -gt 0 ]
+then
+    echo "$failures check(s) failed."
+    exit 1
+fi
+echo "All checks passed."